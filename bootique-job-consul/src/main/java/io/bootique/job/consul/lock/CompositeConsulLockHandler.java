@@ -18,11 +18,13 @@
  */
 package io.bootique.job.consul.lock;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.lock.LockHandler;
 import io.bootique.job.JobOutcome;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 public class CompositeConsulLockHandler implements LockHandler {
 
@@ -38,4 +40,10 @@ public class CompositeConsulLockHandler implements LockHandler {
     public JobOutcome run(Job delegate, Map<String, Object> params) {
         return localLockHandler.run(consulLockHandler.decorate(delegate, null, params), params);
     }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        // decorating an AsyncJob produces an AsyncJob
+        return localLockHandler.runAsync((AsyncJob) consulLockHandler.decorate(delegate, null, params), params);
+    }
 }
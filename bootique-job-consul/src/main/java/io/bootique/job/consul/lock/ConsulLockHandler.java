@@ -19,14 +19,18 @@
 package io.bootique.job.consul.lock;
 
 import com.orbitz.consul.KeyValueClient;
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
+import io.bootique.job.lock.FencingToken;
 import io.bootique.job.lock.LockHandler;
 import io.bootique.job.JobOutcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 
@@ -47,26 +51,94 @@ public class ConsulLockHandler implements LockHandler {
     @Override
     public JobOutcome run(Job delegate, Map<String, Object> params) {
 
-        JobMetadata metadata = delegate.getMetadata();
+        Lease lease = acquire(delegate.getMetadata());
+        if (lease.skipped != null) {
+            return lease.skipped;
+        }
+
+        try {
+            return delegate.run(lease.token.addTo(params));
+        } finally {
+            lease.release.run();
+        }
+    }
+
+    /**
+     * Holds the Consul lock until the returned stage completes. Consul locks are bound to the session and not to the
+     * acquiring thread, so the lock is released by whichever thread completes the job.
+     *
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        Lease lease = acquire(delegate.getMetadata());
+        if (lease.skipped != null) {
+            return CompletableFuture.completedFuture(lease.skipped);
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(lease.token.addTo(params));
+        } catch (RuntimeException | Error e) {
+            lease.release.run();
+            throw e;
+        }
+
+        return stage.whenComplete((o, th) -> lease.release.run());
+    }
+
+    private Lease acquire(JobMetadata metadata) {
 
         String lockName = getLockName(metadata);
 
         String sessionId = consulSessionSupplier.get();
 
+        if (metadata.getLockPermits() > 1) {
+            return acquireSemaphore(metadata, lockName, metadata.getLockPermits(), sessionId);
+        }
+
         LOGGER.info("Attempting to lock '{}'", lockName);
         boolean acquired = kvClient.acquireLock(lockName, sessionId);
         if (!acquired) {
             LOGGER.info("** Another job instance owns the lock. Skipping execution of '{}'", lockName);
-            return JobOutcome.skipped("Another job instance owns the lock. Skipping execution");
+            return Lease.skipped(JobOutcome.skipped("Another job instance owns the lock. Skipping execution"));
         }
 
-        try {
-            return delegate.run(params);
-        } finally {
+        // another node may have grabbed the lock if our session was invalidated right after acquisition. It would
+        // have gotten the same token, so the lock key is checked for ownership when reading the token
+        FencingToken token = fencingToken(metadata, lockName, sessionId);
+        if (token == null) {
+            LOGGER.info("** Lost the lock right after acquiring it. Skipping execution of '{}'", lockName);
+            return Lease.skipped(JobOutcome.skipped("Lost the lock right after acquiring it. Skipping execution"));
+        }
+
+        return Lease.held(token, () -> {
             if (!kvClient.releaseLock(lockName, consulSessionSupplier.get())) {
                 LOGGER.error("Failed to release lock, manual intervention might be needed: " + lockName);
             }
+        });
+    }
+
+    private Lease acquireSemaphore(JobMetadata metadata, String lockName, int permits, String sessionId) {
+
+        LOGGER.info("Attempting to acquire one of {} permits for '{}'", permits, lockName);
+        ConsulSemaphore semaphore = ConsulSemaphore.acquire(kvClient, lockName, permits, sessionId);
+        if (semaphore == null) {
+            LOGGER.info("** All lock permits are taken by other job instances. Skipping execution of '{}'", lockName);
+            return Lease.skipped(JobOutcome.skipped("All lock permits are taken by other job instances. Skipping execution"));
         }
+
+        return Lease.held(new FencingToken(metadata.getLockName(), semaphore.getFencingToken()), semaphore::release);
+    }
+
+    // lock key ModifyIndex is updated on every acquisition and is monotonically increasing across the Consul cluster.
+    // Returns null if the lock key is no longer held by our session
+    private FencingToken fencingToken(JobMetadata metadata, String lockName, String sessionId) {
+        return kvClient.getValue(lockName)
+                .filter(v -> v.getSession().filter(sessionId::equals).isPresent())
+                .map(v -> new FencingToken(metadata.getLockName(), v.getModifyIndex()))
+                .orElse(null);
     }
 
     private String getLockName(JobMetadata metadata) {
@@ -74,4 +146,26 @@ public class ConsulLockHandler implements LockHandler {
         return (serviceGroup == null || serviceGroup.isEmpty()) ?
                 lockName : (serviceGroup + "/" + lockName);
     }
-}
\ No newline at end of file
+
+    // either a held lock or a permit with its fencing token, or a "skipped" outcome if neither could be acquired
+    private static class Lease {
+
+        final FencingToken token;
+        final Runnable release;
+        final JobOutcome skipped;
+
+        static Lease held(FencingToken token, Runnable release) {
+            return new Lease(token, release, null);
+        }
+
+        static Lease skipped(JobOutcome skipped) {
+            return new Lease(null, null, skipped);
+        }
+
+        private Lease(FencingToken token, Runnable release, JobOutcome skipped) {
+            this.token = token;
+            this.release = release;
+            this.skipped = skipped;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.consul.lock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.orbitz.consul.KeyValueClient;
+import com.orbitz.consul.model.kv.Value;
+import com.orbitz.consul.option.ImmutablePutOptions;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * An implementation of the Consul
+ * <a href="https://developer.hashicorp.com/consul/docs/dynamic-app-config/sessions/application-leader-election">semaphore recipe</a>.
+ * Each contender creates a session-bound key under the semaphore prefix, and then tries to add itself to the list of
+ * holders stored in the "&lt;prefix&gt;/.lock" key, using check-and-set to avoid lost updates. Holders whose contender
+ * keys are no longer bound to a live session are pruned from the list.
+ *
+ * @since 4.0
+ */
+class ConsulSemaphore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int CAS_ATTEMPTS = 5;
+
+    // check-and-set index that only allows to create a key if it doesn't exist yet
+    private static final long CAS_CREATE_INDEX = 0L;
+
+    private final KeyValueClient kvClient;
+    private final String prefix;
+    private final int permits;
+    private final String holderId;
+    private long fencingToken;
+
+    static ConsulSemaphore acquire(KeyValueClient kvClient, String prefix, int permits, String sessionId) {
+
+        // the same session is shared by all jobs in the JVM, so add a random suffix to distinguish local holders
+        String holderId = sessionId + "-" + UUID.randomUUID();
+        ConsulSemaphore semaphore = new ConsulSemaphore(kvClient, prefix, permits, holderId);
+
+        if (!kvClient.acquireLock(semaphore.contenderKey(), sessionId)) {
+            return null;
+        }
+
+        if (!semaphore.addHolder()) {
+            kvClient.deleteKey(semaphore.contenderKey());
+            return null;
+        }
+
+        // the contender key is unique to this acquisition, and its ModifyIndex is monotonically increasing across the
+        // Consul cluster. If the key is no longer bound to our session, the session was lost, and so was the permit
+        Optional<Value> contender = kvClient.getValue(semaphore.contenderKey());
+        if (contender.flatMap(Value::getSession).filter(sessionId::equals).isEmpty()) {
+            semaphore.release();
+            return null;
+        }
+
+        semaphore.fencingToken = contender.get().getModifyIndex();
+        return semaphore;
+    }
+
+    private ConsulSemaphore(KeyValueClient kvClient, String prefix, int permits, String holderId) {
+        this.kvClient = kvClient;
+        this.prefix = prefix;
+        this.permits = permits;
+        this.holderId = holderId;
+    }
+
+    long getFencingToken() {
+        return fencingToken;
+    }
+
+    void release() {
+        try {
+            removeHolder();
+        } finally {
+            kvClient.deleteKey(contenderKey());
+        }
+    }
+
+    private boolean addHolder() {
+        for (int i = 0; i < CAS_ATTEMPTS; i++) {
+
+            Optional<Value> lock = kvClient.getValue(lockKey());
+            Set<String> holders = liveHolders(lock);
+
+            if (holders.size() >= permits) {
+                return false;
+            }
+
+            holders.add(holderId);
+            if (casUpdate(lock, holders)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean removeHolder() {
+        for (int i = 0; i < CAS_ATTEMPTS; i++) {
+
+            Optional<Value> lock = kvClient.getValue(lockKey());
+            Set<String> holders = liveHolders(lock);
+
+            // dead holders are pruned on every update, so we are done if the lock is already gone
+            if (!holders.remove(holderId) && lock.isEmpty()) {
+                return true;
+            }
+
+            if (casUpdate(lock, holders)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean casUpdate(Optional<Value> lock, Set<String> holders) {
+
+        long index = lock.isPresent() ? lock.get().getModifyIndex() : CAS_CREATE_INDEX;
+        return kvClient.putValue(
+                lockKey(),
+                writeHolders(holders),
+                0L,
+                ImmutablePutOptions.builder().cas(index).build());
+    }
+
+    private Set<String> liveHolders(Optional<Value> lock) {
+
+        Set<String> holders = lock.flatMap(Value::getValueAsString).map(this::readHolders).orElseGet(LinkedHashSet::new);
+        if (holders.isEmpty()) {
+            return holders;
+        }
+
+        // a holder is alive while its contender key is bound to a session. Using a trailing delimiter to avoid
+        // matching the keys of other locks whose names start with this lock name
+        List<Value> contenders = kvClient.getValues(prefix + "/");
+        Set<String> liveKeys = contenders.stream()
+                .filter(v -> v.getSession().isPresent())
+                .map(Value::getKey)
+                .collect(Collectors.toSet());
+
+        holders.removeIf(h -> !liveKeys.contains(prefix + "/" + h));
+        return holders;
+    }
+
+    private Set<String> readHolders(String json) {
+        try {
+            Set<String> holders = new LinkedHashSet<>();
+            MAPPER.readTree(json).path("Holders").forEach(h -> holders.add(h.asText()));
+            return holders;
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid semaphore lock contents at '" + lockKey() + "': " + json, e);
+        }
+    }
+
+    private String writeHolders(Set<String> holders) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("Limit", permits);
+        ArrayNode holdersNode = node.putArray("Holders");
+        holders.forEach(holdersNode::add);
+
+        try {
+            return MAPPER.writeValueAsString(node);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing semaphore lock contents", e);
+        }
+    }
+
+    private String contenderKey() {
+        return prefix + "/" + holderId;
+    }
+
+    private String lockKey() {
+        return prefix + "/.lock";
+    }
+}
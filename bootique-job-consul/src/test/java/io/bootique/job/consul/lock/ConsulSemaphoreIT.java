@@ -0,0 +1,117 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.consul.lock;
+
+import com.google.common.net.HostAndPort;
+import com.orbitz.consul.Consul;
+import com.orbitz.consul.KeyValueClient;
+import io.bootique.job.consul.ConsulSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+public class ConsulSemaphoreIT {
+
+    @Container
+    static final GenericContainer consul = new GenericContainer("consul:1.15.4").withExposedPorts(8500);
+
+    private KeyValueClient kvClient;
+    private ConsulSession session;
+    private String prefix;
+
+    @BeforeEach
+    public void before() {
+        Consul client = Consul.builder().withHostAndPort(HostAndPort.fromParts(consul.getHost(), consul.getMappedPort(8500))).build();
+        this.kvClient = client.keyValueClient();
+        this.session = new ConsulSession(client.sessionClient());
+
+        // a unique prefix per test to avoid interference between tests
+        this.prefix = "ConsulSemaphoreIT/" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    public void after() {
+        session.destroySessionIfPresent();
+    }
+
+    @Test
+    public void acquire() {
+        String sessionId = session.getOrCreateSession();
+
+        ConsulSemaphore s1 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        ConsulSemaphore s2 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        assertNotNull(s1);
+        assertNotNull(s2);
+        assertNull(ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId));
+
+        s1.release();
+        ConsulSemaphore s3 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        assertNotNull(s3);
+
+        s2.release();
+        s3.release();
+    }
+
+    @Test
+    public void acquire_SiblingLocks() {
+        String sessionId = session.getOrCreateSession();
+
+        // holders of a lock whose name starts with the name of another lock must not be counted against that lock
+        ConsulSemaphore other1 = ConsulSemaphore.acquire(kvClient, prefix + "/lock-other", 2, sessionId);
+        ConsulSemaphore other2 = ConsulSemaphore.acquire(kvClient, prefix + "/lock-other", 2, sessionId);
+        assertNotNull(other1);
+        assertNotNull(other2);
+
+        ConsulSemaphore s1 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        ConsulSemaphore s2 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        assertNotNull(s1);
+        assertNotNull(s2);
+
+        s1.release();
+        s2.release();
+        other1.release();
+        other2.release();
+    }
+
+    @Test
+    public void fencingToken() {
+        String sessionId = session.getOrCreateSession();
+
+        ConsulSemaphore s1 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        assertNotNull(s1);
+        assertTrue(s1.getFencingToken() > 0, () -> String.valueOf(s1.getFencingToken()));
+        s1.release();
+
+        ConsulSemaphore s2 = ConsulSemaphore.acquire(kvClient, prefix + "/lock", 2, sessionId);
+        assertNotNull(s2);
+        assertTrue(s2.getFencingToken() > s1.getFencingToken(), () -> s1.getFencingToken() + " vs " + s2.getFencingToken());
+        s2.release();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.job.JobStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size memory-mapped file holding a sequence of binary execution records. Each record is prefixed with its
+ * length and a checksum, and the length is written last, so a zero or an invalid length marks the end of the data.
+ * Records are appended by a single writer thread, while reads can be done from any thread.
+ *
+ * @since 4.0
+ */
+class HistorySegment {
+
+    static final String FILE_SUFFIX = ".seg";
+
+    // length, crc, start, end, params hash, status
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 1;
+    private static final int MAX_STRING_CHARS = 1024;
+    private static final JobStatus[] STATUSES = JobStatus.values();
+
+    private final long id;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    // accessed by the writer thread only
+    private int writePosition;
+    private long lastEndNanos;
+
+    static Path fileName(Path dir, long id) {
+        return dir.resolve(String.format("%020d", id) + FILE_SUFFIX);
+    }
+
+    static HistorySegment open(Path dir, long id, int size) {
+        Path file = fileName(dir, id);
+        try {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+
+            // existing segments keep their size even if the configured size has changed since
+            long mapSize = Math.max(channel.size(), size);
+            return new HistorySegment(id, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening history segment " + file, e);
+        }
+    }
+
+    private HistorySegment(long id, Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    long getLastEndNanos() {
+        return lastEndNanos;
+    }
+
+    /**
+     * Reads existing records from the start of the segment, passing their offsets to the consumer. Positions the
+     * segment for writing after the last valid record.
+     */
+    void scan(RecordConsumer consumer) {
+        int offset = 0;
+        JobExecutionRecord record;
+        while ((record = read(offset)) != null) {
+            consumer.accept(offset, record);
+            lastEndNanos = Math.max(lastEndNanos, record.getEndNanos());
+            offset += buffer.getInt(offset);
+        }
+
+        this.writePosition = offset;
+    }
+
+    /**
+     * Appends a record to the segment, returning its offset, or -1 if the segment has no room for the record.
+     */
+    int append(JobExecutionRecord record) {
+
+        byte[] job = encode(record.getJobName());
+        byte[] trigger = encode(record.getTriggerName());
+        byte[] message = encode(record.getMessage());
+        int length = HEADER_SIZE + stringSize(job) + stringSize(trigger) + stringSize(message);
+
+        int offset = writePosition;
+        if (offset + length > buffer.capacity()) {
+            return -1;
+        }
+
+        int pos = offset + 8;
+        buffer.putLong(pos, record.getStartNanos());
+        buffer.putLong(pos + 8, record.getEndNanos());
+        buffer.putInt(pos + 16, record.getParamsHash());
+        buffer.put(pos + 20, (byte) record.getStatus().ordinal());
+        pos += 21;
+        pos = putString(pos, job);
+        pos = putString(pos, trigger);
+        putString(pos, message);
+
+        buffer.putInt(offset + 4, checksum(offset, length));
+
+        // the length goes last to "commit" the record
+        buffer.putInt(offset, length);
+
+        writePosition = offset + length;
+        lastEndNanos = Math.max(lastEndNanos, record.getEndNanos());
+        return offset;
+    }
+
+    /**
+     * Returns a record at the offset or null if there's no valid record at the offset.
+     */
+    JobExecutionRecord read(int offset) {
+
+        if (offset < 0 || offset + HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+
+        int length = buffer.getInt(offset);
+        if (length < HEADER_SIZE || offset + length > buffer.capacity()) {
+            return null;
+        }
+
+        if (buffer.getInt(offset + 4) != checksum(offset, length)) {
+            return null;
+        }
+
+        int statusOrdinal = buffer.get(offset + 28);
+        if (statusOrdinal < 0 || statusOrdinal >= STATUSES.length) {
+            return null;
+        }
+
+        int pos = offset + HEADER_SIZE;
+        String job = getString(pos);
+        pos = skipString(pos);
+        String trigger = getString(pos);
+        pos = skipString(pos);
+        String message = getString(pos);
+
+        return new JobExecutionRecord(
+                job,
+                trigger,
+                buffer.getInt(offset + 24),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                STATUSES[statusOrdinal],
+                message);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error closing history segment " + file, e);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error deleting history segment " + file, e);
+        }
+    }
+
+    private int checksum(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 8, length - 8));
+        return (int) crc.getValue();
+    }
+
+    private int putString(int pos, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort(pos, (short) -1);
+            return pos + 2;
+        }
+
+        buffer.putShort(pos, (short) bytes.length);
+        buffer.put(pos + 2, bytes);
+        return pos + 2 + bytes.length;
+    }
+
+    private String getString(int pos) {
+        int len = buffer.getShort(pos);
+        if (len < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[len];
+        buffer.get(pos + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString(int pos) {
+        return pos + 2 + Math.max(0, buffer.getShort(pos));
+    }
+
+    private static byte[] encode(String string) {
+        if (string == null) {
+            return null;
+        }
+
+        // 3 bytes per char max, so the result fits in a short
+        String truncated = string.length() > MAX_STRING_CHARS ? string.substring(0, MAX_STRING_CHARS) : string;
+        return truncated.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return bytes != null ? 2 + bytes.length : 2;
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(int offset, JobExecutionRecord record);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.job.JobStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A single job execution stored in the {@link JobHistoryLog}.
+ *
+ * @since 4.0
+ */
+public class JobExecutionRecord {
+
+    private final String jobName;
+    private final String triggerName;
+    private final int paramsHash;
+    private final long startNanos;
+    private final long endNanos;
+    private final JobStatus status;
+    private final String message;
+
+    /**
+     * @param startNanos job start time as nanoseconds since the epoch
+     * @param endNanos   job end time as nanoseconds since the epoch
+     */
+    public JobExecutionRecord(
+            String jobName,
+            String triggerName,
+            int paramsHash,
+            long startNanos,
+            long endNanos,
+            JobStatus status,
+            String message) {
+
+        this.jobName = Objects.requireNonNull(jobName);
+        this.triggerName = triggerName;
+        this.paramsHash = paramsHash;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+        this.status = Objects.requireNonNull(status);
+        this.message = message;
+    }
+
+    static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    static Instant fromEpochNanos(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the name of the trigger that started the job, or null if the job was started outside of a trigger or
+     * was a part of a job group.
+     */
+    public String getTriggerName() {
+        return triggerName;
+    }
+
+    public int getParamsHash() {
+        return paramsHash;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    public Instant getStartedAt() {
+        return fromEpochNanos(startNanos);
+    }
+
+    public Instant getFinishedAt() {
+        return fromEpochNanos(endNanos);
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos(endNanos - startNanos);
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "{job: " + jobName
+                + ", trigger: " + triggerName
+                + ", started: " + getStartedAt()
+                + ", duration: " + getDuration()
+                + ", status: " + status
+                + (message != null ? ", message: " + message : "")
+                + "}";
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.trigger.Trigger;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A decorator that records each job execution in the {@link JobHistoryLog}.
+ *
+ * @since 4.0
+ */
+public class JobHistoryDecorator implements JobDecorator {
+
+    private final JobHistoryLog log;
+    private final Clock clock;
+
+    public JobHistoryDecorator(JobHistoryLog log, Clock clock) {
+        this.log = log;
+        this.clock = clock;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        long startNanos = JobExecutionRecord.toEpochNanos(clock.instant());
+        long t0 = System.nanoTime();
+
+        String triggerName = triggerName(delegate);
+
+        JobOutcome outcome;
+        try {
+            outcome = delegate.run(params);
+        } catch (Throwable th) {
+            append(delegate, triggerName, params, startNanos, t0, JobOutcome.failed(th));
+            throw th;
+        }
+
+        append(delegate, triggerName, params, startNanos, t0, outcome);
+        return outcome;
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        long startNanos = JobExecutionRecord.toEpochNanos(clock.instant());
+        long t0 = System.nanoTime();
+
+        // the trigger is bound to the calling thread, so must be resolved before the job goes async
+        String triggerName = triggerName(delegate);
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            append(delegate, triggerName, params, startNanos, t0, JobOutcome.failed(e));
+            throw e;
+        }
+
+        return stage.whenComplete((o, th) -> {
+            JobOutcome outcome = th != null
+                    ? JobOutcome.failed(th instanceof CompletionException && th.getCause() != null ? th.getCause() : th)
+                    : o;
+            append(delegate, triggerName, params, startNanos, t0, outcome);
+        });
+    }
+
+    private static String triggerName(Job delegate) {
+        Trigger trigger = Trigger.current();
+        // group members run on the trigger thread, but only the job the trigger points to was triggered by it
+        return trigger != null && trigger.getJobName().equals(delegate.getMetadata().getName())
+                ? trigger.getTriggerName()
+                : null;
+    }
+
+    private void append(
+            Job delegate,
+            String triggerName,
+            Map<String, Object> params,
+            long startNanos,
+            long t0,
+            JobOutcome outcome) {
+
+        // use monotonic time for duration
+        long endNanos = startNanos + (System.nanoTime() - t0);
+
+        log.append(new JobExecutionRecord(
+                delegate.getMetadata().getName(),
+                triggerName,
+                params.hashCode(),
+                startNanos,
+                endNanos,
+                outcome.getStatus(),
+                message(outcome)));
+    }
+
+    private static String message(JobOutcome outcome) {
+        String message = outcome.getMessage();
+        return message == null && outcome.getException() != null ? outcome.getException().getMessage() : message;
+    }
+}
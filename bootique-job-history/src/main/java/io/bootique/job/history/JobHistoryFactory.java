@@ -0,0 +1,123 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.shutdown.ShutdownManager;
+import io.bootique.value.Bytes;
+import io.bootique.value.Duration;
+import jakarta.inject.Inject;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Job execution history")
+public class JobHistoryFactory {
+
+    private static final long DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final java.time.Duration DEFAULT_RETENTION = java.time.Duration.ofDays(7);
+    private static final int DEFAULT_MAX_SEGMENTS = 64;
+    private static final int DEFAULT_INDEX_SIZE = 10_000;
+    private static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+    private final ShutdownManager shutdownManager;
+
+    private String dir;
+    private Bytes segmentSize;
+    private Duration retention;
+    private Integer maxSegments;
+    private Integer indexSize;
+    private Integer queueSize;
+
+    @Inject
+    public JobHistoryFactory(ShutdownManager shutdownManager) {
+        this.shutdownManager = shutdownManager;
+    }
+
+    public JobHistoryLog createLog() {
+        JobHistoryLog log = new JobHistoryLog(
+                createDir(),
+                createSegmentSize(),
+                retention != null ? retention.getDuration() : DEFAULT_RETENTION,
+                maxSegments != null ? maxSegments : DEFAULT_MAX_SEGMENTS,
+                indexSize != null ? indexSize : DEFAULT_INDEX_SIZE,
+                queueSize != null ? queueSize : DEFAULT_QUEUE_SIZE,
+                Clock.systemUTC());
+
+        return shutdownManager.onShutdown(log);
+    }
+
+    protected Path createDir() {
+        if (dir == null) {
+            throw new IllegalStateException("'dir' property is required for the job history log");
+        }
+
+        return Path.of(dir);
+    }
+
+    protected int createSegmentSize() {
+        long size = segmentSize != null ? segmentSize.getBytes() : DEFAULT_SEGMENT_SIZE;
+        if (size <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Invalid history segment size: " + size);
+        }
+
+        return (int) size;
+    }
+
+    @BQConfigProperty("A directory to store job history. Required.")
+    public JobHistoryFactory setDir(String dir) {
+        this.dir = dir;
+        return this;
+    }
+
+    @BQConfigProperty("The size of a single history file segment. Default is 16MB")
+    public JobHistoryFactory setSegmentSize(Bytes segmentSize) {
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    @BQConfigProperty("How long to keep the execution records. Default is 7 days")
+    public JobHistoryFactory setRetention(Duration retention) {
+        this.retention = retention;
+        return this;
+    }
+
+    @BQConfigProperty("The max number of history file segments to keep, regardless of their age. Default is 64")
+    public JobHistoryFactory setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+        return this;
+    }
+
+    @BQConfigProperty("The number of most recent executions of each job kept in memory for queries. Default is 10000")
+    public JobHistoryFactory setIndexSize(int indexSize) {
+        this.indexSize = indexSize;
+        return this;
+    }
+
+    @BQConfigProperty("The max number of execution records waiting to be written. If the writer can't keep up, " +
+            "the records above this limit are dropped. Default is 10000")
+    public JobHistoryFactory setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+        return this;
+    }
+}
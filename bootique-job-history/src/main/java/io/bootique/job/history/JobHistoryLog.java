@@ -0,0 +1,354 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.job.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * An append-only log of job executions stored in a directory as a sequence of fixed-size memory-mapped segments.
+ * Records are queued by the job threads and written by a single background writer, so appending never blocks job
+ * execution. If the writer falls behind and the queue is full, new records are dropped and counted. A per-job
+ * in-memory index of the recent executions is rebuilt from the segments on startup and supports "last N runs" and
+ * duration percentile queries. Whenever a new segment is started, the old segments are deleted based on their age
+ * and the max number of segments.
+ *
+ * @since 4.0
+ */
+public class JobHistoryLog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobHistoryLog.class);
+
+    private static final int BATCH_SIZE = 256;
+
+    // a marker to stop the writer
+    private static final JobExecutionRecord POISON = new JobExecutionRecord("", null, 0, 0, 0, JobStatus.UNKNOWN, null);
+
+    private final Path dir;
+    private final int segmentSize;
+    private final Duration retention;
+    private final int maxSegments;
+    private final int indexSize;
+    private final Clock clock;
+
+    private final ConcurrentNavigableMap<Long, HistorySegment> segments;
+    private final Map<String, JobIndex> indices;
+    private final BlockingQueue<JobExecutionRecord> queue;
+    private final AtomicLong queued;
+    private final AtomicLong dropped;
+    private final Object writtenLock;
+    private final Thread writer;
+
+    // accessed by the writer thread only
+    private HistorySegment current;
+
+    // accessed under the "writtenLock"
+    private long written;
+
+    private volatile boolean closed;
+
+    public JobHistoryLog(
+            Path dir,
+            int segmentSize,
+            Duration retention,
+            int maxSegments,
+            int indexSize,
+            int queueSize,
+            Clock clock) {
+
+        if (maxSegments < 1) {
+            throw new IllegalArgumentException("'maxSegments' must be positive: " + maxSegments);
+        }
+
+        this.dir = Objects.requireNonNull(dir);
+        this.segmentSize = segmentSize;
+        this.retention = Objects.requireNonNull(retention);
+        this.maxSegments = maxSegments;
+        this.indexSize = indexSize;
+        this.clock = Objects.requireNonNull(clock);
+
+        this.segments = new ConcurrentSkipListMap<>();
+        this.indices = new ConcurrentHashMap<>();
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.queued = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.writtenLock = new Object();
+
+        openSegments();
+        this.writer = Thread.ofVirtual().name("bootique-job-history-writer").start(this::writeLoop);
+    }
+
+    /**
+     * Queues a record for writing. Never blocks. Drops the record if the write queue is full.
+     */
+    public void append(JobExecutionRecord record) {
+
+        if (closed) {
+            return;
+        }
+
+        if (queue.offer(record)) {
+            queued.incrementAndGet();
+        } else if (dropped.getAndIncrement() == 0) {
+            LOGGER.warn("Job history write queue is full. Dropping execution records");
+        }
+    }
+
+    /**
+     * Returns up to "limit" most recent executions of the job, newest first.
+     */
+    public List<JobExecutionRecord> getLastRuns(String jobName, int limit) {
+
+        JobIndex index = indices.get(jobName);
+        if (index == null) {
+            return List.of();
+        }
+
+        long[] positions = index.lastPositions(limit);
+        List<JobExecutionRecord> records = new ArrayList<>(positions.length);
+        for (long p : positions) {
+
+            // the segment may have been deleted per retention policy
+            HistorySegment segment = segments.get(JobIndex.segmentId(p));
+            JobExecutionRecord record = segment != null ? segment.read(JobIndex.offset(p)) : null;
+            if (record != null) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Returns a duration percentile of the job executions started at or after the provided time, or null if there
+     * were no such executions. Only the executions still in the in-memory index are considered, so for frequent jobs
+     * with long time windows the result is based on the most recent "indexSize" executions.
+     *
+     * @param percentile a number between 0 and 100, e.g. 95 for "p95"
+     */
+    public Duration getPercentile(String jobName, double percentile, Instant since) {
+
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        JobIndex index = indices.get(jobName);
+        if (index == null) {
+            return null;
+        }
+
+        long[] durations = index.sortedDurationsSince(JobExecutionRecord.toEpochNanos(since));
+        if (durations.length == 0) {
+            return null;
+        }
+
+        // "nearest rank" method
+        int rank = (int) Math.ceil(percentile / 100. * durations.length);
+        return Duration.ofNanos(durations[Math.max(0, rank - 1)]);
+    }
+
+    /**
+     * Returns the number of records dropped because the writer could not keep up.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Blocks until all the records queued so far are written.
+     */
+    public void flush() {
+        long target = queued.get();
+        synchronized (writtenLock) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    writtenLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        flush();
+
+        // POISON is not counted as a queued record, so it doesn't affect "flush"
+        try {
+            queue.put(POISON);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (HistorySegment s : segments.values()) {
+            try {
+                s.close();
+            } catch (UncheckedIOException e) {
+                LOGGER.warn("Error closing history segment", e);
+            }
+        }
+    }
+
+    private void openSegments() {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creating history directory " + dir, e);
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(f -> f.getFileName().toString())
+                    .filter(n -> n.endsWith(HistorySegment.FILE_SUFFIX))
+                    .map(n -> n.substring(0, n.length() - HistorySegment.FILE_SUFFIX.length()))
+                    .filter(n -> n.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .forEach(this::openSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading history directory " + dir, e);
+        }
+
+        this.current = segments.isEmpty() ? createSegment(1) : segments.lastEntry().getValue();
+        applyRetention();
+    }
+
+    private void openSegment(long id) {
+        HistorySegment segment = HistorySegment.open(dir, id, segmentSize);
+        segment.scan((offset, r) -> index(segment, offset, r));
+        segments.put(id, segment);
+    }
+
+    private HistorySegment createSegment(long id) {
+        HistorySegment segment = HistorySegment.open(dir, id, segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void index(HistorySegment segment, int offset, JobExecutionRecord record) {
+        indices.computeIfAbsent(record.getJobName(), n -> new JobIndex(indexSize))
+                .add(JobIndex.position(segment.getId(), offset),
+                        record.getStartNanos(),
+                        record.getEndNanos() - record.getStartNanos());
+    }
+
+    private void writeLoop() {
+
+        List<JobExecutionRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            queue.drainTo(batch, BATCH_SIZE - 1);
+
+            int count = 0;
+            for (JobExecutionRecord r : batch) {
+                if (r == POISON) {
+                    return;
+                }
+
+                try {
+                    write(r);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error writing job history record", e);
+                }
+
+                count++;
+            }
+
+            batch.clear();
+            markWritten(count);
+        }
+    }
+
+    private void write(JobExecutionRecord record) {
+        int offset = current.append(record);
+        if (offset < 0) {
+            rollSegment();
+            offset = current.append(record);
+
+            if (offset < 0) {
+                throw new IllegalStateException("Record is larger than the history segment size: " + segmentSize);
+            }
+        }
+
+        index(current, offset, record);
+    }
+
+    private void rollSegment() {
+        current.force();
+        current = createSegment(current.getId() + 1);
+        applyRetention();
+    }
+
+    private void applyRetention() {
+        long minEndNanos = JobExecutionRecord.toEpochNanos(clock.instant().minus(retention));
+
+        while (segments.size() > 1) {
+            HistorySegment oldest = segments.firstEntry().getValue();
+            if (oldest == current || (segments.size() <= maxSegments && oldest.getLastEndNanos() >= minEndNanos)) {
+                break;
+            }
+
+            segments.remove(oldest.getId());
+            try {
+                oldest.delete();
+            } catch (UncheckedIOException e) {
+                LOGGER.warn("Error deleting history segment", e);
+            }
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (writtenLock) {
+            written += count;
+            writtenLock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.BQModule;
+import io.bootique.ModuleCrate;
+import io.bootique.config.ConfigurationFactory;
+import io.bootique.di.Binder;
+import io.bootique.di.Provides;
+import io.bootique.di.TypeLiteral;
+import io.bootique.job.JobsModule;
+import io.bootique.job.MappedJobDecorator;
+import io.bootique.job.runtime.JobDecorators;
+import jakarta.inject.Singleton;
+
+import java.time.Clock;
+
+/**
+ * @since 4.0
+ */
+public class JobHistoryModule implements BQModule {
+
+    private static final String CONFIG_PREFIX = "jobhistory";
+
+    // inside the core execution history, but outside the exceptions handler, so that failures are recorded as outcomes
+    static final int HISTORY_LOG_ORDER = JobDecorators.HISTORY_ORDER + 250;
+
+    @Override
+    public ModuleCrate crate() {
+        return ModuleCrate.of(this)
+                .description("Records job executions in a local history log")
+                .config(CONFIG_PREFIX, JobHistoryFactory.class)
+                .build();
+    }
+
+    @Override
+    public void configure(Binder binder) {
+        JobsModule.extend(binder).addMappedDecorator(new TypeLiteral<MappedJobDecorator<JobHistoryDecorator>>() {
+        });
+    }
+
+    @Provides
+    @Singleton
+    JobHistoryLog provideJobHistoryLog(ConfigurationFactory configFactory) {
+        return configFactory.config(JobHistoryFactory.class, CONFIG_PREFIX).createLog();
+    }
+
+    @Provides
+    @Singleton
+    MappedJobDecorator<JobHistoryDecorator> provideHistoryDecorator(JobHistoryLog log) {
+        return new MappedJobDecorator<>(new JobHistoryDecorator(log, Clock.systemUTC()), HISTORY_LOG_ORDER, true);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import java.util.Arrays;
+
+/**
+ * An in-memory index of the most recent executions of a single job. Stored as a ring of primitive arrays to avoid
+ * per-record allocations. The arrays start small and grow on demand up to the index capacity, so that rarely run jobs
+ * do not take the full capacity.
+ *
+ * @since 4.0
+ */
+class JobIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int capacity;
+
+    private long[] positions;
+    private long[] startNanos;
+    private long[] durationNanos;
+
+    private int next;
+    private int size;
+
+    JobIndex(int capacity) {
+        this.capacity = capacity;
+
+        int initialCapacity = Math.min(capacity, INITIAL_CAPACITY);
+        this.positions = new long[initialCapacity];
+        this.startNanos = new long[initialCapacity];
+        this.durationNanos = new long[initialCapacity];
+    }
+
+    static long position(long segmentId, int offset) {
+        return (segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    static long segmentId(long position) {
+        return position >>> 32;
+    }
+
+    static int offset(long position) {
+        return (int) position;
+    }
+
+    synchronized void add(long position, long start, long duration) {
+        if (size == positions.length && size < capacity) {
+            grow();
+        }
+
+        positions[next] = position;
+        startNanos[next] = start;
+        durationNanos[next] = duration;
+
+        next = (next + 1) % positions.length;
+        size = Math.min(size + 1, positions.length);
+    }
+
+    private void grow() {
+        int newLength = (int) Math.min((long) positions.length * 2, capacity);
+
+        // the ring never wraps before reaching full capacity, so the records are already in order
+        positions = Arrays.copyOf(positions, newLength);
+        startNanos = Arrays.copyOf(startNanos, newLength);
+        durationNanos = Arrays.copyOf(durationNanos, newLength);
+        next = size;
+    }
+
+    /**
+     * Returns up to "limit" positions of the most recent executions, newest first.
+     */
+    synchronized long[] lastPositions(int limit) {
+        int len = Math.min(limit, size);
+        long[] result = new long[len];
+
+        for (int i = 0; i < len; i++) {
+            result[i] = positions[Math.floorMod(next - 1 - i, positions.length)];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a sorted array of durations of the indexed executions started at or after the provided time.
+     */
+    synchronized long[] sortedDurationsSince(long sinceNanos) {
+        long[] result = new long[size];
+        int len = 0;
+
+        for (int i = 0; i < size; i++) {
+            int j = Math.floorMod(next - 1 - i, positions.length);
+            if (startNanos[j] >= sinceNanos) {
+                result[len++] = durationNanos[j];
+            }
+        }
+
+        long[] durations = Arrays.copyOf(result, len);
+        Arrays.sort(durations);
+        return durations;
+    }
+}
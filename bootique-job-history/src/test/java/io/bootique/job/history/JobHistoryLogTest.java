@@ -0,0 +1,202 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import io.bootique.job.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobHistoryLogTest {
+
+    static final long T0 = JobExecutionRecord.toEpochNanos(Instant.now());
+
+    @TempDir
+    Path dir;
+
+    private JobHistoryLog createLog(int segmentSize, int maxSegments) {
+        return new JobHistoryLog(dir, segmentSize, Duration.ofDays(1), maxSegments, 100, 1000, Clock.systemUTC());
+    }
+
+    private static JobExecutionRecord record(String job, int i, long durationMs, JobStatus status, String message) {
+        long start = T0 + i * 1_000_000_000L;
+        return new JobExecutionRecord(job, "t1", i, start, start + durationMs * 1_000_000L, status, message);
+    }
+
+    @Test
+    public void getLastRuns() {
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            log.append(record("j1", 1, 10, JobStatus.SUCCESS, null));
+            log.append(record("j2", 2, 20, JobStatus.FAILURE, "Failed: ✓"));
+            log.append(record("j1", 3, 30, JobStatus.SKIPPED, "Skipped"));
+            log.flush();
+
+            List<JobExecutionRecord> j1 = log.getLastRuns("j1", 5);
+            assertEquals(2, j1.size());
+            assertEquals(3, j1.get(0).getParamsHash());
+            assertEquals(JobStatus.SKIPPED, j1.get(0).getStatus());
+            assertEquals("Skipped", j1.get(0).getMessage());
+            assertEquals("t1", j1.get(0).getTriggerName());
+            assertEquals(Duration.ofMillis(30), j1.get(0).getDuration());
+            assertEquals(1, j1.get(1).getParamsHash());
+            assertNull(j1.get(1).getMessage());
+
+            List<JobExecutionRecord> j2 = log.getLastRuns("j2", 5);
+            assertEquals(1, j2.size());
+            assertEquals("Failed: ✓", j2.get(0).getMessage());
+
+            assertEquals(1, log.getLastRuns("j1", 1).size());
+            assertEquals(List.of(), log.getLastRuns("j3", 5));
+        }
+    }
+
+    @Test
+    public void getPercentile() {
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            for (int i = 1; i <= 100; i++) {
+                log.append(record("j1", i, i, JobStatus.SUCCESS, null));
+            }
+            log.flush();
+
+            Instant all = JobExecutionRecord.fromEpochNanos(T0);
+            assertEquals(Duration.ofMillis(95), log.getPercentile("j1", 95, all));
+            assertEquals(Duration.ofMillis(50), log.getPercentile("j1", 50, all));
+            assertEquals(Duration.ofMillis(100), log.getPercentile("j1", 100, all));
+
+            // only the last 10 executions
+            Instant last10 = JobExecutionRecord.fromEpochNanos(T0 + 91 * 1_000_000_000L);
+            assertEquals(Duration.ofMillis(95), log.getPercentile("j1", 50, last10));
+
+            assertNull(log.getPercentile("j2", 95, all));
+            assertThrows(IllegalArgumentException.class, () -> log.getPercentile("j1", 101, all));
+        }
+    }
+
+    @Test
+    public void reopen() {
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            log.append(record("j1", 1, 10, JobStatus.SUCCESS, null));
+            log.append(record("j1", 2, 20, JobStatus.SUCCESS, null));
+        }
+
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            log.append(record("j1", 3, 30, JobStatus.SUCCESS, null));
+            log.flush();
+
+            List<JobExecutionRecord> j1 = log.getLastRuns("j1", 5);
+            assertEquals(3, j1.size());
+            assertEquals(3, j1.get(0).getParamsHash());
+            assertEquals(2, j1.get(1).getParamsHash());
+            assertEquals(1, j1.get(2).getParamsHash());
+        }
+    }
+
+    @Test
+    public void reopen_CorruptedTail() throws Exception {
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            log.append(record("j1", 1, 10, JobStatus.SUCCESS, null));
+            log.append(record("j1", 2, 20, JobStatus.SUCCESS, null));
+        }
+
+        // corrupt a byte in the second record body, emulating a torn write
+        Path segment = HistorySegment.fileName(dir, 1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, 0);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), length.flip().getInt() + 10);
+        }
+
+        try (JobHistoryLog log = createLog(64 * 1024, 10)) {
+            log.append(record("j1", 3, 30, JobStatus.SUCCESS, null));
+            log.flush();
+
+            // the corrupted record is overwritten
+            List<JobExecutionRecord> j1 = log.getLastRuns("j1", 5);
+            assertEquals(2, j1.size());
+            assertEquals(3, j1.get(0).getParamsHash());
+            assertEquals(1, j1.get(1).getParamsHash());
+        }
+    }
+
+    @Test
+    public void retention_MaxSegments() throws Exception {
+
+        // ~10 records per segment
+        try (JobHistoryLog log = createLog(512, 3)) {
+            for (int i = 0; i < 100; i++) {
+                log.append(record("j1", i, 1, JobStatus.SUCCESS, null));
+            }
+            log.flush();
+
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(3, files.count());
+            }
+
+            List<JobExecutionRecord> j1 = log.getLastRuns("j1", 100);
+            assertTrue(j1.size() < 40, () -> "Expected old records to be deleted: " + j1.size());
+            assertEquals(99, j1.get(0).getParamsHash());
+        }
+    }
+
+    @Test
+    public void retention_Age() throws Exception {
+
+        long old = JobExecutionRecord.toEpochNanos(Instant.now().minus(Duration.ofDays(2)));
+
+        try (JobHistoryLog log = createLog(512, 100)) {
+            for (int i = 0; i < 20; i++) {
+                log.append(new JobExecutionRecord("j1", null, i, old, old + 1, JobStatus.SUCCESS, null));
+            }
+
+            for (int i = 0; i < 20; i++) {
+                log.append(record("j1", 20 + i, 1, JobStatus.SUCCESS, null));
+            }
+            log.flush();
+
+            // the first segment has only the old records, the second one has a mix of old and new
+            assertFalse(Files.exists(HistorySegment.fileName(dir, 1)));
+            assertTrue(Files.exists(HistorySegment.fileName(dir, 2)));
+
+            List<JobExecutionRecord> j1 = log.getLastRuns("j1", 100);
+            long oldCount = j1.stream().filter(r -> r.getStartNanos() == old).count();
+            assertTrue(oldCount > 0 && oldCount < 20, () -> "Unexpected old records: " + oldCount);
+        }
+    }
+
+    @Test
+    public void close_IgnoresAppends() {
+        JobHistoryLog log = createLog(64 * 1024, 10);
+        log.close();
+
+        log.append(record("j1", 1, 10, JobStatus.SUCCESS, null));
+        assertEquals(List.of(), log.getLastRuns("j1", 5));
+    }
+}
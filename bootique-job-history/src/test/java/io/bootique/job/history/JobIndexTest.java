@@ -0,0 +1,56 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.history;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobIndexTest {
+
+    @Test
+    public void add_Grows() {
+        JobIndex index = new JobIndex(40);
+
+        for (int i = 0; i < 30; i++) {
+            index.add(i, i, i);
+        }
+
+        long[] positions = index.lastPositions(100);
+        assertEquals(30, positions.length);
+        assertEquals(29, positions[0]);
+        assertEquals(0, positions[29]);
+    }
+
+    @Test
+    public void add_Wraps() {
+        JobIndex index = new JobIndex(20);
+
+        for (int i = 0; i < 50; i++) {
+            index.add(i, i, 50 - i);
+        }
+
+        long[] positions = index.lastPositions(100);
+        assertEquals(20, positions.length);
+        assertEquals(49, positions[0]);
+        assertEquals(30, positions[19]);
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, index.sortedDurationsSince(45));
+    }
+}
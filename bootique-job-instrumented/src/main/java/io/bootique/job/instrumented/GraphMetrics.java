@@ -0,0 +1,93 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.runtime.GraphJobListener;
+import io.bootique.metrics.MetricNaming;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects metrics of the job group steps, keyed by group, step index and sub-job. Separates the time the sub-jobs
+ * were running from the time they spent waiting for a thread or for the slowest job in the step.
+ *
+ * @since 4.0
+ */
+class GraphMetrics implements GraphJobListener {
+
+    private static final MetricNaming NAMING = MetricNaming.forModule(JobInstrumentedModule.class);
+
+    private final MetricRegistry metricRegistry;
+
+    static String stepTimerMetric(String groupName, int stepIndex) {
+        return NAMING.name(stepGroup(groupName, stepIndex), "Time");
+    }
+
+    static String stepParallelismHistogramMetric(String groupName, int stepIndex) {
+        return NAMING.name(stepGroup(groupName, stepIndex), "Parallelism");
+    }
+
+    static String memberRunTimerMetric(String groupName, int stepIndex, String jobName) {
+        return NAMING.name(stepGroup(groupName, stepIndex) + "." + jobName, "RunTime");
+    }
+
+    static String memberQueuedTimerMetric(String groupName, int stepIndex, String jobName) {
+        return NAMING.name(stepGroup(groupName, stepIndex) + "." + jobName, "QueuedTime");
+    }
+
+    static String memberIdleTimerMetric(String groupName, int stepIndex, String jobName) {
+        return NAMING.name(stepGroup(groupName, stepIndex) + "." + jobName, "IdleTime");
+    }
+
+    private static String stepGroup(String groupName, int stepIndex) {
+        return groupName + ".step" + stepIndex;
+    }
+
+    GraphMetrics(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void onMemberFinished(String groupName, int stepIndex, String jobName, long queuedNanos, long runNanos, long idleNanos) {
+        if (groupName == null) {
+            return;
+        }
+
+        metricRegistry.timer(memberRunTimerMetric(groupName, stepIndex, jobName)).update(runNanos, TimeUnit.NANOSECONDS);
+        metricRegistry.timer(memberQueuedTimerMetric(groupName, stepIndex, jobName)).update(queuedNanos, TimeUnit.NANOSECONDS);
+        metricRegistry.timer(memberIdleTimerMetric(groupName, stepIndex, jobName)).update(idleNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStepFinished(String groupName, int stepIndex, int stepWidth, long stepNanos, long membersRunNanos) {
+        if (groupName == null) {
+            return;
+        }
+
+        metricRegistry.timer(stepTimerMetric(groupName, stepIndex)).update(stepNanos, TimeUnit.NANOSECONDS);
+
+        // the average number of jobs running in parallel, in percent. 100 means no parallelism,
+        // "stepWidth * 100" - full parallelism
+        if (stepNanos > 0) {
+            metricRegistry.histogram(stepParallelismHistogramMetric(groupName, stepIndex)).update(membersRunNanos * 100 / stepNanos);
+        }
+    }
+}
@@ -20,28 +20,80 @@ package io.bootique.job.instrumented;
 
 import io.bootique.job.Job;
 import io.bootique.job.JobOutcome;
+import io.bootique.job.executor.JobExecutors;
 import io.bootique.job.runtime.GraphExecutor;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @since 3.0
  */
 public class InstrumentedGraphExecutor extends GraphExecutor {
 
+    private final ExecutorService pool;
+    private final LongAdder rejectedCount;
+
     public InstrumentedGraphExecutor(ExecutorService pool) {
-        super(pool);
+        this(pool, null);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public InstrumentedGraphExecutor(ExecutorService pool, JobExecutors executors) {
+        super(pool, executors);
+        this.pool = pool;
+        this.rejectedCount = new LongAdder();
     }
 
     @Override
     public Future<JobOutcome> submit(Job job, Map<String, Object> params) {
-        Job decorated = decorateWithGroupTxId(job);
-        return super.submit(decorated, params);
+        try {
+            return super.submit(decorateWithGroupTxId(job), params);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw e;
+        }
     }
 
+    /**
+     * @deprecated the group tx id is propagated to the group members via {@link io.bootique.job.JobContext}. This
+     * method returns the job unchanged and is only called to support the subclasses that override it.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     protected Job decorateWithGroupTxId(Job job) {
-        return TxIdAwareGroupMemberJobDecorator.captureCurrentTxId(job);
+        return job;
+    }
+
+    /**
+     * Returns the approximate number of threads running graph subtasks. Only available for the pools based on
+     * {@link ThreadPoolExecutor}, otherwise returns zero.
+     *
+     * @since 4.0
+     */
+    public int getActiveCount() {
+        return pool instanceof ThreadPoolExecutor tpe ? tpe.getActiveCount() : 0;
+    }
+
+    /**
+     * Returns the number of graph subtasks waiting for a free thread. Only available for the pools based on
+     * {@link ThreadPoolExecutor}, otherwise returns zero.
+     *
+     * @since 4.0
+     */
+    public int getQueuedCount() {
+        return pool instanceof ThreadPoolExecutor tpe ? tpe.getQueue().size() : 0;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
     }
 }
@@ -19,12 +19,16 @@
 
 package io.bootique.job.instrumented;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
+import io.bootique.job.JobContext;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobOutcome;
 import io.bootique.job.runtime.JobLogger;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -42,13 +46,46 @@ class InstrumentedJobLogger extends JobLogger {
     @Override
     public JobOutcome run(Job delegate, Map<String, Object> params) {
         JobMetadata metadata = delegate.getMetadata();
-        JobMeter meter = onMeteredJobStarted(metadata, params);
 
+        // the MDC only mirrors the job context for the duration of the run, restoring the outer value afterwards
+        String previousTxId = mdcManager.onJobStarted(JobContext.current());
         try {
-            JobOutcome result = delegate.run(params);
-            return onMeteredJobFinished(metadata, result, meter);
-        } catch (Throwable th) {
-            return onMeteredJobFinished(metadata, JobOutcome.failed(th), meter);
+            JobMeter meter = onMeteredJobStarted(metadata, params);
+
+            try {
+                JobOutcome result = delegate.run(params);
+                return onMeteredJobFinished(metadata, result, meter);
+            } catch (Throwable th) {
+                return onMeteredJobFinished(metadata, JobOutcome.failed(th), meter);
+            }
+        } finally {
+            mdcManager.onJobFinished(previousTxId);
+        }
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        JobMetadata metadata = delegate.getMetadata();
+
+        // the MDC is only set on the thread starting the job. Completion callbacks run elsewhere
+        String previousTxId = mdcManager.onJobStarted(JobContext.current());
+        try {
+            JobMeter meter = onMeteredJobStarted(metadata, params);
+
+            CompletionStage<JobOutcome> stage;
+            try {
+                stage = delegate.runAsync(params);
+            } catch (Throwable th) {
+                return CompletableFuture.completedFuture(
+                        onMeteredJobFinished(metadata, JobOutcome.failed(th), meter));
+            }
+
+            return stage.handle((result, th) -> onMeteredJobFinished(
+                    metadata,
+                    th != null ? JobOutcome.failed(th) : result,
+                    meter));
+        } finally {
+            mdcManager.onJobFinished(previousTxId);
         }
     }
 
@@ -56,7 +93,6 @@ class InstrumentedJobLogger extends JobLogger {
         String label = metadata.isGroup() ? "group" : "job";
         String name = metadata.getName();
 
-        mdcManager.onJobStarted();
         JobMeter meter = metricsManager.onJobStarted(name);
         LOGGER.info("{} '{}' started with params {}", label, name, params);
         return meter;
@@ -0,0 +1,187 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.lock.LockHandler;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LockHandler} wrapper that collects per-lock metrics: time to acquire a lock (that includes the roundtrip to
+ * the remote lock store for the cluster handlers), number of acquisitions, number of runs skipped due to contention,
+ * number of release failures and the number of current lock holders. Lock acquisition is detected when the wrapped
+ * handler starts the job, and a release failure - when the handler throws after the job has finished.
+ *
+ * @since 4.0
+ */
+public class InstrumentedLockHandler implements LockHandler {
+
+    private final LockHandler delegate;
+    private final MetricRegistry metricRegistry;
+    private final Map<String, LockMetrics> metrics;
+
+    public InstrumentedLockHandler(LockHandler delegate, MetricRegistry metricRegistry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return delegate.isApplicable(metadata, altName, prebindParams);
+    }
+
+    @Override
+    public JobOutcome run(Job job, Map<String, Object> params) {
+
+        LockMetrics lockMetrics = getOrCreateMetrics(job.getMetadata().getLockName());
+        MeteredJob meteredJob = new MeteredJob(job, lockMetrics, System.nanoTime());
+
+        JobOutcome outcome;
+        try {
+            outcome = delegate.run(meteredJob, params);
+        } catch (RuntimeException e) {
+            if (meteredJob.finished) {
+                lockMetrics.getReleaseFailedCounter().inc();
+            }
+
+            throw e;
+        }
+
+        if (!meteredJob.started) {
+            lockMetrics.getAcquireTimer().update(System.nanoTime() - meteredJob.startedAt, TimeUnit.NANOSECONDS);
+            lockMetrics.getSkippedCounter().inc();
+        }
+
+        return outcome;
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob job, Map<String, Object> params) {
+
+        LockMetrics lockMetrics = getOrCreateMetrics(job.getMetadata().getLockName());
+        MeteredAsyncJob meteredJob = new MeteredAsyncJob(job, lockMetrics, System.nanoTime());
+
+        return delegate.runAsync(meteredJob, params).whenComplete((o, th) -> {
+            if (th != null && meteredJob.finished) {
+                lockMetrics.getReleaseFailedCounter().inc();
+            } else if (!meteredJob.started) {
+                lockMetrics.getAcquireTimer().update(System.nanoTime() - meteredJob.startedAt, TimeUnit.NANOSECONDS);
+                lockMetrics.getSkippedCounter().inc();
+            }
+        });
+    }
+
+    private LockMetrics getOrCreateMetrics(String lockName) {
+        return metrics.computeIfAbsent(lockName, n -> new LockMetrics(metricRegistry, n));
+    }
+
+    static class MeteredJob implements Job {
+
+        private final Job delegate;
+        protected final LockMetrics metrics;
+        protected final long startedAt;
+
+        // the lock handler may run the job on a different thread
+        protected volatile boolean started;
+        protected volatile boolean finished;
+
+        MeteredJob(Job delegate, LockMetrics metrics, long startedAt) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+
+            onAcquired();
+
+            JobOutcome outcome;
+            try {
+                outcome = delegate.run(params);
+            } finally {
+                metrics.getHoldersCounter().dec();
+            }
+
+            // only a normal job exit is tracked, so that job exceptions are not mistaken for lock release failures
+            finished = true;
+            return outcome;
+        }
+
+        protected void onAcquired() {
+            started = true;
+            metrics.getAcquireTimer().update(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            metrics.getAcquiredCounter().inc();
+            metrics.getHoldersCounter().inc();
+        }
+    }
+
+    static class MeteredAsyncJob extends MeteredJob implements AsyncJob {
+
+        private final AsyncJob asyncDelegate;
+
+        MeteredAsyncJob(AsyncJob delegate, LockMetrics metrics, long startedAt) {
+            super(delegate, metrics, startedAt);
+            this.asyncDelegate = delegate;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            return super.run(params);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+
+            onAcquired();
+
+            CompletionStage<JobOutcome> stage;
+            try {
+                stage = asyncDelegate.runAsync(params);
+            } catch (RuntimeException | Error e) {
+                metrics.getHoldersCounter().dec();
+                throw e;
+            }
+
+            return stage.whenComplete((o, th) -> {
+                metrics.getHoldersCounter().dec();
+
+                // same as the sync job, only a normal job exit is tracked
+                if (th == null) {
+                    finished = true;
+                }
+            });
+        }
+    }
+}
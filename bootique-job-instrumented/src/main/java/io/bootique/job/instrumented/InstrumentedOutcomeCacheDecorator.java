@@ -0,0 +1,59 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.runtime.OutcomeCacheDecorator;
+import io.bootique.metrics.MetricNaming;
+
+/**
+ * An outcome cache that tracks per-job cache hits and misses.
+ *
+ * @since 4.0
+ */
+public class InstrumentedOutcomeCacheDecorator extends OutcomeCacheDecorator {
+
+    private static final MetricNaming NAMING = MetricNaming.forModule(JobInstrumentedModule.class);
+
+    private final MetricRegistry metricRegistry;
+
+    static String hitsCounterMetric(String jobName) {
+        return NAMING.name(jobName, "CacheHits");
+    }
+
+    static String missesCounterMetric(String jobName) {
+        return NAMING.name(jobName, "CacheMisses");
+    }
+
+    public InstrumentedOutcomeCacheDecorator(int maxSize, MetricRegistry metricRegistry) {
+        super(maxSize);
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    protected void onHit(String jobName) {
+        metricRegistry.counter(hitsCounterMetric(jobName)).inc();
+    }
+
+    @Override
+    protected void onMiss(String jobName) {
+        metricRegistry.counter(missesCounterMetric(jobName)).inc();
+    }
+}
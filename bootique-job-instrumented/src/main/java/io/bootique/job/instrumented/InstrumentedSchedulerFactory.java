@@ -18,14 +18,16 @@
  */
 package io.bootique.job.instrumented;
 
+import com.codahale.metrics.MetricRegistry;
 import io.bootique.annotation.BQConfig;
 import io.bootique.job.JobRegistry;
-import io.bootique.job.runtime.GraphExecutor;
+import io.bootique.job.executor.JobExecutors;
 import io.bootique.job.runtime.JobDecorators;
 import io.bootique.job.scheduler.SchedulerFactory;
 import io.bootique.shutdown.ShutdownManager;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 
 /**
  * @since 3.0
@@ -34,15 +36,38 @@ import jakarta.inject.Inject;
 public class InstrumentedSchedulerFactory extends SchedulerFactory {
 
     @Inject
+    public InstrumentedSchedulerFactory(
+            Provider<JobRegistry> jobRegistry,
+            Provider<JobDecorators> decorators,
+            ShutdownManager shutdownManager) {
+        super(jobRegistry, decorators, shutdownManager);
+    }
+
+    /**
+     * @deprecated in favor of the constructor that takes the registry and the decorators providers.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public InstrumentedSchedulerFactory(
             JobRegistry jobRegistry,
             JobDecorators decorators,
             ShutdownManager shutdownManager) {
-        super(jobRegistry, decorators, shutdownManager);
+        this(() -> jobRegistry, () -> decorators, shutdownManager);
     }
 
     @Override
-    public GraphExecutor createGraphExecutor() {
+    public InstrumentedGraphExecutor createGraphExecutor() {
         return new InstrumentedGraphExecutor(createGraphExecutorService());
     }
+
+    @Override
+    public InstrumentedGraphExecutor createGraphExecutor(JobExecutors jobExecutors) {
+        return new InstrumentedGraphExecutor(createGraphExecutorService(), jobExecutors);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public InstrumentedOutcomeCacheDecorator createOutcomeCacheDecorator(MetricRegistry metricRegistry) {
+        return new InstrumentedOutcomeCacheDecorator(resolveOutcomeCacheSize(), metricRegistry);
+    }
 }
@@ -25,41 +25,134 @@ import io.bootique.ModuleCrate;
 import io.bootique.config.ConfigurationFactory;
 import io.bootique.di.Binder;
 import io.bootique.di.Provides;
+import io.bootique.di.TypeLiteral;
+import io.bootique.job.JobRegistry;
 import io.bootique.job.JobsModule;
+import io.bootique.job.MappedJobDecorator;
 import io.bootique.job.SchedulerModule;
+import io.bootique.job.executor.JobExecutors;
+import io.bootique.job.graph.JobGraphNode;
+import io.bootique.job.jfr.GraphStepEventListener;
+import io.bootique.job.runtime.DefaultJobRegistry;
+import io.bootique.job.runtime.JobContextDecorator;
 import io.bootique.job.runtime.GraphExecutor;
+import io.bootique.job.runtime.JobDecorators;
 import io.bootique.job.runtime.JobLogger;
+import io.bootique.job.runtime.OutcomeCacheDecorator;
+import io.bootique.job.scheduler.TaskScheduler;
+import io.bootique.job.scheduler.TriggerStateStore;
 import io.bootique.metrics.mdc.TransactionIdGenerator;
 
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 
+import java.util.Map;
+
 public class JobInstrumentedModule implements BQModule {
 
     // same prefix as the module we instrument
     private static final String SCHEDULER_CONFIG_PREFIX = "scheduler";
+    private static final String METRICS_CONFIG_PREFIX = "jobmetrics";
+
+    // innermost of the standard decorators, so that only the job itself is accounted, and on its executor thread
+    static final int RESOURCES_ORDER = JobDecorators.RENAMER_ORDER + 500;
 
     @Override
     public ModuleCrate crate() {
         return ModuleCrate.of(this)
                 .description("Integrates metrics and extra logging in the Bootique job engine")
+                .config(METRICS_CONFIG_PREFIX, JobMetricsFactory.class)
                 .overrides(JobsModule.class, SchedulerModule.class)
                 .build();
     }
 
     @Override
     public void configure(Binder binder) {
+        JobsModule.extend(binder)
+                .addLockHandlerWrapper(InstrumentedLockHandlerWrapper.class)
+                .addMappedDecorator(new TypeLiteral<MappedJobDecorator<JobResourcesDecorator>>() {
+                });
+    }
+
+    // same as in SchedulerModule, only with group step metrics in addition to JFR events
+    @Provides
+    @Singleton
+    JobRegistry provideJobRegistry(
+            Map<String, JobGraphNode> jobNodes,
+            JobDecorators decorators,
+            Provider<GraphExecutor> graphExecutor,
+            MetricRegistry metricRegistry) {
+
+        return new DefaultJobRegistry(
+                jobNodes,
+                decorators,
+                graphExecutor,
+                new GraphStepEventListener().andThen(new GraphMetrics(metricRegistry)));
+    }
+
+    @Provides
+    @Singleton
+    GraphExecutor createGraphExecutor(
+            ConfigurationFactory configFactory,
+            JobExecutors jobExecutors,
+            SchedulerMetrics schedulerMetrics) {
+
+        InstrumentedGraphExecutor executor = configFactory
+                .config(InstrumentedSchedulerFactory.class, SCHEDULER_CONFIG_PREFIX)
+                .createGraphExecutor(jobExecutors);
+
+        schedulerMetrics.addGauges(executor);
+        return executor;
+    }
+
+    // same as in SchedulerModule, only with metrics
+    @Provides
+    @Singleton
+    TaskScheduler provideTaskScheduler(
+            ConfigurationFactory configFactory,
+            TriggerStateStore stateStore,
+            SchedulerMetrics schedulerMetrics) {
+
+        TaskScheduler taskScheduler = configFactory
+                .config(InstrumentedSchedulerFactory.class, SCHEDULER_CONFIG_PREFIX)
+                .createTaskScheduler(stateStore, schedulerMetrics);
+        schedulerMetrics.addGauges(taskScheduler);
+        return taskScheduler;
+    }
+
+    @Provides
+    @Singleton
+    OutcomeCacheDecorator provideOutcomeCacheDecorator(ConfigurationFactory configFactory, MetricRegistry metricRegistry) {
+        return configFactory
+                .config(InstrumentedSchedulerFactory.class, SCHEDULER_CONFIG_PREFIX)
+                .createOutcomeCacheDecorator(metricRegistry);
+    }
+
+    @Provides
+    @Singleton
+    SchedulerMetrics provideSchedulerMetrics(MetricRegistry metricRegistry) {
+        return new SchedulerMetrics(metricRegistry);
+    }
+
+    @Provides
+    @Singleton
+    JobMetricsManager provideJobMetricsManager(ConfigurationFactory configFactory, MetricRegistry metricRegistry) {
+        return configFactory.config(JobMetricsFactory.class, METRICS_CONFIG_PREFIX).createMetricsManager(metricRegistry);
     }
 
     @Provides
     @Singleton
-    GraphExecutor createGraphExecutor(ConfigurationFactory configFactory) {
-        return configFactory.config(InstrumentedSchedulerFactory.class, SCHEDULER_CONFIG_PREFIX).createGraphExecutor();
+    MappedJobDecorator<JobResourcesDecorator> provideResourcesDecorator(
+            JobMetricsManager metricsManager,
+            JobExecutors jobExecutors) {
+        return new MappedJobDecorator<>(new JobResourcesDecorator(metricsManager, jobExecutors), RESOURCES_ORDER, true);
     }
 
+    // same as in JobsModule, only with the execution ids matching the metrics transaction ids
     @Provides
     @Singleton
-    JobMetricsManager provideJobMetricsManager(MetricRegistry metricRegistry) {
-        return new JobMetricsManager(metricRegistry);
+    JobContextDecorator provideContextDecorator(TransactionIdGenerator generator) {
+        return new JobContextDecorator(generator::nextId);
     }
 
     @Provides
@@ -19,6 +19,7 @@
 
 package io.bootique.job.instrumented;
 
+import io.bootique.job.JobContext;
 import io.bootique.metrics.mdc.TransactionIdGenerator;
 import io.bootique.metrics.mdc.TransactionIdMDC;
 
@@ -30,12 +31,46 @@ public class JobMDCManager {
         this.idGenerator = idGenerator;
     }
 
+    /**
+     * @deprecated in favor of {@link #onJobStarted(JobContext)}, that doesn't leave the id in the MDC after the run
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public void onJobStarted() {
         String id = idGenerator.nextId();
         TransactionIdMDC.setId(id);
     }
 
+    /**
+     * @deprecated in favor of {@link #onJobFinished(String)}
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public void onJobFinished() {
         TransactionIdMDC.clearId();
     }
+
+    /**
+     * Copies the context transaction id to the MDC, returning the previous MDC id that should be passed to
+     * {@link #onJobFinished(String)} after the run.
+     *
+     * @param context the context of the running job. If null, a new transaction id is generated
+     * @since 4.0
+     */
+    public String onJobStarted(JobContext context) {
+        String previousId = TransactionIdMDC.getId();
+        TransactionIdMDC.setId(context != null ? context.getTxId() : idGenerator.nextId());
+        return previousId;
+    }
+
+    /**
+     * Restores the MDC transaction id that was there before the job started.
+     *
+     * @since 4.0
+     */
+    public void onJobFinished(String previousId) {
+        if (previousId != null) {
+            TransactionIdMDC.setId(previousId);
+        } else {
+            TransactionIdMDC.clearId();
+        }
+    }
 }
\ No newline at end of file
@@ -18,7 +18,6 @@
  */
 package io.bootique.job.instrumented;
 
-import com.codahale.metrics.Timer;
 import io.bootique.job.JobOutcome;
 
 import java.util.Objects;
@@ -29,35 +28,18 @@ import java.util.Objects;
 class JobMeter {
 
     private final JobMetrics metrics;
-    private Timer.Context runTimer;
+    private long startNanos;
 
     public JobMeter(JobMetrics metrics) {
         this.metrics = Objects.requireNonNull(metrics);
     }
 
     public void start() {
-        this.metrics.getActiveCounter().inc();
-        this.runTimer = metrics.getTimer().time();
+        this.startNanos = metrics.start();
     }
 
     public long stop(JobOutcome result) {
-        metrics.getActiveCounter().dec();
-        metrics.getCompletedCounter().inc();
-
-        // Timer.Context#stop also updates aggregate running time of all instances of <jobName>
-        long timeNanos = runTimer.stop();
-
-        switch (result.getStatus()) {
-            case SUCCESS: {
-                metrics.getSuccessCounter().inc();
-                break;
-            }
-            case FAILURE: {
-                metrics.getFailureCounter().inc();
-                break;
-            }
-            // do not track other results
-        }
+        long timeNanos = metrics.stop(startNanos, result);
 
         // return in milliseconds
         return timeNanos / 1_000_000L;
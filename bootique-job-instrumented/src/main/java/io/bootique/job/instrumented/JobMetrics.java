@@ -20,9 +20,14 @@ package io.bootique.job.instrumented;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.Timer;
+import io.bootique.job.JobOutcome;
 import io.bootique.metrics.MetricNaming;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * @since 3.0
  */
@@ -54,11 +59,53 @@ class JobMetrics {
     }
 
     JobMetrics(MetricRegistry metricRegistry, String jobName) {
+        this(metricRegistry, jobName, null);
+    }
+
+    /**
+     * @param reservoirFactory creates a reservoir for the job timer. If null, the default timer reservoir is used.
+     * @since 4.0
+     */
+    JobMetrics(MetricRegistry metricRegistry, String jobName, Supplier<Reservoir> reservoirFactory) {
         this.activeCounter = metricRegistry.counter(activeCounterMetric(jobName));
         this.completedCounter = metricRegistry.counter(completedCounterMetric(jobName));
         this.successCounter = metricRegistry.counter(successCounterMetric(jobName));
         this.failureCounter = metricRegistry.counter(failureCounterMetric(jobName));
-        this.timer = metricRegistry.timer(timerMetric(jobName));
+        this.timer = reservoirFactory != null
+                ? metricRegistry.timer(timerMetric(jobName), () -> new Timer(reservoirFactory.get()))
+                : metricRegistry.timer(timerMetric(jobName));
+    }
+
+    /**
+     * Records a job start, returning the start time in nanoseconds that should be passed to
+     * {@link #stop(long, JobOutcome)}. Unlike {@link Timer#time()}, doesn't allocate a context object per run.
+     *
+     * @since 4.0
+     */
+    long start() {
+        activeCounter.inc();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a job end, returning the job running time in nanoseconds.
+     *
+     * @since 4.0
+     */
+    long stop(long startNanos, JobOutcome result) {
+        long timeNanos = System.nanoTime() - startNanos;
+
+        activeCounter.dec();
+        completedCounter.inc();
+        timer.update(timeNanos, TimeUnit.NANOSECONDS);
+
+        switch (result.getStatus()) {
+            case SUCCESS -> successCounter.inc();
+            case FAILURE -> failureCounter.inc();
+            // do not track other results
+        }
+
+        return timeNanos;
     }
 
     Counter getActiveCounter() {
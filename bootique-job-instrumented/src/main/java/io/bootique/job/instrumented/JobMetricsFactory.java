@@ -0,0 +1,65 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Duration;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Job metrics")
+public class JobMetricsFactory {
+
+    private static final java.time.Duration DEFAULT_WINDOW = java.time.Duration.ofMinutes(1);
+
+    private ReservoirType reservoir;
+    private Duration window;
+
+    public JobMetricsManager createMetricsManager(MetricRegistry metricRegistry) {
+        return switch (reservoir != null ? reservoir : ReservoirType.EXPONENTIALLY_DECAYING) {
+            case EXPONENTIALLY_DECAYING -> new JobMetricsManager(metricRegistry);
+            case BUCKETED -> {
+                java.time.Duration window = createWindow();
+                yield new JobMetricsManager(metricRegistry, () -> new BucketedReservoir(window));
+            }
+        };
+    }
+
+    protected java.time.Duration createWindow() {
+        return window != null ? window.getDuration() : DEFAULT_WINDOW;
+    }
+
+    @BQConfigProperty("How job timers aggregate job running times. Either 'EXPONENTIALLY_DECAYING' (default) or " +
+            "'BUCKETED'. The latter has no per-run allocations and keeps the tail percentiles accurate.")
+    public JobMetricsFactory setReservoir(ReservoirType reservoir) {
+        this.reservoir = reservoir;
+        return this;
+    }
+
+    @BQConfigProperty("A time window of the 'BUCKETED' reservoir. Timer snapshots include the values from the current " +
+            "and the previous window. Default is 1 min.")
+    public JobMetricsFactory setWindow(Duration window) {
+        this.window = window;
+        return this;
+    }
+}
@@ -20,9 +20,11 @@
 package io.bootique.job.instrumented;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Collects job execution metrics and posts them to the metrics registry.
@@ -32,11 +34,23 @@ import java.util.concurrent.ConcurrentHashMap;
 public class JobMetricsManager {
 
     private final MetricRegistry metricRegistry;
+    private final Supplier<Reservoir> reservoirFactory;
     private final Map<String, JobMetrics> metrics;
+    private final Map<String, JobResourceMetrics> resourceMetrics;
 
     public JobMetricsManager(MetricRegistry metricRegistry) {
+        this(metricRegistry, null);
+    }
+
+    /**
+     * @param reservoirFactory creates reservoirs for the job timers. If null, the default timer reservoir is used.
+     * @since 4.0
+     */
+    public JobMetricsManager(MetricRegistry metricRegistry, Supplier<Reservoir> reservoirFactory) {
         this.metricRegistry = metricRegistry;
+        this.reservoirFactory = reservoirFactory;
         this.metrics = new ConcurrentHashMap<>();
+        this.resourceMetrics = new ConcurrentHashMap<>();
     }
 
     public JobMeter onJobStarted(String jobName) {
@@ -45,7 +59,23 @@ public class JobMetricsManager {
         return meter;
     }
 
-    private JobMetrics getOrCreateMetrics(String jobName) {
-        return metrics.computeIfAbsent(jobName, n -> new JobMetrics(metricRegistry, jobName));
+    // allows to record job runs without allocating a meter per run
+    JobMetrics getOrCreateMetrics(String jobName) {
+
+        // "get" before "computeIfAbsent" to avoid lambda allocation for the existing metrics
+        JobMetrics jobMetrics = metrics.get(jobName);
+        return jobMetrics != null
+                ? jobMetrics
+                : metrics.computeIfAbsent(jobName, n -> new JobMetrics(metricRegistry, jobName, reservoirFactory));
+    }
+
+    /**
+     * @since 4.0
+     */
+    JobResourceMetrics getOrCreateResourceMetrics(String jobName) {
+        JobResourceMetrics jobMetrics = resourceMetrics.get(jobName);
+        return jobMetrics != null
+                ? jobMetrics
+                : resourceMetrics.computeIfAbsent(jobName, n -> new JobResourceMetrics(metricRegistry, jobName, reservoirFactory));
     }
 }
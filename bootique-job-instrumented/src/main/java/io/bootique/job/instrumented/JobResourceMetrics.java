@@ -0,0 +1,91 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
+import io.bootique.metrics.MetricNaming;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * CPU time and memory allocation metrics of a single job.
+ *
+ * @since 4.0
+ */
+class JobResourceMetrics {
+
+    private static final MetricNaming NAMING = MetricNaming.forModule(JobInstrumentedModule.class);
+
+    private final Timer cpuTimer;
+    private final Histogram allocatedHistogram;
+    private final Counter unaccountedCounter;
+
+    static String cpuTimerMetric(String jobName) {
+        return NAMING.name(jobName, "CpuTime");
+    }
+
+    static String allocatedHistogramMetric(String jobName) {
+        return NAMING.name(jobName, "AllocatedBytes");
+    }
+
+    static String unaccountedCounterMetric(String jobName) {
+        return NAMING.name(jobName, "Unaccounted");
+    }
+
+    /**
+     * @param reservoirFactory creates reservoirs for the timer and the histogram. If null, the default reservoir is
+     *                         used.
+     */
+    JobResourceMetrics(MetricRegistry metricRegistry, String jobName, Supplier<Reservoir> reservoirFactory) {
+        this.cpuTimer = reservoirFactory != null
+                ? metricRegistry.timer(cpuTimerMetric(jobName), () -> new Timer(reservoirFactory.get()))
+                : metricRegistry.timer(cpuTimerMetric(jobName));
+        this.allocatedHistogram = reservoirFactory != null
+                ? metricRegistry.histogram(allocatedHistogramMetric(jobName), () -> new Histogram(reservoirFactory.get()))
+                : metricRegistry.histogram(allocatedHistogramMetric(jobName));
+        this.unaccountedCounter = metricRegistry.counter(unaccountedCounterMetric(jobName));
+    }
+
+    void update(long cpuNanos, long allocatedBytes) {
+        cpuTimer.update(cpuNanos, TimeUnit.NANOSECONDS);
+        allocatedHistogram.update(allocatedBytes);
+    }
+
+    void updateUnaccounted() {
+        unaccountedCounter.inc();
+    }
+
+    Timer getCpuTimer() {
+        return cpuTimer;
+    }
+
+    Histogram getAllocatedHistogram() {
+        return allocatedHistogram;
+    }
+
+    Counter getUnaccountedCounter() {
+        return unaccountedCounter;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.executor.JobExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A decorator that records CPU time and heap allocation of each job run, sampling the executing thread counters at
+ * the job start and end. Job groups are skipped, as their members run on other threads and are accounted
+ * individually.
+ *
+ * <p>The numbers are only available for platform threads. On virtual threads the JVM doesn't track per-thread CPU and
+ * allocation, and even if it did, the numbers would be inexact, as a virtual thread can be moved between carriers
+ * during a run. Since the scheduler runs jobs on virtual threads, only the jobs assigned to a platform thread executor
+ * (i.e. "cpu" or a "BOUNDED" one) are measured. The decorator is not applied to the other jobs, and a warning is
+ * logged for each of them. The runs of {@link AsyncJob AsyncJobs}, whose work is spread over the threads of the async
+ * client they use, as well as the runs where the JVM doesn't provide the counters, are counted as "Unaccounted".</p>
+ *
+ * @since 4.0
+ */
+class JobResourcesDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobResourcesDecorator.class);
+
+    private final JobMetricsManager metricsManager;
+    private final JobExecutors executors;
+    private final ThreadMXBean threadMXBean;
+    private final Set<String> unmeasuredJobs;
+
+    // null if the JVM doesn't provide allocation counters
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+
+    JobResourcesDecorator(JobMetricsManager metricsManager, JobExecutors executors) {
+        this(metricsManager, executors, ManagementFactory.getThreadMXBean());
+    }
+
+    JobResourcesDecorator(JobMetricsManager metricsManager, JobExecutors executors, ThreadMXBean threadMXBean) {
+        this.metricsManager = metricsManager;
+        this.executors = executors;
+        this.threadMXBean = threadMXBean;
+        this.unmeasuredJobs = ConcurrentHashMap.newKeySet();
+        this.allocationMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean sun
+                && sun.isThreadAllocatedMemorySupported()
+                ? sun
+                : null;
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        if (metadata.isGroup()) {
+            return false;
+        }
+
+        if (!executors.isPlatform(metadata)) {
+            if (unmeasuredJobs.add(metadata.getName())) {
+                LOGGER.warn("Job '{}' runs on virtual threads, so its CPU time and allocations are not measured. " +
+                        "Assign it to the 'cpu' or a 'BOUNDED' executor to measure them", metadata.getName());
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        long cpu0 = cpuTime();
+        long allocated0 = allocatedBytes();
+
+        try {
+            return delegate.run(params);
+        } finally {
+            long cpu1 = cpuTime();
+            long allocated1 = allocatedBytes();
+
+            JobResourceMetrics metrics = metricsManager.getOrCreateResourceMetrics(delegate.getMetadata().getName());
+            if (cpu0 < 0 || cpu1 < 0 || allocated0 < 0 || allocated1 < 0) {
+                metrics.updateUnaccounted();
+            } else {
+                metrics.update(cpu1 - cpu0, allocated1 - allocated0);
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        JobResourceMetrics metrics = metricsManager.getOrCreateResourceMetrics(delegate.getMetadata().getName());
+        return delegate.runAsync(params).whenComplete((o, th) -> metrics.updateUnaccounted());
+    }
+
+    private long cpuTime() {
+        // -1 if CPU time measurement is disabled, or if the job ended up on a virtual thread
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long allocatedBytes() {
+        // -1 if allocation measurement is disabled, or if the job ended up on a virtual thread
+        return allocationMXBean != null ? allocationMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
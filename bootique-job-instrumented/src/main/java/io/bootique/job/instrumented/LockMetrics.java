@@ -0,0 +1,85 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.metrics.MetricNaming;
+
+/**
+ * Metrics of a single named lock.
+ *
+ * @since 4.0
+ */
+class LockMetrics {
+
+    private static final MetricNaming NAMING = MetricNaming.forModule(JobInstrumentedModule.class);
+
+    private final Counter holdersCounter, acquiredCounter, skippedCounter, releaseFailedCounter;
+    private final Timer acquireTimer;
+
+    static String holdersCounterMetric(String lockName) {
+        return NAMING.name(lockName, "LockHolders");
+    }
+
+    static String acquiredCounterMetric(String lockName) {
+        return NAMING.name(lockName, "LockAcquired");
+    }
+
+    static String skippedCounterMetric(String lockName) {
+        return NAMING.name(lockName, "LockSkipped");
+    }
+
+    static String releaseFailedCounterMetric(String lockName) {
+        return NAMING.name(lockName, "LockReleaseFailed");
+    }
+
+    static String acquireTimerMetric(String lockName) {
+        return NAMING.name(lockName, "LockAcquireTime");
+    }
+
+    LockMetrics(MetricRegistry metricRegistry, String lockName) {
+        this.holdersCounter = metricRegistry.counter(holdersCounterMetric(lockName));
+        this.acquiredCounter = metricRegistry.counter(acquiredCounterMetric(lockName));
+        this.skippedCounter = metricRegistry.counter(skippedCounterMetric(lockName));
+        this.releaseFailedCounter = metricRegistry.counter(releaseFailedCounterMetric(lockName));
+        this.acquireTimer = metricRegistry.timer(acquireTimerMetric(lockName));
+    }
+
+    Counter getHoldersCounter() {
+        return holdersCounter;
+    }
+
+    Counter getAcquiredCounter() {
+        return acquiredCounter;
+    }
+
+    Counter getSkippedCounter() {
+        return skippedCounter;
+    }
+
+    Counter getReleaseFailedCounter() {
+        return releaseFailedCounter;
+    }
+
+    Timer getAcquireTimer() {
+        return acquireTimer;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+/**
+ * Defines how the job timers aggregate job running times.
+ *
+ * @since 4.0
+ */
+public enum ReservoirType {
+
+    /**
+     * Default Dropwizard sampling reservoir biased towards the last 5 minutes. Cheap, but loses the accuracy of the
+     * far tail percentiles.
+     */
+    EXPONENTIALLY_DECAYING,
+
+    /**
+     * {@link BucketedReservoir} that counts every value in HdrHistogram log-linear buckets. Allocation-free, with
+     * accurate tail percentiles computed over a fixed time window.
+     */
+    BUCKETED
+}
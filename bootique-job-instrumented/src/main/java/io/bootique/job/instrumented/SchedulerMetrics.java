@@ -0,0 +1,93 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.scheduler.TaskRunListener;
+import io.bootique.job.scheduler.TaskScheduler;
+import io.bootique.metrics.MetricNaming;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects metrics of the scheduler saturation: how late each trigger fires compared to its schedule, and the state
+ * of the scheduler and graph executor thread pools.
+ *
+ * @since 4.0
+ */
+class SchedulerMetrics implements TaskRunListener {
+
+    private static final MetricNaming NAMING = MetricNaming.forModule(JobInstrumentedModule.class);
+
+    static final String TASK_SCHEDULER_POOL = "TaskScheduler";
+    static final String GRAPH_EXECUTOR_POOL = "GraphExecutor";
+
+    private final MetricRegistry metricRegistry;
+
+    static String fireLagTimerMetric(String triggerKey) {
+        return NAMING.name(triggerKey, "FireLag");
+    }
+
+    static String activeGaugeMetric(String poolName) {
+        return NAMING.name(poolName, "Active");
+    }
+
+    static String queuedGaugeMetric(String poolName) {
+        return NAMING.name(poolName, "Queued");
+    }
+
+    static String scheduledGaugeMetric(String poolName) {
+        return NAMING.name(poolName, "Scheduled");
+    }
+
+    static String rejectedGaugeMetric(String poolName) {
+        return NAMING.name(poolName, "Rejected");
+    }
+
+    SchedulerMetrics(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void onRunStarted(String taskKey, Instant scheduledStart, Instant actualStart) {
+
+        // runs with a lead time may legitimately start a bit early
+        long lagNanos = Math.max(0, Duration.between(scheduledStart, actualStart).toNanos());
+        metricRegistry.timer(fireLagTimerMetric(taskKey)).update(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void addGauges(TaskScheduler taskScheduler) {
+        metricRegistry.gauge(activeGaugeMetric(TASK_SCHEDULER_POOL), () -> (Gauge<Integer>) taskScheduler::getActiveCount);
+
+        // for the scheduler pool "queued" are the tasks that are due, but are waiting for a thread
+        metricRegistry.gauge(queuedGaugeMetric(TASK_SCHEDULER_POOL), () -> (Gauge<Integer>) taskScheduler::getOverdueCount);
+        metricRegistry.gauge(scheduledGaugeMetric(TASK_SCHEDULER_POOL), () -> (Gauge<Integer>) taskScheduler::getScheduledCount);
+        metricRegistry.gauge(rejectedGaugeMetric(TASK_SCHEDULER_POOL), () -> (Gauge<Long>) taskScheduler::getRejectedCount);
+    }
+
+    void addGauges(InstrumentedGraphExecutor graphExecutor) {
+        metricRegistry.gauge(activeGaugeMetric(GRAPH_EXECUTOR_POOL), () -> (Gauge<Integer>) graphExecutor::getActiveCount);
+        metricRegistry.gauge(queuedGaugeMetric(GRAPH_EXECUTOR_POOL), () -> (Gauge<Integer>) graphExecutor::getQueuedCount);
+        metricRegistry.gauge(rejectedGaugeMetric(GRAPH_EXECUTOR_POOL), () -> (Gauge<Long>) graphExecutor::getRejectedCount);
+    }
+}
@@ -19,6 +19,7 @@
 package io.bootique.job.instrumented;
 
 import io.bootique.job.Job;
+import io.bootique.job.JobContext;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobOutcome;
 import io.bootique.metrics.mdc.TransactionIdMDC;
@@ -27,14 +28,20 @@ import java.util.Map;
 
 /**
  * @since 3.0
+ * @deprecated the group tx id is propagated to the group members via {@link JobContext}, and is placed in the MDC
+ * by {@link InstrumentedJobLogger}, so wrapping the members is no longer needed.
  */
-class TxIdAwareGroupMemberJobDecorator implements Job {
+@Deprecated(since = "4.0", forRemoval = true)
+public class TxIdAwareGroupMemberJobDecorator implements Job {
 
     private final Job delegate;
     private final String groupMDC;
 
     public static TxIdAwareGroupMemberJobDecorator captureCurrentTxId(Job delegate) {
-        return new TxIdAwareGroupMemberJobDecorator(delegate, TransactionIdMDC.getId());
+        JobContext context = JobContext.current();
+        return new TxIdAwareGroupMemberJobDecorator(
+                delegate,
+                context != null ? context.getTxId() : TransactionIdMDC.getId());
     }
 
     TxIdAwareGroupMemberJobDecorator(Job delegate, String groupMDC) {
@@ -50,11 +57,16 @@ class TxIdAwareGroupMemberJobDecorator implements Job {
     @Override
     public JobOutcome run(Map<String, Object> parameters) {
 
+        String previousMDC = TransactionIdMDC.getId();
         TransactionIdMDC.setId(groupMDC);
         try {
             return delegate.run(parameters);
         } finally {
-            TransactionIdMDC.clearId();
+            if (previousMDC != null) {
+                TransactionIdMDC.setId(previousMDC);
+            } else {
+                TransactionIdMDC.clearId();
+            }
         }
     }
 }
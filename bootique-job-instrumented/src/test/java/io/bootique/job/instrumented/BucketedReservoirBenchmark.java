@@ -0,0 +1,107 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of recording job running times and taking timer snapshots in the {@link BucketedReservoir} and
+ * the default Dropwizard reservoir. Not a part of the test suite. Run it from the IDE via {@link #main(String[])}, or
+ * with the JMH runner from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BucketedReservoirBenchmark {
+
+    @Param({"BUCKETED", "EXPONENTIALLY_DECAYING"})
+    public ReservoirType type;
+
+    private Reservoir reservoir;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BucketedReservoirBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        reservoir = switch (type) {
+            case BUCKETED -> new BucketedReservoir(Duration.ofMinutes(1));
+            case EXPONENTIALLY_DECAYING -> new ExponentiallyDecayingReservoir();
+        };
+
+        // have a realistic amount of data for the snapshots
+        for (int i = 0; i < 100_000; i++) {
+            reservoir.update(nextDuration());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void update() {
+        reservoir.update(nextDuration());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void update_Contended() {
+        reservoir.update(nextDuration());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void getSnapshot(Blackhole bh) {
+        bh.consume(reservoir.getSnapshot().get99thPercentile());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int size() {
+        return reservoir.size();
+    }
+
+    // a long tail distribution of nanosecond durations around 1 ms
+    private static long nextDuration() {
+        return (long) (1_000_000 * Math.exp(ThreadLocalRandom.current().nextGaussian() * 2));
+    }
+}
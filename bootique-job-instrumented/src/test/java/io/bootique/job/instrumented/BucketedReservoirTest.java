@@ -0,0 +1,153 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BucketedReservoirTest {
+
+    @Test
+    public void update_Negative() {
+        BucketedReservoir reservoir = new BucketedReservoir(Duration.ofMinutes(1));
+
+        // negative values are not expected, but must not break the reservoir
+        reservoir.update(-5);
+        reservoir.update(7);
+
+        Snapshot snapshot = reservoir.getSnapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(7, snapshot.getMax());
+    }
+
+    @Test
+    public void getSnapshot_Percentiles() {
+        long[] values = new long[100_000];
+        Random random = new Random(7);
+        for (int i = 0; i < values.length; i++) {
+            // long tail distribution of nanosecond durations
+            values[i] = (long) (1_000_000 * Math.exp(random.nextGaussian() * 2));
+        }
+
+        BucketedReservoir reservoir = new BucketedReservoir(Duration.ofMinutes(1));
+        for (long v : values) {
+            reservoir.update(v);
+        }
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        Snapshot snapshot = reservoir.getSnapshot();
+        assertEquals(values.length, snapshot.size());
+        assertEquals(sorted[0], snapshot.getMin(), sorted[0] / 100.);
+        assertEquals(sorted[sorted.length - 1], snapshot.getMax(), sorted[sorted.length - 1] / 100.);
+
+        double mean = Arrays.stream(values).average().orElseThrow();
+        assertEquals(mean, snapshot.getMean(), mean / 100.);
+
+        for (double q : new double[]{0.5, 0.75, 0.99, 0.999}) {
+            long expected = sorted[(int) Math.ceil(q * sorted.length) - 1];
+            double actual = snapshot.getValue(q);
+            assertEquals(expected, actual, expected / 100., () -> "Inaccurate quantile " + q);
+        }
+    }
+
+    @Test
+    public void getSnapshot_Empty() {
+        Snapshot snapshot = new BucketedReservoir(Duration.ofMinutes(1)).getSnapshot();
+        assertEquals(0, snapshot.size());
+        assertEquals(0., snapshot.getValue(0.99));
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getValues().length);
+    }
+
+    @Test
+    public void getSnapshot_Windows() {
+        long[] now = {0};
+        BucketedReservoir reservoir = new BucketedReservoir(Duration.ofNanos(100), () -> now[0]);
+
+        reservoir.update(10);
+        reservoir.update(10);
+
+        now[0] = 150;
+        reservoir.update(1000);
+
+        // the previous and the current window
+        assertEquals(3, reservoir.getSnapshot().size());
+        assertEquals(1000, reservoir.getSnapshot().getMax(), 10);
+
+        now[0] = 260;
+        reservoir.update(20);
+
+        // the first window is gone
+        Snapshot snapshot = reservoir.getSnapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(20, snapshot.getMin());
+
+        // a long idle period clears everything
+        now[0] = 1000;
+        assertEquals(0, reservoir.getSnapshot().size());
+    }
+
+    @Test
+    public void size_ConcurrentRotation() throws InterruptedException {
+        AtomicLong now = new AtomicLong();
+        BucketedReservoir reservoir = new BucketedReservoir(Duration.ofNanos(100), now::get);
+
+        int threads = 4;
+        int perThread = 50_000;
+        CountDownLatch started = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    started.countDown();
+                    for (int j = 0; j < perThread; j++) {
+                        reservoir.update(j);
+                    }
+                });
+            }
+
+            // rotate once while the values are being recorded. Both windows are still in the snapshot, so nothing
+            // recorded concurrently with the rotation may be lost
+            started.await();
+            now.set(150);
+            reservoir.getSnapshot();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(threads * perThread, reservoir.size());
+        assertEquals(threads * perThread, reservoir.getSnapshot().size());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GraphMetricsTest {
+
+    @Test
+    public void onStepFinished() {
+        MetricRegistry registry = new MetricRegistry();
+        GraphMetrics metrics = new GraphMetrics(registry);
+
+        metrics.onMemberFinished("g1", 0, "j1", 5, 100, 50);
+        metrics.onMemberFinished("g1", 0, "j2", 0, 150, 0);
+        metrics.onStepFinished("g1", 0, 2, 150, 250);
+
+        assertEquals(1, registry.timer(GraphMetrics.stepTimerMetric("g1", 0)).getCount());
+        assertEquals(1, registry.histogram(GraphMetrics.stepParallelismHistogramMetric("g1", 0)).getCount());
+        assertEquals(1, registry.timer(GraphMetrics.memberRunTimerMetric("g1", 0, "j1")).getCount());
+        assertEquals(1, registry.timer(GraphMetrics.memberQueuedTimerMetric("g1", 0, "j1")).getCount());
+        assertEquals(1, registry.timer(GraphMetrics.memberIdleTimerMetric("g1", 0, "j2")).getCount());
+
+        assertEquals("bq.Job.g1.step0.j1.RunTime", GraphMetrics.memberRunTimerMetric("g1", 0, "j1"));
+    }
+
+    @Test
+    public void onStepFinished_NoGroup() {
+        MetricRegistry registry = new MetricRegistry();
+        GraphMetrics metrics = new GraphMetrics(registry);
+
+        metrics.onMemberFinished(null, 0, "j1", 0, 100, 0);
+        metrics.onStepFinished(null, 0, 1, 100, 100);
+
+        assertTrue(registry.getTimers().isEmpty());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.lock.LocalLockHandler;
+import io.bootique.job.lock.LockHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedLockHandlerTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    public void before() {
+        this.metricRegistry = new MetricRegistry();
+    }
+
+    @Test
+    public void acquired() {
+        InstrumentedLockHandler handler = new InstrumentedLockHandler(new LocalLockHandler(), metricRegistry);
+        Job job = job("j1", p -> JobOutcome.succeeded());
+
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+
+        assertHasMetrics("j1", 0, 2, 0, 0);
+        assertEquals(2, metricRegistry.getTimers().get(LockMetrics.acquireTimerMetric("j1")).getCount());
+    }
+
+    @Test
+    public void skipped() throws Exception {
+        InstrumentedLockHandler handler = new InstrumentedLockHandler(new LocalLockHandler(), metricRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Job blocking = job("j1", p -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return JobOutcome.succeeded();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<JobOutcome> f = executor.submit(() -> handler.run(blocking, Map.of()));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertHasMetrics("j1", 1, 1, 0, 0);
+
+            assertEquals(JobStatus.SKIPPED, handler.run(blocking, Map.of()).getStatus());
+            assertHasMetrics("j1", 1, 1, 1, 0);
+
+            release.countDown();
+            assertEquals(JobStatus.SUCCESS, f.get(5, TimeUnit.SECONDS).getStatus());
+            assertHasMetrics("j1", 0, 1, 1, 0);
+            assertEquals(2, metricRegistry.getTimers().get(LockMetrics.acquireTimerMetric("j1")).getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void releaseFailed() {
+        LockHandler failingRelease = (delegate, params) -> {
+            delegate.run(params);
+            throw new RuntimeException("release failed");
+        };
+
+        InstrumentedLockHandler handler = new InstrumentedLockHandler(failingRelease, metricRegistry);
+        Job job = job("j1", p -> JobOutcome.succeeded());
+
+        assertThrows(RuntimeException.class, () -> handler.run(job, Map.of()));
+        assertHasMetrics("j1", 0, 1, 0, 1);
+    }
+
+    @Test
+    public void jobException_NotReleaseFailure() {
+        InstrumentedLockHandler handler = new InstrumentedLockHandler(new LocalLockHandler(), metricRegistry);
+        Job job = job("j1", p -> {
+            throw new IllegalStateException("job failed");
+        });
+
+        assertThrows(IllegalStateException.class, () -> handler.run(job, Map.of()));
+        assertHasMetrics("j1", 0, 1, 0, 0);
+    }
+
+    @Test
+    public void lockName() {
+        InstrumentedLockHandler handler = new InstrumentedLockHandler(new LocalLockHandler(), metricRegistry);
+        Job job = new Job() {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                return JobOutcome.succeeded();
+            }
+
+            @Override
+            public JobMetadata getMetadata() {
+                return JobMetadata.builder("j1").lockName("l1").serial(true).build();
+            }
+        };
+
+        handler.run(job, Map.of());
+        assertHasMetrics("l1", 0, 1, 0, 0);
+        assertNull(metricRegistry.getCounters().get(LockMetrics.acquiredCounterMetric("j1")));
+    }
+
+    private static Job job(String name, Job body) {
+        JobMetadata metadata = JobMetadata.builder(name).serial(true).build();
+        return new Job() {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                return body.run(params);
+            }
+
+            @Override
+            public JobMetadata getMetadata() {
+                return metadata;
+            }
+        };
+    }
+
+    private void assertHasMetrics(String lockName, int holders, int acquired, int skipped, int releaseFailed) {
+        assertEquals(holders, metricRegistry.getCounters().get(LockMetrics.holdersCounterMetric(lockName)).getCount());
+        assertEquals(acquired, metricRegistry.getCounters().get(LockMetrics.acquiredCounterMetric(lockName)).getCount());
+        assertEquals(skipped, metricRegistry.getCounters().get(LockMetrics.skippedCounterMetric(lockName)).getCount());
+        assertEquals(releaseFailed, metricRegistry.getCounters().get(LockMetrics.releaseFailedCounterMetric(lockName)).getCount());
+    }
+}
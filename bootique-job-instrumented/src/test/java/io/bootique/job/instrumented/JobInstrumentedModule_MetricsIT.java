@@ -25,6 +25,7 @@ import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobOutcome;
 import io.bootique.job.JobsModule;
+import io.bootique.job.lock.LocalLockHandler;
 import io.bootique.junit5.BQTest;
 import io.bootique.junit5.BQTestFactory;
 import io.bootique.junit5.BQTestTool;
@@ -36,6 +37,7 @@ import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @BQTest
 public class JobInstrumentedModule_MetricsIT {
@@ -67,6 +69,41 @@ public class JobInstrumentedModule_MetricsIT {
         assertEquals(expectedCounters, metricRegistry.getCounters().keySet());
     }
 
+    @Test
+    public void metrics_CpuExecutor() {
+        BQRuntime runtime = testFactory
+                .app("--exec", "--job", "J3")
+                .autoLoadModules()
+                .module(b -> JobsModule.extend(b).addJob(J3.class))
+                .createRuntime();
+
+        runtime.run();
+
+        MetricRegistry metricRegistry = runtime.getInstance(MetricRegistry.class);
+
+        // J3 runs on a platform thread of the "cpu" executor, so its resources are measured
+        assertEquals(1, metricRegistry.getTimers().get(JobResourceMetrics.cpuTimerMetric("J3")).getCount());
+        assertEquals(0, metricRegistry.getCounters().get(JobResourceMetrics.unaccountedCounterMetric("J3")).getCount());
+    }
+
+    @Test
+    public void lockMetrics_CustomLockHandler() {
+        BQRuntime runtime = testFactory
+                .app("--exec", "--job", "J2")
+                .autoLoadModules()
+                .module(b -> JobsModule.extend(b).addJob(J2.class).setLockHandler(new LocalLockHandler()))
+                .createRuntime();
+
+        runtime.run();
+
+        // lock metrics are collected regardless of which LockHandler is used by the app
+        MetricRegistry metricRegistry = runtime.getInstance(MetricRegistry.class);
+        assertEquals(1, metricRegistry.getTimers().get(LockMetrics.acquireTimerMetric("J2")).getCount());
+
+        // J2 runs on a virtual scheduler thread, so its resources are not measured
+        assertFalse(metricRegistry.getTimers().containsKey(JobResourceMetrics.cpuTimerMetric("J2")));
+    }
+
     public static final class J1 implements Job {
 
         private JobMetadata metadata = JobMetadata.builder("J1").build();
@@ -81,4 +118,34 @@ public class JobInstrumentedModule_MetricsIT {
             return JobOutcome.succeeded();
         }
     }
+
+    public static final class J2 implements Job {
+
+        private JobMetadata metadata = JobMetadata.builder("J2").serial(true).build();
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> parameters) {
+            return JobOutcome.succeeded();
+        }
+    }
+
+    public static final class J3 implements Job {
+
+        private JobMetadata metadata = JobMetadata.builder("J3").executor("cpu").build();
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> parameters) {
+            return JobOutcome.succeeded();
+        }
+    }
 }
@@ -25,8 +25,11 @@ import io.bootique.job.JobOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 
 public class JobMetricsManagerTest {
@@ -76,6 +79,21 @@ public class JobMetricsManagerTest {
         assertHasMetrics("j1", metricRegistry, 0, 1, 0, 0);
     }
 
+    @Test
+    public void jobsInstrumentation_BucketedReservoir() {
+        JobMetricsManager manager = new JobMetricsManager(metricRegistry, () -> new BucketedReservoir(Duration.ofMinutes(1)));
+
+        JobMetrics metrics = manager.getOrCreateMetrics("j1");
+        assertSame(metrics, manager.getOrCreateMetrics("j1"));
+
+        long t0 = metrics.start();
+        assertHasMetrics("j1", metricRegistry, 1, 0, 0, 0);
+
+        metrics.stop(t0, JobOutcome.succeeded());
+        assertHasMetrics("j1", metricRegistry, 0, 1, 1, 0);
+        assertEquals(1, metricRegistry.timer(JobMetrics.timerMetric("j1")).getCount());
+    }
+
     private void assertHasMetrics(String jobName,
                                   MetricRegistry metricRegistry,
                                   int active,
@@ -0,0 +1,110 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.executor.ExecutorType;
+import io.bootique.job.executor.JobExecutorFactory;
+import io.bootique.job.executor.JobExecutors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobResourcesDecoratorTest {
+
+    @Test
+    public void run_PlatformThread() {
+        MetricRegistry registry = new MetricRegistry();
+        Job job = decorator(registry).decorate(new AllocatingJob(), null, Map.of());
+
+        job.run(Map.of());
+
+        assertEquals(1, registry.timer(JobResourceMetrics.cpuTimerMetric("j1")).getCount());
+        assertEquals(1, registry.histogram(JobResourceMetrics.allocatedHistogramMetric("j1")).getCount());
+        assertEquals(0, registry.counter(JobResourceMetrics.unaccountedCounterMetric("j1")).getCount());
+    }
+
+    // e.g. a job assigned to the "cpu" executor, but called directly on a virtual thread
+    @Test
+    public void run_VirtualThread() throws InterruptedException {
+        MetricRegistry registry = new MetricRegistry();
+        Job job = decorator(registry).decorate(new AllocatingJob(), null, Map.of());
+
+        AtomicReference<JobOutcome> outcome = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> outcome.set(job.run(Map.of()))).join();
+
+        // the job itself must not be affected
+        assertEquals(JobOutcome.succeeded().getStatus(), outcome.get().getStatus());
+        assertEquals(1, registry.counter(JobResourceMetrics.unaccountedCounterMetric("j1")).getCount());
+        assertEquals(0, registry.timer(JobResourceMetrics.cpuTimerMetric("j1")).getCount());
+    }
+
+    @Test
+    public void isApplicable_Group() {
+        JobMetadata group = JobMetadata.builder("g1").group(true).executor("cpu").build();
+        assertFalse(decorator(new MetricRegistry()).isApplicable(group, null, Map.of()));
+    }
+
+    @Test
+    public void isApplicable_Executor() {
+        JobExecutors executors = new JobExecutors(
+                Map.of("b", JobExecutorFactory.of(ExecutorType.BOUNDED), "vio", JobExecutorFactory.of(ExecutorType.IO)),
+                Map.of());
+        JobResourcesDecorator decorator = new JobResourcesDecorator(
+                new JobMetricsManager(new MetricRegistry()),
+                executors);
+
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").executor("cpu").build(), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j2").executor("b").build(), null, Map.of()));
+
+        // virtual threads
+        assertFalse(decorator.isApplicable(JobMetadata.build("j3"), null, Map.of()));
+        assertFalse(decorator.isApplicable(JobMetadata.builder("j4").executor("io").build(), null, Map.of()));
+        assertFalse(decorator.isApplicable(JobMetadata.builder("j5").executor("vio").build(), null, Map.of()));
+    }
+
+    private static JobResourcesDecorator decorator(MetricRegistry registry) {
+        return new JobResourcesDecorator(new JobMetricsManager(registry), new JobExecutors());
+    }
+
+    static class AllocatingJob implements Job {
+
+        static volatile Object sink;
+
+        @Override
+        public JobMetadata getMetadata() {
+            return JobMetadata.builder("j1").executor("cpu").build();
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            sink = new byte[1024 * 1024];
+            return JobOutcome.succeeded();
+        }
+    }
+}
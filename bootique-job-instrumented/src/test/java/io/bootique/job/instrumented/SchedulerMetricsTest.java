@@ -0,0 +1,90 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.instrumented;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SchedulerMetricsTest {
+
+    @Test
+    public void onRunStarted() {
+        MetricRegistry registry = new MetricRegistry();
+        SchedulerMetrics metrics = new SchedulerMetrics(registry);
+
+        Instant t = Instant.now();
+        metrics.onRunStarted("j1:t1", t, t.plusMillis(5));
+        metrics.onRunStarted("j1:t1", t, t.minusMillis(5));
+        metrics.onRunStarted("j1:t2", t, t);
+
+        assertEquals(2, registry.timer(SchedulerMetrics.fireLagTimerMetric("j1:t1")).getCount());
+        assertEquals(1, registry.timer(SchedulerMetrics.fireLagTimerMetric("j1:t2")).getCount());
+    }
+
+    @Test
+    public void addGauges_TaskScheduler() {
+        MetricRegistry registry = new MetricRegistry();
+        SchedulerMetrics metrics = new SchedulerMetrics(registry);
+
+        try (TaskScheduler scheduler = TaskScheduler.builder().threadNamePrefix("test-scheduler").runListener(metrics).build()) {
+
+            metrics.addGauges(scheduler);
+
+            // checking before scheduling, as a newly started pool thread briefly reports itself as active
+            assertEquals(0, gaugeValue(registry, SchedulerMetrics.activeGaugeMetric(SchedulerMetrics.TASK_SCHEDULER_POOL)));
+
+            scheduler.schedule(() -> {}, Instant.now().plusSeconds(3600));
+
+            assertEquals(1, gaugeValue(registry, SchedulerMetrics.scheduledGaugeMetric(SchedulerMetrics.TASK_SCHEDULER_POOL)));
+            assertEquals(0, gaugeValue(registry, SchedulerMetrics.queuedGaugeMetric(SchedulerMetrics.TASK_SCHEDULER_POOL)));
+            assertEquals(0L, gaugeValue(registry, SchedulerMetrics.rejectedGaugeMetric(SchedulerMetrics.TASK_SCHEDULER_POOL)));
+        }
+    }
+
+    @Test
+    public void addGauges_GraphExecutor() {
+        MetricRegistry registry = new MetricRegistry();
+        SchedulerMetrics metrics = new SchedulerMetrics(registry);
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        InstrumentedGraphExecutor executor = new InstrumentedGraphExecutor(pool);
+
+        try {
+            metrics.addGauges(executor);
+            assertEquals(0, gaugeValue(registry, SchedulerMetrics.activeGaugeMetric(SchedulerMetrics.GRAPH_EXECUTOR_POOL)));
+            assertEquals(0, gaugeValue(registry, SchedulerMetrics.queuedGaugeMetric(SchedulerMetrics.GRAPH_EXECUTOR_POOL)));
+            assertEquals(0L, gaugeValue(registry, SchedulerMetrics.rejectedGaugeMetric(SchedulerMetrics.GRAPH_EXECUTOR_POOL)));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Object gaugeValue(MetricRegistry registry, String name) {
+        Gauge<?> gauge = registry.getGauges().get(name);
+        return gauge.getValue();
+    }
+}
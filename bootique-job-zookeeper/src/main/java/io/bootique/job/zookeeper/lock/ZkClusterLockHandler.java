@@ -19,8 +19,10 @@
 
 package io.bootique.job.zookeeper.lock;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
+import io.bootique.job.lock.FencingToken;
 import io.bootique.job.lock.LockHandler;
 import io.bootique.job.JobOutcome;
 import org.apache.curator.framework.CuratorFramework;
@@ -29,6 +31,8 @@ import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Provider;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class ZkClusterLockHandler implements LockHandler {
 
@@ -51,6 +55,10 @@ public class ZkClusterLockHandler implements LockHandler {
         JobMetadata metadata = delegate.getMetadata();
         String lockName = getLockName(metadata);
 
+        if (metadata.getLockPermits() > 1) {
+            return runWithSemaphore(delegate, params, lockName, metadata.getLockPermits());
+        }
+
         LOGGER.info("Attempting to lock '{}'", lockName);
 
         ZkMutex lock = ZkMutex.acquire(curator.get(), lockName);
@@ -60,12 +68,73 @@ public class ZkClusterLockHandler implements LockHandler {
         }
 
         try {
-            return delegate.run(params);
+            return delegate.run(new FencingToken(metadata.getLockName(), lock.getFencingToken()).addTo(params));
         } finally {
             lock.release();
         }
     }
 
+    /**
+     * Holds a semaphore permit until the returned stage completes, as Curator semaphore leases can be returned from
+     * any thread. Single-permit locks are based on Curator InterProcessMutex, which must be released by the thread
+     * that acquired it, so such jobs are run via the blocking {@link #run(Job, Map)}.
+     *
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        if (metadata.getLockPermits() == 1) {
+            return LockHandler.super.runAsync(delegate, params);
+        }
+
+        ZkSemaphore semaphore = acquireSemaphore(getLockName(metadata), metadata.getLockPermits());
+        if (semaphore == null) {
+            return CompletableFuture.completedFuture(semaphoreSkipped());
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(new FencingToken(metadata.getLockName(), semaphore.getFencingToken()).addTo(params));
+        } catch (RuntimeException | Error e) {
+            semaphore.release();
+            throw e;
+        }
+
+        return stage.whenComplete((o, th) -> semaphore.release());
+    }
+
+    private JobOutcome runWithSemaphore(Job delegate, Map<String, Object> params, String lockName, int permits) {
+
+        ZkSemaphore semaphore = acquireSemaphore(lockName, permits);
+        if (semaphore == null) {
+            return semaphoreSkipped();
+        }
+
+        try {
+            return delegate.run(new FencingToken(delegate.getMetadata().getLockName(), semaphore.getFencingToken()).addTo(params));
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private ZkSemaphore acquireSemaphore(String lockName, int permits) {
+
+        LOGGER.info("Attempting to acquire one of {} permits for '{}'", permits, lockName);
+
+        ZkSemaphore semaphore = ZkSemaphore.acquire(curator.get(), lockName, permits);
+        if (semaphore == null) {
+            LOGGER.info("** All lock permits are taken by other job instances. Skipping execution of '{}'", lockName);
+        }
+
+        return semaphore;
+    }
+
+    private static JobOutcome semaphoreSkipped() {
+        return JobOutcome.skipped("All lock permits are taken by other job instances. Skipping execution");
+    }
+
 	private String getLockName(JobMetadata metadata) {
 		return ZK_PATH_PREFIX + metadata.getLockName();
 	}
@@ -21,6 +21,7 @@ package io.bootique.job.zookeeper.lock;
 
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.recipes.locks.InterProcessMutex;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.concurrent.TimeUnit;
 
@@ -31,10 +32,30 @@ import java.util.concurrent.TimeUnit;
 class ZkMutex {
 
 	private InterProcessMutex lock;
+	private long fencingToken;
 
 	static ZkMutex acquire(CuratorFramework curator, String lockName) {
-		InterProcessMutex lock = new InterProcessMutex(curator, lockName);
-		return acquire(lock) ? new ZkMutex(lock) : null;
+		FencedMutex lock = new FencedMutex(curator, lockName);
+		return acquire(lock) ? new ZkMutex(lock, fencingToken(curator, lock.getLockPath())) : null;
+	}
+
+	/**
+	 * Returns the creation transaction id of a lock node, which is unique and monotonically increasing across the
+	 * ZooKeeper ensemble, so can be used as a fencing token.
+	 */
+	static long fencingToken(CuratorFramework curator, String lockNodePath) {
+		try {
+			Stat stat = curator.checkExists().forPath(lockNodePath);
+			if (stat == null) {
+				throw new IllegalStateException("Lock node disappeared right after acquisition: " + lockNodePath);
+			}
+
+			return stat.getCzxid();
+		} catch (IllegalStateException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException("Exception reading Zookeeper lock node", e);
+		}
 	}
 
 	private static boolean acquire(InterProcessMutex lock) {
@@ -45,8 +66,13 @@ class ZkMutex {
 		}
 	}
 
-	private ZkMutex(InterProcessMutex lock) {
+	private ZkMutex(InterProcessMutex lock, long fencingToken) {
 		this.lock = lock;
+		this.fencingToken = fencingToken;
+	}
+
+	long getFencingToken() {
+		return fencingToken;
 	}
 
 	void release() {
@@ -57,4 +83,16 @@ class ZkMutex {
 		}
 	}
 
+	// exposes the path of the lock node owned by the current thread
+	static class FencedMutex extends InterProcessMutex {
+
+		FencedMutex(CuratorFramework curator, String path) {
+			super(curator, path);
+		}
+
+		@Override
+		protected String getLockPath() {
+			return super.getLockPath();
+		}
+	}
 }
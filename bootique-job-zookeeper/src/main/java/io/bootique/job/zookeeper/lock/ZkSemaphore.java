@@ -0,0 +1,86 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.zookeeper.lock;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.locks.InterProcessSemaphoreV2;
+import org.apache.curator.framework.recipes.locks.Lease;
+import org.apache.curator.utils.ZKPaths;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps Curator InterProcessSemaphoreV2, so that {@link ZkClusterLockHandler} does
+ * not have direct class loading dependency on Curator.
+ *
+ * @since 4.0
+ */
+class ZkSemaphore {
+
+	// InterProcessSemaphoreV2 creates lease nodes under this child of the semaphore path
+	private static final String LEASES_NODE = "leases";
+
+	private InterProcessSemaphoreV2 semaphore;
+	private Lease lease;
+	private long fencingToken;
+
+	static ZkSemaphore acquire(CuratorFramework curator, String lockName, int permits) {
+		InterProcessSemaphoreV2 semaphore = new InterProcessSemaphoreV2(curator, lockName, permits);
+		Lease lease = acquire(semaphore);
+		if (lease == null) {
+			return null;
+		}
+
+		// the lease only knows its node name, not the full path
+		String leasePath = ZKPaths.makePath(lockName, LEASES_NODE, lease.getNodeName());
+
+		long fencingToken;
+		try {
+			fencingToken = ZkMutex.fencingToken(curator, leasePath);
+		} catch (RuntimeException e) {
+			semaphore.returnLease(lease);
+			throw e;
+		}
+
+		return new ZkSemaphore(semaphore, lease, fencingToken);
+	}
+
+	private static Lease acquire(InterProcessSemaphoreV2 semaphore) {
+		try {
+			return semaphore.acquire(2, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new RuntimeException("Exception acquiring Zookeeper semaphore", e);
+		}
+	}
+
+	private ZkSemaphore(InterProcessSemaphoreV2 semaphore, Lease lease, long fencingToken) {
+		this.semaphore = semaphore;
+		this.lease = lease;
+		this.fencingToken = fencingToken;
+	}
+
+	long getFencingToken() {
+		return fencingToken;
+	}
+
+	void release() {
+		semaphore.returnLease(lease);
+	}
+}
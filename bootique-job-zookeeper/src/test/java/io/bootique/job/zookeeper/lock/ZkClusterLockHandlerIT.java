@@ -0,0 +1,114 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.zookeeper.lock;
+
+import io.bootique.job.BaseJob;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.lock.FencingToken;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+public class ZkClusterLockHandlerIT {
+
+    @Container
+    static final GenericContainer zk = new GenericContainer("zookeeper:3.9.1").withExposedPorts(2181);
+
+    private CuratorFramework curator;
+    private ZkClusterLockHandler handler;
+
+    // a unique lock name per test to avoid interference between tests
+    private String lockName;
+
+    @BeforeEach
+    public void before() {
+        this.curator = CuratorFrameworkFactory.newClient("localhost:" + zk.getMappedPort(2181), new RetryOneTime(100));
+        this.curator.start();
+        this.handler = new ZkClusterLockHandler(() -> curator);
+        this.lockName = "ZkClusterLockHandlerIT-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    public void after() {
+        curator.close();
+    }
+
+    @Test
+    public void run_FencingToken() {
+        TokenJob job = new TokenJob(JobMetadata.builder("j").lockName(lockName).serial(true).build());
+
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+
+        assertEquals(2, job.tokens.size());
+        assertNotNull(job.tokens.get(0));
+        assertNotNull(job.tokens.get(1));
+        assertEquals(lockName, job.tokens.get(0).getLockName());
+        assertTrue(job.tokens.get(0).getValue() > 0, () -> job.tokens.toString());
+        assertTrue(job.tokens.get(0).isStale(job.tokens.get(1).getValue()), () -> job.tokens.toString());
+    }
+
+    @Test
+    public void run_Semaphore_FencingToken() {
+        TokenJob job = new TokenJob(JobMetadata.builder("j").lockName(lockName).serial(true).lockPermits(2).build());
+
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+
+        assertEquals(2, job.tokens.size());
+        assertNotNull(job.tokens.get(0));
+        assertNotNull(job.tokens.get(1));
+        assertTrue(job.tokens.get(0).getValue() > 0, () -> job.tokens.toString());
+        assertTrue(job.tokens.get(0).isStale(job.tokens.get(1).getValue()), () -> job.tokens.toString());
+    }
+
+    static class TokenJob extends BaseJob {
+
+        final List<FencingToken> tokens = new ArrayList<>();
+
+        TokenJob(JobMetadata metadata) {
+            super(metadata);
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            tokens.add(FencingToken.of(params));
+            return JobOutcome.succeeded();
+        }
+    }
+}
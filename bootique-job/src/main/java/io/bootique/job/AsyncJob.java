@@ -0,0 +1,49 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A job that does its work asynchronously (e.g., using a non-blocking HTTP or DB client), returning a stage that
+ * completes when the work is done. The standard decorators (logging, locking, history, timeouts, etc.) track
+ * such a job till its completion without blocking a thread, and the async members of job groups do not take
+ * the group thread pool threads.
+ *
+ * @since 4.0
+ */
+public interface AsyncJob extends Job {
+
+    CompletionStage<JobOutcome> runAsync(Map<String, Object> params);
+
+    /**
+     * Runs the job, blocking the calling thread until the job is done.
+     */
+    @Override
+    default JobOutcome run(Map<String, Object> params) {
+        try {
+            return runAsync(params).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            return JobOutcome.failed(e.getCause());
+        }
+    }
+}
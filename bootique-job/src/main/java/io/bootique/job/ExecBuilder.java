@@ -18,15 +18,18 @@
  */
 package io.bootique.job;
 
+import io.bootique.job.runtime.CompletableJobFuture;
 import io.bootique.job.runtime.JobDecorators;
-import io.bootique.job.runtime.SimpleJobFuture;
+import io.bootique.job.scheduler.ExecutionQueue;
 import io.bootique.job.scheduler.TaskScheduler;
 
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * A builder for a customized job execution.
@@ -38,19 +41,33 @@ public class ExecBuilder {
     private final JobRegistry registry;
     private final TaskScheduler taskScheduler;
     private final JobDecorators decorators;
+    private final ExecutionQueue executionQueue;
 
     private Job job;
     private String jobName;
     private Map<String, Object> params;
     private boolean noDecorators;
+    private boolean durable;
 
     public ExecBuilder(
             JobRegistry registry,
             TaskScheduler taskScheduler,
             JobDecorators decorators) {
+        this(registry, taskScheduler, decorators, null);
+    }
+
+    /**
+     * @param executionQueue an optional durable queue for non-blocking executions. May be null.
+     */
+    public ExecBuilder(
+            JobRegistry registry,
+            TaskScheduler taskScheduler,
+            JobDecorators decorators,
+            ExecutionQueue executionQueue) {
         this.registry = registry;
         this.taskScheduler = taskScheduler;
         this.decorators = decorators;
+        this.executionQueue = executionQueue;
     }
 
     public ExecBuilder job(Job job) {
@@ -76,10 +93,22 @@ public class ExecBuilder {
     }
 
     /**
-     * Runs the specified job, blocking until it finishes.
+     * Makes a non-blocking execution durable. It will be stored in the queue configured via
+     * "scheduler.executionQueueFile" before being started, and will be replayed after restart if the app stops
+     * before the execution finishes. Only applies to the jobs specified via {@link #jobName(String)}, and only to
+     * the parameters that can be stored as JSON.
+     */
+    public ExecBuilder durable() {
+        this.durable = true;
+        return this;
+    }
+
+    /**
+     * Runs the specified job, blocking until it finishes. If the job execution continues asynchronously (e.g., the job
+     * has a retry policy, and the first run failed), waits for the final outcome.
      */
     public JobOutcome run() {
-        return resolveJob().run(resolveParams());
+        return resolveJob().run(resolveParams()).awaitFinal();
     }
 
     /**
@@ -99,13 +128,81 @@ public class ExecBuilder {
         Job job = resolveJob();
         Map<String, Object> params = resolveParams();
 
-        JobOutcome[] result = new JobOutcome[1];
-        Future<?> future = taskScheduler.schedule(() -> result[0] = job.run(params), Instant.now());
+        if (durable) {
+            long id = resolveExecutionQueue().add(jobName, params);
+            return runNonBlocking(job, params, () -> executionQueue.ack(id));
+        }
+
+        return runNonBlocking(job, params, () -> {});
+    }
+
+    protected JobFuture runNonBlocking(Job job, Map<String, Object> params, Runnable onFinish) {
+
+        CompletableJobFuture future = new CompletableJobFuture(job.getMetadata().getName());
+
+        // an async job only needs a scheduler thread to start. It completes the future on its own
+        if (job instanceof AsyncJob asyncJob) {
+            future.attachTask(taskScheduler.schedule(
+                    () -> runAsync(asyncJob, params, onFinish, future),
+                    Instant.now(),
+                    job.getMetadata().getPriority()));
+            return future;
+        }
+
+        future.attachTask(taskScheduler.schedule(() -> {
+            JobOutcome outcome;
+            try {
+                outcome = job.run(params);
+            } catch (Throwable th) {
+                finish(future, null, th, onFinish);
+                return;
+            }
+
+            finish(future, outcome, null, onFinish);
+        }, Instant.now(), job.getMetadata().getPriority()));
 
-        return new SimpleJobFuture(
-                job.getMetadata().getName(),
-                future,
-                () -> result[0] != null ? result[0] : JobOutcome.unknown());
+        return future;
+    }
+
+    private static void runAsync(AsyncJob job, Map<String, Object> params, Runnable onFinish, CompletableJobFuture future) {
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = job.runAsync(params);
+        } catch (Throwable th) {
+            stage = CompletableFuture.failedFuture(th);
+        }
+
+        stage.whenComplete((outcome, th) -> finish(future, outcome, th, onFinish));
+    }
+
+    private static void finish(CompletableJobFuture future, JobOutcome outcome, Throwable th, Runnable onFinish) {
+
+        // if the run yielded to a retry or a deferred run, the execution is not finished until the yielded future is
+        // done, so "onFinish" must wait for it
+        JobFuture yieldedTo = outcome != null ? outcome.getYieldedTo() : null;
+        if (yieldedTo != null) {
+            CompletableJobFuture finalFuture = new CompletableJobFuture(future.getJobName());
+            finalFuture.attachTask(yieldedTo);
+
+            // "whenComplete" follows the chain of yields to the final outcome
+            yieldedTo.whenComplete((o, e) -> finish(finalFuture, o, e, onFinish));
+            future.complete(outcome.yieldTo(finalFuture));
+            return;
+        }
+
+        try {
+            onFinish.run();
+        } catch (Throwable onFinishTh) {
+            future.completeExceptionally(onFinishTh);
+            return;
+        }
+
+        if (th != null) {
+            future.completeExceptionally(th instanceof CompletionException && th.getCause() != null ? th.getCause() : th);
+        } else {
+            future.complete(outcome);
+        }
     }
 
     protected Job resolveJob() {
@@ -123,6 +220,20 @@ public class ExecBuilder {
         throw new IllegalStateException("Neither 'job' nor 'jobName' are set");
     }
 
+    protected ExecutionQueue resolveExecutionQueue() {
+
+        if (executionQueue == null) {
+            throw new IllegalStateException("Can't run a durable execution. 'scheduler.executionQueueFile' is not configured");
+        }
+
+        // jobs passed as objects can't be restored after restart
+        if (jobName == null) {
+            throw new IllegalStateException("Only the jobs specified by name can be run as durable executions");
+        }
+
+        return executionQueue;
+    }
+
     protected Map<String, Object> resolveParams() {
         // using a mutable map, as job listeners can change parameters
         return this.params != null ? this.params : new HashMap<>();
@@ -0,0 +1,119 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * An immutable execution context of a running job, available to the job code and to the decorators via
+ * {@link #current()}. The context is bound to the thread only for the duration of a job run, and the previous binding
+ * is restored afterwards, so it never leaks between runs sharing a pooled thread. It is propagated to the job group
+ * members running on other threads, so each member context points to the group context as its parent.
+ *
+ * <p>The binding follows the semantics of the JDK "ScopedValue", and will be switched to it once the API is final in
+ * the minimal supported JDK version.</p>
+ *
+ * @since 4.0
+ */
+public final class JobContext {
+
+    private static final ThreadLocal<JobContext> CURRENT = new ThreadLocal<>();
+
+    private final String jobName;
+    private final String triggerName;
+    private final String executionId;
+    private final JobContext parent;
+
+    public JobContext(String jobName, String triggerName, String executionId, JobContext parent) {
+        this.jobName = Objects.requireNonNull(jobName);
+        this.triggerName = triggerName;
+        this.executionId = Objects.requireNonNull(executionId);
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the context of the job running on the current thread, or null if the thread is not running a job.
+     */
+    public static JobContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the operation with this context bound to the current thread, restoring the previous binding when the
+     * operation is finished.
+     */
+    public <T> T call(Supplier<T> op) {
+        JobContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return op.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the name of the trigger that started the job (or the job group this job belongs to), or null if the
+     * job was started outside of a trigger.
+     */
+    public String getTriggerName() {
+        return triggerName;
+    }
+
+    /**
+     * Returns an id unique to this job run.
+     */
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    /**
+     * Returns a context of the job group running this job, or null if this is a top-level job.
+     */
+    public JobContext getParent() {
+        return parent;
+    }
+
+    public String getParentExecutionId() {
+        return parent != null ? parent.getExecutionId() : null;
+    }
+
+    /**
+     * Returns an id shared by the top-level job run and all the group members executed as a part of it. This is the
+     * execution id of the top-level job.
+     */
+    public String getTxId() {
+        return parent != null ? parent.getTxId() : executionId;
+    }
+
+    @Override
+    public String toString() {
+        return "JobContext{" + jobName + ":" + executionId + "}";
+    }
+}
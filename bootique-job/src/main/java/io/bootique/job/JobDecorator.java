@@ -21,6 +21,8 @@ package io.bootique.job;
 import io.bootique.job.runtime.DecoratedJob;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * An interceptor that can add behavior to a job during its execution. There are standard decorators that add logging,
@@ -33,7 +35,7 @@ public interface JobDecorator {
 
     default Job decorate(Job delegate, String altName, Map<String, Object> prebindParams) {
         return isApplicable(delegate.getMetadata(), altName, prebindParams)
-                ? new DecoratedJob(delegate, delegate.getMetadata(), this)
+                ? DecoratedJob.create(delegate, delegate.getMetadata(), this)
                 : delegate;
     }
 
@@ -42,4 +44,19 @@ public interface JobDecorator {
     }
 
     JobOutcome run(Job delegate, Map<String, Object> params);
+
+    /**
+     * Runs an {@link AsyncJob} without waiting for its completion. The default implementation falls back to
+     * {@link #run(Job, Map)}, blocking the calling thread until the job is done. Decorators that can track the job
+     * asynchronously should override it.
+     *
+     * @since 4.0
+     */
+    default CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        try {
+            return CompletableFuture.completedFuture(run(delegate, params));
+        } catch (Throwable th) {
+            return CompletableFuture.failedFuture(th);
+        }
+    }
 }
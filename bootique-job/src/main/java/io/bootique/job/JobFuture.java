@@ -19,8 +19,15 @@
 
 package io.bootique.job;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * A specialized future for a single job execution that hides checked exceptions and provides job execution result.
@@ -43,4 +50,82 @@ public interface JobFuture extends Future<JobOutcome> {
     // override super to hide checked exceptions
     @Override
     JobOutcome get(long timeout, TimeUnit unit);
+
+    /**
+     * Returns a CompletableFuture that completes with the final job outcome (following the outcome
+     * {@link JobOutcome#getYieldedTo() yields}, if any). Allows to react to the job completion without blocking
+     * a thread. The default implementation waits for the outcome of a job that is not done yet on a common pool
+     * thread. Implementations should override it to complete the future from the job run itself.
+     *
+     * @since 4.0
+     */
+    default CompletableFuture<JobOutcome> toCompletableFuture() {
+        if (!isDone()) {
+            return CompletableFuture.supplyAsync(this::get);
+        }
+
+        try {
+            return CompletableFuture.completedFuture(get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    default <U> CompletableFuture<U> thenApply(Function<? super JobOutcome, ? extends U> fn) {
+        return toCompletableFuture().thenApply(fn);
+    }
+
+    /**
+     * @since 4.0
+     */
+    default CompletableFuture<JobOutcome> whenComplete(BiConsumer<? super JobOutcome, ? super Throwable> action) {
+        return toCompletableFuture().whenComplete(action);
+    }
+
+    /**
+     * Returns the job outcome if the job is done, or the provided value otherwise. Never blocks.
+     *
+     * @since 4.0
+     */
+    default JobOutcome getNow(JobOutcome valueIfAbsent) {
+        return toCompletableFuture().getNow(valueIfAbsent);
+    }
+
+    /**
+     * Returns a future that completes with the final job outcome. Unlike {@link #toCompletableFuture()}, it never
+     * completes exceptionally, as a canceled execution or an exception thrown while running the job are reported as a
+     * failed outcome. So the result can be composed or joined without handling the exceptions, and without blocking a
+     * thread until the job is done.
+     *
+     * @since 4.0
+     */
+    default CompletableFuture<JobOutcome> joinNonBlocking() {
+        return toCompletableFuture().handle((o, th) -> th == null
+                ? o
+                : JobOutcome.failed(th instanceof CompletionException && th.getCause() != null ? th.getCause() : th));
+    }
+
+    /**
+     * Returns a future that completes when all the provided job futures are complete, with the list of outcomes in
+     * the same order as the futures. Canceled or exceptionally completed futures are reported as failed outcomes, so
+     * one of them doesn't prevent the others from being reported. No threads are blocked while waiting.
+     *
+     * @since 4.0
+     */
+    static CompletableFuture<List<JobOutcome>> allOf(Collection<? extends JobFuture> futures) {
+
+        List<CompletableFuture<JobOutcome>> cfs = new ArrayList<>(futures.size());
+        futures.forEach(f -> cfs.add(f.joinNonBlocking()));
+
+        return CompletableFuture
+                .allOf(cfs.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<JobOutcome> outcomes = new ArrayList<>(cfs.size());
+                    cfs.forEach(cf -> outcomes.add(cf.join()));
+                    return outcomes;
+                });
+    }
 }
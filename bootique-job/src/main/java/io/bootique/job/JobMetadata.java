@@ -19,6 +19,9 @@
 
 package io.bootique.job;
 
+import io.bootique.job.retry.RetryPolicy;
+
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -31,23 +34,58 @@ public class JobMetadata {
     private final String name;
     private final Collection<JobParameterMetadata<?>> parameters;
     private final String lockName;
+    private final int lockPermits;
     private final boolean group;
     private final boolean serial;
     private final Set<String> dependsOn;
+    private final Duration timeout;
+    private final RetryPolicy retryPolicy;
+    private final boolean coalesced;
+    private final Duration outcomeCacheTtl;
+    private final String executor;
+    private final int priority;
 
     protected JobMetadata(
             String name,
             Collection<JobParameterMetadata<?>> parameters,
             String lockName,
+            int lockPermits,
             Set<String> dependsOn,
             boolean group,
             boolean serial) {
+        this(name, parameters, lockName, lockPermits, dependsOn, group, serial, null, null, false, null, null, 0);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected JobMetadata(
+            String name,
+            Collection<JobParameterMetadata<?>> parameters,
+            String lockName,
+            int lockPermits,
+            Set<String> dependsOn,
+            boolean group,
+            boolean serial,
+            Duration timeout,
+            RetryPolicy retryPolicy,
+            boolean coalesced,
+            Duration outcomeCacheTtl,
+            String executor,
+            int priority) {
         this.name = name;
         this.lockName = lockName;
+        this.lockPermits = lockPermits;
         this.parameters = parameters;
         this.dependsOn = dependsOn;
         this.group = group;
         this.serial = serial;
+        this.timeout = timeout;
+        this.retryPolicy = retryPolicy;
+        this.coalesced = coalesced;
+        this.outcomeCacheTtl = outcomeCacheTtl;
+        this.executor = executor;
+        this.priority = priority;
     }
 
     /**
@@ -86,6 +124,29 @@ public class JobMetadata {
         return builder(toName(jobType)).serial(isSerial(jobType));
     }
 
+    /**
+     * Returns a builder initialized with a copy of the prototype metadata.
+     *
+     * @since 4.0
+     */
+    public static Builder builder(JobMetadata prototype) {
+        Builder builder = builder(prototype.getName())
+                .group(prototype.isGroup())
+                .serial(prototype.isSerial())
+                .dependsOn(prototype.getDependsOn())
+                .lockName(prototype.getLockName())
+                .lockPermits(prototype.getLockPermits())
+                .timeout(prototype.getTimeout())
+                .retry(prototype.getRetryPolicy())
+                .coalesced(prototype.isCoalesced())
+                .cacheOutcome(prototype.getOutcomeCacheTtl())
+                .executor(prototype.getExecutor())
+                .priority(prototype.getPriority());
+
+        prototype.getParameters().forEach(builder::param);
+        return builder;
+    }
+
     private static boolean isSerial(Class<?> jobType) {
         return jobType.isAnnotationPresent(SerialJob.class);
     }
@@ -108,6 +169,74 @@ public class JobMetadata {
         return lockName;
     }
 
+    /**
+     * Returns the max number of job instances that may hold the job lock at the same time. "1" (the default) means
+     * mutual exclusion, while higher values turn the lock into a semaphore.
+     *
+     * @since 4.0
+     */
+    public int getLockPermits() {
+        return lockPermits;
+    }
+
+    /**
+     * Returns the max duration of a job run, after which the job thread is interrupted, and the job is reported as
+     * failed. Null means no timeout.
+     *
+     * @since 4.0
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns a policy for retrying failed runs of this job. Null means no retries.
+     *
+     * @since 4.0
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns whether concurrent runs of this job with the same parameters should be coalesced into a single run.
+     *
+     * @since 4.0
+     */
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Returns how long a successful outcome of this job can be reused by the subsequent runs with the same parameters.
+     * Null means that the outcomes are not cached.
+     *
+     * @since 4.0
+     */
+    public Duration getOutcomeCacheTtl() {
+        return outcomeCacheTtl;
+    }
+
+    /**
+     * Returns the name of the executor that should run this job, e.g. "cpu" or "io". Null means that the job runs
+     * on the thread of the caller (a scheduler thread or a group thread pool thread).
+     *
+     * @since 4.0
+     */
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the job priority used to order the due job runs when the scheduler is saturated. Higher number means
+     * higher priority. The default is 0.
+     *
+     * @since 4.0
+     */
+    public int getPriority() {
+        return priority;
+    }
+
     public Collection<JobParameterMetadata<?>> getParameters() {
         return parameters != null ? parameters : Collections.emptyList();
     }
@@ -195,9 +324,17 @@ public class JobMetadata {
         private boolean serial;
         private boolean group;
         private String lockName;
+        private int lockPermits;
+        private Duration timeout;
+        private RetryPolicy retryPolicy;
+        private boolean coalesced;
+        private Duration outcomeCacheTtl;
+        private String executor;
+        private int priority;
 
         private Builder(String name) {
             this.name = name;
+            this.lockPermits = 1;
             this.parameters = new ArrayList<>();
             this.dependsOn = new LinkedHashSet<>();
         }
@@ -257,6 +394,118 @@ public class JobMetadata {
             return this;
         }
 
+        /**
+         * Sets the max number of job instances that can run at the same time for this job's lock name. The default is
+         * "1", meaning that the lock is a mutex. Higher values will make a {@link io.bootique.job.lock.LockHandler}
+         * allow up to N instances locally or across the cluster (depending on the handler). Note that the permits are
+         * attached to the lock name, so all the jobs sharing the same lock name are expected to declare the same
+         * number of permits. Only applies to serial jobs.
+         *
+         * @param lockPermits the max number of instances allowed to hold the lock at the same time
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder lockPermits(int lockPermits) {
+            if (lockPermits < 1) {
+                throw new IllegalArgumentException("'lockPermits' must be a positive number: " + lockPermits);
+            }
+
+            this.lockPermits = lockPermits;
+            return this;
+        }
+
+        /**
+         * Sets the max duration of a job run. When the timeout expires, the job thread is interrupted, and the job is
+         * reported as failed. Since Java threads can't be stopped forcibly, the job must react to the interrupt
+         * (e.g., by exiting blocking calls or by checking {@link Thread#isInterrupted()}) for its lock to be released
+         * promptly.
+         *
+         * @param timeout the max run duration or null for no timeout
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+                throw new IllegalArgumentException("'timeout' must be a positive duration: " + timeout);
+            }
+
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets a policy for retrying failed runs of the job. Retries only apply when the job is run as a top-level
+         * job, and not as a member of a job group.
+         *
+         * @param retryPolicy a retry policy or null for no retries
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder retry(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Enables coalescing of concurrent job runs with the same parameters. Instead of starting (or being skipped
+         * by the job lock), a run requested while an identical run is in progress waits for the in-progress run and
+         * returns its outcome. Should only be enabled for the jobs whose outcome is the same for all such callers.
+         *
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder coalesced(boolean coalesced) {
+            this.coalesced = coalesced;
+            return this;
+        }
+
+        /**
+         * Enables caching of the successful job outcomes. A run with the same parameters as an earlier successful run
+         * would return the cached outcome without running the job, until the TTL expires. The total number of
+         * cached outcomes is bounded by the "scheduler.outcomeCacheSize" config. Should only be enabled for idempotent
+         * jobs.
+         *
+         * @param ttl how long a cached outcome stays valid or null to disable the cache
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder cacheOutcome(Duration ttl) {
+            if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+                throw new IllegalArgumentException("'ttl' must be a positive duration: " + ttl);
+            }
+
+            this.outcomeCacheTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Assigns the job to a named executor. "cpu" is a work-stealing pool sized to the number of CPU cores, "io"
+         * runs each job on its own virtual thread. Other names refer to the executors from the "scheduler.executors"
+         * config. This keeps CPU-heavy jobs from starving the I/O-bound ones and vice versa.
+         *
+         * @param executor executor name or null to run the job on the caller thread
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder executor(String executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the job priority. When more runs are due than there are scheduler threads, the runs of the
+         * higher-priority jobs start first. A waiting run gains one priority level per "scheduler.priorityAging"
+         * interval, so the low-priority jobs are delayed, but not starved.
+         *
+         * @param priority job priority. Higher number means higher priority. The default is 0.
+         * @return this builder
+         * @since 4.0
+         */
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
         public Builder param(JobParameterMetadata<?> param) {
             this.parameters.add(param);
             return this;
@@ -433,7 +682,7 @@ public class JobMetadata {
             if (lockName == null) {
                 lockName = name;
             }
-            return new JobMetadata(name, parameters, lockName, dependsOn, group, serial);
+            return new JobMetadata(name, parameters, lockName, lockPermits, dependsOn, group, serial, timeout, retryPolicy, coalesced, outcomeCacheTtl, executor, priority);
         }
     }
 }
@@ -108,6 +108,31 @@ public class JobOutcome {
         return yieldedTo;
     }
 
+    /**
+     * Returns a copy of this outcome, indicating that the job execution continues asynchronously (e.g., it is going
+     * to be retried), and its final outcome will be provided by the future.
+     *
+     * @since 4.0
+     */
+    public JobOutcome yieldTo(JobFuture future) {
+        return new JobOutcome(status, exception, message, future);
+    }
+
+    /**
+     * Returns this outcome, or, if the job execution yielded to another future, waits for that future and returns
+     * its final outcome.
+     *
+     * @since 4.0
+     */
+    public JobOutcome awaitFinal() {
+        JobOutcome outcome = this;
+        while (outcome.yieldedTo != null) {
+            outcome = outcome.yieldedTo.get();
+        }
+
+        return outcome;
+    }
+
     @Override
     public String toString() {
 
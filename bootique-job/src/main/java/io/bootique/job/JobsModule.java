@@ -23,13 +23,24 @@ import io.bootique.ModuleCrate;
 import io.bootique.config.ConfigurationFactory;
 import io.bootique.di.Binder;
 import io.bootique.di.Provides;
+import io.bootique.job.breaker.CircuitBreakerDecorator;
+import io.bootique.job.executor.ExecutorDecorator;
+import io.bootique.job.executor.JobExecutors;
 import io.bootique.job.graph.JobGraphNode;
+import io.bootique.job.jfr.JobRunEventDecorator;
+import io.bootique.job.jfr.LockEventHandler;
 import io.bootique.job.lock.LocalLockHandler;
 import io.bootique.job.lock.LockHandler;
+import io.bootique.job.lock.LockHandlerWrapper;
+import io.bootique.job.ratelimit.RateLimitDecorator;
+import io.bootique.job.retry.RetryDecorator;
 import io.bootique.job.runtime.*;
+import io.bootique.job.scheduler.TaskScheduler;
+import io.bootique.shutdown.ShutdownManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 
 import java.util.*;
@@ -80,7 +91,15 @@ public class JobsModule implements BQModule {
     @Singleton
     JobDecorators provideDecorators(
             LockHandler lockHandler,
+            JobContextDecorator contextDecorator,
             JobLogger jobLogger,
+            ExecutionHistory executionHistory,
+            JobTimeoutDecorator timeoutDecorator,
+            Provider<TaskScheduler> taskScheduler,
+            OutcomeCacheDecorator outcomeCacheDecorator,
+            RateLimitDecorator rateLimitDecorator,
+            CircuitBreakerDecorator circuitBreakerDecorator,
+            JobExecutors jobExecutors,
             Set<JobDecorator> decorators,
             Set<MappedJobDecorator<?>> mappedDecorators) {
 
@@ -88,8 +107,19 @@ public class JobsModule implements BQModule {
                 .add(decorators)
                 .addMapped(mappedDecorators)
                 .exceptionHandler(new ExceptionsHandlerDecorator())
+                .outcomeCache(outcomeCacheDecorator)
+                .coalescing(new CoalescingDecorator())
+                .retry(new RetryDecorator(taskScheduler::get))
+                .circuitBreaker(circuitBreakerDecorator)
+                .rateLimit(rateLimitDecorator)
+                .context(contextDecorator)
                 .logger(jobLogger)
-                .lockHandler(lockHandler)
+                .history(new ExecutionHistoryDecorator(executionHistory))
+                .events(new JobRunEventDecorator())
+                .lockHandler(new LockEventHandler(lockHandler))
+                .fireTime(new FireTimeDecorator())
+                .timeout(timeoutDecorator)
+                .executor(new ExecutorDecorator(jobExecutors))
                 .renamer(new JobNameDecorator())
                 .paramsBinder(new JobParamsBinderDecorator())
                 .create();
@@ -97,19 +127,42 @@ public class JobsModule implements BQModule {
 
     @Provides
     @Singleton
-    LockHandler provideLockHandler(Set<LockHandler> lockHandlers) {
-        return switch (lockHandlers.size()) {
+    LockHandler provideLockHandler(
+            Set<LockHandler> lockHandlers,
+            Set<LockHandlerWrapper> wrappers,
+            ShutdownManager shutdownManager) {
+
+        LockHandler lockHandler = switch (lockHandlers.size()) {
             // only use the default lock handler if none is provided by other modules
             case 0 -> new LocalLockHandler();
             case 1 -> {
-                LOGGER.info("Using '{}' lock handler", lockHandlers.iterator().next());
-                yield lockHandlers.iterator().next();
+                LockHandler handler = lockHandlers.iterator().next();
+                LOGGER.info("Using '{}' lock handler", handler);
+
+                // some handlers (e.g. file locks) hold resources that must be released on shutdown
+                if (handler instanceof AutoCloseable closeable) {
+                    shutdownManager.onShutdown(closeable);
+                }
+
+                yield handler;
             }
             default ->
                     throw new RuntimeException("There's more than one LockHandler defined. Can't determine the default: " + lockHandlers);
         };
+
+        for (LockHandlerWrapper w : wrappers) {
+            lockHandler = w.wrap(lockHandler);
+        }
+
+        return lockHandler;
     }
     
+    @Provides
+    @Singleton
+    JobContextDecorator provideContextDecorator() {
+        return new JobContextDecorator();
+    }
+
     @Provides
     @Singleton
     JobLogger provideJobLogger() {
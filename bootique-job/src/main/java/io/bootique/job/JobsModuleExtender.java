@@ -21,8 +21,12 @@ package io.bootique.job;
 
 import io.bootique.ModuleExtender;
 import io.bootique.di.*;
+import io.bootique.job.lock.CompositeFileLockHandler;
 import io.bootique.job.lock.LockHandler;
+import io.bootique.job.lock.LockHandlerWrapper;
+import io.bootique.job.scheduler.TriggerStateStore;
 
+import java.nio.file.Path;
 import java.util.function.Consumer;
 
 /**
@@ -34,6 +38,8 @@ public class JobsModuleExtender extends ModuleExtender<JobsModuleExtender> {
     private SetBuilder<JobDecorator> decorators;
     private SetBuilder<MappedJobDecorator<?>> mappedDecorators;
     private SetBuilder<LockHandler> lockHandlers;
+    private SetBuilder<LockHandlerWrapper> lockHandlerWrappers;
+    private SetBuilder<TriggerStateStore> triggerStateStores;
 
     public JobsModuleExtender(Binder binder) {
         super(binder);
@@ -45,6 +51,8 @@ public class JobsModuleExtender extends ModuleExtender<JobsModuleExtender> {
         contributeMappedDecorators();
         contributeJobs();
         contributeLockHandlers();
+        contributeLockHandlerWrappers();
+        contributeTriggerStateStores();
 
         return this;
     }
@@ -87,6 +95,55 @@ public class JobsModuleExtender extends ModuleExtender<JobsModuleExtender> {
         return this;
     }
 
+    /**
+     * Adds a wrapper of the app lock handler, regardless of which handler ends up being selected.
+     *
+     * @since 4.0
+     */
+    public JobsModuleExtender addLockHandlerWrapper(LockHandlerWrapper wrapper) {
+        contributeLockHandlerWrappers().addInstance(wrapper);
+        return this;
+    }
+
+    /**
+     * Adds a wrapper of the app lock handler, regardless of which handler ends up being selected.
+     *
+     * @since 4.0
+     */
+    public JobsModuleExtender addLockHandlerWrapper(Class<? extends LockHandlerWrapper> wrapperType) {
+        contributeLockHandlerWrappers().add(wrapperType);
+        return this;
+    }
+
+    /**
+     * Sets a lock handler that coordinates job runs between the JVMs on the same host via lock files in the provided
+     * directory. Lock files are closed when the app is shut down.
+     *
+     * @since 4.0
+     */
+    public JobsModuleExtender setFileLockHandler(Path lockDir) {
+        return setLockHandler(new CompositeFileLockHandler(lockDir));
+    }
+
+    /**
+     * Sets a custom store of trigger states that would allow triggers to resume their schedules after restart,
+     * overriding the "scheduler.stateFile" configuration.
+     *
+     * @since 4.0
+     */
+    public JobsModuleExtender setTriggerStateStore(TriggerStateStore store) {
+        contributeTriggerStateStores().addInstance(store);
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public JobsModuleExtender setTriggerStateStore(Class<? extends TriggerStateStore> storeType) {
+        contributeTriggerStateStores().add(storeType);
+        return this;
+    }
+
     /**
      * @since 3.0
      */
@@ -158,4 +215,18 @@ public class JobsModuleExtender extends ModuleExtender<JobsModuleExtender> {
         }
         return lockHandlers;
     }
+
+    protected SetBuilder<LockHandlerWrapper> contributeLockHandlerWrappers() {
+        if (lockHandlerWrappers == null) {
+            lockHandlerWrappers = newSet(LockHandlerWrapper.class);
+        }
+        return lockHandlerWrappers;
+    }
+
+    protected SetBuilder<TriggerStateStore> contributeTriggerStateStores() {
+        if (triggerStateStores == null) {
+            triggerStateStores = newSet(TriggerStateStore.class);
+        }
+        return triggerStateStores;
+    }
 }
@@ -29,10 +29,21 @@ public class MappedJobDecorator<T extends JobDecorator> {
 
     private T decorator;
     private int order;
+    private boolean appliedToSubJobs;
 
     public MappedJobDecorator(T decorator, int order) {
+        this(decorator, order, false);
+    }
+
+    /**
+     * @param appliedToSubJobs if true, the decorator will wrap not only the top-level jobs, but also the jobs executed
+     *                         as a part of a job group.
+     * @since 4.0
+     */
+    public MappedJobDecorator(T decorator, int order, boolean appliedToSubJobs) {
         this.decorator = decorator;
         this.order = order;
+        this.appliedToSubJobs = appliedToSubJobs;
     }
 
     public T getDecorator() {
@@ -42,4 +53,11 @@ public class MappedJobDecorator<T extends JobDecorator> {
     public int getOrder() {
         return order;
     }
+
+    /**
+     * @since 4.0
+     */
+    public boolean isAppliedToSubJobs() {
+        return appliedToSubJobs;
+    }
 }
\ No newline at end of file
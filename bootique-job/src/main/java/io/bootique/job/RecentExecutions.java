@@ -0,0 +1,87 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An immutable snapshot of the most recent executions of a job or a trigger, ordered from the newest to the oldest.
+ *
+ * @since 4.0
+ */
+public class RecentExecutions {
+
+    private static final RecentExecutions EMPTY = new RecentExecutions(new long[0], new long[0], new JobStatus[0]);
+
+    private final long[] startedAtMillis;
+    private final long[] durationNanos;
+    private final JobStatus[] statuses;
+
+    public static RecentExecutions empty() {
+        return EMPTY;
+    }
+
+    public RecentExecutions(long[] startedAtMillis, long[] durationNanos, JobStatus[] statuses) {
+        if (startedAtMillis.length != durationNanos.length || startedAtMillis.length != statuses.length) {
+            throw new IllegalArgumentException("Arrays must be of the same size");
+        }
+
+        this.startedAtMillis = startedAtMillis;
+        this.durationNanos = durationNanos;
+        this.statuses = statuses;
+    }
+
+    public int size() {
+        return statuses.length;
+    }
+
+    public boolean isEmpty() {
+        return statuses.length == 0;
+    }
+
+    /**
+     * Returns the start time of the execution at the index, where 0 is the most recent execution.
+     */
+    public Instant getStartedAt(int i) {
+        return Instant.ofEpochMilli(startedAtMillis[i]);
+    }
+
+    public Duration getDuration(int i) {
+        return Duration.ofNanos(durationNanos[i]);
+    }
+
+    public JobStatus getStatus(int i) {
+        return statuses[i];
+    }
+
+    /**
+     * Returns the number of executions with the given status.
+     */
+    public int count(JobStatus status) {
+        int c = 0;
+        for (JobStatus s : statuses) {
+            if (s == status) {
+                c++;
+            }
+        }
+
+        return c;
+    }
+}
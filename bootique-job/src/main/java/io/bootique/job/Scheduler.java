@@ -54,6 +54,16 @@ public interface Scheduler {
      */
     ExecBuilder newExecution();
 
+    /**
+     * Starts the durable executions that were submitted via {@link ExecBuilder#durable()} before the last shutdown
+     * or crash, but never finished. Unfinished executions are started only once per app run, so subsequent calls
+     * will return zero.
+     *
+     * @return the number of started executions. Zero, if the durable execution queue is not configured.
+     * @since 4.0
+     */
+    int runPendingExecutions();
+
     /**
      * @since 3.0
      * @deprecated in favor of {@link #newExecution()}
@@ -187,4 +197,19 @@ public interface Scheduler {
      * @since 4.0
      */
     Trigger getTrigger(String jobName, String triggerName);
+
+    /**
+     * Returns the most recent executions of the job, no matter how they were started. The number of executions kept
+     * is controlled by the "scheduler.historySize" configuration.
+     *
+     * @since 4.0
+     */
+    RecentExecutions getRecentExecutions(String jobName);
+
+    /**
+     * Returns the most recent executions of the job started by the specified trigger.
+     *
+     * @since 4.0
+     */
+    RecentExecutions getRecentExecutions(String jobName, String triggerName);
 }
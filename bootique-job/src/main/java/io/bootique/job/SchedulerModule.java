@@ -26,15 +26,23 @@ import io.bootique.di.Binder;
 import io.bootique.di.Provides;
 import io.bootique.help.ValueObjectDescriptor;
 import io.bootique.jackson.JacksonService;
+import io.bootique.job.breaker.CircuitBreakerDecorator;
+import io.bootique.job.executor.JobExecutors;
 import io.bootique.job.command.ExecCommand;
 import io.bootique.job.command.ListCommand;
 import io.bootique.job.command.ScheduleCommand;
 import io.bootique.job.graph.JobGraphNode;
+import io.bootique.job.jfr.GraphStepEventListener;
+import io.bootique.job.ratelimit.RateLimitDecorator;
 import io.bootique.job.runtime.DefaultJobRegistry;
+import io.bootique.job.runtime.ExecutionHistory;
 import io.bootique.job.runtime.GraphExecutor;
 import io.bootique.job.runtime.JobDecorators;
+import io.bootique.job.runtime.JobTimeoutDecorator;
+import io.bootique.job.runtime.OutcomeCacheDecorator;
 import io.bootique.job.scheduler.SchedulerFactory;
 import io.bootique.job.scheduler.TaskScheduler;
+import io.bootique.job.scheduler.TriggerStateStore;
 import io.bootique.job.trigger.JobExecParser;
 import io.bootique.job.value.Cron;
 import io.bootique.meta.application.OptionMetadata;
@@ -42,6 +50,7 @@ import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @since 3.0
@@ -88,7 +97,8 @@ public class SchedulerModule implements BQModule {
         return new DefaultJobRegistry(
                 jobNodes,
                 decorators,
-                graphExecutor);
+                graphExecutor,
+                new GraphStepEventListener());
     }
 
     @Provides
@@ -99,20 +109,77 @@ public class SchedulerModule implements BQModule {
 
     @Provides
     @Singleton
-    TaskScheduler provideTaskScheduler(ConfigurationFactory configFactory) {
-        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createTaskScheduler();
+    TaskScheduler provideTaskScheduler(ConfigurationFactory configFactory, TriggerStateStore stateStore) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createTaskScheduler(stateStore);
     }
 
     @Provides
     @Singleton
-    Scheduler provideScheduler(TaskScheduler taskScheduler, ConfigurationFactory configFactory) {
-        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createScheduler(taskScheduler);
+    TriggerStateStore provideTriggerStateStore(ConfigurationFactory configFactory, Set<TriggerStateStore> stateStores) {
+        return switch (stateStores.size()) {
+            // only use the configured store if none is provided by other modules
+            case 0 -> configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createTriggerStateStore();
+            case 1 -> stateStores.iterator().next();
+            default ->
+                    throw new RuntimeException("There's more than one TriggerStateStore defined. Can't determine the default: " + stateStores);
+        };
+    }
+
+    @Provides
+    @Singleton
+    Scheduler provideScheduler(
+            TaskScheduler taskScheduler,
+            ExecutionHistory executionHistory,
+            JacksonService jackson,
+            ConfigurationFactory configFactory) {
+
+        SchedulerFactory factory = configFactory.config(SchedulerFactory.class, CONFIG_PREFIX);
+        return factory.createScheduler(
+                taskScheduler,
+                executionHistory,
+                factory.createExecutionQueue(jackson.newObjectMapper()));
+    }
+
+    @Provides
+    @Singleton
+    ExecutionHistory provideExecutionHistory(ConfigurationFactory configFactory) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createExecutionHistory();
+    }
+
+    @Provides
+    @Singleton
+    JobTimeoutDecorator provideTimeoutDecorator(ConfigurationFactory configFactory, ExecutionHistory executionHistory) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createTimeoutDecorator(executionHistory);
+    }
+
+    @Provides
+    @Singleton
+    OutcomeCacheDecorator provideOutcomeCacheDecorator(ConfigurationFactory configFactory) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createOutcomeCacheDecorator();
+    }
+
+    @Provides
+    @Singleton
+    RateLimitDecorator provideRateLimitDecorator(ConfigurationFactory configFactory, Provider<TaskScheduler> taskScheduler) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createRateLimitDecorator(taskScheduler::get);
+    }
+
+    @Provides
+    @Singleton
+    CircuitBreakerDecorator provideCircuitBreakerDecorator(ConfigurationFactory configFactory) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createCircuitBreakerDecorator();
+    }
+
+    @Provides
+    @Singleton
+    JobExecutors provideJobExecutors(ConfigurationFactory configFactory) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createJobExecutors();
     }
 
     // this is a secondary thread pool used for graph execution
     @Provides
     @Singleton
-    GraphExecutor provideGraphExecutor(ConfigurationFactory configFactory) {
-        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createGraphExecutor();
+    GraphExecutor provideGraphExecutor(ConfigurationFactory configFactory, JobExecutors jobExecutors) {
+        return configFactory.config(SchedulerFactory.class, CONFIG_PREFIX).createGraphExecutor(jobExecutors);
     }
 }
@@ -20,7 +20,7 @@ package io.bootique.job;
 
 import io.bootique.job.scheduler.TaskScheduler;
 import io.bootique.job.trigger.Trigger;
-import io.bootique.job.trigger.TriggerFactory;
+import io.bootique.job.trigger.TriggerOptions;
 
 import java.time.Duration;
 import java.util.Map;
@@ -43,6 +43,8 @@ public abstract class TriggerBuilder {
     private String jobName;
     private String triggerName;
     private Map<String, Object> params;
+    private Duration lockLeadTime;
+    private Integer priority;
 
     protected TriggerBuilder(
             Consumer<Trigger> addToSchedulerCallback,
@@ -69,6 +71,26 @@ public abstract class TriggerBuilder {
         return this;
     }
 
+    /**
+     * Sets how much ahead of each fire time the trigger should start the job to pre-acquire the job lock. This
+     * removes the lock acquisition time from the job start latency.
+     */
+    public TriggerBuilder lockLeadTime(Duration lockLeadTime) {
+        this.lockLeadTime = lockLeadTime;
+        return this;
+    }
+
+    /**
+     * Sets the priority of the trigger runs, overriding the job priority. When more jobs are due than there are
+     * scheduler threads, the higher-priority runs start first.
+     *
+     * @since 4.0
+     */
+    public TriggerBuilder priority(Integer priority) {
+        this.priority = priority;
+        return this;
+    }
+
     /**
      * Registers trigger with the underlying scheduler and returns the trigger back to the call. The trigger will
      * be returned in the "unscheduled" state, and will have to be scheduled explicitly if needed.
@@ -85,12 +107,19 @@ public abstract class TriggerBuilder {
         return Objects.requireNonNull(jobName, "Null 'jobName'");
     }
 
+    /**
+     * Returns the trigger name set in the builder, or null, in which case the trigger will generate a random name.
+     */
     protected String createTriggerName() {
-        return this.triggerName != null ? this.triggerName : TriggerFactory.generateTriggerName();
+        return this.triggerName;
     }
 
     protected Map<String, Object> createParams() {
         return this.params != null ? this.params : Map.of();
     }
 
+    protected TriggerOptions createOptions() {
+        return TriggerOptions.builder().lockLeadTime(lockLeadTime).priority(priority).build();
+    }
+
 }
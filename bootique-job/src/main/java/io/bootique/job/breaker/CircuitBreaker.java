@@ -0,0 +1,164 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.breaker;
+
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+
+/**
+ * A circuit breaker state machine of a single job. Tracks the outcomes of the most recent job runs in a fixed-size
+ * sliding window. Opens when the failure rate in the window reaches the threshold, and after a while lets a few probe
+ * runs through. Successful probes close the circuit, while a failed probe opens it again.
+ *
+ * @since 4.0
+ */
+public class CircuitBreaker {
+
+    private final CircuitBreakerPolicy policy;
+
+    // ring buffer of the recent outcomes in the closed state
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private CircuitState state;
+
+    // incremented on every state change, so that the runs started in one state are not counted in another
+    private long generation;
+    private long openedAtNanos;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.window = new boolean[policy.getWindowSize()];
+        this.state = CircuitState.CLOSED;
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Checks whether a job run is allowed to proceed.
+     *
+     * @return a non-negative permit to be passed to {@link #onOutcome(long, JobOutcome, long)} when the run is
+     * finished, or -1 if the run is not allowed
+     */
+    public synchronized long tryAcquire(long nowNanos) {
+
+        if (state == CircuitState.OPEN) {
+            if (nowNanos - openedAtNanos < policy.getOpenDuration().toNanos()) {
+                return -1;
+            }
+
+            transition(CircuitState.HALF_OPEN);
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+
+        if (state == CircuitState.HALF_OPEN) {
+            if (probesStarted >= policy.getProbes()) {
+                return -1;
+            }
+
+            probesStarted++;
+        }
+
+        return generation;
+    }
+
+    /**
+     * Records an outcome of a job run started with the given permit.
+     */
+    public synchronized void onOutcome(long permit, JobOutcome outcome, long nowNanos) {
+
+        // the run started before the last state change
+        if (permit != generation) {
+            return;
+        }
+
+        // a skipped run tells nothing about the job health
+        if (outcome.getStatus() == JobStatus.SKIPPED) {
+            if (state == CircuitState.HALF_OPEN) {
+                probesStarted--;
+            }
+            return;
+        }
+
+        boolean failed = outcome.getStatus() == JobStatus.FAILURE || outcome.getStatus() == JobStatus.UNKNOWN;
+
+        switch (state) {
+            case CLOSED -> {
+                record(failed);
+                if (windowCount >= policy.getMinRuns()
+                        && windowFailures >= policy.getFailureRateThreshold() * windowCount) {
+                    open(nowNanos);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed) {
+                    open(nowNanos);
+                } else if (++probesSucceeded >= policy.getProbes()) {
+                    close();
+                }
+            }
+            default -> {
+                // runs are not tracked in the open state
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+
+        if (windowCount == window.length) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+
+        window[windowNext] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void open(long nowNanos) {
+        transition(CircuitState.OPEN);
+        openedAtNanos = nowNanos;
+    }
+
+    private void close() {
+        transition(CircuitState.CLOSED);
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transition(CircuitState newState) {
+        state = newState;
+        generation++;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.breaker;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A decorator that sheds the load from the jobs that keep failing (e.g., because a downstream system is down). While
+ * the job circuit is open, its runs are skipped immediately, without taking any locks or threads. Circuit breakers are
+ * configured per job and only apply to top-level jobs.
+ *
+ * @since 4.0
+ */
+public class CircuitBreakerDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreakerDecorator.class);
+
+    private final Map<String, CircuitBreaker> breakers;
+
+    /**
+     * @param policies circuit breaker policies keyed by job name
+     */
+    public CircuitBreakerDecorator(Map<String, CircuitBreakerPolicy> policies) {
+        this.breakers = new HashMap<>();
+        Objects.requireNonNull(policies).forEach((k, v) -> breakers.put(k, new CircuitBreaker(v)));
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return breakers.containsKey(metadata.getName());
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        String jobName = delegate.getMetadata().getName();
+        CircuitBreaker breaker = breakers.get(jobName);
+
+        long permit = breaker.tryAcquire(System.nanoTime());
+        if (permit < 0) {
+            // not logging at the "info" level to keep the logs quiet while the job is down
+            LOGGER.debug("Circuit of '{}' is open. Skipping execution", jobName);
+            return JobOutcome.skipped("Circuit is open. Skipping execution");
+        }
+
+        JobOutcome outcome;
+        try {
+            outcome = delegate.run(params);
+        } catch (Throwable th) {
+            onOutcome(jobName, breaker, permit, JobOutcome.failed(th));
+            throw th;
+        }
+
+        onOutcome(jobName, breaker, permit, outcome);
+        return outcome;
+    }
+
+    /**
+     * Reports the outcome to the circuit breaker when the job completes, without blocking the caller thread.
+     *
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        String jobName = delegate.getMetadata().getName();
+        CircuitBreaker breaker = breakers.get(jobName);
+
+        long permit = breaker.tryAcquire(System.nanoTime());
+        if (permit < 0) {
+            LOGGER.debug("Circuit of '{}' is open. Skipping execution", jobName);
+            return CompletableFuture.completedFuture(JobOutcome.skipped("Circuit is open. Skipping execution"));
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (Throwable th) {
+            onOutcome(jobName, breaker, permit, JobOutcome.failed(th));
+            throw th;
+        }
+
+        return stage.whenComplete((o, th) -> onOutcome(jobName, breaker, permit, o != null
+                ? o
+                : JobOutcome.failed(th instanceof CompletionException && th.getCause() != null ? th.getCause() : th)));
+    }
+
+    /**
+     * Returns the current circuit state of the job, or null if the job has no circuit breaker.
+     */
+    public CircuitState getState(String jobName) {
+        CircuitBreaker breaker = breakers.get(jobName);
+        return breaker != null ? breaker.getState() : null;
+    }
+
+    private void onOutcome(String jobName, CircuitBreaker breaker, long permit, JobOutcome outcome) {
+
+        CircuitState before = breaker.getState();
+        breaker.onOutcome(permit, outcome, System.nanoTime());
+        CircuitState after = breaker.getState();
+
+        if (before != after) {
+            if (after == CircuitState.OPEN) {
+                LOGGER.warn("Circuit of '{}' is open after {}. Skipping executions for a while", jobName, outcome);
+            } else {
+                LOGGER.info("Circuit of '{}' is {}", jobName, after == CircuitState.CLOSED ? "closed" : "half-open");
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.breaker;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Settings of a job circuit breaker.
+ *
+ * @since 4.0
+ */
+public class CircuitBreakerPolicy {
+
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int minRuns;
+    private final Duration openDuration;
+    private final int probes;
+
+    /**
+     * @param failureRateThreshold the share of failed runs in the window (0..1) that opens the circuit
+     * @param windowSize           the number of the most recent runs to calculate the failure rate
+     * @param minRuns              the min number of runs in the window before the failure rate is considered
+     * @param openDuration         how long the circuit stays open before letting the probe runs through
+     * @param probes               the number of successful probe runs needed to close the circuit
+     */
+    public CircuitBreakerPolicy(
+            double failureRateThreshold,
+            int windowSize,
+            int minRuns,
+            Duration openDuration,
+            int probes) {
+
+        if (failureRateThreshold <= 0. || failureRateThreshold > 1.) {
+            throw new IllegalArgumentException("'failureRateThreshold' must be above 0 and at most 1: " + failureRateThreshold);
+        }
+
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be a positive number: " + windowSize);
+        }
+
+        if (probes < 1) {
+            throw new IllegalArgumentException("'probes' must be a positive number: " + probes);
+        }
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.minRuns = Math.max(1, Math.min(minRuns, windowSize));
+        this.openDuration = Objects.requireNonNull(openDuration);
+        this.probes = probes;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMinRuns() {
+        return minRuns;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public int getProbes() {
+        return probes;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.breaker;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Duration;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Circuit breaker that skips the job runs while the job keeps failing.")
+public class CircuitBreakerPolicyFactory {
+
+    private Double failureRateThreshold;
+    private Integer windowSize;
+    private Integer minRuns;
+    private Duration openDuration;
+    private Integer probes;
+
+    public CircuitBreakerPolicy createPolicy() {
+        int windowSize = this.windowSize != null ? this.windowSize : 20;
+        return new CircuitBreakerPolicy(
+                failureRateThreshold != null ? failureRateThreshold : 0.5,
+                windowSize,
+                minRuns != null ? minRuns : windowSize / 2,
+                openDuration != null ? openDuration.getDuration() : java.time.Duration.ofMinutes(1),
+                probes != null ? probes : 1);
+    }
+
+    @BQConfigProperty("Share of the failed runs in the window (above 0 and at most 1) that opens the circuit. " +
+            "The default is 0.5.")
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    @BQConfigProperty("Number of the most recent runs used to calculate the failure rate. The default is 20.")
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    @BQConfigProperty("Min number of runs in the window before the failure rate is considered. The default is half " +
+            "of the window size.")
+    public void setMinRuns(int minRuns) {
+        this.minRuns = minRuns;
+    }
+
+    @BQConfigProperty("How long the circuit stays open before letting the probe runs through. The default is 1min.")
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    @BQConfigProperty("Number of successful probe runs needed to close the circuit. The default is 1.")
+    public void setProbes(int probes) {
+        this.probes = probes;
+    }
+}
@@ -32,8 +32,8 @@ import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ExecCommand extends CommandWithMetadata {
@@ -88,17 +88,26 @@ public class ExecCommand extends CommandWithMetadata {
     private CommandOutcome runParallel(List<JobExec> execs, Scheduler scheduler) {
 
         // to ensure parallel execution, must collect futures in an explicit collection,
-        // and then "get" them in a separate stream
+        // and then wait for all of them at once
         List<JobFuture> futures = execs.stream()
                 .map(e -> scheduler.newExecution().jobName(e.getJobName()).params(e.getParams()).runNonBlocking())
                 .collect(Collectors.toList());
 
-        String failed = futures.stream()
-                .map(f -> Map.entry(f.getJobName(), f.get()))
-                .peek(t -> processResult(t.getKey(), t.getValue()))
-                .filter(t -> !t.getValue().isSuccess())
-                .map(t -> t.getKey())
-                .collect(Collectors.joining(", "));
+        // canceled or otherwise exceptionally completed executions are reported as failed outcomes, so this never throws
+        List<JobOutcome> outcomes = JobFuture.allOf(futures).join();
+
+        List<String> failedJobs = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            String jobName = futures.get(i).getJobName();
+            JobOutcome outcome = outcomes.get(i);
+
+            processResult(jobName, outcome);
+            if (!outcome.isSuccess()) {
+                failedJobs.add(jobName);
+            }
+        }
+
+        String failed = String.join(", ", failedJobs);
 
         return failed.isEmpty() ? CommandOutcome.succeeded() : CommandOutcome.failed(1, "Some of the jobs failed: " + failed);
     }
@@ -26,6 +26,9 @@ import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobParameterMetadata;
 import io.bootique.job.JobRegistry;
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+import io.bootique.job.runtime.ExecutionHistory;
 import io.bootique.log.BootLogger;
 import io.bootique.meta.application.CommandMetadata;
 
@@ -38,17 +41,34 @@ import java.util.stream.Collectors;
 public class ListCommand extends CommandWithMetadata {
 
     private final Provider<JobRegistry> jobRegistryProvider;
+    private final Provider<ExecutionHistory> executionHistoryProvider;
     private final BootLogger bootLogger;
 
     private static CommandMetadata createMetadata() {
         return CommandMetadata.builder(ListCommand.class).description("Lists all jobs available in the app").build();
     }
 
-    @Inject
+    /**
+     * @deprecated in favor of the constructor that takes the {@link ExecutionHistory}. This one won't show the recent
+     * job runs.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public ListCommand(Provider<JobRegistry> jobRegistryProvider, BootLogger bootLogger) {
+        this(jobRegistryProvider, () -> new ExecutionHistory(1), bootLogger);
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Inject
+    public ListCommand(
+            Provider<JobRegistry> jobRegistryProvider,
+            Provider<ExecutionHistory> executionHistoryProvider,
+            BootLogger bootLogger) {
         super(createMetadata());
 
         this.jobRegistryProvider = jobRegistryProvider;
+        this.executionHistoryProvider = executionHistoryProvider;
         this.bootLogger = bootLogger;
     }
 
@@ -68,14 +88,30 @@ public class ListCommand extends CommandWithMetadata {
             return CommandOutcome.succeeded();
         }
 
+        ExecutionHistory history = executionHistoryProvider.get();
+
         bootLogger.stdout("Available jobs:");
-        jobsInfo.forEach(this::printJobInfo);
+        jobsInfo.forEach(md -> printJobInfo(md, history.getJobExecutions(md.getName())));
         return CommandOutcome.succeeded();
     }
 
-    private void printJobInfo(JobMetadata md) {
+    private void printJobInfo(JobMetadata md, RecentExecutions recent) {
         String paramsString = paramsToString(md.getParameters());
-        bootLogger.stdout(String.format("     - %s%s", md.getName(), paramsString));
+        bootLogger.stdout(String.format("     - %s%s%s", md.getName(), paramsString, recentToString(recent)));
+    }
+
+    // only shows anything if the jobs were run within the same app as the command
+    String recentToString(RecentExecutions recent) {
+        if (recent.isEmpty()) {
+            return "";
+        }
+
+        return String.format(" - last run: %s at %s in %d ms, failed %d of %d recent runs",
+                recent.getStatus(0),
+                recent.getStartedAt(0),
+                recent.getDuration(0).toMillis(),
+                recent.count(JobStatus.FAILURE),
+                recent.size());
     }
 
     String paramsToString(Collection<JobParameterMetadata<?>> params) {
@@ -68,6 +68,9 @@ public class ScheduleCommand extends CommandWithMetadata {
                 : startSelectJobs(scheduler, jobStrings);
 
         LOGGER.info("Started scheduler with {} trigger(s).", c);
+
+        // resume the durable executions interrupted by the previous shutdown
+        scheduler.runPendingExecutions();
         return CommandOutcome.succeededAndForkedToBackground();
     }
 
@@ -0,0 +1,121 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.executor;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobContext;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A decorator that hands off the job run to the executor the job is assigned to, waiting for the result on the
+ * caller thread. The caller thread is normally a virtual scheduler thread, so waiting doesn't take a carrier thread.
+ * Jobs that are already on their executor thread (e.g. the group members submitted directly to the executor by the
+ * {@link io.bootique.job.runtime.GraphExecutor}) run in place. {@link JobContext} is propagated to the executor
+ * thread.
+ *
+ * @since 4.0
+ */
+public class ExecutorDecorator implements JobDecorator {
+
+    private final JobExecutors executors;
+
+    public ExecutorDecorator(JobExecutors executors) {
+        this.executors = Objects.requireNonNull(executors);
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return executors.getExecutorName(metadata) != null;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        String executorName = executors.getExecutorName(delegate.getMetadata());
+        if (executorName == null || JobExecutors.isCurrent(executorName)) {
+            return delegate.run(params);
+        }
+
+        JobContext context = JobContext.current();
+
+        Future<JobOutcome> future;
+        try {
+            future = executors.submit(
+                    executorName,
+                    () -> context != null ? context.call(() -> delegate.run(params)) : delegate.run(params));
+        } catch (RejectedExecutionException e) {
+            return JobOutcome.failed("Executor '" + executorName + "' is saturated", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // e.g. a job timeout. Pass the interrupt on to the job
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return JobOutcome.failed(e);
+        } catch (ExecutionException e) {
+            return JobOutcome.failed(e.getCause());
+        }
+    }
+
+    /**
+     * Starts the async job on its executor thread without waiting for its completion.
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        String executorName = executors.getExecutorName(delegate.getMetadata());
+        if (executorName == null || JobExecutors.isCurrent(executorName)) {
+            return delegate.runAsync(params);
+        }
+
+        JobContext context = JobContext.current();
+
+        CompletableFuture<CompletionStage<JobOutcome>> started = new CompletableFuture<>();
+        try {
+            executors.submit(executorName, () -> {
+                try {
+                    started.complete(context != null
+                            ? context.call(() -> delegate.runAsync(params))
+                            : delegate.runAsync(params));
+                } catch (Throwable th) {
+                    started.completeExceptionally(th);
+                }
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(JobOutcome.failed("Executor '" + executorName + "' is saturated", e));
+        }
+
+        return started.thenCompose(s -> s);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.executor;
+
+/**
+ * A kind of thread pool used to run jobs assigned to an executor.
+ *
+ * @since 4.0
+ */
+public enum ExecutorType {
+
+    /**
+     * A work-stealing pool for CPU-bound jobs, by default sized to the number of CPU cores.
+     */
+    CPU,
+
+    /**
+     * An unbounded executor that starts a virtual thread per job. For I/O-bound jobs.
+     */
+    IO,
+
+    /**
+     * A fixed-size pool of platform threads with an optionally bounded queue. Jobs submitted to a saturated pool
+     * fail right away.
+     */
+    BOUNDED
+}
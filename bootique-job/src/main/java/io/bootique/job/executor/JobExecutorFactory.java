@@ -0,0 +1,126 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.executor;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("A named executor to run the jobs assigned to it.")
+public class JobExecutorFactory {
+
+    private ExecutorType type;
+    private Integer threads;
+    private Integer queueSize;
+
+    public static JobExecutorFactory of(ExecutorType type) {
+        JobExecutorFactory factory = new JobExecutorFactory();
+        factory.setType(type);
+        return factory;
+    }
+
+    public ExecutorService createExecutor(String name) {
+        Objects.requireNonNull(type, () -> "Executor 'type' is not set for '" + name + "'");
+        String threadNamePrefix = "bootique-job-" + name + "-";
+
+        return switch (type) {
+            case CPU -> new ForkJoinPool(
+                    resolveThreads(),
+                    namedWorkers(threadNamePrefix),
+                    null,
+                    false);
+            case IO -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+            case BOUNDED -> new ThreadPoolExecutor(
+                    resolveThreads(),
+                    resolveThreads(),
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    createQueue(),
+                    Thread.ofPlatform().daemon().name(threadNamePrefix, 0).factory());
+        };
+    }
+
+    /**
+     * Returns true if the executor runs jobs on platform threads, i.e. is of 'CPU' or 'BOUNDED' type.
+     */
+    public boolean isPlatform() {
+        return type == ExecutorType.CPU || type == ExecutorType.BOUNDED;
+    }
+
+    protected int resolveThreads() {
+        if (threads != null && threads <= 0) {
+            throw new IllegalArgumentException("Executor 'threads' must be positive: " + threads);
+        }
+
+        return threads != null ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    protected BlockingQueue<Runnable> createQueue() {
+        if (queueSize == null) {
+            return new LinkedBlockingQueue<>();
+        }
+
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("Executor 'queueSize' must be positive: " + queueSize);
+        }
+
+        return new ArrayBlockingQueue<>(queueSize);
+    }
+
+    private static ForkJoinPool.ForkJoinWorkerThreadFactory namedWorkers(String threadNamePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return pool -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName(threadNamePrefix + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @BQConfigProperty("Executor type: 'CPU' (a work-stealing pool), 'IO' (a virtual thread per job) or 'BOUNDED' " +
+            "(a fixed pool of platform threads).")
+    public void setType(ExecutorType type) {
+        this.type = type;
+    }
+
+    @BQConfigProperty("The number of threads in 'CPU' and 'BOUNDED' executors. Default is the number of CPU cores.")
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    @BQConfigProperty("Max number of jobs waiting for a thread in a 'BOUNDED' executor. Default is unbounded.")
+    public void setQueueSize(Integer queueSize) {
+        this.queueSize = queueSize;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.executor;
+
+import io.bootique.job.JobMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A registry of named executors that provide bulkheads between the job workloads. A job is assigned to an executor
+ * via {@link JobMetadata#getExecutor()}, or by its name in the config, which takes precedence. "cpu" and "io"
+ * executors are always available, unless redefined in the config. Executors are started lazily on the first use.
+ *
+ * @since 4.0
+ */
+public class JobExecutors implements AutoCloseable {
+
+    public static final String CPU = "cpu";
+    public static final String IO = "io";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutors.class);
+
+    // the name of the executor that owns the current thread
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, JobExecutorFactory> factories;
+    private final Map<String, String> jobExecutors;
+    private final ConcurrentMap<String, ExecutorService> executors;
+    private volatile boolean closed;
+
+    public JobExecutors() {
+        this(Map.of(), Map.of());
+    }
+
+    /**
+     * @param factories    executor factories by executor name, in addition to the standard "cpu" and "io" executors
+     * @param jobExecutors executor names by job name, overriding the executors from the job metadata
+     */
+    public JobExecutors(Map<String, JobExecutorFactory> factories, Map<String, String> jobExecutors) {
+
+        Map<String, JobExecutorFactory> allFactories = new HashMap<>();
+        allFactories.put(CPU, JobExecutorFactory.of(ExecutorType.CPU));
+        allFactories.put(IO, JobExecutorFactory.of(ExecutorType.IO));
+        allFactories.putAll(factories);
+
+        this.factories = allFactories;
+        this.jobExecutors = Objects.requireNonNull(jobExecutors);
+        this.executors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the name of the executor the job is assigned to, or null if the job should run on the caller thread.
+     *
+     * @throws IllegalArgumentException if the job refers to an unknown executor
+     */
+    public String getExecutorName(JobMetadata metadata) {
+        String name = jobExecutors.getOrDefault(metadata.getName(), metadata.getExecutor());
+        if (name != null && !factories.containsKey(name)) {
+            throw new IllegalArgumentException("Job '" + metadata.getName() + "' refers to an unknown executor: " + name);
+        }
+
+        return name;
+    }
+
+    /**
+     * Returns true if the job is assigned to an executor that runs jobs on platform threads. Other jobs run on virtual
+     * threads, either of the "io" executor or of the scheduler itself.
+     */
+    public boolean isPlatform(JobMetadata metadata) {
+        String name = getExecutorName(metadata);
+        return name != null && factories.get(name).isPlatform();
+    }
+
+    /**
+     * Returns true if the current thread belongs to the named executor.
+     */
+    public static boolean isCurrent(String executorName) {
+        return executorName.equals(CURRENT.get());
+    }
+
+    public <T> Future<T> submit(String executorName, Callable<T> task) {
+        return getExecutor(executorName).submit(() -> {
+            String previous = CURRENT.get();
+            CURRENT.set(executorName);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        executors.values().forEach(ExecutorService::shutdownNow);
+        executors.clear();
+    }
+
+    protected ExecutorService getExecutor(String executorName) {
+        if (closed) {
+            throw new IllegalStateException("Job executors are closed");
+        }
+
+        ExecutorService executor = executors.get(executorName);
+        return executor != null ? executor : getOrCreateExecutor(executorName);
+    }
+
+    // synchronized with "close", so that an executor started concurrently with closing is not left running
+    private synchronized ExecutorService getOrCreateExecutor(String executorName) {
+        if (closed) {
+            throw new IllegalStateException("Job executors are closed");
+        }
+
+        return executors.computeIfAbsent(executorName, this::createExecutor);
+    }
+
+    private ExecutorService createExecutor(String executorName) {
+        JobExecutorFactory factory = factories.get(executorName);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown executor: " + executorName);
+        }
+
+        LOGGER.debug("Starting job executor '{}'", executorName);
+        return factory.createExecutor(executorName);
+    }
+}
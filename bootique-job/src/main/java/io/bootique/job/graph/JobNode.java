@@ -20,7 +20,11 @@
 package io.bootique.job.graph;
 
 import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.retry.RetryPolicy;
+import io.bootique.job.runtime.DecoratedJob;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,12 +36,34 @@ import java.util.stream.Collectors;
 public class JobNode implements JobGraphNode {
 
     private final Job job;
+    private final Job configuredJob;
     private final Map<String, Object> params;
     private final Set<String> dependsOn;
     private final boolean forceNoDependencies;
+    private final Duration timeout;
+    private final RetryPolicy retryPolicy;
 
     public JobNode(Job job, Map<String, Object> params, Set<String> dependsOn, boolean forceNoDependencies) {
+        this(job, params, dependsOn, forceNoDependencies, null, null);
+    }
+
+    /**
+     * @param timeout     a configured job timeout overriding the one from the job metadata. May be null.
+     * @param retryPolicy a configured retry policy overriding the one from the job metadata. May be null.
+     * @since 4.0
+     */
+    public JobNode(
+            Job job,
+            Map<String, Object> params,
+            Set<String> dependsOn,
+            boolean forceNoDependencies,
+            Duration timeout,
+            RetryPolicy retryPolicy) {
+
         this.job = job;
+        this.configuredJob = timeout != null || retryPolicy != null ? withOverrides(job, timeout, retryPolicy) : job;
+        this.timeout = timeout;
+        this.retryPolicy = retryPolicy;
         this.params = Objects.requireNonNull(params);
         this.dependsOn = Objects.requireNonNull(dependsOn);
 
@@ -75,7 +101,41 @@ public class JobNode implements JobGraphNode {
     }
 
     public Job getJob() {
-        return job;
+        return configuredJob;
+    }
+
+    /**
+     * Returns a configured timeout of the job, or null, if the job timeout comes from the job metadata.
+     *
+     * @since 4.0
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns a configured retry policy of the job, or null, if the retry policy comes from the job metadata.
+     *
+     * @since 4.0
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    private static Job withOverrides(Job job, Duration timeout, RetryPolicy retryPolicy) {
+
+        JobMetadata.Builder builder = JobMetadata.builder(job.getMetadata());
+
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+
+        if (retryPolicy != null) {
+            builder.retry(retryPolicy);
+        }
+
+        JobMetadata metadata = builder.build();
+        return DecoratedJob.withMetadata(job, metadata);
     }
 
     public JobNode merge(JobNode overriding) {
@@ -87,7 +147,10 @@ public class JobNode implements JobGraphNode {
                 ? overriding.dependsOn
                 : this.dependsOn;
 
-        return new JobNode(overriding.job, mergedParams, mergedDependsOn, false);
+        Duration mergedTimeout = overriding.timeout != null ? overriding.timeout : this.timeout;
+        RetryPolicy mergedRetryPolicy = overriding.retryPolicy != null ? overriding.retryPolicy : this.retryPolicy;
+
+        return new JobNode(overriding.job, mergedParams, mergedDependsOn, false, mergedTimeout, mergedRetryPolicy);
     }
 
     @Override
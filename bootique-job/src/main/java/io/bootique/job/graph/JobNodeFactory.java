@@ -24,6 +24,8 @@ import io.bootique.BootiqueException;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.job.Job;
+import io.bootique.job.retry.RetryPolicyFactory;
+import io.bootique.value.Duration;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -39,6 +41,8 @@ public class JobNodeFactory implements JobGraphNodeFactory<JobNode> {
 
     private Map<String, String> params;
     private List<String> dependsOn;
+    private Duration timeout;
+    private RetryPolicyFactory retry;
 
     @Override
     public JobNode create(String jobName, Map<String, Job> standaloneJobs) {
@@ -56,7 +60,9 @@ public class JobNodeFactory implements JobGraphNodeFactory<JobNode> {
 
                 // an explicitly set empty list means that, when the node is used as an override, overridden
                 // node's dependencies will need to be wiped out
-                dependsOn != null && dependsOn.isEmpty()
+                dependsOn != null && dependsOn.isEmpty(),
+                timeout != null ? timeout.getDuration() : null,
+                retry != null ? retry.createRetryPolicy() : null
         );
     }
 
@@ -72,4 +78,22 @@ public class JobNodeFactory implements JobGraphNodeFactory<JobNode> {
     public void setDependsOn(List<String> dependsOn) {
         this.dependsOn = dependsOn;
     }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Max duration of a job run. When expired, the job thread is interrupted, and the job is reported " +
+            "as failed. Overrides the timeout defined in the job metadata.")
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Retry policy for the failed runs of the job. Overrides the policy defined in the job metadata. " +
+            "Only applies when the job is run on its own, and not as a member of a job group.")
+    public void setRetry(RetryPolicyFactory retry) {
+        this.retry = retry;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning a single job run, including group members.
+ *
+ * @since 4.0
+ */
+@Name("io.bootique.job.JobRun")
+@Label("Job Run")
+@Category({"Bootique", "Jobs"})
+@Description("A job execution")
+class JobRunEvent extends Event {
+
+    @Label("Job")
+    String jobName;
+
+    @Label("Trigger")
+    String triggerName;
+
+    @Label("Status")
+    String status;
+
+    @Label("Message")
+    String message;
+}
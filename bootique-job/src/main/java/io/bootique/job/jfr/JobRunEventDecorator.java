@@ -0,0 +1,106 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.jfr;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.trigger.Trigger;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A decorator that records a "io.bootique.job.JobRun" JFR event for each job run. Recording is controlled by the JFR
+ * settings. When the event is disabled (e.g. when no recording is in progress), the decorator simply delegates to the
+ * job.
+ *
+ * @since 4.0
+ */
+public class JobRunEventDecorator implements JobDecorator {
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        JobRunEvent event = new JobRunEvent();
+        if (!event.isEnabled()) {
+            return delegate.run(params);
+        }
+
+        event.begin();
+
+        JobOutcome outcome = null;
+        try {
+            outcome = delegate.run(params);
+            return outcome;
+        } finally {
+            String jobName = delegate.getMetadata().getName();
+            commit(event, jobName, triggerName(jobName), outcome);
+        }
+    }
+
+    /**
+     * Starts the event on the calling thread and commits it when the job completes.
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        JobRunEvent event = new JobRunEvent();
+        if (!event.isEnabled()) {
+            return delegate.runAsync(params);
+        }
+
+        event.begin();
+
+        // the trigger is only bound to the calling thread, so resolve it before going async
+        String jobName = delegate.getMetadata().getName();
+        String triggerName = triggerName(jobName);
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            commit(event, jobName, triggerName, null);
+            throw e;
+        }
+
+        return stage.whenComplete((outcome, th) -> commit(event, jobName, triggerName, outcome));
+    }
+
+    private static void commit(JobRunEvent event, String jobName, String triggerName, JobOutcome outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobName = jobName;
+            event.triggerName = triggerName;
+            event.status = outcome != null ? outcome.getStatus().name() : JobStatus.FAILURE.name();
+            event.message = outcome != null ? outcome.getMessage() : null;
+            event.commit();
+        }
+    }
+
+    private static String triggerName(String jobName) {
+
+        // the group members running on the trigger thread should not be attributed to the trigger
+        Trigger trigger = Trigger.current();
+        return trigger != null && trigger.getJobName().equals(jobName) ? trigger.getTriggerName() : null;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.jfr;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.lock.LockHandler;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link LockHandler} wrapper that records a "io.bootique.job.Lock" JFR event for each lock acquisition attempt.
+ * The event spans the time between the start of the attempt and either the job start or the decision to skip the job.
+ *
+ * @since 4.0
+ */
+public class LockEventHandler implements LockHandler {
+
+    private final LockHandler delegate;
+
+    public LockEventHandler(LockHandler delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return delegate.isApplicable(metadata, altName, prebindParams);
+    }
+
+    @Override
+    public JobOutcome run(Job job, Map<String, Object> params) {
+
+        LockEvent event = new LockEvent();
+        if (!event.isEnabled()) {
+            return delegate.run(job, params);
+        }
+
+        event.begin();
+        EventJob eventJob = new EventJob(job, event);
+        JobOutcome outcome = delegate.run(eventJob, params);
+
+        if (!eventJob.started) {
+            commit(event, job.getMetadata(), false);
+        }
+
+        return outcome;
+    }
+
+    /**
+     * Delegates to the wrapped handler {@link LockHandler#runAsync(AsyncJob, Map)}, so that the async jobs keep their
+     * non-blocking lock handling.
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob job, Map<String, Object> params) {
+
+        LockEvent event = new LockEvent();
+        if (!event.isEnabled()) {
+            return delegate.runAsync(job, params);
+        }
+
+        event.begin();
+        EventAsyncJob eventJob = new EventAsyncJob(job, event);
+        CompletionStage<JobOutcome> stage = delegate.runAsync(eventJob, params);
+
+        // a skipped job is normally reported right away, but a handler may also decide asynchronously
+        return stage.whenComplete((o, th) -> {
+            if (!eventJob.started) {
+                commit(event, job.getMetadata(), false);
+            }
+        });
+    }
+
+    static void commit(LockEvent event, JobMetadata metadata, boolean acquired) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.lockName = metadata.getLockName();
+            event.jobName = metadata.getName();
+            event.acquired = acquired;
+            event.commit();
+        }
+    }
+
+    static class EventJob implements Job {
+
+        private final Job delegate;
+        private final LockEvent event;
+
+        // the lock handler may run the job on a different thread
+        private volatile boolean started;
+
+        EventJob(Job delegate, LockEvent event) {
+            this.delegate = delegate;
+            this.event = event;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            started = true;
+            commit(event, delegate.getMetadata(), true);
+            return delegate.run(params);
+        }
+    }
+
+    static class EventAsyncJob implements AsyncJob {
+
+        private final AsyncJob delegate;
+        private final LockEvent event;
+
+        // the lock handler may start the job on a different thread
+        private volatile boolean started;
+
+        EventAsyncJob(AsyncJob delegate, LockEvent event) {
+            this.delegate = delegate;
+            this.event = event;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            started = true;
+            commit(event, delegate.getMetadata(), true);
+            return delegate.runAsync(params);
+        }
+    }
+}
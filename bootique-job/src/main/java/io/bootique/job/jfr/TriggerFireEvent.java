@@ -0,0 +1,51 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+
+/**
+ * A JFR event recorded when a scheduled task (e.g. a trigger) starts its run.
+ *
+ * @since 4.0
+ */
+@Name("io.bootique.job.TriggerFire")
+@Label("Trigger Fire")
+@Category({"Bootique", "Jobs"})
+@Description("A scheduled task run start with the delay relative to its scheduled time")
+class TriggerFireEvent extends Event {
+
+    @Label("Task")
+    String taskKey;
+
+    @Label("Scheduled Start")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long scheduledStart;
+
+    @Label("Lag")
+    @Timespan(Timespan.NANOSECONDS)
+    long lag;
+}
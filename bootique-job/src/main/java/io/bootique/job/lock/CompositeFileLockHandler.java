@@ -0,0 +1,65 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.lock;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobOutcome;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link LockHandler} that checks an in-JVM lock first, and only then tries to acquire a file lock shared with other
+ * JVMs on the same host.
+ *
+ * @since 4.0
+ */
+public class CompositeFileLockHandler implements LockHandler, AutoCloseable {
+
+    private final LockHandler localLockHandler;
+    private final FileLockHandler fileLockHandler;
+
+    public CompositeFileLockHandler(Path lockDir) {
+        this(new LocalLockHandler(), new FileLockHandler(lockDir));
+    }
+
+    public CompositeFileLockHandler(LockHandler localLockHandler, FileLockHandler fileLockHandler) {
+        this.localLockHandler = localLockHandler;
+        this.fileLockHandler = fileLockHandler;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+        return localLockHandler.run(fileLockHandler.decorate(delegate, null, params), params);
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        // decorating an AsyncJob produces an AsyncJob
+        return localLockHandler.runAsync((AsyncJob) fileLockHandler.decorate(delegate, null, params), params);
+    }
+
+    @Override
+    public void close() {
+        fileLockHandler.close();
+    }
+}
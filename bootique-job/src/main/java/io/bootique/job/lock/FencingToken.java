@@ -0,0 +1,111 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A monotonically increasing number issued by a cluster {@link LockHandler} every time it grants a job lock. Passed
+ * to the job via the {@link #PARAM} parameter. If a lock holder loses the lock in the middle of a job (e.g. because
+ * its cluster session expired), and the lock is granted to another job instance, the new holder will get a higher
+ * token. Jobs can send their token along with the writes to the shared resources, so that the resource (or the job
+ * itself) can reject the writes carrying the tokens older than the latest one it has seen.
+ *
+ * @since 4.0
+ */
+public class FencingToken implements Comparable<FencingToken> {
+
+    /**
+     * The name of the job parameter containing a {@link FencingToken} object.
+     */
+    public static final String PARAM = "_fencingToken";
+
+    private final String lockName;
+    private final long value;
+
+    public FencingToken(String lockName, long value) {
+        this.lockName = Objects.requireNonNull(lockName);
+        this.value = value;
+    }
+
+    /**
+     * Returns a fencing token from the job parameters, or null if the lock handler did not issue one.
+     */
+    public static FencingToken of(Map<String, ?> params) {
+        Object token = params.get(PARAM);
+        return token instanceof FencingToken ? (FencingToken) token : null;
+    }
+
+    /**
+     * Returns a copy of the job parameters map with this token added to it.
+     */
+    public Map<String, Object> addTo(Map<String, Object> params) {
+        Map<String, Object> withToken = new HashMap<>(params);
+        withToken.put(PARAM, this);
+        return withToken;
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Returns true if this token is older than the latest token seen by the caller, meaning that another job instance
+     * has since acquired the lock, and the writes guarded by this token must be rejected.
+     */
+    public boolean isStale(long latestSeenValue) {
+        return value < latestSeenValue;
+    }
+
+    @Override
+    public int compareTo(FencingToken o) {
+        return Long.compare(value, o.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof FencingToken)) {
+            return false;
+        }
+
+        FencingToken that = (FencingToken) o;
+        return value == that.value && lockName.equals(that.lockName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lockName, value);
+    }
+
+    @Override
+    public String toString() {
+        return lockName + ":" + value;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.lock;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link LockHandler} that coordinates multiple JVMs running on the same host via OS-level file locks. Creates one
+ * file per lock name (or one file per permit for jobs with multiple lock permits) in the provided directory. File
+ * channels are opened lazily and are kept open between job runs. Within a single JVM, the file lock can only be held
+ * once, so this handler is normally combined with a {@link LocalLockHandler} via {@link CompositeFileLockHandler}.
+ *
+ * @since 4.0
+ */
+public class FileLockHandler implements LockHandler, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileLockHandler.class);
+
+    private final Path lockDir;
+    private final ConcurrentMap<String, FileChannel> channels;
+
+    public FileLockHandler(Path lockDir) {
+        this.lockDir = Objects.requireNonNull(lockDir);
+        this.channels = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        String lockName = metadata.getLockName();
+
+        FileLock lock = tryLock(lockName, metadata.getLockPermits());
+        if (lock == null) {
+            LOGGER.info("** Another job instance owns the file lock. Skipping execution of '{}'", lockName);
+            return JobOutcome.skipped("Another job instance owns the file lock. Skipping execution");
+        }
+
+        try {
+            return delegate.run(params);
+        } finally {
+            release(lock, lockName);
+        }
+    }
+
+    /**
+     * Holds the file lock until the returned stage completes. File locks are not bound to the acquiring thread, so
+     * the lock is released by whichever thread completes the job.
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        String lockName = metadata.getLockName();
+
+        FileLock lock = tryLock(lockName, metadata.getLockPermits());
+        if (lock == null) {
+            LOGGER.info("** Another job instance owns the file lock. Skipping execution of '{}'", lockName);
+            return CompletableFuture.completedFuture(
+                    JobOutcome.skipped("Another job instance owns the file lock. Skipping execution"));
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            release(lock, lockName);
+            throw e;
+        }
+
+        return stage.whenComplete((o, th) -> release(lock, lockName));
+    }
+
+    /**
+     * Closes all the open lock file channels, releasing any locks that are still held.
+     */
+    @Override
+    public void close() {
+        for (FileChannel channel : channels.values()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error closing lock file channel", e);
+            }
+        }
+
+        channels.clear();
+    }
+
+    private FileLock tryLock(String lockName, int permits) {
+
+        if (permits == 1) {
+            return tryLock(toFileName(lockName));
+        }
+
+        // emulate a semaphore with a lock file per permit
+        for (int i = 0; i < permits; i++) {
+            FileLock lock = tryLock(toFileName(lockName + "." + i));
+            if (lock != null) {
+                return lock;
+            }
+        }
+
+        return null;
+    }
+
+    private FileLock tryLock(String fileName) {
+        try {
+            return getChannel(fileName).tryLock();
+        } catch (OverlappingFileLockException e) {
+            // the lock is held by another thread in this JVM
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Error acquiring a file lock: " + fileName, e);
+        }
+    }
+
+    private void release(FileLock lock, String lockName) {
+        try {
+            lock.release();
+        } catch (IOException e) {
+            LOGGER.error("Failed to release file lock, manual intervention might be needed: " + lockName, e);
+        }
+    }
+
+    private FileChannel getChannel(String fileName) {
+        return channels.computeIfAbsent(fileName, this::openChannel);
+    }
+
+    private FileChannel openChannel(String fileName) {
+        try {
+            Files.createDirectories(lockDir);
+            return FileChannel.open(lockDir.resolve(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening a lock file: " + fileName, e);
+        }
+    }
+
+    private static String toFileName(String lockName) {
+        // lock names may contain path separators and other characters not allowed in file names
+        return URLEncoder.encode(lockName, StandardCharsets.UTF_8) + ".lock";
+    }
+}
@@ -19,6 +19,7 @@
 
 package io.bootique.job.lock;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobOutcome;
@@ -26,19 +27,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Cluster unaware {@link LockHandler}.
+ * Cluster unaware {@link LockHandler}. Jobs with a single lock permit are guarded by a {@link ReentrantLock}, so a job
+ * may run itself on the same thread. {@link AsyncJob AsyncJobs} take a single permit that is not owned by a thread
+ * instead, as it is released by the thread that completes the job. Jobs with multiple permits (see
+ * {@link JobMetadata#getLockPermits()}) are guarded by a {@link Semaphore}.
  */
 public class LocalLockHandler implements LockHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LocalLockHandler.class);
 
-    private final ConcurrentMap<String, Lock> locks;
+    private final ConcurrentMap<String, JobLock> locks;
 
     public LocalLockHandler() {
         this.locks = new ConcurrentHashMap<>();
@@ -48,28 +55,156 @@ public class LocalLockHandler implements LockHandler {
     public JobOutcome run(Job delegate, Map<String, Object> params) {
 
         JobMetadata metadata = delegate.getMetadata();
-        String lockName = toLockName(metadata);
-        Lock lock = getLock(lockName);
+        JobLock lock = getLock(metadata);
 
-        if (!lock.tryLock()) {
-            LOGGER.info("Skipping execution of '{}', another job instance owns the lock.", metadata.getName());
-            return JobOutcome.skipped("Skipping execution, another job instance owns the lock");
+        if (!lock.tryAcquire()) {
+            return skipped(metadata, lock);
         }
 
-        LOGGER.info("Locked '{}'", metadata.getName());
+        onAcquired(metadata, lock);
 
         try {
             return delegate.run(params);
         } finally {
-            lock.unlock();
+            lock.release();
         }
     }
 
-    private Lock getLock(String lockName) {
-        return locks.computeIfAbsent(lockName, k -> new ReentrantLock());
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        JobLock lock = getLock(metadata);
+
+        if (!lock.tryAcquireAsync()) {
+            return CompletableFuture.completedFuture(skipped(metadata, lock));
+        }
+
+        onAcquired(metadata, lock);
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            lock.releaseAsync();
+            throw e;
+        }
+
+        return stage.whenComplete((o, th) -> lock.releaseAsync());
+    }
+
+    private void onAcquired(JobMetadata metadata, JobLock lock) {
+        if (lock.permits > 1) {
+            LOGGER.info("Acquired a lock permit for '{}'", metadata.getName());
+        } else {
+            LOGGER.info("Locked '{}'", metadata.getName());
+        }
+    }
+
+    private JobOutcome skipped(JobMetadata metadata, JobLock lock) {
+        if (lock.permits > 1) {
+            LOGGER.info("Skipping execution of '{}', all {} lock permits are taken.", metadata.getName(), lock.permits);
+            return JobOutcome.skipped("Skipping execution, all lock permits are taken by other job instances");
+        }
+
+        LOGGER.info("Skipping execution of '{}', another job instance owns the lock.", metadata.getName());
+        return JobOutcome.skipped("Skipping execution, another job instance owns the lock");
+    }
+
+    private JobLock getLock(JobMetadata metadata) {
+
+        String lockName = toLockName(metadata);
+        int permits = metadata.getLockPermits();
+
+        // the first job to use the lock name determines the number of permits
+        JobLock lock = locks.computeIfAbsent(lockName, k -> new JobLock(permits));
+        if (lock.permits != permits) {
+            LOGGER.warn("Lock '{}' was created with {} permits, ignoring conflicting 'lockPermits' value of {}",
+                    lockName,
+                    lock.permits,
+                    permits);
+        }
+
+        return lock;
     }
 
 	private String toLockName(JobMetadata metadata) {
 		return metadata.getLockName();
 	}
+
+    // A lock shared by all the jobs with the same lock name
+    private static class JobLock {
+
+        final int permits;
+
+        // only used with multiple permits
+        private final Semaphore semaphore;
+
+        // only used with a single permit. The mutex is owned by the thread running a job, while the async flag is set
+        // by an async job and cleared by whichever thread completes it
+        private final ReentrantLock mutex;
+        private final AtomicBoolean heldAsync;
+
+        JobLock(int permits) {
+            this.permits = permits;
+            this.semaphore = permits > 1 ? new Semaphore(permits) : null;
+            this.mutex = permits > 1 ? null : new ReentrantLock();
+            this.heldAsync = new AtomicBoolean();
+        }
+
+        boolean tryAcquire() {
+            if (semaphore != null) {
+                return semaphore.tryAcquire();
+            }
+
+            if (!mutex.tryLock()) {
+                return false;
+            }
+
+            // the flag is checked after taking the mutex, and "tryAcquireAsync" checks the mutex after taking the
+            // flag, so a sync and an async job never hold the lock together
+            if (heldAsync.get()) {
+                mutex.unlock();
+                return false;
+            }
+
+            return true;
+        }
+
+        void release() {
+            if (semaphore != null) {
+                semaphore.release();
+            } else {
+                mutex.unlock();
+            }
+        }
+
+        boolean tryAcquireAsync() {
+            if (semaphore != null) {
+                return semaphore.tryAcquire();
+            }
+
+            if (!heldAsync.compareAndSet(false, true)) {
+                return false;
+            }
+
+            if (mutex.isLocked()) {
+                heldAsync.set(false);
+                return false;
+            }
+
+            return true;
+        }
+
+        void releaseAsync() {
+            if (semaphore != null) {
+                semaphore.release();
+            } else {
+                heldAsync.set(false);
+            }
+        }
+    }
 }
@@ -0,0 +1,33 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.lock;
+
+/**
+ * A hook to wrap the {@link LockHandler} selected by JobsModule, e.g. to collect lock metrics, without changing the
+ * handler selection rules. Wrappers are registered via
+ * {@link io.bootique.job.JobsModuleExtender#addLockHandlerWrapper(Class)}.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface LockHandlerWrapper {
+
+    LockHandler wrap(LockHandler handler);
+}
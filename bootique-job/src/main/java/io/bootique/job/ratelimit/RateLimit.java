@@ -0,0 +1,71 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A limit on how often a job, or a group of jobs sharing a lock, can run.
+ *
+ * @since 4.0
+ */
+public class RateLimit {
+
+    private final int permits;
+    private final Duration period;
+    private final RateLimitMode mode;
+    private final Duration maxWait;
+
+    /**
+     * @param permits max number of runs per period
+     * @param period  the period over which the permits are refilled
+     * @param mode    what to do with the runs exceeding the limit
+     * @param maxWait max time to wait for a permit in the {@link RateLimitMode#WAIT} and {@link RateLimitMode#DEFER}
+     *                modes. If null, the period is used.
+     */
+    public RateLimit(int permits, Duration period, RateLimitMode mode, Duration maxWait) {
+        this.permits = permits;
+        this.period = Objects.requireNonNull(period);
+        this.mode = Objects.requireNonNull(mode);
+        this.maxWait = maxWait != null ? maxWait : period;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    public RateLimitMode getMode() {
+        return mode;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{" + permits + " per " + period + ", " + mode + "}";
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.runtime.CompletableJobFuture;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A decorator that caps how often jobs can run across all their triggers and ad-hoc executions. Rate limits are keyed
+ * either by the job name, or by the job lock name, in which case all the jobs sharing the lock share the limit. Each
+ * limit is backed by a {@link TokenBucket}. Only applies to top-level jobs. {@link AsyncJob AsyncJobs} waiting for
+ * their turn don't block a thread, as they are started via the {@link TaskScheduler} once the wait is over.
+ *
+ * @since 4.0
+ */
+public class RateLimitDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitDecorator.class);
+
+    private final Map<String, RateLimit> limits;
+    private final Map<String, TokenBucket> buckets;
+    private final Supplier<TaskScheduler> taskScheduler;
+
+    /**
+     * @param limits        rate limits keyed by job name or lock name
+     * @param taskScheduler the scheduler for the runs deferred by the {@link RateLimitMode#DEFER} limits
+     */
+    public RateLimitDecorator(Map<String, RateLimit> limits, Supplier<TaskScheduler> taskScheduler) {
+        this.limits = Objects.requireNonNull(limits);
+        this.taskScheduler = Objects.requireNonNull(taskScheduler);
+
+        long now = System.nanoTime();
+        this.buckets = new HashMap<>();
+        limits.forEach((k, v) -> buckets.put(k, new TokenBucket(v.getPermits(), v.getPeriod(), now)));
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return resolveKey(metadata) != null;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        String key = resolveKey(delegate.getMetadata());
+        RateLimit limit = limits.get(key);
+        TokenBucket bucket = buckets.get(key);
+
+        return switch (limit.getMode()) {
+            case WAIT -> runOrWait(delegate, params, limit, bucket);
+            case DEFER -> runOrDefer(delegate, params, limit, bucket);
+            default -> runOrSkip(delegate, params, bucket);
+        };
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        String key = resolveKey(delegate.getMetadata());
+        RateLimit limit = limits.get(key);
+        TokenBucket bucket = buckets.get(key);
+
+        return switch (limit.getMode()) {
+            case WAIT -> runAsyncOrWait(delegate, params, limit, bucket);
+            case DEFER -> runAsyncOrDefer(delegate, params, limit, bucket);
+            default -> bucket.tryAcquire(System.nanoTime())
+                    ? delegate.runAsync(params)
+                    : CompletableFuture.completedFuture(skipped(delegate));
+        };
+    }
+
+    protected String resolveKey(JobMetadata metadata) {
+        if (limits.containsKey(metadata.getName())) {
+            return metadata.getName();
+        }
+
+        String lockName = metadata.getLockName();
+        return lockName != null && limits.containsKey(lockName) ? lockName : null;
+    }
+
+    private JobOutcome runOrSkip(Job delegate, Map<String, Object> params, TokenBucket bucket) {
+        return bucket.tryAcquire(System.nanoTime())
+                ? delegate.run(params)
+                : skipped(delegate);
+    }
+
+    private JobOutcome runOrWait(Job delegate, Map<String, Object> params, RateLimit limit, TokenBucket bucket) {
+
+        long waitNanos = bucket.reserve(System.nanoTime(), limit.getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            return skipped(delegate);
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return JobOutcome.unknown("Interrupted while waiting for the rate limit");
+            }
+        }
+
+        return delegate.run(params);
+    }
+
+    private JobOutcome runOrDefer(Job delegate, Map<String, Object> params, RateLimit limit, TokenBucket bucket) {
+
+        long waitNanos = bucket.reserve(System.nanoTime(), limit.getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            return skipped(delegate);
+        }
+
+        if (waitNanos == 0) {
+            return delegate.run(params);
+        }
+
+        String jobName = delegate.getMetadata().getName();
+        LOGGER.info("Job '{}' exceeded its rate limit. Deferring by {} ms", jobName, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+
+        CompletableJobFuture deferred = new CompletableJobFuture(jobName);
+        Map<String, Object> deferredParams = new HashMap<>(params);
+
+        try {
+            TaskScheduler scheduler = taskScheduler.get();
+            deferred.attachTask(scheduler.schedule(
+                    () -> deferred.complete(runDeferred(delegate, deferredParams)),
+                    scheduler.getClock().instant().plusNanos(waitNanos),
+                    delegate.getMetadata().getPriority()));
+        } catch (RejectedExecutionException e) {
+            return JobOutcome.skipped("Can't defer the run, the scheduler is shut down");
+        }
+
+        return JobOutcome.skipped("Deferred by the rate limit").yieldTo(deferred);
+    }
+
+    private CompletionStage<JobOutcome> runAsyncOrWait(
+            AsyncJob delegate,
+            Map<String, Object> params,
+            RateLimit limit,
+            TokenBucket bucket) {
+
+        long waitNanos = bucket.reserve(System.nanoTime(), limit.getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            return CompletableFuture.completedFuture(skipped(delegate));
+        }
+
+        if (waitNanos == 0) {
+            return delegate.runAsync(params);
+        }
+
+        CompletableJobFuture waiting = new CompletableJobFuture(delegate.getMetadata().getName());
+        if (!scheduleAsync(delegate, new HashMap<>(params), waitNanos, waiting)) {
+            return CompletableFuture.completedFuture(
+                    JobOutcome.unknown("Can't wait for the rate limit, the scheduler is shut down"));
+        }
+
+        return waiting.toCompletableFuture();
+    }
+
+    private CompletionStage<JobOutcome> runAsyncOrDefer(
+            AsyncJob delegate,
+            Map<String, Object> params,
+            RateLimit limit,
+            TokenBucket bucket) {
+
+        long waitNanos = bucket.reserve(System.nanoTime(), limit.getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            return CompletableFuture.completedFuture(skipped(delegate));
+        }
+
+        if (waitNanos == 0) {
+            return delegate.runAsync(params);
+        }
+
+        String jobName = delegate.getMetadata().getName();
+        LOGGER.info("Job '{}' exceeded its rate limit. Deferring by {} ms", jobName, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+
+        CompletableJobFuture deferred = new CompletableJobFuture(jobName);
+        return CompletableFuture.completedFuture(scheduleAsync(delegate, new HashMap<>(params), waitNanos, deferred)
+                ? JobOutcome.skipped("Deferred by the rate limit").yieldTo(deferred)
+                : JobOutcome.skipped("Can't defer the run, the scheduler is shut down"));
+    }
+
+    // starts the async job on the scheduler after the delay, completing the future when the job is done
+    private boolean scheduleAsync(
+            AsyncJob delegate,
+            Map<String, Object> params,
+            long delayNanos,
+            CompletableJobFuture future) {
+
+        try {
+            TaskScheduler scheduler = taskScheduler.get();
+            future.attachTask(scheduler.schedule(
+                    () -> runDeferredAsync(delegate, params).whenComplete((o, th) -> future.complete(o != null
+                            ? o
+                            : JobOutcome.failed(th))),
+                    scheduler.getClock().instant().plusNanos(delayNanos),
+                    delegate.getMetadata().getPriority()));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static CompletionStage<JobOutcome> runDeferredAsync(AsyncJob delegate, Map<String, Object> params) {
+        try {
+            return delegate.runAsync(params);
+        } catch (Throwable th) {
+            return CompletableFuture.completedFuture(JobOutcome.failed(th));
+        }
+    }
+
+    private static JobOutcome runDeferred(Job delegate, Map<String, Object> params) {
+        try {
+            return delegate.run(params);
+        } catch (Throwable th) {
+            return JobOutcome.failed(th);
+        }
+    }
+
+    private static JobOutcome skipped(Job delegate) {
+        LOGGER.info("Job '{}' exceeded its rate limit. Skipping execution", delegate.getMetadata().getName());
+        return JobOutcome.skipped("Rate limit exceeded. Skipping execution");
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Duration;
+
+import java.util.Objects;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Limit on how often a job, or a group of jobs sharing a lock, can run.")
+public class RateLimitFactory {
+
+    private int permits;
+    private Duration period;
+    private RateLimitMode mode;
+    private Duration maxWait;
+
+    public RateLimit createRateLimit() {
+        Objects.requireNonNull(period, "Rate limit 'period' is not set");
+        return new RateLimit(
+                permits,
+                period.getDuration(),
+                mode != null ? mode : RateLimitMode.SKIP,
+                maxWait != null ? maxWait.getDuration() : null);
+    }
+
+    @BQConfigProperty("Max number of runs per period.")
+    public void setPermits(int permits) {
+        this.permits = permits;
+    }
+
+    @BQConfigProperty("The period over which the permits are refilled.")
+    public void setPeriod(Duration period) {
+        this.period = period;
+    }
+
+    @BQConfigProperty("What to do with the runs exceeding the limit: 'SKIP' (the default), 'WAIT' for the next " +
+            "permit blocking the calling thread, or 'DEFER' the run till the next permit is available.")
+    public void setMode(RateLimitMode mode) {
+        this.mode = mode;
+    }
+
+    @BQConfigProperty("Max time to wait for a permit in the 'WAIT' and 'DEFER' modes. The runs that would wait " +
+            "longer are skipped. The default is the rate limit period.")
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
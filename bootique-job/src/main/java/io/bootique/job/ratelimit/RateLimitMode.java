@@ -0,0 +1,45 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+/**
+ * Defines what happens to a job run that exceeds the job rate limit.
+ *
+ * @since 4.0
+ */
+public enum RateLimitMode {
+
+    /**
+     * Skip the run.
+     */
+    SKIP,
+
+    /**
+     * Block the calling thread until the next token is available, skipping the run if the wait would be longer than
+     * the configured max wait.
+     */
+    WAIT,
+
+    /**
+     * Return immediately and reschedule the run on the task scheduler for the time when the next token is available,
+     * skipping the run if the delay would be longer than the configured max wait.
+     */
+    DEFER
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. Holds up to "permits" tokens, refilling them evenly over the "period". Instead of counting
+ * tokens, tracks the time when the bucket would be full again (aka "generic cell rate algorithm"), so that the state
+ * fits in a single atomic value.
+ *
+ * @since 4.0
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    // the time when all the tokens taken so far would be refilled
+    private final AtomicLong refilledAtNanos;
+
+    public TokenBucket(int permits, Duration period, long nowNanos) {
+
+        if (permits < 1) {
+            throw new IllegalArgumentException("'permits' must be a positive number: " + permits);
+        }
+
+        long periodNanos = period.toNanos();
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("'period' must be a positive duration: " + period);
+        }
+
+        this.intervalNanos = Math.max(1, periodNanos / permits);
+        this.toleranceNanos = periodNanos - intervalNanos;
+        this.refilledAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if it is available right away.
+     */
+    public boolean tryAcquire(long nowNanos) {
+        return reserve(nowNanos, 0) >= 0;
+    }
+
+    /**
+     * Reserves a token if it becomes available within the max wait time.
+     *
+     * @return the time in nanoseconds until the reserved token becomes available (0 if available now) or -1 if the
+     * token can't be reserved within the max wait
+     */
+    public long reserve(long nowNanos, long maxWaitNanos) {
+        while (true) {
+            long refilledAt = refilledAtNanos.get();
+            long start = Math.max(refilledAt, nowNanos);
+            long waitNanos = Math.max(0, start - nowNanos - toleranceNanos);
+
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+
+            if (refilledAtNanos.compareAndSet(refilledAt, start + intervalNanos)) {
+                return waitNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.retry;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.runtime.CompletableJobFuture;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * The outermost decorator that retries failed job runs per job {@link RetryPolicy}. The first attempt runs in the
+ * caller thread. If it needs to be retried, the decorator returns its outcome right away, "yielding" to a future that
+ * will be completed with the outcome of the last attempt (see {@link JobOutcome#getYieldedTo()}). Each subsequent
+ * attempt is scheduled on the {@link TaskScheduler} after a backoff delay, so no thread is blocked between the
+ * attempts. As every attempt goes through the inner decorators, it is logged, locked and recorded in the history and
+ * metrics as a separate job run. The attempts of an {@link AsyncJob} are run via its async chain, so neither the first
+ * attempt nor the retries block a thread till the job is done.
+ *
+ * @since 4.0
+ */
+public class RetryDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryDecorator.class);
+
+    private final Supplier<TaskScheduler> taskScheduler;
+
+    public RetryDecorator(Supplier<TaskScheduler> taskScheduler) {
+        this.taskScheduler = Objects.requireNonNull(taskScheduler);
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        RetryPolicy policy = metadata.getRetryPolicy();
+        return policy != null && policy.getMaxAttempts() > 1;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        RetryPolicy policy = delegate.getMetadata().getRetryPolicy();
+
+        // preserve the original params, as the inner decorators and listeners may change them
+        Map<String, Object> retryParams = new HashMap<>(params);
+
+        JobOutcome outcome = delegate.run(params);
+        if (!policy.shouldRetry(outcome)) {
+            return outcome;
+        }
+
+        Retries retries = new Retries(delegate, retryParams, policy);
+        retries.retryAfter(outcome, 1);
+        return outcome.yieldTo(retries);
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        RetryPolicy policy = delegate.getMetadata().getRetryPolicy();
+        Map<String, Object> retryParams = new HashMap<>(params);
+
+        return delegate.runAsync(params).thenApply(outcome -> {
+            if (!policy.shouldRetry(outcome)) {
+                return outcome;
+            }
+
+            Retries retries = new Retries(delegate, retryParams, policy);
+            retries.retryAfter(outcome, 1);
+            return outcome.yieldTo(retries);
+        });
+    }
+
+    class Retries extends CompletableJobFuture {
+
+        private final Job delegate;
+        private final Map<String, Object> params;
+        private final RetryPolicy policy;
+
+        Retries(Job delegate, Map<String, Object> params, RetryPolicy policy) {
+            super(delegate.getMetadata().getName());
+            this.delegate = delegate;
+            this.params = params;
+            this.policy = policy;
+        }
+
+        void retryAfter(JobOutcome outcome, int attempt) {
+
+            Duration delay = policy.backoff(attempt);
+            LOGGER.info("Job '{}' attempt {} of {} finished with {}. Retrying in {} ms",
+                    getJobName(),
+                    attempt,
+                    policy.getMaxAttempts(),
+                    outcome,
+                    delay.toMillis());
+
+            try {
+                TaskScheduler scheduler = taskScheduler.get();
+                attachTask(scheduler.schedule(
+                        () -> runAttempt(attempt + 1),
+                        scheduler.getClock().instant().plus(delay),
+                        delegate.getMetadata().getPriority()));
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Failed to schedule a retry of '{}', the scheduler is shut down", getJobName());
+                complete(outcome);
+            }
+        }
+
+        void runAttempt(int attempt) {
+
+            if (isDone()) {
+                return;
+            }
+
+            if (delegate instanceof AsyncJob async) {
+                CompletionStage<JobOutcome> stage;
+                try {
+                    stage = async.runAsync(new HashMap<>(params));
+                } catch (Throwable th) {
+                    onAttemptFinished(JobOutcome.failed(th), attempt);
+                    return;
+                }
+
+                stage.whenComplete((o, th) -> onAttemptFinished(
+                        o != null ? o : JobOutcome.failed(unwrap(th)),
+                        attempt));
+                return;
+            }
+
+            JobOutcome outcome;
+            try {
+                outcome = delegate.run(new HashMap<>(params));
+            } catch (Throwable th) {
+                outcome = JobOutcome.failed(th);
+            }
+
+            onAttemptFinished(outcome, attempt);
+        }
+
+        private void onAttemptFinished(JobOutcome outcome, int attempt) {
+            if (attempt < policy.getMaxAttempts() && policy.shouldRetry(outcome)) {
+                retryAfter(outcome, attempt);
+            } else {
+                complete(outcome);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable th) {
+        return th instanceof CompletionException && th.getCause() != null ? th.getCause() : th;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.retry;
+
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines how the failed runs of a job are retried. Retries are scheduled as new timed tasks, with exponentially
+ * growing delays between the attempts, so that the threads and the job locks are not held while waiting. Only
+ * applies to top-level jobs. Group members are not retried individually.
+ *
+ * @since 4.0
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<JobStatus> retryOnStatuses;
+    private final List<Class<? extends Throwable>> retryOnExceptions;
+
+    protected RetryPolicy(
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            double multiplier,
+            double jitter,
+            Set<JobStatus> retryOnStatuses,
+            List<Class<? extends Throwable>> retryOnExceptions) {
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryOnStatuses = retryOnStatuses;
+        this.retryOnExceptions = retryOnExceptions;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the max number of job runs, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Returns whether a run with the given outcome should be retried (provided there are attempts left). The outcome
+     * status must be one of the "retry on" statuses, and if "retry on" exceptions are specified, the outcome
+     * exception must be an instance of one of them.
+     */
+    public boolean shouldRetry(JobOutcome outcome) {
+
+        if (!retryOnStatuses.contains(outcome.getStatus())) {
+            return false;
+        }
+
+        if (retryOnExceptions.isEmpty()) {
+            return true;
+        }
+
+        Throwable exception = outcome.getException();
+        if (exception == null) {
+            return false;
+        }
+
+        for (Class<? extends Throwable> type : retryOnExceptions) {
+            if (type.isInstance(exception)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Calculates a randomized delay before the next attempt.
+     *
+     * @param failedAttempts the number of failed attempts so far (starting with 1)
+     */
+    public Duration backoff(int failedAttempts) {
+
+        double baseNanos = initialBackoff.toNanos() * Math.pow(multiplier, failedAttempts - 1);
+        double cappedNanos = Math.min(baseNanos, maxBackoff.toNanos());
+
+        // spread the delay evenly by +/- jitter, so that the jobs that failed together do not retry together
+        double jitteredNanos = cappedNanos * (1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1));
+        return Duration.ofNanos((long) Math.max(0, jitteredNanos));
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts
+                + ", initialBackoff=" + initialBackoff
+                + ", maxBackoff=" + maxBackoff + "}";
+    }
+
+    public static class Builder {
+
+        private int maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private double multiplier;
+        private double jitter;
+        private final Set<JobStatus> retryOnStatuses;
+        private final List<Class<? extends Throwable>> retryOnExceptions;
+
+        protected Builder() {
+            this.maxAttempts = 3;
+            this.initialBackoff = Duration.ofSeconds(1);
+            this.maxBackoff = Duration.ofMinutes(1);
+            this.multiplier = 2.;
+            this.jitter = 0.2;
+            this.retryOnStatuses = EnumSet.noneOf(JobStatus.class);
+            this.retryOnExceptions = new ArrayList<>();
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("'maxAttempts' must be a positive number: " + maxAttempts);
+            }
+
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder backoff(Duration initialBackoff, Duration maxBackoff) {
+            this.initialBackoff = Objects.requireNonNull(initialBackoff);
+            this.maxBackoff = Objects.requireNonNull(maxBackoff);
+            return this;
+        }
+
+        /**
+         * Sets a factor applied to the delay after each failed attempt. The default is 2.
+         */
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1.) {
+                throw new IllegalArgumentException("'multiplier' must be at least 1: " + multiplier);
+            }
+
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets a relative random deviation of the delays, between 0 and 1. The default is 0.2, i.e. +/- 20%.
+         */
+        public Builder jitter(double jitter) {
+            if (jitter < 0. || jitter > 1.) {
+                throw new IllegalArgumentException("'jitter' must be between 0 and 1: " + jitter);
+            }
+
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the outcome statuses that should be retried. The default is {@link JobStatus#FAILURE}.
+         */
+        public Builder retryOnStatus(JobStatus... statuses) {
+            this.retryOnStatuses.addAll(Arrays.asList(statuses));
+            return this;
+        }
+
+        /**
+         * Limits retries to the outcomes caused by exceptions of the given types (or their subclasses).
+         */
+        @SafeVarargs
+        public final Builder retryOnException(Class<? extends Throwable>... exceptionTypes) {
+            this.retryOnExceptions.addAll(Arrays.asList(exceptionTypes));
+            return this;
+        }
+
+        public RetryPolicy build() {
+            Set<JobStatus> statuses = retryOnStatuses.isEmpty()
+                    ? EnumSet.of(JobStatus.FAILURE)
+                    : EnumSet.copyOf(retryOnStatuses);
+
+            return new RetryPolicy(
+                    maxAttempts,
+                    initialBackoff,
+                    maxBackoff,
+                    multiplier,
+                    jitter,
+                    statuses,
+                    List.copyOf(retryOnExceptions));
+        }
+    }
+}
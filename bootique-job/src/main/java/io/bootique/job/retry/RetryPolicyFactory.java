@@ -0,0 +1,130 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.retry;
+
+import io.bootique.BootiqueException;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.job.JobStatus;
+import io.bootique.value.Duration;
+
+import java.util.List;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Retry policy for the failed job runs, with exponential backoff between the attempts.")
+public class RetryPolicyFactory {
+
+    private Integer maxAttempts;
+    private Duration initialBackoff;
+    private Duration maxBackoff;
+    private Double multiplier;
+    private Double jitter;
+    private List<JobStatus> retryOnStatuses;
+    private List<String> retryOnExceptions;
+
+    public RetryPolicy createRetryPolicy() {
+
+        RetryPolicy.Builder builder = RetryPolicy.builder();
+
+        if (maxAttempts != null) {
+            builder.maxAttempts(maxAttempts);
+        }
+
+        if (initialBackoff != null || maxBackoff != null) {
+            RetryPolicy defaults = builder.build();
+            builder.backoff(
+                    initialBackoff != null ? initialBackoff.getDuration() : defaults.getInitialBackoff(),
+                    maxBackoff != null ? maxBackoff.getDuration() : defaults.getMaxBackoff());
+        }
+
+        if (multiplier != null) {
+            builder.multiplier(multiplier);
+        }
+
+        if (jitter != null) {
+            builder.jitter(jitter);
+        }
+
+        if (retryOnStatuses != null) {
+            builder.retryOnStatus(retryOnStatuses.toArray(new JobStatus[0]));
+        }
+
+        if (retryOnExceptions != null) {
+            retryOnExceptions.forEach(e -> builder.retryOnException(loadExceptionType(e)));
+        }
+
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Throwable> loadExceptionType(String className) {
+
+        Class<?> type;
+        try {
+            type = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new BootiqueException(1, "Unknown exception class in the job retry policy: " + className, e);
+        }
+
+        if (!Throwable.class.isAssignableFrom(type)) {
+            throw new BootiqueException(1, "Not an exception class in the job retry policy: " + className);
+        }
+
+        return (Class<? extends Throwable>) type;
+    }
+
+    @BQConfigProperty("Max number of job runs, including the first one. The default is 3.")
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @BQConfigProperty("Delay before the first retry. The default is 1s.")
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    @BQConfigProperty("Max delay between the attempts. The default is 1min.")
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    @BQConfigProperty("A factor applied to the delay after each failed attempt. The default is 2.")
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    @BQConfigProperty("Relative random deviation of the delays, between 0 and 1. The default is 0.2.")
+    public void setJitter(double jitter) {
+        this.jitter = jitter;
+    }
+
+    @BQConfigProperty("Job outcome statuses that should be retried. The default is 'FAILURE'.")
+    public void setRetryOnStatuses(List<JobStatus> retryOnStatuses) {
+        this.retryOnStatuses = retryOnStatuses;
+    }
+
+    @BQConfigProperty("If set, only the runs failed with exceptions of these classes (or their subclasses) are " +
+            "retried.")
+    public void setRetryOnExceptions(List<String> retryOnExceptions) {
+        this.retryOnExceptions = retryOnExceptions;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A decorator that lets concurrent identical runs of a {@link JobMetadata#isCoalesced() coalesced} job share a single
+ * execution. Runs are identical if they have the same job name and the same parameters, with the pre-bound parameters
+ * applied. The first run proceeds normally, while the runs started before it finishes wait for it and receive its
+ * outcome, instead of running the job again or being skipped by the job lock. The {@link AsyncJob} runs share the
+ * execution without blocking a thread while waiting for it.
+ *
+ * @since 4.0
+ */
+public class CoalescingDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingDecorator.class);
+
+    private final ConcurrentMap<ExecutionKey, CompletableFuture<JobOutcome>> inFlight;
+
+    public CoalescingDecorator() {
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return metadata.isCoalesced();
+    }
+
+    @Override
+    public Job decorate(Job delegate, String altName, Map<String, Object> prebindParams) {
+        return isApplicable(delegate.getMetadata(), altName, prebindParams)
+                ? DecoratedJob.create(delegate, delegate.getMetadata(), new BoundCoalescingDecorator(prebindParams))
+                : delegate;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+        return run(delegate, params, Map.of());
+    }
+
+    protected JobOutcome run(Job delegate, Map<String, Object> params, Map<String, Object> prebindParams) {
+
+        ExecutionKey key = new ExecutionKey(delegate.getMetadata().getName(), prebindParams, params);
+        CompletableFuture<JobOutcome> execution = new CompletableFuture<>();
+        CompletableFuture<JobOutcome> existing = inFlight.putIfAbsent(key, execution);
+
+        if (existing != null) {
+            LOGGER.info("Job '{}' with the same parameters is already running. Waiting for its outcome", key.getJobName());
+            return join(existing);
+        }
+
+        try {
+            JobOutcome outcome = delegate.run(params);
+            execution.complete(outcome);
+            return outcome;
+        } catch (Throwable th) {
+            execution.completeExceptionally(th);
+            throw th;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        return runAsync(delegate, params, Map.of());
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected CompletionStage<JobOutcome> runAsync(
+            AsyncJob delegate,
+            Map<String, Object> params,
+            Map<String, Object> prebindParams) {
+
+        ExecutionKey key = new ExecutionKey(delegate.getMetadata().getName(), prebindParams, params);
+        CompletableFuture<JobOutcome> execution = new CompletableFuture<>();
+        CompletableFuture<JobOutcome> existing = inFlight.putIfAbsent(key, execution);
+
+        if (existing != null) {
+            LOGGER.info("Job '{}' with the same parameters is already running. Waiting for its outcome", key.getJobName());
+            return existing.exceptionally(th -> JobOutcome.failed(
+                    th instanceof CompletionException && th.getCause() != null ? th.getCause() : th));
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (Throwable th) {
+            inFlight.remove(key, execution);
+            execution.completeExceptionally(th);
+            throw th;
+        }
+
+        return stage.whenComplete((o, th) -> {
+            inFlight.remove(key, execution);
+            if (th != null) {
+                execution.completeExceptionally(th);
+            } else {
+                execution.complete(o);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of distinct executions currently in progress.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static JobOutcome join(CompletableFuture<JobOutcome> execution) {
+        try {
+            return execution.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JobOutcome.unknown("Interrupted while waiting for the in-progress run");
+        } catch (ExecutionException e) {
+            return JobOutcome.failed(e.getCause());
+        }
+    }
+
+    class BoundCoalescingDecorator implements JobDecorator {
+
+        private final Map<String, Object> prebindParams;
+
+        BoundCoalescingDecorator(Map<String, Object> prebindParams) {
+            this.prebindParams = prebindParams;
+        }
+
+        @Override
+        public JobOutcome run(Job delegate, Map<String, Object> params) {
+            return CoalescingDecorator.this.run(delegate, params, prebindParams);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+            return CoalescingDecorator.this.runAsync(delegate, params, prebindParams);
+        }
+    }
+}
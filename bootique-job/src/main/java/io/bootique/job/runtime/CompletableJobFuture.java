@@ -0,0 +1,155 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobFuture;
+import io.bootique.job.JobOutcome;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link JobFuture} backed by a {@link CompletableFuture} that is completed explicitly by the code that tracks the
+ * job execution. Completion happens-before the return from any of the "get" methods and before the callbacks are
+ * invoked.
+ *
+ * @since 4.0
+ */
+public class CompletableJobFuture implements JobFuture {
+
+    private final String jobName;
+    private final CompletableFuture<JobOutcome> delegate;
+    private volatile Future<?> task;
+
+    public CompletableJobFuture(String jobName) {
+        this.jobName = jobName;
+        this.delegate = new CompletableFuture<>();
+    }
+
+    /**
+     * Sets the job outcome, unless the future is already done. If the outcome yields to another future, this future
+     * is completed when the other future is, with its final outcome.
+     *
+     * @return false if the future is already done
+     */
+    public boolean complete(JobOutcome outcome) {
+
+        if (delegate.isDone()) {
+            return false;
+        }
+
+        JobFuture yieldedTo = outcome.getYieldedTo();
+        if (yieldedTo == null) {
+            return delegate.complete(outcome);
+        }
+
+        yieldedTo.whenComplete((o, e) -> {
+            if (e != null) {
+                delegate.completeExceptionally(e);
+            } else {
+                delegate.complete(o);
+            }
+        });
+
+        delegate.whenComplete((o, e) -> {
+            if (delegate.isCancelled()) {
+                yieldedTo.cancel(false);
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Completes the future with an exception thrown by the job execution, unless the future is already done.
+     */
+    public boolean completeExceptionally(Throwable th) {
+        return delegate.completeExceptionally(th);
+    }
+
+    /**
+     * Associates the future with a task that will produce the job outcome, so that canceling the future would
+     * cancel the task.
+     */
+    public void attachTask(Future<?> task) {
+        this.task = task;
+
+        // the future might have been canceled before the task was attached
+        if (delegate.isCancelled()) {
+            task.cancel(false);
+        }
+    }
+
+    @Override
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns a copy of the underlying future, so that the callers can't complete the job future on their own.
+     */
+    @Override
+    public CompletableFuture<JobOutcome> toCompletableFuture() {
+        return delegate.copy();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean canceled = delegate.cancel(mayInterruptIfRunning);
+
+        Future<?> task = this.task;
+        if (task != null) {
+            task.cancel(mayInterruptIfRunning);
+        }
+
+        return canceled;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return delegate.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return delegate.isDone();
+    }
+
+    @Override
+    public JobOutcome get() {
+        try {
+            return delegate.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public JobOutcome get(long timeout, TimeUnit unit) {
+        try {
+            return delegate.get(timeout, unit);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
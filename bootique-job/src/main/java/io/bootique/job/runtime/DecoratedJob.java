@@ -16,14 +16,17 @@
  * specific language governing permissions and limitations
  * under the License.
  */
+
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobDecorator;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobOutcome;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -34,6 +37,28 @@ public class DecoratedJob implements Job {
     private final JobMetadata metadata;
     private final JobDecorator decorator;
 
+    /**
+     * Creates a decorated job that preserves the async nature of the delegate. I.e., if the delegate is an
+     * {@link AsyncJob}, the returned job is an AsyncJob as well, running via the decorator
+     * {@link JobDecorator#runAsync(AsyncJob, Map)} method.
+     *
+     * @since 4.0
+     */
+    public static Job create(Job job, JobMetadata metadata, JobDecorator decorator) {
+        return job instanceof AsyncJob
+                ? new DecoratedAsyncJob((AsyncJob) job, metadata, decorator)
+                : new DecoratedJob(job, metadata, decorator);
+    }
+
+    /**
+     * Creates a job that runs the delegate as is, but reports different metadata.
+     *
+     * @since 4.0
+     */
+    public static Job withMetadata(Job job, JobMetadata metadata) {
+        return create(job, metadata, new PassThroughDecorator());
+    }
+
     public DecoratedJob(Job job, JobMetadata metadata, JobDecorator decorator) {
         this.job = job;
         this.metadata = metadata;
@@ -49,4 +74,40 @@ public class DecoratedJob implements Job {
     public JobOutcome run(Map<String, Object> params) {
         return decorator.run(job, params);
     }
+
+    static class DecoratedAsyncJob extends DecoratedJob implements AsyncJob {
+
+        private final AsyncJob asyncJob;
+        private final JobDecorator asyncDecorator;
+
+        DecoratedAsyncJob(AsyncJob job, JobMetadata metadata, JobDecorator decorator) {
+            super(job, metadata, decorator);
+            this.asyncJob = job;
+            this.asyncDecorator = decorator;
+        }
+
+        // resolve the conflict between the class and the interface methods in favor of the decorator sync chain
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            return super.run(params);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            return asyncDecorator.runAsync(asyncJob, params);
+        }
+    }
+
+    static class PassThroughDecorator implements JobDecorator {
+
+        @Override
+        public JobOutcome run(Job delegate, Map<String, Object> params) {
+            return delegate.run(params);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+            return delegate.runAsync(params);
+        }
+    }
 }
@@ -41,6 +41,7 @@ public class DefaultJobRegistry implements JobRegistry {
     // GraphExecutor internally keeps a thread pool. Initialize it lazily, so that it won't start for the
     // apps that don't have jobs with dependencies
     protected final Provider<GraphExecutor> graphExecutor;
+    protected final GraphJobListener graphListener;
 
     // Lazily populated map of decorated runnable jobs (jobs or graphs) produced from standalone jobs and groups
     private final ConcurrentMap<String, Job> executableJobs;
@@ -49,11 +50,24 @@ public class DefaultJobRegistry implements JobRegistry {
             Map<String, JobGraphNode> nodes,
             JobDecorators decorators,
             Provider<GraphExecutor> graphExecutor) {
+        this(nodes, decorators, graphExecutor, GraphJobListener.none());
+    }
+
+    /**
+     * @param graphListener a listener notified about the timing of the job group steps
+     * @since 4.0
+     */
+    public DefaultJobRegistry(
+            Map<String, JobGraphNode> nodes,
+            JobDecorators decorators,
+            Provider<GraphExecutor> graphExecutor,
+            GraphJobListener graphListener) {
 
         this.jobDescriptors = nodes;
         this.executableJobs = new ConcurrentHashMap<>((int) (nodes.size() / 0.75d) + 1);
         this.decorators = decorators;
         this.graphExecutor = graphExecutor;
+        this.graphListener = Objects.requireNonNull(graphListener);
     }
 
     @Override
@@ -93,7 +107,7 @@ public class DefaultJobRegistry implements JobRegistry {
 
         return new GraphJob(
                 createGraphMetadata(jobDescriptors.get(name), sortedNodes),
-                jobGroupSteps(sortedNodes));
+                jobGroupSteps(name, sortedNodes));
     }
 
     private JobMetadata createGraphMetadata(JobGraphNode graphNode, List<Set<JobNode>> executionNodes) {
@@ -115,7 +129,18 @@ public class DefaultJobRegistry implements JobRegistry {
         return builder.build();
     }
 
+    /**
+     * @deprecated in favor of {@link #jobGroupSteps(String, List)}. This method is no longer called by the registry.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     protected List<GraphJobStep> jobGroupSteps(List<Set<JobNode>> sortedNodes) {
+        return jobGroupSteps(null, sortedNodes);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected List<GraphJobStep> jobGroupSteps(String groupName, List<Set<JobNode>> sortedNodes) {
 
         List<GraphJobStep> steps = new ArrayList<>(sortedNodes.size());
 
@@ -144,10 +169,10 @@ public class DefaultJobRegistry implements JobRegistry {
                 case 0:
                     break;
                 case 1:
-                    steps.add(createSingleJobStep(stepJobs.get(0)));
+                    steps.add(createSingleJobStep(groupName, steps.size(), stepJobs.get(0)));
                     break;
                 default:
-                    steps.add(createParallelGroupStep(stepJobs));
+                    steps.add(createParallelGroupStep(groupName, steps.size(), stepJobs));
                     break;
             }
         }
@@ -155,12 +180,36 @@ public class DefaultJobRegistry implements JobRegistry {
         return steps;
     }
 
+    /**
+     * @deprecated in favor of {@link #createSingleJobStep(String, int, Job)}. This method is no longer called by the
+     * registry.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     protected SingleJobStep createSingleJobStep(Job job) {
-        return new SingleJobStep(job);
+        return createSingleJobStep(null, 0, job);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected SingleJobStep createSingleJobStep(String groupName, int stepIndex, Job job) {
+        return new SingleJobStep(job, groupName, stepIndex, graphListener);
     }
 
+    /**
+     * @deprecated in favor of {@link #createParallelGroupStep(String, int, List)}. This method is no longer called by
+     * the registry.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     protected ParallelJobsStep createParallelGroupStep(List<Job> stepJobs) {
-        return new ParallelJobsStep(graphExecutor.get(), stepJobs);
+        return createParallelGroupStep(null, 0, stepJobs);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected ParallelJobsStep createParallelGroupStep(String groupName, int stepIndex, List<Job> stepJobs) {
+        return new ParallelJobsStep(graphExecutor.get(), stepJobs, groupName, stepIndex, graphListener);
     }
 
     private void checkJobExists(String jobName) {
@@ -19,12 +19,16 @@
 
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobDecorator;
 import io.bootique.job.JobOutcome;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -36,6 +40,32 @@ public class ExceptionsHandlerDecorator implements JobDecorator {
         return runWithExceptionHandling(delegate.getMetadata(), delegate, params);
     }
 
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(JobOutcome.failed(e));
+        }
+
+        if (stage == null) {
+            return CompletableFuture.completedFuture(JobOutcome.unknown("Job returned null stage"));
+        }
+
+        return stage.handle((result, th) -> {
+            if (th != null) {
+                return JobOutcome.failed(th instanceof CompletionException && th.getCause() != null ? th.getCause() : th);
+            }
+
+            return result != null ? result : JobOutcome.unknown("Job returned null result");
+        });
+    }
+
     // reusable method that can be used by this and other decorators for consistent error handling
     static JobOutcome runWithExceptionHandling(JobMetadata metadata, Job delegate, Map<String, Object> params) {
         try {
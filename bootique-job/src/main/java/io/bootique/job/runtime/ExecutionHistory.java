@@ -0,0 +1,95 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a fixed number of the most recent executions per job and per trigger in memory.
+ *
+ * @since 4.0
+ */
+public class ExecutionHistory {
+
+    private final int size;
+    private final Map<String, ExecutionRing> byJob;
+    private final Map<String, Map<String, ExecutionRing>> byTrigger;
+
+    public ExecutionHistory(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("History size must be positive: " + size);
+        }
+
+        this.size = size;
+        this.byJob = new ConcurrentHashMap<>();
+        this.byTrigger = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records a job execution.
+     *
+     * @param triggerName the name of the trigger that started the job or null
+     */
+    public void record(String jobName, String triggerName, long startedAtMillis, long durationNanos, JobStatus status) {
+
+        // "get" before "computeIfAbsent" to avoid lambda allocation for the existing rings
+        ExecutionRing jobRing = byJob.get(jobName);
+        if (jobRing == null) {
+            jobRing = byJob.computeIfAbsent(jobName, n -> new ExecutionRing(size));
+        }
+
+        jobRing.add(startedAtMillis, durationNanos, status);
+
+        if (triggerName != null) {
+            Map<String, ExecutionRing> jobTriggers = byTrigger.get(jobName);
+            if (jobTriggers == null) {
+                jobTriggers = byTrigger.computeIfAbsent(jobName, n -> new ConcurrentHashMap<>());
+            }
+
+            ExecutionRing triggerRing = jobTriggers.get(triggerName);
+            if (triggerRing == null) {
+                triggerRing = jobTriggers.computeIfAbsent(triggerName, n -> new ExecutionRing(size));
+            }
+
+            triggerRing.add(startedAtMillis, durationNanos, status);
+        }
+    }
+
+    public RecentExecutions getJobExecutions(String jobName) {
+        ExecutionRing ring = byJob.get(jobName);
+        return ring != null ? ring.snapshot() : RecentExecutions.empty();
+    }
+
+    public RecentExecutions getTriggerExecutions(String jobName, String triggerName) {
+        Map<String, ExecutionRing> jobTriggers = byTrigger.get(jobName);
+        ExecutionRing ring = jobTriggers != null ? jobTriggers.get(triggerName) : null;
+        return ring != null ? ring.snapshot() : RecentExecutions.empty();
+    }
+
+    public void removeTrigger(String jobName, String triggerName) {
+        Map<String, ExecutionRing> jobTriggers = byTrigger.get(jobName);
+        if (jobTriggers != null) {
+            jobTriggers.remove(triggerName);
+        }
+    }
+}
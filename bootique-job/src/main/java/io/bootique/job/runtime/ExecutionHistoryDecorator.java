@@ -0,0 +1,95 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.trigger.Trigger;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Records each job execution in the {@link ExecutionHistory}.
+ *
+ * @since 4.0
+ */
+public class ExecutionHistoryDecorator implements JobDecorator {
+
+    private final ExecutionHistory history;
+
+    public ExecutionHistoryDecorator(ExecutionHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        long startedAt = System.currentTimeMillis();
+        long t0 = System.nanoTime();
+
+        JobStatus status = JobStatus.FAILURE;
+        try {
+            JobOutcome outcome = delegate.run(params);
+            status = outcome.getStatus();
+            return outcome;
+        } finally {
+            String jobName = delegate.getMetadata().getName();
+            history.record(jobName, triggerName(jobName), startedAt, System.nanoTime() - t0, status);
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        long startedAt = System.currentTimeMillis();
+        long t0 = System.nanoTime();
+        String jobName = delegate.getMetadata().getName();
+
+        // the trigger is only bound to the calling thread, so resolve it before going async
+        String triggerName = triggerName(jobName);
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            history.record(jobName, triggerName, startedAt, System.nanoTime() - t0, JobStatus.FAILURE);
+            throw e;
+        }
+
+        return stage.whenComplete((outcome, th) -> history.record(
+                jobName,
+                triggerName,
+                startedAt,
+                System.nanoTime() - t0,
+                outcome != null ? outcome.getStatus() : JobStatus.FAILURE));
+    }
+
+    private static String triggerName(String jobName) {
+
+        // the group members running on the trigger thread should not be attributed to the trigger
+        Trigger trigger = Trigger.current();
+        return trigger != null && trigger.getJobName().equals(jobName) ? trigger.getTriggerName() : null;
+    }
+}
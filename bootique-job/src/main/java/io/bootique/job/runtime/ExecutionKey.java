@@ -0,0 +1,78 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identifies job runs that are expected to produce the same outcome: the runs of the same job with the same
+ * parameters.
+ *
+ * @since 4.0
+ */
+final class ExecutionKey {
+
+    private final String jobName;
+    private final Map<String, Object> params;
+
+    ExecutionKey(String jobName, Map<String, Object> prebindParams, Map<String, Object> params) {
+        this.jobName = jobName;
+        this.params = normalizeParams(prebindParams, params);
+    }
+
+    static Map<String, Object> normalizeParams(Map<String, Object> prebindParams, Map<String, Object> params) {
+        Map<String, Object> normalized = new HashMap<>(prebindParams);
+        normalized.putAll(params);
+
+        // absent and null params are equivalent
+        normalized.values().removeIf(Objects::isNull);
+        return normalized;
+    }
+
+    String getJobName() {
+        return jobName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ExecutionKey)) {
+            return false;
+        }
+
+        ExecutionKey that = (ExecutionKey) o;
+        return jobName.equals(that.jobName) && params.equals(that.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobName, params);
+    }
+
+    @Override
+    public String toString() {
+        return jobName + params;
+    }
+}
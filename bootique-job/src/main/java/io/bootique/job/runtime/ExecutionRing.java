@@ -0,0 +1,69 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+
+/**
+ * A fixed-capacity ring of execution data stored in preallocated primitive arrays.
+ *
+ * @since 4.0
+ */
+class ExecutionRing {
+
+    private static final JobStatus[] STATUSES = JobStatus.values();
+
+    private final long[] startedAtMillis;
+    private final long[] durationNanos;
+    private final byte[] statuses;
+
+    private int next;
+    private int size;
+
+    ExecutionRing(int capacity) {
+        this.startedAtMillis = new long[capacity];
+        this.durationNanos = new long[capacity];
+        this.statuses = new byte[capacity];
+    }
+
+    synchronized void add(long startedAt, long duration, JobStatus status) {
+        startedAtMillis[next] = startedAt;
+        durationNanos[next] = duration;
+        statuses[next] = (byte) status.ordinal();
+
+        next = (next + 1) % statuses.length;
+        size = Math.min(size + 1, statuses.length);
+    }
+
+    synchronized RecentExecutions snapshot() {
+        long[] startedAt = new long[size];
+        long[] durations = new long[size];
+        JobStatus[] results = new JobStatus[size];
+
+        for (int i = 0; i < size; i++) {
+            int j = Math.floorMod(next - 1 - i, statuses.length);
+            startedAt[i] = startedAtMillis[j];
+            durations[i] = durationNanos[j];
+            results[i] = STATUSES[statuses[j]];
+        }
+
+        return new RecentExecutions(startedAt, durations, results);
+    }
+}
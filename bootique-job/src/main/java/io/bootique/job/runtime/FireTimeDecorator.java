@@ -0,0 +1,72 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.scheduler.ScheduledFireTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A decorator placed immediately inside the lock handler that holds off the job execution until the fire time of a
+ * trigger that was started ahead of time to pre-acquire the job lock. For executions not started this way, it is
+ * a noop.
+ *
+ * @since 4.0
+ */
+public class FireTimeDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FireTimeDecorator.class);
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        ScheduledFireTime fireTime = ScheduledFireTime.current();
+        if (fireTime == null) {
+            return delegate.run(params);
+        }
+
+        if (!fireTime.await()) {
+            LOGGER.info("Trigger for '{}' was canceled before its fire time", delegate.getMetadata().getName());
+            return JobOutcome.skipped("Trigger was canceled before its fire time");
+        }
+
+        return delegate.run(params);
+    }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+
+        // waiting for the fire time blocks the trigger thread regardless of the job nature
+        ScheduledFireTime fireTime = ScheduledFireTime.current();
+        if (fireTime != null && !fireTime.await()) {
+            LOGGER.info("Trigger for '{}' was canceled before its fire time", delegate.getMetadata().getName());
+            return CompletableFuture.completedFuture(JobOutcome.skipped("Trigger was canceled before its fire time"));
+        }
+
+        return delegate.runAsync(params);
+    }
+}
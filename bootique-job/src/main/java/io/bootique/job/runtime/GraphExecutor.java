@@ -18,11 +18,16 @@
  */
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
+import io.bootique.job.JobContext;
 import io.bootique.job.JobOutcome;
+import io.bootique.job.executor.JobExecutors;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -34,27 +39,67 @@ import java.util.concurrent.Future;
 public class GraphExecutor {
 
     private final ExecutorService pool;
+    private final JobExecutors executors;
 
     public GraphExecutor(ExecutorService pool) {
+        this(pool, null);
+    }
+
+    /**
+     * @param executors optional named executors. The jobs assigned to one of them are submitted directly to that
+     *                  executor instead of the graph pool.
+     * @since 4.0
+     */
+    public GraphExecutor(ExecutorService pool, JobExecutors executors) {
         this.pool = pool;
+        this.executors = executors;
     }
 
+    /**
+     * Submits a job group member for execution. The {@link JobContext} of the calling thread (i.e., of the job group)
+     * is propagated to the job thread and becomes the parent of the member context.
+     */
     public Future<JobOutcome> submit(Job job, Map<String, Object> params) {
-        return pool.submit(new CallableJob(job, params));
+        CallableJob task = new CallableJob(job, params, JobContext.current());
+        String executorName = executors != null ? executors.getExecutorName(job.getMetadata()) : null;
+        return executorName != null ? executors.submit(executorName, task) : pool.submit(task);
+    }
+
+    /**
+     * Starts an async job group member on the calling thread, without taking a thread from the pool. The
+     * {@link JobContext} of the calling thread (i.e., of the job group) becomes the parent of the member context. The
+     * returned future completes when the job is done.
+     *
+     * @since 4.0
+     */
+    public CompletableFuture<JobOutcome> submitAsync(AsyncJob job, Map<String, Object> params) {
+        try {
+            return JobContextDecorator.callAsGroupMember(JobContext.current(), () -> job.runAsync(params))
+                    .toCompletableFuture()
+                    .exceptionally(th -> JobOutcome.failed(th instanceof CompletionException && th.getCause() != null
+                            ? th.getCause()
+                            : th));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(JobOutcome.failed(e));
+        }
     }
 
     static class CallableJob implements Callable<JobOutcome> {
         final Job job;
         final Map<String, Object> params;
+        final JobContext context;
 
-        CallableJob(Job job, Map<String, Object> params) {
+        CallableJob(Job job, Map<String, Object> params, JobContext context) {
             this.job = job;
             this.params = params;
+            this.context = context;
         }
 
         @Override
         public JobOutcome call() {
-            return job.run(params);
+            return context != null
+                    ? context.call(() -> JobContextDecorator.callAsGroupMember(context, () -> job.run(params)))
+                    : job.run(params);
         }
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+/**
+ * A callback notified about the timing of each step of a job group, and of each job within a step. Allows to see
+ * which step dominates a group run, and how much of the step parallelism is actually used. Called on the threads
+ * running the group, so implementations must be fast and must not throw.
+ *
+ * @since 4.0
+ */
+public interface GraphJobListener {
+
+    static GraphJobListener none() {
+        return NoGraphJobListener.INSTANCE;
+    }
+
+    /**
+     * Called when a job that is a part of a group step finishes, and the whole step is done.
+     *
+     * @param stepIndex   a zero-based index of the step within the group
+     * @param queuedNanos how long the job waited for a thread after the step started
+     * @param runNanos    how long the job was running
+     * @param idleNanos   how long after the job end the step was waiting for the other jobs (the "barrier" idle time)
+     */
+    void onMemberFinished(String groupName, int stepIndex, String jobName, long queuedNanos, long runNanos, long idleNanos);
+
+    /**
+     * Called when all the jobs of a group step are finished.
+     *
+     * @param stepWidth       the number of jobs in the step
+     * @param stepNanos       the step wall time
+     * @param membersRunNanos the total running time of all the step jobs. Compared to the step wall time, shows how
+     *                        many jobs were running in parallel on average.
+     */
+    void onStepFinished(String groupName, int stepIndex, int stepWidth, long stepNanos, long membersRunNanos);
+
+    /**
+     * Returns a listener that notifies this listener and then the "next" listener.
+     */
+    default GraphJobListener andThen(GraphJobListener next) {
+        return new CompositeGraphJobListener(this, next);
+    }
+}
@@ -18,7 +18,8 @@
  */
 package io.bootique.job.runtime;
 
-
+import io.bootique.job.Job;
+import io.bootique.job.JobContext;
 import io.bootique.job.JobOutcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,16 @@ public abstract class GraphJobStep {
 
     public abstract JobOutcome run(Map<String, Object> params);
 
+    /**
+     * Runs a group member on the step thread, so that its {@link JobContext} points to the group context as its
+     * parent.
+     *
+     * @since 4.0
+     */
+    protected JobOutcome runMember(Job job, Map<String, Object> params) {
+        return JobContextDecorator.callAsGroupMember(JobContext.current(), () -> job.run(params));
+    }
+
     protected void logResult(String jobName, JobOutcome result) {
 
         if (!LOGGER.isDebugEnabled()) {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobContext;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.trigger.Trigger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A decorator that binds a new {@link JobContext} to the thread for the duration of a job run. Should be the outermost
+ * decorator, so that the context is visible to all the other decorators. Only the job group members started by the
+ * group steps get the group context as a parent. Any other job, including the one started by the job code itself
+ * (e.g. via the Scheduler), gets a top-level context with its own tx id.
+ *
+ * @since 4.0
+ */
+public class JobContextDecorator implements JobDecorator {
+
+    // the context of the job group whose member is about to start on the current thread
+    private static final ThreadLocal<JobContext> GROUP = new ThreadLocal<>();
+
+    private final Supplier<String> idGenerator;
+
+    public JobContextDecorator() {
+        this(sequentialIds());
+    }
+
+    /**
+     * @param idGenerator a generator of unique job execution ids
+     */
+    public JobContextDecorator(Supplier<String> idGenerator) {
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    // ids unique within the JVM, with a random prefix to tell apart ids from different runs of the app
+    static Supplier<String> sequentialIds() {
+        String prefix = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+        AtomicLong sequence = new AtomicLong();
+        return () -> prefix + "-" + Long.toString(sequence.incrementAndGet(), 36);
+    }
+
+    /**
+     * Runs a job group member, so that its context points to the group context as its parent.
+     */
+    static <T> T callAsGroupMember(JobContext group, Supplier<T> op) {
+        JobContext previous = GROUP.get();
+        if (group != null) {
+            GROUP.set(group);
+        } else {
+            GROUP.remove();
+        }
+
+        try {
+            return op.get();
+        } finally {
+            if (previous != null) {
+                GROUP.set(previous);
+            } else {
+                GROUP.remove();
+            }
+        }
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+        JobContext context = createContext(delegate.getMetadata().getName());
+
+        // the jobs started by this job are not its group members, unless started by the group steps
+        return callAsGroupMember(null, () -> context.call(() -> delegate.run(params)));
+    }
+
+    /**
+     * Binds the context to the thread that starts the async job. The code running in the job completion callbacks
+     * will not see it, and should capture the context via {@link JobContext#current()} before going async if needed.
+     *
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        JobContext context = createContext(delegate.getMetadata().getName());
+        return callAsGroupMember(null, () -> context.call(() -> delegate.runAsync(params)));
+    }
+
+    private JobContext createContext(String jobName) {
+        JobContext parent = GROUP.get();
+        return new JobContext(jobName, triggerName(jobName, parent), idGenerator.get(), parent);
+    }
+
+    private static String triggerName(String jobName, JobContext parent) {
+
+        if (parent != null) {
+            return parent.getTriggerName();
+        }
+
+        Trigger trigger = Trigger.current();
+        return trigger != null && trigger.getJobName().equals(jobName) ? trigger.getTriggerName() : null;
+    }
+}
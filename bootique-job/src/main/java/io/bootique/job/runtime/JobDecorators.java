@@ -33,14 +33,69 @@ import java.util.stream.Collectors;
 public class JobDecorators {
 
     // ordering, outer to inner
+
+    /**
+     * @since 4.0
+     */
+    public static final int OUTCOME_CACHE_ORDER = 100;
+
+    /**
+     * @since 4.0
+     */
+    public static final int COALESCING_ORDER = 125;
+
+    /**
+     * @since 4.0
+     */
+    public static final int RETRY_ORDER = 250;
+
+    /**
+     * @since 4.0
+     */
+    public static final int CIRCUIT_BREAKER_ORDER = 300;
+
+    /**
+     * @since 4.0
+     */
+    public static final int RATE_LIMIT_ORDER = 375;
+
+    /**
+     * @since 4.0
+     */
+    public static final int CONTEXT_ORDER = 500;
     public static final int LOGGER_ORDER = 1000;
-    public static final int EXCEPTIONS_HANDLER_ORDER = LOGGER_ORDER + 1000;
-    public static final int LOCK_HANDLER_ORDER = EXCEPTIONS_HANDLER_ORDER + 1000;
-    public static final int PARAMS_BINDER_ORDER = LOCK_HANDLER_ORDER + 1000;
-    public static final int RENAMER_ORDER = PARAMS_BINDER_ORDER + 1000;
+
+    /**
+     * @since 4.0
+     */
+    public static final int EVENTS_ORDER = 1250;
+
+    /**
+     * @since 4.0
+     */
+    public static final int HISTORY_ORDER = 1500;
+    public static final int EXCEPTIONS_HANDLER_ORDER = 2000;
+    public static final int LOCK_HANDLER_ORDER = 3000;
+
+    /**
+     * @since 4.0
+     */
+    public static final int FIRE_TIME_ORDER = 3500;
+
+    /**
+     * @since 4.0
+     */
+    public static final int TIMEOUT_ORDER = 3750;
+
+    /**
+     * @since 4.0
+     */
+    public static final int EXECUTOR_ORDER = 3875;
+    public static final int PARAMS_BINDER_ORDER = 4000;
+    public static final int RENAMER_ORDER = 5000;
 
     //  unordered decorators are always inner
-    public static final int UNORDERED_ORDER = RENAMER_ORDER + 1000;
+    public static final int UNORDERED_ORDER = 6000;
 
     private final List<JobDecorator> topDecoratorsInnerToOuter;
     private final List<JobDecorator> subDecoratorsInnerToOuter;
@@ -80,9 +135,20 @@ public class JobDecorators {
 
     public static class Builder {
 
+        private JobDecorator outcomeCache;
+        private JobDecorator coalescing;
+        private JobDecorator retry;
+        private JobDecorator rateLimit;
+        private JobDecorator circuitBreaker;
+        private JobDecorator context;
         private JobDecorator logger;
+        private JobDecorator history;
+        private JobDecorator events;
         private JobDecorator exceptionHandler;
         private JobDecorator lockHandler;
+        private JobDecorator fireTime;
+        private JobDecorator timeout;
+        private JobDecorator executor;
         private JobDecorator paramsBinder;
         private JobDecorator renamer;
         private final Set<MappedJobDecorator<?>> otherDecorators;
@@ -99,22 +165,82 @@ public class JobDecorators {
 
             Set<MappedJobDecorator<?>> topDecorators = new HashSet<>(10);
             
-            // same as "top", but exclude custom decorators, listeners and lock handlers
+            // same as "top", but exclude lock handlers and custom decorators not explicitly mapped to sub-jobs
             // TODO: would lock handlers actually make sense for child jobs?
             Set<MappedJobDecorator<?>> subDecorators = new HashSet<>(5);
 
             topDecorators.addAll(otherDecorators);
+            otherDecorators.stream().filter(MappedJobDecorator::isAppliedToSubJobs).forEach(subDecorators::add);
 
             if (lockHandler != null) {
                 topDecorators.add(new MappedJobDecorator<>(lockHandler, LOCK_HANDLER_ORDER));
             }
 
+            if (fireTime != null) {
+                topDecorators.add(new MappedJobDecorator<>(fireTime, FIRE_TIME_ORDER));
+            }
+
+            // group members are not retried individually, only the group as a whole
+            if (retry != null) {
+                topDecorators.add(new MappedJobDecorator<>(retry, RETRY_ORDER));
+            }
+
+            if (rateLimit != null) {
+                topDecorators.add(new MappedJobDecorator<>(rateLimit, RATE_LIMIT_ORDER));
+            }
+
+            if (circuitBreaker != null) {
+                topDecorators.add(new MappedJobDecorator<>(circuitBreaker, CIRCUIT_BREAKER_ORDER));
+            }
+
+            if (outcomeCache != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(outcomeCache, OUTCOME_CACHE_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
+            if (coalescing != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(coalescing, COALESCING_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
+            if (context != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(context, CONTEXT_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
+            if (timeout != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(timeout, TIMEOUT_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
+            if (executor != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(executor, EXECUTOR_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
             if (logger != null) {
                 MappedJobDecorator<?> d = new MappedJobDecorator<>(logger, LOGGER_ORDER);
                 topDecorators.add(d);
                 subDecorators.add(d);
             }
 
+            if (history != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(history, HISTORY_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
+            if (events != null) {
+                MappedJobDecorator<?> d = new MappedJobDecorator<>(events, EVENTS_ORDER);
+                topDecorators.add(d);
+                subDecorators.add(d);
+            }
+
             if (exceptionHandler != null) {
                 MappedJobDecorator<?> d = new MappedJobDecorator<>(exceptionHandler, EXCEPTIONS_HANDLER_ORDER);
                 topDecorators.add(d);
@@ -146,11 +272,75 @@ public class JobDecorators {
                     .collect(Collectors.toList());
         }
 
+        /**
+         * @since 4.0
+         */
+        public Builder outcomeCache(JobDecorator outcomeCache) {
+            this.outcomeCache = outcomeCache;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder coalescing(JobDecorator coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder retry(JobDecorator retry) {
+            this.retry = retry;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder rateLimit(JobDecorator rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder circuitBreaker(JobDecorator circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder context(JobDecorator context) {
+            this.context = context;
+            return this;
+        }
+
         public Builder logger(JobDecorator logger) {
             this.logger = logger;
             return this;
         }
 
+        /**
+         * @since 4.0
+         */
+        public Builder history(JobDecorator history) {
+            this.history = history;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder events(JobDecorator events) {
+            this.events = events;
+            return this;
+        }
+
         public Builder exceptionHandler(JobDecorator exceptionHandler) {
             this.exceptionHandler = exceptionHandler;
             return this;
@@ -166,6 +356,30 @@ public class JobDecorators {
             return this;
         }
 
+        /**
+         * @since 4.0
+         */
+        public Builder fireTime(JobDecorator fireTime) {
+            this.fireTime = fireTime;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder timeout(JobDecorator timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @since 4.0
+         */
+        public Builder executor(JobDecorator executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public Builder renamer(JobDecorator renamer) {
             this.renamer = renamer;
             return this;
@@ -19,6 +19,7 @@
 
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobDecorator;
 import io.bootique.job.JobMetadata;
@@ -27,6 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -49,6 +52,24 @@ public class JobLogger implements JobDecorator {
         }
     }
 
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        JobMetadata metadata = delegate.getMetadata();
+        onJobStarted(metadata, params);
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (Throwable th) {
+            return CompletableFuture.completedFuture(onJobFinished(metadata, JobOutcome.failed(th)));
+        }
+
+        return stage.handle((result, th) -> onJobFinished(metadata, th != null ? JobOutcome.failed(th) : result));
+    }
+
     private void onJobStarted(JobMetadata metadata, Map<String, Object> params) {
         String label = metadata.isGroup() ? "group" : "job";
         LOGGER.info("{} '{}' started with params {}", label, metadata.getName(), params);
@@ -18,12 +18,14 @@
  */
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobDecorator;
 import io.bootique.job.JobOutcome;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -38,12 +40,18 @@ public class JobNameDecorator implements JobDecorator {
     @Override
     public Job decorate(Job delegate, String altName, Map<String, Object> prebindParams) {
         return isApplicable(delegate.getMetadata(), altName, prebindParams)
-                ? new DecoratedJob(delegate, changeName(delegate.getMetadata(), altName), this)
+                ? DecoratedJob.create(delegate, changeName(delegate.getMetadata(), altName), this)
                 : delegate;
     }
 
     protected JobMetadata changeName(JobMetadata metadata, String altName) {
-        JobMetadata.Builder builder = JobMetadata.builder(altName);
+        JobMetadata.Builder builder = JobMetadata.builder(altName)
+                .timeout(metadata.getTimeout())
+                .retry(metadata.getRetryPolicy())
+                .coalesced(metadata.isCoalesced())
+                .cacheOutcome(metadata.getOutcomeCacheTtl())
+                .executor(metadata.getExecutor())
+                .priority(metadata.getPriority());
         metadata.getParameters().forEach(builder::param);
         return builder.build();
     }
@@ -52,4 +60,9 @@ public class JobNameDecorator implements JobDecorator {
     public JobOutcome run(Job delegate, Map<String, Object> params) {
         return delegate.run(params);
     }
+
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        return delegate.runAsync(params);
+    }
 }
@@ -18,6 +18,7 @@
  */
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobMetadata;
 import io.bootique.job.JobDecorator;
@@ -25,6 +26,7 @@ import io.bootique.job.JobOutcome;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @since 3.0
@@ -60,6 +62,11 @@ public class JobParamsBinderDecorator implements JobDecorator {
             return delegate.run(mergeParams(params));
         }
 
+        @Override
+        public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+            return delegate.runAsync(mergeParams(params));
+        }
+
         protected Map<String, Object> mergeParams(Map<String, Object> overridingParams) {
             Map<String, Object> merged = new HashMap<>(prebindParams);
             merged.putAll(overridingParams);
@@ -0,0 +1,290 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A decorator that enforces job timeouts (see {@link JobMetadata#getTimeout()}). A single shared timer thread
+ * interrupts the job thread when the timeout expires, and the job is reported as failed. Cancellation is cooperative:
+ * the job must react to the interrupt for its thread (and its lock) to be released promptly.
+ *
+ * <p>Optionally runs a watchdog that reports the jobs running longer than a given multiple of their historical p99
+ * duration, as recorded in the {@link ExecutionHistory}.</p>
+ *
+ * @since 4.0
+ */
+public class JobTimeoutDecorator implements JobDecorator, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobTimeoutDecorator.class);
+
+    // fewer successful runs in history are not enough to judge the job normal duration
+    static final int WATCHDOG_MIN_SAMPLES = 5;
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutionHistory history;
+    private final double watchdogFactor;
+
+    // only tracked when the watchdog is enabled
+    private final Set<Run> runs;
+
+    /**
+     * Creates a decorator without a watchdog.
+     */
+    public JobTimeoutDecorator() {
+        this(null, 0, null);
+    }
+
+    /**
+     * @param history          execution history used to calculate the historical p99 duration of each job
+     * @param watchdogFactor   a multiple of the historical p99 duration, over which a running job is reported as stuck.
+     *                         Zero or negative value disables the watchdog.
+     * @param watchdogInterval how often the watchdog checks the running jobs
+     */
+    public JobTimeoutDecorator(ExecutionHistory history, double watchdogFactor, Duration watchdogInterval) {
+
+        // the timer thread is only started when the first task is scheduled
+        this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().daemon().name("bootique-job-timeout").factory());
+        this.timer.setRemoveOnCancelPolicy(true);
+
+        boolean watchdog = watchdogFactor > 0;
+        this.history = history;
+        this.watchdogFactor = watchdogFactor;
+        this.runs = watchdog ? ConcurrentHashMap.newKeySet() : null;
+
+        if (watchdog) {
+            long intervalMs = watchdogInterval.toMillis();
+            timer.scheduleWithFixedDelay(this::checkStuckJobs, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return metadata.getTimeout() != null || runs != null;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        Duration timeout = metadata.getTimeout();
+        Run run = new Run(metadata.getName(), Thread.currentThread(), System.nanoTime());
+
+        ScheduledFuture<?> deadline = timeout != null
+                ? timer.schedule(() -> run.timeout(timeout), timeout.toNanos(), TimeUnit.NANOSECONDS)
+                : null;
+
+        if (runs != null) {
+            runs.add(run);
+        }
+
+        try {
+            JobOutcome outcome = delegate.run(params);
+            return run.finish() ? timedOut(timeout) : outcome;
+        } catch (RuntimeException e) {
+            if (run.finish()) {
+                return timedOut(timeout);
+            }
+
+            throw e;
+        } finally {
+            // in case of an Error, make sure the interrupt doesn't leak to the next task on this thread
+            run.finish();
+
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+
+            if (runs != null) {
+                runs.remove(run);
+            }
+        }
+    }
+
+    /**
+     * Completes the returned stage with a failure when the async job times out. There's no thread to interrupt, so
+     * the job itself is not stopped, and its eventual outcome is ignored.
+     *
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        JobMetadata metadata = delegate.getMetadata();
+        Duration timeout = metadata.getTimeout();
+
+        CompletableFuture<JobOutcome> result = new CompletableFuture<>();
+        Run run = new Run(metadata.getName(), Thread.currentThread(), System.nanoTime());
+        ScheduledFuture<?> deadline = timeout != null
+                ? timer.schedule(() -> onAsyncTimeout(run, timeout, result), timeout.toNanos(), TimeUnit.NANOSECONDS)
+                : null;
+
+        if (runs != null) {
+            runs.add(run);
+        }
+
+        CompletionStage<JobOutcome> stage;
+        try {
+            stage = delegate.runAsync(params);
+        } catch (RuntimeException | Error e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+
+        stage.whenComplete((outcome, th) -> {
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+
+            if (runs != null) {
+                runs.remove(run);
+            }
+
+            if (th != null) {
+                result.completeExceptionally(th);
+            } else {
+                result.complete(outcome);
+            }
+        });
+
+        return result;
+    }
+
+    private void onAsyncTimeout(Run run, Duration timeout, CompletableFuture<JobOutcome> result) {
+        if (result.complete(timedOut(timeout))) {
+            LOGGER.warn("Job '{}' timed out after {} ms", run.jobName, timeout.toMillis());
+        }
+
+        if (runs != null) {
+            runs.remove(run);
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    void checkStuckJobs() {
+        long now = System.nanoTime();
+        for (Run run : runs) {
+            if (run.reported) {
+                continue;
+            }
+
+            long p99Nanos = p99Nanos(history.getJobExecutions(run.jobName));
+            long elapsedNanos = now - run.startedAtNanos;
+            if (p99Nanos > 0 && elapsedNanos > watchdogFactor * p99Nanos) {
+                run.reported = true;
+                LOGGER.warn("Job '{}' is running for {} ms, over {} times its p99 duration of {} ms. It may be stuck",
+                        run.jobName,
+                        elapsedNanos / 1_000_000,
+                        watchdogFactor,
+                        p99Nanos / 1_000_000);
+            }
+        }
+    }
+
+    // nearest-rank p99 of the successful runs, or -1 if there are not enough runs
+    static long p99Nanos(RecentExecutions executions) {
+
+        int len = executions.size();
+        long[] durations = new long[len];
+        int count = 0;
+
+        for (int i = 0; i < len; i++) {
+            if (executions.getStatus(i) == JobStatus.SUCCESS) {
+                durations[count++] = executions.getDuration(i).toNanos();
+            }
+        }
+
+        if (count < WATCHDOG_MIN_SAMPLES) {
+            return -1;
+        }
+
+        Arrays.sort(durations, 0, count);
+        int rank = (int) Math.ceil(0.99 * count);
+        return durations[rank - 1];
+    }
+
+    private static JobOutcome timedOut(Duration timeout) {
+        return JobOutcome.failed("Job timed out after " + timeout.toMillis() + " ms");
+    }
+
+    static class Run {
+
+        final String jobName;
+        final Thread thread;
+        final long startedAtNanos;
+
+        // only accessed by the watchdog thread
+        boolean reported;
+
+        private boolean finished;
+        private boolean timedOut;
+
+        Run(String jobName, Thread thread, long startedAtNanos) {
+            this.jobName = jobName;
+            this.thread = thread;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        synchronized void timeout(Duration timeout) {
+            if (!finished) {
+                timedOut = true;
+                LOGGER.warn("Job '{}' timed out after {} ms, interrupting", jobName, timeout.toMillis());
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * Marks the run as finished, returning whether it has timed out.
+         */
+        synchronized boolean finish() {
+            if (!finished) {
+                finished = true;
+
+                // the interrupt was delivered to the job, clear it, so that it doesn't affect the next task on the thread
+                if (timedOut) {
+                    Thread.interrupted();
+                }
+            }
+
+            return timedOut;
+        }
+    }
+}
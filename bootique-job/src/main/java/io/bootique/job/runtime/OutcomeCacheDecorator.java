@@ -0,0 +1,241 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobDecorator;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A decorator that reuses successful outcomes of the jobs with {@link JobMetadata#getOutcomeCacheTtl() outcome cache}
+ * enabled. A run with the same job name and parameters as an earlier successful run returns the cached outcome without
+ * running the job, until the outcome TTL expires. The cache is shared by all jobs and is bounded in size, evicting
+ * the least recently used outcomes first.
+ *
+ * @since 4.0
+ */
+public class OutcomeCacheDecorator implements JobDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutcomeCacheDecorator.class);
+
+    private final Map<ExecutionKey, CachedOutcome> cache;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    public OutcomeCacheDecorator(int maxSize) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("'maxSize' must be a positive number: " + maxSize);
+        }
+
+        // access-ordered map gives us LRU eviction
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ExecutionKey, CachedOutcome> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    @Override
+    public boolean isApplicable(JobMetadata metadata, String altName, Map<String, Object> prebindParams) {
+        return metadata.getOutcomeCacheTtl() != null;
+    }
+
+    @Override
+    public Job decorate(Job delegate, String altName, Map<String, Object> prebindParams) {
+        return isApplicable(delegate.getMetadata(), altName, prebindParams)
+                ? DecoratedJob.create(delegate, delegate.getMetadata(), new BoundOutcomeCacheDecorator(prebindParams))
+                : delegate;
+    }
+
+    @Override
+    public JobOutcome run(Job delegate, Map<String, Object> params) {
+        return run(delegate, params, Map.of());
+    }
+
+    protected JobOutcome run(Job delegate, Map<String, Object> params, Map<String, Object> prebindParams) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        ExecutionKey key = new ExecutionKey(metadata.getName(), prebindParams, params);
+
+        JobOutcome cached = get(key);
+        if (cached != null) {
+            hitCount.increment();
+            onHit(key.getJobName());
+            LOGGER.info("Job '{}' outcome is taken from the cache: {}", key.getJobName(), cached);
+            return cached;
+        }
+
+        missCount.increment();
+        onMiss(key.getJobName());
+
+        JobOutcome outcome = delegate.run(params);
+        onOutcome(key, metadata, outcome);
+        return outcome;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Override
+    public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+        return runAsync(delegate, params, Map.of());
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected CompletionStage<JobOutcome> runAsync(
+            AsyncJob delegate,
+            Map<String, Object> params,
+            Map<String, Object> prebindParams) {
+
+        JobMetadata metadata = delegate.getMetadata();
+        ExecutionKey key = new ExecutionKey(metadata.getName(), prebindParams, params);
+
+        JobOutcome cached = get(key);
+        if (cached != null) {
+            hitCount.increment();
+            onHit(key.getJobName());
+            LOGGER.info("Job '{}' outcome is taken from the cache: {}", key.getJobName(), cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        missCount.increment();
+        onMiss(key.getJobName());
+
+        return delegate.runAsync(params).whenComplete((o, th) -> {
+            if (o != null) {
+                onOutcome(key, metadata, o);
+            }
+        });
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int getSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cached outcomes.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * A hook for subclasses to track the cache hits of individual jobs.
+     */
+    protected void onHit(String jobName) {
+        // do nothing
+    }
+
+    /**
+     * A hook for subclasses to track the cache misses of individual jobs.
+     */
+    protected void onMiss(String jobName) {
+        // do nothing
+    }
+
+    private void onOutcome(ExecutionKey key, JobMetadata metadata, JobOutcome outcome) {
+
+        // only cache the final successful outcomes
+        if (outcome.isSuccess() && outcome.getYieldedTo() == null) {
+            put(key, outcome, System.nanoTime() + metadata.getOutcomeCacheTtl().toNanos());
+        }
+    }
+
+    private JobOutcome get(ExecutionKey key) {
+        synchronized (cache) {
+            CachedOutcome cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+
+            if (cached.expiresAtNanos - System.nanoTime() <= 0) {
+                cache.remove(key);
+                return null;
+            }
+
+            return cached.outcome;
+        }
+    }
+
+    private void put(ExecutionKey key, JobOutcome outcome, long expiresAtNanos) {
+        synchronized (cache) {
+            cache.put(key, new CachedOutcome(outcome, expiresAtNanos));
+        }
+    }
+
+    static class CachedOutcome {
+
+        final JobOutcome outcome;
+        final long expiresAtNanos;
+
+        CachedOutcome(JobOutcome outcome, long expiresAtNanos) {
+            this.outcome = outcome;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    class BoundOutcomeCacheDecorator implements JobDecorator {
+
+        private final Map<String, Object> prebindParams;
+
+        BoundOutcomeCacheDecorator(Map<String, Object> prebindParams) {
+            this.prebindParams = prebindParams;
+        }
+
+        @Override
+        public JobOutcome run(Job delegate, Map<String, Object> params) {
+            return OutcomeCacheDecorator.this.run(delegate, params, prebindParams);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(AsyncJob delegate, Map<String, Object> params) {
+            return OutcomeCacheDecorator.this.runAsync(delegate, params, prebindParams);
+        }
+    }
+}
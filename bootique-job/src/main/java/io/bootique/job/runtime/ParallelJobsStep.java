@@ -18,11 +18,13 @@
  */
 package io.bootique.job.runtime;
 
+import io.bootique.job.AsyncJob;
 import io.bootique.job.Job;
 import io.bootique.job.JobOutcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,22 +41,67 @@ public class ParallelJobsStep extends GraphJobStep {
 
     private final GraphExecutor executor;
     private final List<Job> jobs;
+    private final String groupName;
+    private final int stepIndex;
+    private final GraphJobListener listener;
 
     public ParallelJobsStep(GraphExecutor executor, List<Job> jobs) {
+        this(executor, jobs, null, 0, GraphJobListener.none());
+    }
+
+    /**
+     * @param groupName a name of the group this step belongs to
+     * @param stepIndex a zero-based index of this step within the group
+     * @param listener  a listener notified about the step timing
+     * @since 4.0
+     */
+    public ParallelJobsStep(
+            GraphExecutor executor,
+            List<Job> jobs,
+            String groupName,
+            int stepIndex,
+            GraphJobListener listener) {
+
         this.executor = executor;
         this.jobs = Objects.requireNonNull(jobs);
+        this.groupName = groupName;
+        this.stepIndex = stepIndex;
+        this.listener = Objects.requireNonNull(listener);
     }
 
     @Override
     public JobOutcome run(Map<String, Object> params) {
 
+        // don't bother timing the jobs if no one is listening
+        if (listener == GraphJobListener.none()) {
+            return run(jobs, params);
+        }
+
+        long stepStart = System.nanoTime();
+        List<TimedJob> timedJobs = new ArrayList<>(jobs.size());
+        for (Job j : jobs) {
+            timedJobs.add(TimedJob.of(j));
+        }
+
+        try {
+            return run(timedJobs, params);
+        } finally {
+            onStepFinished(timedJobs, stepStart);
+        }
+    }
+
+    private JobOutcome run(List<? extends Job> jobs, Map<String, Object> params) {
+
+        // the first job runs on the step thread, unless it is async and can run without a thread at all
+        Future<JobOutcome> f0 = jobs.get(0) instanceof AsyncJob async ? executor.submitAsync(async, params) : null;
+
         List<Map.Entry<String, Future<JobOutcome>>> submitted = jobs
                 .stream()
                 .skip(1)
-                .map(j -> Map.entry(j.getMetadata().getName(), executor.submit(j, params)))
+                .map(j -> Map.entry(j.getMetadata().getName(), submit(j, params)))
                 .collect(Collectors.toList());
 
-        JobOutcome r0 = jobs.get(0).run(params);
+        JobOutcome r0 = f0 != null ? await(f0) : runMember(jobs.get(0), params);
         logResult(jobs.get(0).getMetadata().getName(), r0);
 
         if (!r0.isSuccess()) {
@@ -65,13 +112,7 @@ public class ParallelJobsStep extends GraphJobStep {
 
         for (int i = 0; i < submitted.size(); i++) {
 
-            JobOutcome r;
-            try {
-                r = submitted.get(i).getValue().get();
-            } catch (ExecutionException | InterruptedException e) {
-                r = JobOutcome.failed(e);
-            }
-
+            JobOutcome r = await(submitted.get(i).getValue());
             logResult(submitted.get(i).getKey(), r);
 
             if (!r.isSuccess()) {
@@ -87,6 +128,44 @@ public class ParallelJobsStep extends GraphJobStep {
         return r0;
     }
 
+    private Future<JobOutcome> submit(Job job, Map<String, Object> params) {
+        // async jobs are started right away and don't take the pool threads
+        return job instanceof AsyncJob async ? executor.submitAsync(async, params) : executor.submit(job, params);
+    }
+
+    private static JobOutcome await(Future<JobOutcome> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException | InterruptedException e) {
+            return JobOutcome.failed(e);
+        }
+    }
+
+    private void onStepFinished(List<TimedJob> timedJobs, long stepStart) {
+
+        long stepEnd = System.nanoTime();
+        long membersRunNanos = 0;
+
+        for (TimedJob j : timedJobs) {
+
+            // skip the jobs that were canceled before they could finish
+            if (j.isFinished()) {
+                long runNanos = j.getEndNanos() - j.getStartNanos();
+                membersRunNanos += runNanos;
+
+                listener.onMemberFinished(
+                        groupName,
+                        stepIndex,
+                        j.getMetadata().getName(),
+                        Math.max(0, j.getStartNanos() - stepStart),
+                        runNanos,
+                        stepEnd - j.getEndNanos());
+            }
+        }
+
+        listener.onStepFinished(groupName, stepIndex, timedJobs.size(), stepEnd - stepStart, membersRunNanos);
+    }
+
     private void cancelAll(List<Map.Entry<String, Future<JobOutcome>>> tasks) {
         tasks.forEach(t -> t.getValue().cancel(true));
     }
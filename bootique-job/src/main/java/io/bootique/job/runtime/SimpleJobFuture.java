@@ -25,12 +25,21 @@ import io.bootique.job.JobOutcome;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
 
+/**
+ * @deprecated in favor of {@link CompletableJobFuture} that doesn't need to block a thread to track the job completion.
+ */
+@Deprecated(since = "4.0", forRemoval = true)
 public class SimpleJobFuture implements JobFuture {
 
     private String jobName;
     private Future<?> delegate;
     private Supplier<JobOutcome> resultSupplier;
+    private CompletableJobFuture completion;
 
+    /**
+     * Creates a future for a job run. If the run Future is also a {@link CompletionStage}, the future is notified of
+     * the run completion automatically. Otherwise, the run itself must call {@link #onRunFinished()} when done.
+     */
     public SimpleJobFuture(
             String jobName,
             Future<?> delegate,
@@ -39,6 +48,34 @@ public class SimpleJobFuture implements JobFuture {
         this.jobName = jobName;
         this.delegate = delegate;
         this.resultSupplier = resultSupplier;
+        this.completion = new CompletableJobFuture(jobName);
+
+        if (delegate instanceof CompletionStage<?> stage) {
+            stage.whenComplete((r, th) -> onRunFinished());
+        }
+    }
+
+    /**
+     * Completes the future returned from {@link #toCompletableFuture()} with the job outcome, following the outcome
+     * yields, if any. Should be called at the end of the job run, unless the run Future is a {@link CompletionStage}.
+     *
+     * @since 4.0
+     */
+    public void onRunFinished() {
+        if (delegate.isCancelled()) {
+            completion.cancel(false);
+            return;
+        }
+
+        JobOutcome outcome;
+        try {
+            outcome = resultSupplier.get();
+        } catch (RuntimeException e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+
+        completion.complete(outcome);
     }
 
     @Override
@@ -46,9 +83,24 @@ public class SimpleJobFuture implements JobFuture {
         return jobName;
     }
 
+    /**
+     * Returns a CompletableFuture that is completed by the job run via {@link #onRunFinished()}, so no thread is
+     * blocked waiting for the job.
+     */
+    @Override
+    public CompletableFuture<JobOutcome> toCompletableFuture() {
+        return completion.toCompletableFuture();
+    }
+
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
-        return delegate.cancel(mayInterruptIfRunning);
+        if (delegate.cancel(mayInterruptIfRunning)) {
+            completion.cancel(mayInterruptIfRunning);
+            return true;
+        }
+
+        JobFuture yieldedTo = delegate.isDone() && !delegate.isCancelled() ? resultSupplier.get().getYieldedTo() : null;
+        return yieldedTo != null && yieldedTo.cancel(mayInterruptIfRunning);
     }
 
     @Override
@@ -58,7 +110,13 @@ public class SimpleJobFuture implements JobFuture {
 
     @Override
     public boolean isDone() {
-        return delegate.isDone();
+        if (!delegate.isDone()) {
+            return false;
+        }
+
+        // the job may have finished its first run, but yielded to a future for the rest of the execution
+        JobFuture yieldedTo = delegate.isCancelled() ? null : resultSupplier.get().getYieldedTo();
+        return yieldedTo == null || yieldedTo.isDone();
     }
 
     @Override
@@ -70,12 +128,14 @@ public class SimpleJobFuture implements JobFuture {
             throw new RuntimeException(e);
         }
 
-        return resultSupplier.get();
+        return resultSupplier.get().awaitFinal();
     }
 
     @Override
     public JobOutcome get(long timeout, TimeUnit unit) {
 
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
         // wait till the job is done and then return the result
         try {
             delegate.get(timeout, unit);
@@ -83,6 +143,11 @@ public class SimpleJobFuture implements JobFuture {
             throw new RuntimeException(e);
         }
 
-        return resultSupplier.get();
+        JobOutcome outcome = resultSupplier.get();
+        while (outcome.getYieldedTo() != null) {
+            outcome = outcome.getYieldedTo().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        return outcome;
     }
 }
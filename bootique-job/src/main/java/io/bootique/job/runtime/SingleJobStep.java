@@ -30,15 +30,38 @@ import java.util.Objects;
 public class SingleJobStep extends GraphJobStep {
 
     private final Job job;
+    private final String groupName;
+    private final int stepIndex;
+    private final GraphJobListener listener;
 
     public SingleJobStep(Job job) {
+        this(job, null, 0, GraphJobListener.none());
+    }
+
+    /**
+     * @param groupName a name of the group this step belongs to
+     * @param stepIndex a zero-based index of this step within the group
+     * @param listener  a listener notified about the step timing
+     * @since 4.0
+     */
+    public SingleJobStep(Job job, String groupName, int stepIndex, GraphJobListener listener) {
         this.job = Objects.requireNonNull(job);
+        this.groupName = groupName;
+        this.stepIndex = stepIndex;
+        this.listener = Objects.requireNonNull(listener);
     }
 
     @Override
     public JobOutcome run(Map<String, Object> params) {
-        JobOutcome result = job.run(params);
+        long t0 = System.nanoTime();
+        JobOutcome result = runMember(job, params);
+        long runNanos = System.nanoTime() - t0;
+
         logResult(job.getMetadata().getName(), result);
+
+        // a single job never waits for a thread or for its siblings
+        listener.onMemberFinished(groupName, stepIndex, job.getMetadata().getName(), 0, runNanos, 0);
+        listener.onStepFinished(groupName, stepIndex, 1, runNanos, runNanos);
         return result;
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A wrapper of a group step job that records the job start and end time.
+ *
+ * @since 4.0
+ */
+class TimedJob implements Job {
+
+    private final Job delegate;
+
+    // written by the job thread, read by the thread running the step
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile boolean finished;
+
+    static TimedJob of(Job delegate) {
+        return delegate instanceof AsyncJob async ? new TimedAsyncJob(async) : new TimedJob(delegate);
+    }
+
+    TimedJob(Job delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public JobMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public JobOutcome run(Map<String, Object> params) {
+        startTimer();
+        try {
+            return delegate.run(params);
+        } finally {
+            stopTimer();
+        }
+    }
+
+    void startTimer() {
+        startNanos = System.nanoTime();
+    }
+
+    void stopTimer() {
+        endNanos = System.nanoTime();
+        finished = true;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getEndNanos() {
+        return endNanos;
+    }
+
+    static class TimedAsyncJob extends TimedJob implements AsyncJob {
+
+        private final AsyncJob asyncDelegate;
+
+        TimedAsyncJob(AsyncJob delegate) {
+            super(delegate);
+            this.asyncDelegate = delegate;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            return super.run(params);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            startTimer();
+            return asyncDelegate.runAsync(params).whenComplete((o, th) -> stopTimer());
+        }
+    }
+}
@@ -48,7 +48,8 @@ class CronTriggerBuilder extends TriggerBuilder {
                 createJobName(),
                 createTriggerName(),
                 createParams(),
-                CronExpression.parse(cron)
+                CronExpression.parse(cron),
+                createOptions()
         );
     }
 }
@@ -22,14 +22,20 @@ package io.bootique.job.scheduler;
 import io.bootique.BootiqueException;
 import io.bootique.job.JobRegistry;
 import io.bootique.job.ExecBuilder;
+import io.bootique.job.Job;
+import io.bootique.job.JobFuture;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.RecentExecutions;
 import io.bootique.job.Scheduler;
 import io.bootique.job.TriggerBuilder;
+import io.bootique.job.runtime.ExecutionHistory;
 import io.bootique.job.runtime.JobDecorators;
 import io.bootique.job.trigger.Trigger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,15 +48,21 @@ public class DefaultScheduler implements Scheduler {
     final JobRegistry jobRegistry;
     private final JobDecorators decorators;
     final TaskScheduler taskScheduler;
+    private final ExecutionHistory executionHistory;
+    private final ExecutionQueue executionQueue;
     private final Map<String, Map<String, Trigger>> triggersByJob;
 
     public DefaultScheduler(
             JobRegistry jobRegistry,
             JobDecorators decorators,
             TaskScheduler taskScheduler,
+            ExecutionHistory executionHistory,
+            ExecutionQueue executionQueue,
             List<Trigger> initialTriggers) {
 
         this.taskScheduler = taskScheduler;
+        this.executionHistory = Objects.requireNonNull(executionHistory);
+        this.executionQueue = executionQueue;
         this.jobRegistry = jobRegistry;
         this.decorators = decorators;
         this.triggersByJob = new ConcurrentHashMap<>();
@@ -186,12 +198,69 @@ public class DefaultScheduler implements Scheduler {
             trigger.cancel(true);
         }
 
+        if (trigger != null) {
+            executionHistory.removeTrigger(jobName, triggerName);
+        }
+
         return trigger != null;
     }
 
     @Override
     public ExecBuilder newExecution() {
-        return new ExecBuilder(jobRegistry, taskScheduler, decorators);
+        return new ExecBuilder(jobRegistry, taskScheduler, decorators, executionQueue);
+    }
+
+    @Override
+    public int runPendingExecutions() {
+
+        if (executionQueue == null) {
+            return 0;
+        }
+
+        List<PendingExecution> pending = executionQueue.takePending();
+        int started = 0;
+
+        for (PendingExecution e : pending) {
+
+            if (!jobRegistry.getJobNames().contains(e.getJobName())) {
+                LOGGER.warn("Dropping a pending execution of an unknown job: {}", e);
+                executionQueue.ack(e.getId());
+                continue;
+            }
+
+            Job job = jobRegistry.getJob(e.getJobName());
+
+            // params were restored from JSON, so need to be converted to the types expected by the job
+            Map<String, Object> params = job.getMetadata().convertParameters(e.getParams());
+
+            taskScheduler.schedule(() -> {
+                JobOutcome outcome = null;
+                try {
+                    outcome = job.run(params);
+                } finally {
+                    ackWhenFinished(e.getId(), outcome);
+                }
+            }, Instant.now(), job.getMetadata().getPriority());
+
+            started++;
+        }
+
+        if (started > 0) {
+            LOGGER.info("Resumed {} pending execution(s)", started);
+        }
+
+        return started;
+    }
+
+    private void ackWhenFinished(long id, JobOutcome outcome) {
+
+        // a run that yielded to a retry or a deferred run is not finished until the yielded future is done
+        JobFuture yieldedTo = outcome != null ? outcome.getYieldedTo() : null;
+        if (yieldedTo != null) {
+            yieldedTo.whenComplete((o, th) -> executionQueue.ack(id));
+        } else {
+            executionQueue.ack(id);
+        }
     }
 
     @Override
@@ -261,6 +330,23 @@ public class DefaultScheduler implements Scheduler {
         return trigger;
     }
 
+    @Override
+    public RecentExecutions getRecentExecutions(String jobName) {
+        if (!jobRegistry.getJobNames().contains(jobName)) {
+            throw new IllegalArgumentException("Invalid job name: " + jobName);
+        }
+
+        return executionHistory.getJobExecutions(jobName);
+    }
+
+    @Override
+    public RecentExecutions getRecentExecutions(String jobName, String triggerName) {
+
+        // validate trigger name
+        getTrigger(jobName, triggerName);
+        return executionHistory.getTriggerExecutions(jobName, triggerName);
+    }
+
     TriggerRegistrationOutcome addTrigger(Trigger trigger) {
 
         if (!jobRegistry.getJobNames().contains(trigger.getJobName())) {
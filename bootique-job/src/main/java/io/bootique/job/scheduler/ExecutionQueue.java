@@ -0,0 +1,51 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A durable queue of non-blocking job executions. An execution is stored in the queue before it is started, and is
+ * acknowledged once it finishes, so that the executions interrupted by an app stop can be replayed after restart.
+ *
+ * @see FileExecutionQueue
+ * @since 4.0
+ */
+public interface ExecutionQueue {
+
+    /**
+     * Stores an execution in the queue, returning after it is persisted.
+     *
+     * @return a unique id of the execution that should be passed to {@link #ack(long)} when the execution is finished
+     */
+    long add(String jobName, Map<String, Object> params);
+
+    /**
+     * Marks an execution as finished, so that it is not replayed after restart.
+     */
+    void ack(long id);
+
+    /**
+     * Returns the executions that were stored before this queue was opened, but never acknowledged. Returns them only
+     * once, so that they are not replayed twice. The returned executions must be acknowledged by the caller when they
+     * finish.
+     */
+    List<PendingExecution> takePending();
+}
@@ -0,0 +1,387 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A durable queue of non-blocking job executions backed by a local append-only file (a write-ahead log). Each
+ * submitted execution is written to the file before it is started, and is acknowledged once it finishes. Executions
+ * that were never acknowledged (because the app was stopped or crashed) are available via {@link #takePending()}
+ * after restart.
+ *
+ * <p>Submissions are written by a single writer thread. All the submissions that arrive while the writer is busy are
+ * written together and synced to disk with a single fsync ("group commit"). Acknowledgements do not cause a sync of
+ * their own, and are synced together with the next submission, so an execution that finished right before a crash
+ * may be replayed. I.e. the executions are delivered "at least once".</p>
+ *
+ * @since 4.0
+ */
+public class FileExecutionQueue implements ExecutionQueue, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileExecutionQueue.class);
+
+    // don't bother compacting small files
+    static final int MIN_COMPACTION_RECORDS = 10_000;
+
+    private static final String ADD = "+";
+    private static final String ACK = "-";
+
+    private static final Write STOP = new Write(0, null, null);
+
+    private final Path file;
+    private final ObjectMapper paramsMapper;
+    private final AtomicLong lastId;
+    private final BlockingQueue<Write> writes;
+    private final List<PendingExecution> recovered;
+    private final Thread writer;
+
+    // accessed by the writer thread only after the constructor finishes
+    private final Map<Long, String> unacked;
+    private FileChannel channel;
+    private int records;
+
+    // guarded by "writes"
+    private boolean closed;
+
+    public FileExecutionQueue(Path file, ObjectMapper paramsMapper) {
+        this.file = Objects.requireNonNull(file);
+        this.paramsMapper = Objects.requireNonNull(paramsMapper);
+        this.lastId = new AtomicLong();
+        this.writes = new LinkedBlockingQueue<>();
+        this.recovered = new ArrayList<>();
+        this.unacked = new TreeMap<>();
+
+        read();
+
+        // drop acknowledged executions and any incomplete records left by a crash
+        compact();
+
+        this.writer = Thread.ofVirtual().name("bootique-job-queue-writer").start(this::writeLoop);
+    }
+
+    /**
+     * Stores an execution in the queue, returning after it is synced to disk.
+     *
+     * @return a unique id of the execution that should be passed to {@link #ack(long)} when the execution is finished
+     */
+    @Override
+    public long add(String jobName, Map<String, Object> params) {
+
+        String paramsJson;
+        try {
+            paramsJson = paramsMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Parameters of job '" + jobName + "' can't be stored as JSON", e);
+        }
+
+        long id = lastId.incrementAndGet();
+        Write write = new Write(id, addRecord(id, jobName, paramsJson), new CompletableFuture<>());
+
+        synchronized (writes) {
+            if (closed) {
+                throw new IllegalStateException("Execution queue is closed");
+            }
+
+            writes.add(write);
+        }
+
+        try {
+            write.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while storing an execution of job '" + jobName + "'", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error storing an execution of job '" + jobName + "'", e.getCause());
+        }
+
+        return id;
+    }
+
+    /**
+     * Marks an execution as finished, so that it is not replayed after restart.
+     */
+    @Override
+    public void ack(long id) {
+        synchronized (writes) {
+            if (closed) {
+                // will be replayed on restart
+                LOGGER.debug("Execution queue is closed, ignoring the acknowledgement of {}", id);
+                return;
+            }
+
+            writes.add(new Write(id, null, null));
+        }
+    }
+
+    /**
+     * Returns the executions that were stored before this queue was opened, but never acknowledged. Returns them only
+     * once, so that they are not replayed twice. The returned executions must be acknowledged by the caller when they
+     * finish.
+     */
+    @Override
+    public synchronized List<PendingExecution> takePending() {
+        List<PendingExecution> pending = List.copyOf(recovered);
+        recovered.clear();
+        return pending;
+    }
+
+    /**
+     * Writes all the queued records to disk, waiting for the writer to finish.
+     */
+    @Override
+    public void close() {
+
+        synchronized (writes) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            writes.add(STOP);
+        }
+
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+
+        List<Write> batch = new ArrayList<>();
+        boolean stop = false;
+
+        try {
+            while (!stop) {
+                batch.add(writes.take());
+
+                // everything that was queued while we were writing the previous batch goes into a single commit
+                writes.drainTo(batch);
+                stop = writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Execution queue writer interrupted");
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error closing execution queue file", e);
+            }
+        }
+    }
+
+    private boolean writeBatch(List<Write> batch) {
+
+        StringBuilder out = new StringBuilder();
+        boolean stop = false;
+        boolean sync = false;
+        int batchRecords = 0;
+
+        for (Write w : batch) {
+            if (w == STOP) {
+                stop = true;
+                sync = true;
+            } else if (w.record != null) {
+                out.append(w.record);
+                sync = true;
+                batchRecords++;
+            } else if (unacked.remove(w.id) != null) {
+                out.append(ACK).append(' ').append(w.id).append('\n');
+                batchRecords++;
+            }
+        }
+
+        IOException error = null;
+        try {
+            write(channel, out, sync);
+            records += batchRecords;
+        } catch (IOException e) {
+            LOGGER.error("Error writing execution queue file {}", file, e);
+            error = e;
+        }
+
+        for (Write w : batch) {
+            if (w.done != null) {
+                if (error == null) {
+                    unacked.put(w.id, w.record);
+                    w.done.complete(null);
+                } else {
+                    w.done.completeExceptionally(error);
+                }
+            }
+        }
+
+        if (error == null && records > MIN_COMPACTION_RECORDS && records > 2 * unacked.size()) {
+            compact();
+        }
+
+        return stop;
+    }
+
+    private void compact() {
+
+        StringBuilder snapshot = new StringBuilder();
+        unacked.values().forEach(snapshot::append);
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (FileChannel tmpChannel = FileChannel.open(tmp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                write(tmpChannel, snapshot, true);
+            }
+
+            if (channel != null) {
+                channel.close();
+            }
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.records = unacked.size();
+            LOGGER.debug("Compacted execution queue file {} to {} records", file, records);
+        } catch (IOException e) {
+            LOGGER.error("Error compacting execution queue file {}", file, e);
+        }
+
+        // reopen the channel even if the compaction failed, as the old channel may have been closed
+        if (channel == null || !channel.isOpen()) {
+            this.channel = openChannel();
+        }
+    }
+
+    private void read() {
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        String text;
+        try {
+            text = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading execution queue file " + file, e);
+        }
+
+        // the text after the last line break is an incomplete record written during a crash
+        int end = text.lastIndexOf('\n');
+        Map<Long, PendingExecution> pending = new TreeMap<>();
+
+        for (String line : text.substring(0, end + 1).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] parts = line.split(" ", 4);
+
+            try {
+                long id = Long.parseLong(parts[1]);
+                lastId.set(Math.max(lastId.get(), id));
+
+                if (ADD.equals(parts[0]) && parts.length == 4) {
+                    String jobName = URLDecoder.decode(parts[2], StandardCharsets.UTF_8);
+                    Map<String, Object> params = paramsMapper.readValue(parts[3], Map.class);
+                    pending.put(id, new PendingExecution(id, jobName, params));
+                    unacked.put(id, line + "\n");
+                } else if (ACK.equals(parts[0]) && parts.length == 2) {
+                    pending.remove(id);
+                    unacked.remove(id);
+                } else {
+                    LOGGER.warn("Ignoring invalid execution queue record: {}", line);
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | JsonProcessingException e) {
+                LOGGER.warn("Ignoring invalid execution queue record: {}", line);
+            }
+        }
+
+        recovered.addAll(pending.values());
+    }
+
+    private FileChannel openChannel() {
+        try {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening execution queue file " + file, e);
+        }
+    }
+
+    private static String addRecord(long id, String jobName, String paramsJson) {
+        // JSON produced by the mapper is a single line, so the record is line-delimited
+        return ADD + " " + id + " " + URLEncoder.encode(jobName, StandardCharsets.UTF_8) + " " + paramsJson + "\n";
+    }
+
+    private static void write(FileChannel channel, CharSequence text, boolean sync) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        if (sync) {
+            // a single sync per batch
+            channel.force(false);
+        }
+    }
+
+    private static class Write {
+
+        final long id;
+        final String record;
+        final CompletableFuture<Void> done;
+
+        Write(long id, String record, CompletableFuture<Void> done) {
+            this.id = id;
+            this.record = record;
+            this.done = done;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link TriggerStateStore} that keeps trigger states in a local append-only file, one line per state change.
+ * The states are written asynchronously in batches, with multiple changes of the same trigger within a batch
+ * collapsed into one. When the file grows much larger than the number of known triggers, it is compacted by
+ * rewriting only the latest states. States of the triggers that were neither loaded nor saved by this process are
+ * dropped during compaction.
+ *
+ * @since 4.0
+ */
+public class FileTriggerStateStore implements TriggerStateStore, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileTriggerStateStore.class);
+
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(200);
+
+    // don't bother compacting small files
+    static final int MIN_COMPACTION_RECORDS = 1000;
+
+    private final Path file;
+    private final Duration flushInterval;
+    private final Map<String, TriggerState> states;
+    private final Set<String> liveKeys;
+    private final Map<String, TriggerState> pending;
+    private final AtomicBoolean flushScheduled;
+    private final ScheduledExecutorService writer;
+
+    // accessed under the "flush" lock
+    private FileChannel channel;
+    private int records;
+
+    private volatile boolean closed;
+
+    public FileTriggerStateStore(Path file) {
+        this(file, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public FileTriggerStateStore(Path file, Duration flushInterval) {
+        this.file = Objects.requireNonNull(file);
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+        this.states = new ConcurrentHashMap<>();
+        this.liveKeys = ConcurrentHashMap.newKeySet();
+        this.pending = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.writer = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("bootique-job-state-writer").factory());
+
+        read();
+        this.channel = openChannel();
+    }
+
+    @Override
+    public TriggerState load(String key) {
+        liveKeys.add(key);
+        return states.get(key);
+    }
+
+    @Override
+    public void save(String key, TriggerState state) {
+
+        if (closed) {
+            LOGGER.warn("Trigger state store is closed, ignoring the state of '{}'", key);
+            return;
+        }
+
+        liveKeys.add(key);
+        states.put(key, state);
+        pending.put(key, state);
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::flush, flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes all the pending states to disk, waiting for the writer to finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writer.shutdown();
+
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+
+        synchronized (this) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error closing trigger state file", e);
+            }
+        }
+    }
+
+    synchronized void flush() {
+
+        // reset the flag before draining, so that the states saved while we are writing will be picked up by the
+        // next flush
+        flushScheduled.set(false);
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        StringBuilder batch = new StringBuilder();
+        int batchRecords = 0;
+        for (String key : pending.keySet()) {
+            TriggerState state = pending.remove(key);
+            if (state != null) {
+                appendRecord(batch, key, state);
+                batchRecords++;
+            }
+        }
+
+        try {
+            write(channel, batch);
+            records += batchRecords;
+        } catch (IOException e) {
+            LOGGER.error("Error writing trigger state file {}", file, e);
+            return;
+        }
+
+        if (records > MIN_COMPACTION_RECORDS && records > 2 * liveKeys.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+
+        StringBuilder snapshot = new StringBuilder();
+        int snapshotRecords = 0;
+        for (String key : liveKeys) {
+            TriggerState state = states.get(key);
+            if (state != null) {
+                appendRecord(snapshot, key, state);
+                snapshotRecords++;
+            }
+        }
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel tmpChannel = FileChannel.open(tmp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                write(tmpChannel, snapshot);
+            }
+
+            channel.close();
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Error compacting trigger state file {}", file, e);
+        }
+
+        // reopen the channel even if the compaction failed, as the old channel may have been closed
+        if (!channel.isOpen()) {
+            this.channel = openChannel();
+        }
+
+        this.records = snapshotRecords;
+        LOGGER.debug("Compacted trigger state file {} to {} records", file, snapshotRecords);
+    }
+
+    private void read() {
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        truncateIncompleteRecord();
+
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+
+                String[] parts = line.split(" ");
+                if (parts.length != 3) {
+                    LOGGER.warn("Ignoring invalid trigger state record: {}", line);
+                    continue;
+                }
+
+                try {
+                    String key = URLDecoder.decode(parts[0], StandardCharsets.UTF_8);
+                    states.put(key, new TriggerState(Instant.parse(parts[1]), Instant.parse(parts[2])));
+                    records++;
+                } catch (DateTimeParseException | IllegalArgumentException e) {
+                    LOGGER.warn("Ignoring invalid trigger state record: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading trigger state file " + file, e);
+        }
+    }
+
+    // The last record may be incomplete if the app crashed in the middle of a write. Cutting it off, as otherwise the
+    // next append would continue the same line, corrupting the following record as well
+    private void truncateIncompleteRecord() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            long size = channel.size();
+            long validSize = 0;
+
+            // scan backwards for the last line separator
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            long end = size;
+            scan:
+            while (end > 0) {
+                long start = Math.max(0, end - buffer.capacity());
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    channel.read(buffer, start + buffer.position());
+                }
+
+                for (int i = buffer.position() - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        validSize = start + i + 1;
+                        break scan;
+                    }
+                }
+
+                end = start;
+            }
+
+            if (validSize < size) {
+                LOGGER.warn("Truncating incomplete trigger state record at the end of {}", file);
+                channel.truncate(validSize);
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading trigger state file " + file, e);
+        }
+    }
+
+    private FileChannel openChannel() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening trigger state file " + file, e);
+        }
+    }
+
+    private static void appendRecord(StringBuilder out, String key, TriggerState state) {
+        out.append(URLEncoder.encode(key, StandardCharsets.UTF_8))
+                .append(' ').append(state.getLastScheduledExecution())
+                .append(' ').append(state.getLastCompletion())
+                .append('\n');
+    }
+
+    private static void write(FileChannel channel, CharSequence text) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        // a single sync per batch
+        channel.force(false);
+    }
+}
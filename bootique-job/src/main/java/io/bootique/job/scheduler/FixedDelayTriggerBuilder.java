@@ -52,7 +52,8 @@ class FixedDelayTriggerBuilder extends TriggerBuilder {
                 createTriggerName(),
                 createParams(),
                 period,
-                initialDelay
+                initialDelay,
+                createOptions()
         );
     }
 }
@@ -52,7 +52,8 @@ class FixedRateTriggerBuilder extends TriggerBuilder {
                 createTriggerName(),
                 createParams(),
                 period,
-                initialDelay
+                initialDelay,
+                createOptions()
         );
     }
 }
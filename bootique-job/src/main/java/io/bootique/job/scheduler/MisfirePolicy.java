@@ -0,0 +1,43 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+/**
+ * Defines what a periodic trigger should do on startup, if its saved state indicates that it has missed one or more
+ * fires while the app was down.
+ *
+ * @since 4.0
+ */
+public enum MisfirePolicy {
+
+    /**
+     * Run all the missed fires one after another, and then continue on schedule.
+     */
+    CATCH_UP,
+
+    /**
+     * Run once immediately for all the missed fires, and then continue on schedule.
+     */
+    FIRE_ONCE,
+
+    /**
+     * Ignore the missed fires and wait for the next fire time on schedule.
+     */
+    SKIP
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A job execution submitted to the {@link ExecutionQueue}, but not yet acknowledged as finished.
+ *
+ * @since 4.0
+ */
+public class PendingExecution {
+
+    private final long id;
+    private final String jobName;
+    private final Map<String, Object> params;
+
+    public PendingExecution(long id, String jobName, Map<String, Object> params) {
+        this.id = id;
+        this.jobName = Objects.requireNonNull(jobName);
+        this.params = Objects.requireNonNull(params);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return jobName + "#" + id;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+/**
+ * A task that carries a priority used to order the due tasks waiting for a free scheduler worker.
+ *
+ * @since 4.0
+ */
+interface PrioritizedTask extends Runnable {
+
+    int getPriority();
+
+    static PrioritizedTask of(Runnable task, int priority) {
+        return new PrioritizedTask() {
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+
+            @Override
+            public void run() {
+                task.run();
+            }
+        };
+    }
+}
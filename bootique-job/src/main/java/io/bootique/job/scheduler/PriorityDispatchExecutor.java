@@ -0,0 +1,235 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} that only acts as a timer. When a task is due, it is handed off to a fixed
+ * pool of workers instead of running on the timer thread. If all the workers are busy, the due tasks wait in a queue
+ * ordered by priority, then by the scheduled time. To prevent starvation of the low-priority tasks, a task gains one
+ * priority level for each "priorityAging" interval it spent waiting. As the aging is linear, this is equivalent to
+ * ordering the tasks by their scheduled time shifted back by "priority * priorityAging".
+ *
+ * @since 4.0
+ */
+class PriorityDispatchExecutor extends ScheduledThreadPoolExecutor {
+
+    // priorities outside of this range are treated as the range boundaries
+    static final int MAX_PRIORITY = 1000;
+    static final Duration MAX_PRIORITY_AGING = Duration.ofDays(1);
+
+    private final ThreadPoolExecutor workers;
+    private final long agingNanos;
+    private final AtomicLong sequence;
+
+    PriorityDispatchExecutor(
+            int poolSize,
+            ThreadFactory threadFactory,
+            RejectedExecutionHandler rejectedHandler,
+            Duration priorityAging) {
+
+        super(1, threadFactory, rejectedHandler);
+
+        if (priorityAging.isNegative() || priorityAging.isZero() || priorityAging.compareTo(MAX_PRIORITY_AGING) > 0) {
+            throw new IllegalArgumentException("'priorityAging' must be a positive duration of at most "
+                    + MAX_PRIORITY_AGING + ": " + priorityAging);
+        }
+
+        this.workers = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                threadFactory,
+                rejectedHandler);
+        this.agingNanos = priorityAging.toNanos();
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Returns the approximate number of workers that are running tasks.
+     */
+    int getActiveWorkerCount() {
+        return workers.getActiveCount();
+    }
+
+    /**
+     * Returns the number of due tasks waiting for a free worker.
+     */
+    int getReadyCount() {
+        return workers.getQueue().size();
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        int priority = runnable instanceof PrioritizedTask pt ? pt.getPriority() : 0;
+        return new DispatchFuture<>(task, priority);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        return new DispatchFuture<>(task, 0);
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        workers.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> remaining = super.shutdownNow();
+        for (Runnable r : workers.shutdownNow()) {
+            remaining.add(((ReadyTask) r).task);
+        }
+
+        return remaining;
+    }
+
+    private void dispatch(RunnableScheduledFuture<?> task, int priority) {
+
+        // the scheduled time of the task, which is normally a moment ago
+        long deadline = System.nanoTime() + task.getDelay(TimeUnit.NANOSECONDS);
+
+        try {
+            workers.execute(new ReadyTask(task, rank(deadline, priority), deadline, sequence.getAndIncrement()));
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+            throw e;
+        }
+    }
+
+    private long rank(long deadline, int priority) {
+        // clamp the priority, so that the shifted time doesn't overflow
+        int clamped = Math.max(-MAX_PRIORITY, Math.min(MAX_PRIORITY, priority));
+        return deadline - clamped * agingNanos;
+    }
+
+    // a timer task that dispatches the wrapped task to the workers when due
+    class DispatchFuture<V> implements RunnableScheduledFuture<V> {
+
+        private final RunnableScheduledFuture<V> task;
+        private final int priority;
+
+        DispatchFuture(RunnableScheduledFuture<V> task, int priority) {
+            this.task = Objects.requireNonNull(task);
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            if (!task.isCancelled()) {
+                dispatch(task, priority);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return false;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return task.compareTo(o instanceof DispatchFuture<?> df ? df.task : o);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+
+    // a due task waiting for a free worker
+    static class ReadyTask implements Runnable, Comparable<ReadyTask> {
+
+        final RunnableScheduledFuture<?> task;
+        private final long rank;
+        private final long deadline;
+        private final long sequence;
+
+        ReadyTask(RunnableScheduledFuture<?> task, long rank, long deadline, long sequence) {
+            this.task = task;
+            this.rank = rank;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(ReadyTask o) {
+
+            // nanoTime values must be compared via subtraction
+            int c = Long.signum(rank - o.rank);
+            if (c != 0) {
+                return c;
+            }
+
+            c = Long.signum(deadline - o.deadline);
+            return c != 0 ? c : Long.compare(sequence, o.sequence);
+        }
+    }
+}
@@ -18,6 +18,9 @@
  */
 package io.bootique.job.scheduler;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -33,38 +36,156 @@ import java.util.concurrent.TimeoutException;
  * A combination of a Runnable and a Future that reschedules itself upon each run completion according to the internal
  * Trigger rules.
  */
-class ReschedulingRunnable implements Runnable, Future<Object> {
+class ReschedulingRunnable implements PrioritizedTask, Future<Object> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReschedulingRunnable.class);
 
     private final Runnable delegate;
+    private final String name;
     private final Schedule schedule;
+    private final Duration leadTime;
+    private final String stateKey;
+    private final TriggerStateStore stateStore;
+    private final MisfirePolicy misfirePolicy;
+    private final TaskRunListener runListener;
+    private final Clock clock;
     private final SchedulingContext context;
     private final ScheduledExecutorService executor;
     private final Object triggerContextMonitor;
+    private final int priority;
+
+    // when catching up after a misfire, tracks the missed fires separately from the main context
+    private SchedulingContext catchUpContext;
+    private Instant catchUpUntil;
 
     private volatile ScheduledFuture<?> currentFuture;
     private volatile Instant scheduledExecutionTime;
+    private volatile ScheduledFireTime currentFireTime;
 
-    public ReschedulingRunnable(
-            Runnable delegate,
-            Schedule schedule,
-            Clock clock,
-            ScheduledExecutorService executor) {
-
+    /**
+     * @param options   the lead time, the state key and the priority of the task
+     * @param scheduler the scheduler that provides the executor, the clock and the task state handling strategies
+     * @since 4.0
+     */
+    public ReschedulingRunnable(Runnable delegate, Schedule schedule, TaskOptions options, TaskScheduler scheduler) {
         this.delegate = delegate;
         this.schedule = schedule;
+        this.name = options.getName();
+        this.leadTime = options.getLeadTime();
+        this.stateKey = options.getStateKey();
+        this.priority = options.getPriority();
+        this.stateStore = scheduler.getStateStore();
+        this.misfirePolicy = scheduler.getMisfirePolicy();
+        this.runListener = scheduler.getRunListener();
+        this.clock = scheduler.getClock();
+        this.executor = scheduler.getExecutor();
         this.context = new SchedulingContext(clock);
-        this.executor = executor;
         this.triggerContextMonitor = new Object();
     }
 
+    /**
+     * @since 4.0
+     */
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Schedules the first run of the task, resuming from the saved task state if available.
+     *
+     * @since 4.0
+     */
+    public void start() {
+
+        TriggerState state = stateKey != null ? stateStore.load(stateKey) : null;
+        if (state == null) {
+            schedule();
+            return;
+        }
+
+        synchronized (triggerContextMonitor) {
+            context.update(state.getLastScheduledExecution(), state.getLastCompletion());
+
+            Instant next = schedule.nextExecution(context);
+            scheduleAt(next != null && next.isBefore(context.now()) ? onMisfire(next) : next);
+        }
+    }
+
     public void schedule() {
         synchronized (triggerContextMonitor) {
-            this.scheduledExecutionTime = schedule.nextExecution(context);
-            if (scheduledExecutionTime != null) {
-                Duration delay = Duration.between(context.now(), scheduledExecutionTime);
-                currentFuture = executor.schedule(this, delay.toNanos(), TimeUnit.NANOSECONDS);
+            scheduleAt(catchUpContext != null ? nextMissed() : schedule.nextExecution(context));
+        }
+    }
+
+    // must be called under the "triggerContextMonitor" lock
+    private Instant nextMissed() {
+
+        // the main context is updated with the actual run completion time, so the schedules that are based on the
+        // completion (cron, fixed delay) would jump straight past the remaining missed fires. So walking them here
+        // on a separate context, the same way "onMisfire" did.
+        Instant lastMissed = scheduledExecutionTime;
+        catchUpContext.update(lastMissed, lastMissed);
+        Instant next = schedule.nextExecution(catchUpContext);
+
+        if (next != null && next.isAfter(lastMissed) && next.isBefore(catchUpUntil)) {
+            return next;
+        }
+
+        catchUpContext = null;
+        catchUpUntil = null;
+        return schedule.nextExecution(context);
+    }
+
+    private void scheduleAt(Instant executionTime) {
+        this.scheduledExecutionTime = executionTime;
+        if (executionTime != null) {
+            Duration delay = Duration.between(context.now(), executionTime.minus(leadTime));
+            currentFuture = executor.schedule(this, delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // must be called under the "triggerContextMonitor" lock
+    private Instant onMisfire(Instant firstMissed) {
+
+        Instant now = context.now();
+
+        // walk through the missed fires on a copy of the context to find the latest missed fire and the next fire
+        // after it
+        SchedulingContext probe = new SchedulingContext(clock);
+        Instant lastMissed = firstMissed;
+        Instant next = firstMissed;
+        int missed = 0;
+
+        while (next != null && next.isBefore(now)) {
+            lastMissed = next;
+            missed++;
+
+            probe.update(next, next);
+            next = schedule.nextExecution(probe);
+
+            // protect against schedules that do not move forward
+            if (next != null && !next.isAfter(lastMissed)) {
+                break;
             }
         }
+
+        LOGGER.warn("'{}' missed {} run(s) since {}. Applying misfire policy {}", name, missed, firstMissed, misfirePolicy);
+
+        return switch (misfirePolicy) {
+            // run all the missed fires one after another, starting with the first one
+            case CATCH_UP -> {
+                catchUpContext = new SchedulingContext(clock);
+                catchUpUntil = now;
+                yield firstMissed;
+            }
+            // run immediately, pretending it is the latest missed fire, so that the following fire is on schedule
+            case FIRE_ONCE -> lastMissed;
+            case SKIP -> {
+                context.update(lastMissed, lastMissed);
+                yield next;
+            }
+        };
     }
 
     private ScheduledFuture<?> obtainCurrentFuture() {
@@ -73,12 +194,21 @@ class ReschedulingRunnable implements Runnable, Future<Object> {
 
     @Override
     public void run() {
+
+        notifyRunStarted();
+        ScheduledFireTime fireTime = startFireTime();
+
         try {
             delegate.run();
         } catch (Throwable ex) {
             throw new RuntimeException(ex);
         } finally {
 
+            if (fireTime != null) {
+                this.currentFireTime = null;
+                ScheduledFireTime.unbind();
+            }
+
             // Reschedule the next run. Don't die on errors. Only an explicit cancellation (or the trigger deciding to
             // stop) would stop rescheduling
 
@@ -89,7 +219,12 @@ class ReschedulingRunnable implements Runnable, Future<Object> {
             synchronized (triggerContextMonitor) {
                 Objects.requireNonNull(scheduledExecutionTime, "No scheduled execution");
 
-                context.update(scheduledExecutionTime, context.now());
+                Instant completion = context.now();
+                context.update(scheduledExecutionTime, completion);
+                if (stateKey != null) {
+                    stateStore.save(stateKey, new TriggerState(scheduledExecutionTime, completion));
+                }
+
                 if (!obtainCurrentFuture().isCancelled()) {
                     schedule();
                 }
@@ -97,9 +232,44 @@ class ReschedulingRunnable implements Runnable, Future<Object> {
         }
     }
 
+    private void notifyRunStarted() {
+        Instant scheduledStart = Objects.requireNonNull(scheduledExecutionTime).minus(leadTime);
+        try {
+            runListener.onRunStarted(name, scheduledStart, context.now());
+        } catch (RuntimeException e) {
+            // a failing listener must not prevent the task from running and rescheduling
+            LOGGER.warn("Error notifying task run listener", e);
+        }
+    }
+
+    private ScheduledFireTime startFireTime() {
+        if (leadTime.isZero()) {
+            return null;
+        }
+
+        ScheduledFireTime fireTime = new ScheduledFireTime(Objects.requireNonNull(scheduledExecutionTime), clock);
+        this.currentFireTime = fireTime;
+        ScheduledFireTime.bind(fireTime);
+
+        // in case we were canceled between the start of the run and this point
+        if (obtainCurrentFuture().isCancelled()) {
+            fireTime.cancel();
+        }
+
+        return fireTime;
+    }
+
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
         synchronized (triggerContextMonitor) {
+
+            // a run that has started ahead of time, but has not reached its fire time yet should be aborted even if
+            // the caller does not allow interrupts
+            ScheduledFireTime fireTime = this.currentFireTime;
+            if (fireTime != null) {
+                fireTime.cancel();
+            }
+
             return obtainCurrentFuture().cancel(mayInterruptIfRunning);
         }
     }
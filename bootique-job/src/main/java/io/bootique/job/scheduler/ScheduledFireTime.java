@@ -0,0 +1,94 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time when a trigger-initiated job execution is due. Bound to the worker thread by the scheduler for the duration
+ * of a trigger run that was started ahead of its fire time (see {@link io.bootique.job.trigger.Trigger#getLockLeadTime()}),
+ * so that the job decorators can wait for the exact fire time after the job lock is acquired.
+ *
+ * @since 4.0
+ */
+public class ScheduledFireTime {
+
+    private static final ThreadLocal<ScheduledFireTime> CURRENT = new ThreadLocal<>();
+
+    private final Instant fireTime;
+    private final Clock clock;
+    private final CountDownLatch canceled;
+
+    ScheduledFireTime(Instant fireTime, Clock clock) {
+        this.fireTime = Objects.requireNonNull(fireTime);
+        this.clock = Objects.requireNonNull(clock);
+        this.canceled = new CountDownLatch(1);
+    }
+
+    /**
+     * Returns the fire time bound to the current thread, or null if the current thread is not running a trigger
+     * that started ahead of time.
+     */
+    public static ScheduledFireTime current() {
+        return CURRENT.get();
+    }
+
+    static void bind(ScheduledFireTime fireTime) {
+        CURRENT.set(fireTime);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    public Instant getFireTime() {
+        return fireTime;
+    }
+
+    /**
+     * Blocks until the fire time. Returns false if the trigger was canceled or the thread was interrupted while
+     * waiting.
+     */
+    public boolean await() {
+        Duration remaining = Duration.between(clock.instant(), fireTime);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return !isCanceled();
+        }
+
+        try {
+            return !canceled.await(remaining.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public boolean isCanceled() {
+        return canceled.getCount() == 0;
+    }
+
+    void cancel() {
+        canceled.countDown();
+    }
+}
@@ -19,24 +19,43 @@
 
 package io.bootique.job.scheduler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.job.JobRegistry;
 import io.bootique.job.Scheduler;
+import io.bootique.job.breaker.CircuitBreakerDecorator;
+import io.bootique.job.breaker.CircuitBreakerPolicy;
+import io.bootique.job.breaker.CircuitBreakerPolicyFactory;
+import io.bootique.job.executor.JobExecutorFactory;
+import io.bootique.job.executor.JobExecutors;
+import io.bootique.job.jfr.TriggerFireEventListener;
+import io.bootique.job.ratelimit.RateLimit;
+import io.bootique.job.ratelimit.RateLimitDecorator;
+import io.bootique.job.ratelimit.RateLimitFactory;
+import io.bootique.job.runtime.ExecutionHistory;
 import io.bootique.job.runtime.GraphExecutor;
 import io.bootique.job.runtime.JobDecorators;
+import io.bootique.job.runtime.JobTimeoutDecorator;
+import io.bootique.job.runtime.OutcomeCacheDecorator;
 import io.bootique.job.trigger.Trigger;
 import io.bootique.job.trigger.TriggerFactory;
 import io.bootique.shutdown.ShutdownManager;
+import io.bootique.value.Duration;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * A configuration object that is used to setup jobs runtime.
@@ -44,18 +63,34 @@ import java.util.concurrent.Executors;
 @BQConfig("Job scheduler/executor.")
 public class SchedulerFactory {
 
-    private final JobRegistry jobRegistry;
-    private final JobDecorators decorators;
+    // providers, as the scheduler services are needed to create the registry and the decorators
+    private final Provider<JobRegistry> jobRegistry;
+    private final Provider<JobDecorators> decorators;
     private final ShutdownManager shutdownManager;
 
     private Collection<TriggerFactory> triggers;
     private Integer threadPoolSize;
     private Integer graphExecutorThreadPoolSize;
+    private String stateFile;
+    private MisfirePolicy misfirePolicy;
+    private Integer historySize;
+    private String executionQueueFile;
+    private Double watchdogFactor;
+    private Duration watchdogInterval;
+    private Duration priorityAging;
+    private Integer outcomeCacheSize;
+    private Map<String, RateLimitFactory> rateLimits;
+    private Map<String, CircuitBreakerPolicyFactory> circuitBreakers;
+    private Map<String, JobExecutorFactory> executors;
+    private Map<String, String> jobExecutors;
 
+    /**
+     * @since 4.0
+     */
     @Inject
     public SchedulerFactory(
-            JobRegistry jobRegistry,
-            JobDecorators decorators,
+            Provider<JobRegistry> jobRegistry,
+            Provider<JobDecorators> decorators,
             ShutdownManager shutdownManager) {
 
         this.jobRegistry = jobRegistry;
@@ -63,23 +98,183 @@ public class SchedulerFactory {
         this.shutdownManager = shutdownManager;
     }
 
+    /**
+     * @deprecated in favor of the constructor that takes the registry and the decorators providers. This one can't be
+     * used to create the scheduler services the registry and the decorators depend on.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
+    public SchedulerFactory(JobRegistry jobRegistry, JobDecorators decorators, ShutdownManager shutdownManager) {
+        this(() -> jobRegistry, () -> decorators, shutdownManager);
+    }
+
     // TODO: GraphExecutor kinda exists outside of the Scheduler, so probably warrants its own factory
     // TODO: GraphExecutor is probably obsolete as we are using virtual threads in the main Scheduler pool
     public GraphExecutor createGraphExecutor() {
         return new GraphExecutor(createGraphExecutorService());
     }
 
+    /**
+     * @since 4.0
+     */
+    public GraphExecutor createGraphExecutor(JobExecutors jobExecutors) {
+        return new GraphExecutor(createGraphExecutorService(), jobExecutors);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public JobExecutors createJobExecutors() {
+        return shutdownManager.onShutdown(new JobExecutors(
+                executors != null ? executors : Map.of(),
+                jobExecutors != null ? jobExecutors : Map.of()));
+    }
+
     public TaskScheduler createTaskScheduler() {
-        TaskScheduler taskScheduler = new TaskScheduler(
-                Clock.systemDefaultZone(),
-                createThreadPoolSize(),
-                "bootique-job-");
+        return createTaskScheduler(createTriggerStateStore());
+    }
+
+    /**
+     * @since 4.0
+     */
+    public TaskScheduler createTaskScheduler(TriggerStateStore stateStore) {
+        return createTaskScheduler(stateStore, TaskRunListener.none());
+    }
+
+    /**
+     * @param runListener a listener notified about the start of each trigger run. Trigger runs are also recorded as
+     *                    JFR events, regardless of this listener.
+     * @since 4.0
+     */
+    public TaskScheduler createTaskScheduler(TriggerStateStore stateStore, TaskRunListener runListener) {
+        TaskScheduler taskScheduler = TaskScheduler.builder()
+                .clock(Clock.systemDefaultZone())
+                .poolSize(createThreadPoolSize())
+                .threadNamePrefix("bootique-job-")
+                .stateStore(stateStore)
+                .misfirePolicy(createMisfirePolicy())
+                .runListener(new TriggerFireEventListener().andThen(runListener))
+                .priorityAging(createPriorityAging())
+                .build();
 
         return shutdownManager.onShutdown(taskScheduler);
     }
 
+    /**
+     * Creates a trigger state store based on the "stateFile" configuration. If the file is not configured, trigger
+     * states are not preserved between restarts.
+     *
+     * @since 4.0
+     */
+    public TriggerStateStore createTriggerStateStore() {
+        return stateFile != null
+                ? shutdownManager.onShutdown(new FileTriggerStateStore(Path.of(stateFile)))
+                : TriggerStateStore.none();
+    }
+
+    protected MisfirePolicy createMisfirePolicy() {
+        return misfirePolicy != null ? misfirePolicy : MisfirePolicy.FIRE_ONCE;
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected java.time.Duration createPriorityAging() {
+        return priorityAging != null ? priorityAging.getDuration() : TaskScheduler.DEFAULT_PRIORITY_AGING;
+    }
+
+    /**
+     * @deprecated in favor of {@link #createScheduler(TaskScheduler, ExecutionHistory, ExecutionQueue)}. The
+     * scheduler created by this method has its own execution history, and no durable execution queue.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public Scheduler createScheduler(TaskScheduler taskScheduler) {
-        return new DefaultScheduler(jobRegistry, decorators, taskScheduler, createTriggers(taskScheduler));
+        return createScheduler(taskScheduler, createExecutionHistory(), null);
+    }
+
+    /**
+     * @param executionHistory execution history shared with the job decorators
+     * @param executionQueue   an optional durable queue for non-blocking executions. May be null.
+     * @since 4.0
+     */
+    public Scheduler createScheduler(
+            TaskScheduler taskScheduler,
+            ExecutionHistory executionHistory,
+            ExecutionQueue executionQueue) {
+
+        return new DefaultScheduler(
+                jobRegistry.get(),
+                decorators.get(),
+                taskScheduler,
+                executionHistory,
+                executionQueue,
+                createTriggers(taskScheduler));
+    }
+
+    /**
+     * Creates a durable execution queue based on the "executionQueueFile" configuration. Returns null if the file
+     * is not configured.
+     *
+     * @since 4.0
+     */
+    public FileExecutionQueue createExecutionQueue(ObjectMapper paramsMapper) {
+        return executionQueueFile != null
+                ? shutdownManager.onShutdown(new FileExecutionQueue(Path.of(executionQueueFile), paramsMapper))
+                : null;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public ExecutionHistory createExecutionHistory() {
+        return new ExecutionHistory(historySize != null ? historySize : 20);
+    }
+
+    /**
+     * @param executionHistory execution history used by the watchdog to determine the normal job duration
+     * @since 4.0
+     */
+    public JobTimeoutDecorator createTimeoutDecorator(ExecutionHistory executionHistory) {
+        return shutdownManager.onShutdown(new JobTimeoutDecorator(
+                executionHistory,
+                watchdogFactor != null ? watchdogFactor : 0,
+                watchdogInterval != null ? watchdogInterval.getDuration() : java.time.Duration.ofSeconds(10)));
+    }
+
+    /**
+     * @since 4.0
+     */
+    public OutcomeCacheDecorator createOutcomeCacheDecorator() {
+        return new OutcomeCacheDecorator(resolveOutcomeCacheSize());
+    }
+
+    /**
+     * @since 4.0
+     */
+    public RateLimitDecorator createRateLimitDecorator(Supplier<TaskScheduler> taskScheduler) {
+
+        Map<String, RateLimit> limits = new HashMap<>();
+        if (rateLimits != null) {
+            rateLimits.forEach((k, v) -> limits.put(k, v.createRateLimit()));
+        }
+
+        return new RateLimitDecorator(limits, taskScheduler);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public CircuitBreakerDecorator createCircuitBreakerDecorator() {
+
+        Map<String, CircuitBreakerPolicy> policies = new HashMap<>();
+        if (circuitBreakers != null) {
+            circuitBreakers.forEach((k, v) -> policies.put(k, v.createPolicy()));
+        }
+
+        return new CircuitBreakerDecorator(policies);
+    }
+
+    protected int resolveOutcomeCacheSize() {
+        return outcomeCacheSize != null ? outcomeCacheSize : 1000;
     }
 
     protected List<Trigger> createTriggers(TaskScheduler taskScheduler) {
@@ -89,7 +284,7 @@ public class SchedulerFactory {
         }
 
         List<Trigger> triggers = new ArrayList<>();
-        this.triggers.forEach(t -> triggers.add(t.createTrigger(jobRegistry, taskScheduler)));
+        this.triggers.forEach(t -> triggers.add(t.createTrigger(jobRegistry.get(), taskScheduler)));
         return triggers;
     }
 
@@ -130,4 +325,123 @@ public class SchedulerFactory {
         return this;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Optional path of a file to store the state of periodic triggers, so that they can resume their " +
+            "schedules after restart. Only the triggers with explicit names are resumed.")
+    public SchedulerFactory setStateFile(String stateFile) {
+        this.stateFile = stateFile;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("What to do with the trigger fires missed while the app was down. One of 'CATCH_UP', " +
+            "'FIRE_ONCE' or 'SKIP'. The default is 'FIRE_ONCE'. Only applies when trigger state is stored.")
+    public SchedulerFactory setMisfirePolicy(MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("The number of most recent executions kept in memory for each job and trigger. Default is 20")
+    public SchedulerFactory setHistorySize(int historySize) {
+        this.historySize = historySize;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Optional path of a file to store durable non-blocking executions, so that the executions that " +
+            "were not finished are replayed after restart. Required for 'ExecBuilder.durable()'.")
+    public SchedulerFactory setExecutionQueueFile(String executionQueueFile) {
+        this.executionQueueFile = executionQueueFile;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, enables a watchdog that logs a warning for each job running longer than this multiple " +
+            "of its p99 duration in the recent execution history (see 'historySize'). E.g. '3' reports the jobs " +
+            "running 3 times longer than normal.")
+    public SchedulerFactory setWatchdogFactor(double watchdogFactor) {
+        this.watchdogFactor = watchdogFactor;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("How often the watchdog checks the running jobs. Default is 10s")
+    public SchedulerFactory setWatchdogInterval(Duration watchdogInterval) {
+        this.watchdogInterval = watchdogInterval;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("When more jobs are due than there are scheduler threads, the waiting runs start in the order " +
+            "of their priority. A waiting run gains one priority level per this interval, so that the low-priority " +
+            "jobs are not starved. Default is 1min")
+    public SchedulerFactory setPriorityAging(Duration priorityAging) {
+        this.priorityAging = priorityAging;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Max number of job outcomes kept in the cache for the jobs with outcome caching enabled. " +
+            "The least recently used outcomes are evicted first. Default is 1000.")
+    public SchedulerFactory setOutcomeCacheSize(int outcomeCacheSize) {
+        this.outcomeCacheSize = outcomeCacheSize;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Limits on how often the jobs can run, keyed by job name or by lock name. A limit keyed by " +
+            "lock name is shared by all the jobs using that lock.")
+    public SchedulerFactory setRateLimits(Map<String, RateLimitFactory> rateLimits) {
+        this.rateLimits = rateLimits;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Circuit breakers keyed by job name. A circuit breaker skips the job runs for a while, when " +
+            "the job failure rate reaches a threshold.")
+    public SchedulerFactory setCircuitBreakers(Map<String, CircuitBreakerPolicyFactory> circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Named executors to run the jobs assigned to them, in addition to the standard 'cpu' " +
+            "(a work-stealing pool sized to CPU cores) and 'io' (a virtual thread per job) executors.")
+    public SchedulerFactory setExecutors(Map<String, JobExecutorFactory> executors) {
+        this.executors = executors;
+        return this;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Executor names keyed by job name. Overrides the executors assigned to the jobs in their " +
+            "metadata.")
+    public SchedulerFactory setJobExecutors(Map<String, String> jobExecutors) {
+        this.jobExecutors = jobExecutors;
+        return this;
+    }
 }
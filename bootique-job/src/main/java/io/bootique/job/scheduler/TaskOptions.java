@@ -0,0 +1,141 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Optional settings of a periodic task scheduled via {@link TaskScheduler#schedule(Runnable, Schedule, TaskOptions)}.
+ *
+ * @since 4.0
+ */
+public class TaskOptions {
+
+    static final String UNNAMED = "unnamed";
+
+    private static final TaskOptions DEFAULTS = builder().build();
+
+    private final String name;
+    private final Duration leadTime;
+    private final String stateKey;
+    private final int priority;
+
+    protected TaskOptions(String name, Duration leadTime, String stateKey, int priority) {
+        this.name = name;
+        this.leadTime = leadTime;
+        this.stateKey = stateKey;
+        this.priority = priority;
+    }
+
+    public static TaskOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a name of the task reported to the scheduler {@link TaskRunListener}. If not set explicitly, it is the
+     * same as the state key, and if that is null as well, the task is reported as "unnamed".
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns how much earlier than each scheduled execution the task is started. The task can wait for the actual
+     * execution time via {@link ScheduledFireTime#current()}.
+     */
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    /**
+     * Returns a key of the task state in the scheduler {@link TriggerStateStore}, or null if the state is not
+     * persisted.
+     */
+    public String getStateKey() {
+        return stateKey;
+    }
+
+    /**
+     * Returns the task priority used to order the due tasks when the scheduler is saturated. Higher number means
+     * higher priority.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    public static class Builder {
+
+        private String name;
+        private Duration leadTime;
+        private String stateKey;
+        private int priority;
+
+        protected Builder() {
+            this.leadTime = Duration.ZERO;
+        }
+
+        /**
+         * Sets a name of the task reported to the scheduler {@link TaskRunListener}. Unlike the state key, the name
+         * doesn't have to be stable across app restarts.
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets how much earlier than each scheduled execution to start the task. The default is zero.
+         */
+        public Builder leadTime(Duration leadTime) {
+            this.leadTime = Objects.requireNonNull(leadTime);
+            return this;
+        }
+
+        /**
+         * Sets a key uniquely identifying the task across app restarts. If set, the task state is saved in the
+         * scheduler {@link TriggerStateStore} after each run, and the task resumes its schedule from the saved state,
+         * applying the scheduler {@link MisfirePolicy} to the runs that were missed. The default is null, i.e. the
+         * state is not persisted.
+         */
+        public Builder stateKey(String stateKey) {
+            this.stateKey = stateKey;
+            return this;
+        }
+
+        /**
+         * Sets the task priority. When more tasks are due than there are threads, the tasks with higher priority run
+         * first. The default is 0.
+         */
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public TaskOptions build() {
+            String name = this.name != null ? this.name : this.stateKey != null ? this.stateKey : UNNAMED;
+            return new TaskOptions(name, leadTime, stateKey, priority);
+        }
+    }
+}
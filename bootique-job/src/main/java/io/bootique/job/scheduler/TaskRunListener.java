@@ -0,0 +1,58 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A callback notified by the {@link TaskScheduler} whenever a periodic task run starts. Can be used to measure how
+ * late the runs start compared to their schedule, which is the first sign of the scheduler saturation. Called on the
+ * task thread, so implementations must be fast and must not throw.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface TaskRunListener {
+
+    static TaskRunListener none() {
+        return (k, s, a) -> {
+        };
+    }
+
+    /**
+     * @param taskKey        a name of the periodic task (for triggers, it is "jobName:triggerName")
+     * @param scheduledStart the time the run was supposed to start, i.e. the scheduled execution time minus the
+     *                       task lead time
+     * @param actualStart    the time the run actually started
+     */
+    void onRunStarted(String taskKey, Instant scheduledStart, Instant actualStart);
+
+    /**
+     * Returns a listener that notifies this listener and then the "next" listener.
+     */
+    default TaskRunListener andThen(TaskRunListener next) {
+        Objects.requireNonNull(next);
+        return (k, s, a) -> {
+            onRunStarted(k, s, a);
+            next.onRunStarted(k, s, a);
+        };
+    }
+}
@@ -21,31 +21,99 @@ package io.bootique.job.scheduler;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Objects;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @since 4.0
  */
 public class TaskScheduler implements AutoCloseable {
 
+    /**
+     * @since 4.0
+     */
+    public static final Duration DEFAULT_PRIORITY_AGING = Duration.ofMinutes(1);
+
     private final Clock clock;
-    private final ScheduledExecutorService executor;
+    private final PriorityDispatchExecutor executor;
+    private final TriggerStateStore stateStore;
+    private final MisfirePolicy misfirePolicy;
+    private final TaskRunListener runListener;
+    private final LongAdder rejectedCount;
 
     public TaskScheduler(Clock clock, int poolSize, String threadNamePrefix) {
+        this(builder().clock(clock).poolSize(poolSize).threadNamePrefix(threadNamePrefix));
+    }
 
-        this.clock = clock;
+    /**
+     * @since 4.0
+     */
+    protected TaskScheduler(Builder builder) {
+        this.clock = Objects.requireNonNull(builder.clock);
+        this.stateStore = Objects.requireNonNull(builder.stateStore);
+        this.misfirePolicy = Objects.requireNonNull(builder.misfirePolicy);
+        this.runListener = Objects.requireNonNull(builder.runListener);
+        this.rejectedCount = new LongAdder();
+
+        ThreadFactory threadFactory = createThreadFactory(builder.threadNamePrefix);
+        this.executor = createExecutor(builder.poolSize, threadFactory, builder.priorityAging);
+    }
 
-        ThreadFactory threadFactory = createThreadFactory(threadNamePrefix);
-        this.executor = createExecutor(poolSize, threadFactory);
+    /**
+     * @since 4.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the approximate number of threads that are running tasks.
+     *
+     * @since 4.0
+     */
+    public int getActiveCount() {
+        return executor.getActiveWorkerCount();
+    }
 
-        if (this.executor instanceof ThreadPoolExecutor e) {
-            e.setCorePoolSize(poolSize);
+    /**
+     * Returns the number of tasks waiting in the queue, including the periodic tasks waiting for their next run.
+     *
+     * @since 4.0
+     */
+    public int getScheduledCount() {
+        return executor.getQueue().size() + executor.getReadyCount();
+    }
+
+    /**
+     * Returns the number of queued tasks whose start time has already come, but that are still waiting for a free
+     * thread. A consistently non-zero value indicates that the scheduler is saturated.
+     *
+     * @since 4.0
+     */
+    public int getOverdueCount() {
+        int overdue = 0;
+        for (Runnable r : executor.getQueue()) {
+            if (r instanceof Delayed d && d.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+                overdue++;
+            }
         }
+
+        return overdue + executor.getReadyCount();
+    }
+
+    /**
+     * Returns the number of tasks that the scheduler refused to accept.
+     *
+     * @since 4.0
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
     }
 
     @Override
@@ -55,12 +123,49 @@ public class TaskScheduler implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns the clock used to calculate the task delays. Callers scheduling tasks at a given time should use it
+     * instead of the system clock, so that the delays are consistent with the scheduler.
+     *
+     * @since 4.0
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    PriorityDispatchExecutor getExecutor() {
+        return executor;
+    }
+
+    TriggerStateStore getStateStore() {
+        return stateStore;
+    }
+
+    MisfirePolicy getMisfirePolicy() {
+        return misfirePolicy;
+    }
+
+    TaskRunListener getRunListener() {
+        return runListener;
+    }
+
     private ThreadFactory createThreadFactory(String threadNamePrefix) {
         return Thread.ofVirtual().name(threadNamePrefix, 0).factory();
     }
 
-    private ScheduledExecutorService createExecutor(int poolSize, ThreadFactory threadFactory) {
-        return new ScheduledThreadPoolExecutor(poolSize, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    private PriorityDispatchExecutor createExecutor(int poolSize, ThreadFactory threadFactory, Duration priorityAging) {
+        return new PriorityDispatchExecutor(
+                poolSize,
+                threadFactory,
+                countingRejections(new ThreadPoolExecutor.AbortPolicy()),
+                priorityAging);
+    }
+
+    private RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+        return (r, e) -> {
+            rejectedCount.increment();
+            delegate.rejectedExecution(r, e);
+        };
     }
 
     private void cancelRemainingTask(Runnable task) {
@@ -71,13 +176,118 @@ public class TaskScheduler implements AutoCloseable {
     }
 
     public Future<?> schedule(Runnable task, Schedule schedule) {
-        ReschedulingRunnable runnable = new ReschedulingRunnable(task, schedule, clock, executor);
-        runnable.schedule();
+        return schedule(task, schedule, TaskOptions.defaults());
+    }
+
+    /**
+     * Schedules a periodic task with the provided options, such as the lead time, the state persistence key and the
+     * priority.
+     *
+     * @since 4.0
+     */
+    public Future<?> schedule(Runnable task, Schedule schedule, TaskOptions options) {
+        ReschedulingRunnable runnable = new ReschedulingRunnable(task, schedule, options, this);
+        runnable.start();
         return runnable;
     }
 
     public Future<?> schedule(Runnable task, Instant startTime) {
+        return schedule(task, startTime, 0);
+    }
+
+    /**
+     * Schedules a one-off task with a priority. When more tasks are due than there are threads, the tasks with
+     * higher priority run first.
+     *
+     * @param priority task priority. Higher number means higher priority. The default is 0.
+     * @since 4.0
+     */
+    public Future<?> schedule(Runnable task, Instant startTime, int priority) {
         Duration delay = Duration.between(clock.instant(), startTime);
-        return executor.schedule(task, TimeUnit.NANOSECONDS.convert(delay), TimeUnit.NANOSECONDS);
+        return executor.schedule(
+                PrioritizedTask.of(task, priority),
+                TimeUnit.NANOSECONDS.convert(delay),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public static class Builder {
+
+        private Clock clock;
+        private int poolSize;
+        private String threadNamePrefix;
+        private TriggerStateStore stateStore;
+        private MisfirePolicy misfirePolicy;
+        private TaskRunListener runListener;
+        private Duration priorityAging;
+
+        protected Builder() {
+            this.clock = Clock.systemDefaultZone();
+            this.poolSize = 1;
+            this.threadNamePrefix = "bootique-job-";
+            this.stateStore = TriggerStateStore.none();
+            this.misfirePolicy = MisfirePolicy.FIRE_ONCE;
+            this.runListener = TaskRunListener.none();
+            this.priorityAging = DEFAULT_PRIORITY_AGING;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        public Builder poolSize(int poolSize) {
+            if (poolSize < 1) {
+                throw new IllegalArgumentException("'poolSize' must be a positive number: " + poolSize);
+            }
+
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        public Builder threadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = Objects.requireNonNull(threadNamePrefix);
+            return this;
+        }
+
+        /**
+         * Sets a store of the periodic task states, that allows the tasks to resume their schedule after restart.
+         */
+        public Builder stateStore(TriggerStateStore stateStore) {
+            this.stateStore = Objects.requireNonNull(stateStore);
+            return this;
+        }
+
+        /**
+         * Sets what to do with the task runs missed while the app was down. The default is
+         * {@link MisfirePolicy#FIRE_ONCE}.
+         */
+        public Builder misfirePolicy(MisfirePolicy misfirePolicy) {
+            this.misfirePolicy = Objects.requireNonNull(misfirePolicy);
+            return this;
+        }
+
+        /**
+         * Sets a listener notified about the start of each periodic task run.
+         */
+        public Builder runListener(TaskRunListener runListener) {
+            this.runListener = Objects.requireNonNull(runListener);
+            return this;
+        }
+
+        /**
+         * Sets how long a due task has to wait for a free thread to gain one priority level. Keeps the low-priority
+         * tasks from starving when the scheduler is saturated. The default is {@link #DEFAULT_PRIORITY_AGING}.
+         */
+        public Builder priorityAging(Duration priorityAging) {
+            this.priorityAging = Objects.requireNonNull(priorityAging);
+            return this;
+        }
+
+        public TaskScheduler build() {
+            return new TaskScheduler(this);
+        }
     }
 }
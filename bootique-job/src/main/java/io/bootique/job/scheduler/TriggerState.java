@@ -0,0 +1,70 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A persistent snapshot of a trigger {@link SchedulingContext} taken after each trigger run.
+ *
+ * @since 4.0
+ */
+public class TriggerState {
+
+    private final Instant lastScheduledExecution;
+    private final Instant lastCompletion;
+
+    public TriggerState(Instant lastScheduledExecution, Instant lastCompletion) {
+        this.lastScheduledExecution = Objects.requireNonNull(lastScheduledExecution);
+        this.lastCompletion = Objects.requireNonNull(lastCompletion);
+    }
+
+    public Instant getLastScheduledExecution() {
+        return lastScheduledExecution;
+    }
+
+    public Instant getLastCompletion() {
+        return lastCompletion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TriggerState that = (TriggerState) o;
+        return lastScheduledExecution.equals(that.lastScheduledExecution) && lastCompletion.equals(that.lastCompletion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastScheduledExecution, lastCompletion);
+    }
+
+    @Override
+    public String toString() {
+        return "{scheduled: " + lastScheduledExecution + ", completed: " + lastCompletion + "}";
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+/**
+ * A pluggable storage of trigger scheduling state that allows periodic triggers to resume their cadence after an app
+ * restart and to detect the fires missed while the app was down.
+ *
+ * @since 4.0
+ */
+public interface TriggerStateStore {
+
+    /**
+     * Returns a store that keeps no state, so that each trigger starts from scratch.
+     */
+    static TriggerStateStore none() {
+        return NoTriggerStateStore.INSTANCE;
+    }
+
+    /**
+     * Returns the last saved state for the key or null if there's no saved state.
+     */
+    TriggerState load(String key);
+
+    /**
+     * Saves the trigger state. The method is called on the job execution path, so the implementations are expected
+     * to return quickly, deferring the actual IO if possible.
+     */
+    void save(String key, TriggerState state);
+}
@@ -42,8 +42,23 @@ public class CronTrigger extends Trigger {
             String triggerName,
             Map<String, Object> params,
             CronExpression expression) {
+        this(jobRegistry, taskScheduler, jobName, triggerName, params, expression, TriggerOptions.defaults());
+    }
+
+    /**
+     * @param options trigger settings, such as the lock lead time and the priority
+     * @since 4.0
+     */
+    public CronTrigger(
+            JobRegistry jobRegistry,
+            TaskScheduler taskScheduler,
+            String jobName,
+            String triggerName,
+            Map<String, Object> params,
+            CronExpression expression,
+            TriggerOptions options) {
 
-        super(jobRegistry, taskScheduler, jobName, triggerName, params);
+        super(jobRegistry, taskScheduler, jobName, triggerName, params, options);
         this.expression = Objects.requireNonNull(expression);
     }
 
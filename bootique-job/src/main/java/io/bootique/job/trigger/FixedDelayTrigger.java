@@ -43,8 +43,24 @@ public class FixedDelayTrigger extends Trigger {
             Map<String, Object> params,
             Duration period,
             Duration initialDelay) {
+        this(jobRegistry, taskScheduler, jobName, triggerName, params, period, initialDelay, TriggerOptions.defaults());
+    }
+
+    /**
+     * @param options trigger settings, such as the lock lead time and the priority
+     * @since 4.0
+     */
+    public FixedDelayTrigger(
+            JobRegistry jobRegistry,
+            TaskScheduler taskScheduler,
+            String jobName,
+            String triggerName,
+            Map<String, Object> params,
+            Duration period,
+            Duration initialDelay,
+            TriggerOptions options) {
 
-        super(jobRegistry, taskScheduler, jobName, triggerName, params);
+        super(jobRegistry, taskScheduler, jobName, triggerName, params, options);
         this.period = Objects.requireNonNull(period);
         this.initialDelay = initialDelay != null ? initialDelay : Duration.ZERO;
     }
@@ -21,11 +21,13 @@ package io.bootique.job.trigger;
 
 import io.bootique.job.Job;
 import io.bootique.job.JobRegistry;
+import io.bootique.job.scheduler.TaskOptions;
 import io.bootique.job.scheduler.TaskScheduler;
 import io.bootique.job.scheduler.SchedulingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,29 +47,54 @@ public abstract class Trigger {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Trigger.class);
 
+    private static final ThreadLocal<Trigger> CURRENT = new ThreadLocal<>();
+
     private final JobRegistry jobRegistry;
     private final TaskScheduler taskScheduler;
 
     private final String jobName;
     private final String triggerName;
+    private final boolean named;
     private final Map<String, Object> params;
+    private final TriggerOptions options;
 
     private volatile TriggerSchedulingState state;
     private volatile Future<?> future;
 
+    /**
+     * @param triggerName a name of the trigger. If null, a random name is generated.
+     */
     public Trigger(
             JobRegistry jobRegistry,
             TaskScheduler taskScheduler,
             String jobName,
             String triggerName,
             Map<String, Object> params) {
+        this(jobRegistry, taskScheduler, jobName, triggerName, params, TriggerOptions.defaults());
+    }
+
+    /**
+     * @param options trigger settings, such as the lock lead time and the priority
+     * @since 4.0
+     */
+    public Trigger(
+            JobRegistry jobRegistry,
+            TaskScheduler taskScheduler,
+            String jobName,
+            String triggerName,
+            Map<String, Object> params,
+            TriggerOptions options) {
         this.jobRegistry = Objects.requireNonNull(jobRegistry);
         this.taskScheduler = Objects.requireNonNull(taskScheduler);
         this.jobName = Objects.requireNonNull(jobName);
 
         // clone params passed to us, as we expect this map to be mutated when passed through a chain of decorators
         this.params = new HashMap<>(Objects.requireNonNull(params));
-        this.triggerName = Objects.requireNonNull(triggerName);
+
+        // a trigger without an explicit name gets a random one that changes on every restart
+        this.named = triggerName != null;
+        this.triggerName = triggerName != null ? triggerName : TriggerFactory.generateTriggerName();
+        this.options = Objects.requireNonNull(options);
         this.state = TriggerSchedulingState.unscheduled;
     }
 
@@ -83,8 +110,14 @@ public abstract class Trigger {
                     LOGGER.info("Will schedule '{}'.. ({})", jobName, this);
 
                     Job job = jobRegistry.getJob(jobName);
-
-                    this.future = taskScheduler.schedule(() -> job.run(params), this::nextExecution);
+                    TaskOptions taskOptions = TaskOptions.builder()
+                            .name(jobName + ":" + triggerName)
+                            .leadTime(options.getLockLeadTime())
+                            .stateKey(getStateKey())
+                            .priority(options.getPriority() != null ? options.getPriority() : job.getMetadata().getPriority())
+                            .build();
+
+                    this.future = taskScheduler.schedule(() -> run(job), this::nextExecution, taskOptions);
                     this.state = TriggerSchedulingState.scheduled;
                     return true;
                 }
@@ -94,6 +127,15 @@ public abstract class Trigger {
         return false;
     }
 
+    private void run(Job job) {
+        CURRENT.set(this);
+        try {
+            job.run(params);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
     /**
      * @since 4.0
      */
@@ -112,6 +154,16 @@ public abstract class Trigger {
         return false;
     }
 
+    /**
+     * Returns the trigger that started the job running on the current thread, or null if the job was started outside
+     * of a trigger (e.g., via the "--exec" command), or if called from a thread of a job group member.
+     *
+     * @since 4.0
+     */
+    public static Trigger current() {
+        return CURRENT.get();
+    }
+
     /**
      * Determines the next execution time based on the internal trigger logic and provided context.
      */
@@ -149,6 +201,37 @@ public abstract class Trigger {
         return params;
     }
 
+    /**
+     * Returns the priority of this trigger runs, or null if the trigger uses the job priority.
+     *
+     * @since 4.0
+     */
+    public Integer getPriority() {
+        return options.getPriority();
+    }
+
+    /**
+     * Returns how much ahead of each fire time the trigger starts the job, so that the job lock is acquired before
+     * the fire time, and the job itself starts exactly on time. Zero (the default) means the job starts at the fire
+     * time, with the lock acquisition time adding to the job start latency.
+     *
+     * @since 4.0
+     */
+    public Duration getLockLeadTime() {
+        return options.getLockLeadTime();
+    }
+
+    /**
+     * Returns a key identifying this trigger in the {@link io.bootique.job.scheduler.TriggerStateStore}, or null if the
+     * trigger was created without an explicit name. A generated name changes on every restart, so such triggers can't
+     * resume their schedules and their state is not saved.
+     *
+     * @since 4.0
+     */
+    public String getStateKey() {
+        return named ? jobName + ":" + triggerName : null;
+    }
+
     /**
      * @since 4.0
      */
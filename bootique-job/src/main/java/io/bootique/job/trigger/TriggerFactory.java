@@ -43,6 +43,8 @@ public class TriggerFactory {
     private Duration fixedDelay;
     private Duration fixedRate;
     private Duration initialDelay;
+    private Duration lockLeadTime;
+    private Integer priority;
     private Map<String, Object> params;
 
     public static String generateTriggerName() {
@@ -52,17 +54,20 @@ public class TriggerFactory {
     public Trigger createTrigger(JobRegistry jobRegistry, TaskScheduler taskScheduler) {
 
         Objects.requireNonNull(job);
-        String triggerName = this.trigger != null ? this.trigger : generateTriggerName();
         Map<String, Object> params = this.params != null ? this.params : Collections.emptyMap();
         java.time.Duration initialDelay = this.initialDelay != null ? this.initialDelay.getDuration() : java.time.Duration.ZERO;
+        TriggerOptions options = TriggerOptions.builder()
+                .lockLeadTime(this.lockLeadTime != null ? this.lockLeadTime.getDuration() : null)
+                .priority(priority)
+                .build();
 
         // TODO: use a polymorphic factory
         if (cron != null) {
-            return new CronTrigger(jobRegistry, taskScheduler, job, triggerName, params, cron.getCronExpression());
+            return new CronTrigger(jobRegistry, taskScheduler, job, trigger, params, cron.getCronExpression(), options);
         } else if (fixedDelay != null) {
-            return new FixedDelayTrigger(jobRegistry, taskScheduler, job, triggerName, params, fixedDelay.getDuration(), initialDelay);
+            return new FixedDelayTrigger(jobRegistry, taskScheduler, job, trigger, params, fixedDelay.getDuration(), initialDelay, options);
         } else if (fixedRate != null) {
-            return new FixedRateTrigger(jobRegistry, taskScheduler, job, triggerName, params, fixedRate.getDuration(), initialDelay);
+            return new FixedRateTrigger(jobRegistry, taskScheduler, job, trigger, params, fixedRate.getDuration(), initialDelay, options);
         }
 
         throw new IllegalStateException("Trigger must have either cron or fixed rate or fixed delay configured");
@@ -73,7 +78,8 @@ public class TriggerFactory {
         this.job = jobName;
     }
 
-    @BQConfigProperty("Unique identifier, used in logging and reporting.")
+    @BQConfigProperty("Unique identifier, used in logging and reporting. Also identifies the trigger in the " +
+            "scheduler state file, so the trigger must have an explicit name to resume its schedule after restart.")
     public void setTrigger(String triggerName) {
         this.trigger = triggerName;
     }
@@ -99,6 +105,25 @@ public class TriggerFactory {
         this.initialDelay = initialDelay;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Optional time to start the job ahead of each fire time to acquire the job lock in advance. " +
+            "The job itself will still start at the fire time. Useful with cluster locks, whose acquisition time " +
+            "would otherwise add to the job start latency.")
+    public void setLockLeadTime(Duration lockLeadTime) {
+        this.lockLeadTime = lockLeadTime;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Optional priority of this trigger runs, overriding the job priority. When more jobs are due " +
+            "than there are scheduler threads, the higher-priority runs start first.")
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
     @BQConfigProperty("Optional job parameters specific to this trigger")
     public void setParams(Map<String, Object> params) {
         this.params = params;
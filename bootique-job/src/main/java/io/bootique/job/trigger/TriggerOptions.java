@@ -0,0 +1,95 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.trigger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Optional settings of a {@link Trigger}.
+ *
+ * @since 4.0
+ */
+public class TriggerOptions {
+
+    private static final TriggerOptions DEFAULTS = builder().build();
+
+    private final Duration lockLeadTime;
+    private final Integer priority;
+
+    protected TriggerOptions(Duration lockLeadTime, Integer priority) {
+        this.lockLeadTime = lockLeadTime;
+        this.priority = priority;
+    }
+
+    public static TriggerOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns how much ahead of each fire time the trigger starts the job to pre-acquire the job lock.
+     */
+    public Duration getLockLeadTime() {
+        return lockLeadTime;
+    }
+
+    /**
+     * Returns the priority of the trigger runs, or null if the trigger uses the job priority.
+     */
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public static class Builder {
+
+        private Duration lockLeadTime;
+        private Integer priority;
+
+        protected Builder() {
+            this.lockLeadTime = Duration.ZERO;
+        }
+
+        /**
+         * Sets how much ahead of each fire time the trigger should start the job to pre-acquire the job lock. This
+         * removes the lock acquisition time from the job start latency. Null or zero (the default) means the job
+         * starts at the fire time.
+         */
+        public Builder lockLeadTime(Duration lockLeadTime) {
+            this.lockLeadTime = lockLeadTime != null ? lockLeadTime : Duration.ZERO;
+            return this;
+        }
+
+        /**
+         * Sets the priority of the trigger runs, overriding the job priority. When more jobs are due than there are
+         * scheduler threads, the higher-priority runs start first. Null (the default) means the job priority is used.
+         */
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public TriggerOptions build() {
+            return new TriggerOptions(lockLeadTime, priority);
+        }
+    }
+}
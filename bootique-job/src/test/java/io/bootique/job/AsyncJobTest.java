@@ -0,0 +1,59 @@
+
+
+package io.bootique.job;
+
+import io.bootique.job.runtime.DecoratedJob;
+import io.bootique.job.runtime.ExceptionsHandlerDecorator;
+import io.bootique.job.runtime.JobLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncJobTest {
+
+    @Test
+    public void run() {
+        AsyncJob ok = p -> CompletableFuture.completedFuture(JobOutcome.succeeded());
+        assertTrue(ok.run(Map.of()).isSuccess());
+
+        AsyncJob failed = p -> CompletableFuture.failedFuture(new RuntimeException("_test_"));
+        JobOutcome outcome = failed.run(Map.of());
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertEquals("_test_", outcome.getException().getMessage());
+    }
+
+    @Test
+    public void decorate_PreservesAsync() {
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        AsyncJob job = p -> completion;
+
+        Job decorated = new JobLogger().decorate(
+                new ExceptionsHandlerDecorator().decorate(job, null, Map.of()),
+                null,
+                Map.of());
+
+        assertTrue(decorated instanceof AsyncJob);
+
+        CompletionStage<JobOutcome> stage = ((AsyncJob) decorated).runAsync(Map.of());
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        completion.completeExceptionally(new RuntimeException("_test_"));
+        JobOutcome outcome = stage.toCompletableFuture().join();
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertEquals("_test_", outcome.getException().getMessage());
+    }
+
+    @Test
+    public void withMetadata() {
+        AsyncJob job = p -> CompletableFuture.completedFuture(JobOutcome.succeeded());
+        Job renamed = DecoratedJob.withMetadata(job, JobMetadata.build("x"));
+
+        assertTrue(renamed instanceof AsyncJob);
+        assertEquals("x", renamed.getMetadata().getName());
+        assertTrue(((AsyncJob) renamed).runAsync(Map.of()).toCompletableFuture().join().isSuccess());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job;
+
+import io.bootique.job.runtime.CompletableJobFuture;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecBuilderTest {
+
+    final TaskScheduler scheduler = new TaskScheduler(Clock.systemUTC(), 1, "exec-test-");
+    final ExecBuilder builder = new ExecBuilder(null, scheduler, null);
+
+    @AfterEach
+    public void afterEach() {
+        scheduler.close();
+    }
+
+    @Test
+    public void runNonBlocking_OnFinish() {
+        AtomicInteger finished = new AtomicInteger();
+        Job job = p -> JobOutcome.succeeded();
+
+        JobFuture future = builder.runNonBlocking(job, Map.of(), finished::incrementAndGet);
+        assertEquals(JobStatus.SUCCESS, future.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    public void runNonBlocking_OnFinish_Yielded() throws InterruptedException {
+        AtomicInteger finished = new AtomicInteger();
+        CountDownLatch ran = new CountDownLatch(1);
+        CompletableJobFuture retry = new CompletableJobFuture("x");
+
+        Job job = p -> {
+            ran.countDown();
+            return JobOutcome.failed().yieldTo(retry);
+        };
+
+        JobFuture future = builder.runNonBlocking(job, Map.of(), finished::incrementAndGet);
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+
+        // the first run is done, but the execution continues in the retry
+        Thread.sleep(50);
+        assertFalse(future.isDone());
+        assertEquals(0, finished.get());
+
+        retry.complete(JobOutcome.succeeded());
+        assertEquals(JobStatus.SUCCESS, future.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, finished.get());
+    }
+}
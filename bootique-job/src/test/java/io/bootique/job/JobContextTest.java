@@ -0,0 +1,172 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job;
+
+import io.bootique.job.runtime.GraphExecutor;
+import io.bootique.job.runtime.JobContextDecorator;
+import io.bootique.job.runtime.SingleJobStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobContextTest {
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void afterEach() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void call_RestoresPrevious() {
+        JobContext c1 = new JobContext("j1", null, "1", null);
+        JobContext c2 = new JobContext("j2", null, "2", c1);
+
+        assertNull(JobContext.current());
+
+        c1.call(() -> {
+            assertSame(c1, JobContext.current());
+            c2.call(() -> {
+                assertSame(c2, JobContext.current());
+                return null;
+            });
+            assertSame(c1, JobContext.current());
+            return null;
+        });
+
+        assertNull(JobContext.current());
+    }
+
+    @Test
+    public void decorator_PropagatedToGraphExecutor() throws ExecutionException, InterruptedException {
+
+        JobContextDecorator decorator = new JobContextDecorator();
+        GraphExecutor executor = new GraphExecutor(pool);
+
+        AtomicReference<JobContext> memberContext = new AtomicReference<>();
+        Job member = decorator.decorate(new ContextJob("m1", memberContext), null, Map.of());
+
+        AtomicReference<JobContext> groupContext = new AtomicReference<>();
+        Job group = decorator.decorate(new ContextJob("g1", groupContext) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                super.run(params);
+                try {
+                    return executor.submit(member, params).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    return JobOutcome.failed(e);
+                }
+            }
+        }, null, Map.of());
+
+        assertTrue(group.run(Map.of()).isSuccess());
+
+        assertEquals("g1", groupContext.get().getJobName());
+        assertNull(groupContext.get().getParent());
+        assertEquals(groupContext.get().getExecutionId(), groupContext.get().getTxId());
+
+        assertEquals("m1", memberContext.get().getJobName());
+        assertSame(groupContext.get(), memberContext.get().getParent());
+        assertEquals(groupContext.get().getExecutionId(), memberContext.get().getParentExecutionId());
+        assertEquals(groupContext.get().getTxId(), memberContext.get().getTxId());
+        assertNotEquals(groupContext.get().getExecutionId(), memberContext.get().getExecutionId());
+
+        // nothing is left on the pooled thread
+        assertNull(pool.submit(JobContext::current).get());
+        assertNull(JobContext.current());
+    }
+
+    @Test
+    public void decorator_SingleJobStep() {
+
+        JobContextDecorator decorator = new JobContextDecorator();
+
+        AtomicReference<JobContext> memberContext = new AtomicReference<>();
+        SingleJobStep step = new SingleJobStep(decorator.decorate(new ContextJob("m1", memberContext), null, Map.of()));
+
+        AtomicReference<JobContext> groupContext = new AtomicReference<>();
+        Job group = decorator.decorate(new ContextJob("g1", groupContext) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                super.run(params);
+                return step.run(params);
+            }
+        }, null, Map.of());
+
+        assertTrue(group.run(Map.of()).isSuccess());
+        assertSame(groupContext.get(), memberContext.get().getParent());
+        assertEquals(groupContext.get().getTxId(), memberContext.get().getTxId());
+    }
+
+    @Test
+    public void decorator_NestedRunIsNotMember() {
+
+        JobContextDecorator decorator = new JobContextDecorator();
+
+        // e.g. a job started via the Scheduler from within another job
+        AtomicReference<JobContext> nestedContext = new AtomicReference<>();
+        Job nested = decorator.decorate(new ContextJob("n1", nestedContext), null, Map.of());
+
+        AtomicReference<JobContext> outerContext = new AtomicReference<>();
+        Job outer = decorator.decorate(new ContextJob("o1", outerContext) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                super.run(params);
+                return nested.run(params);
+            }
+        }, null, Map.of());
+
+        assertTrue(outer.run(Map.of()).isSuccess());
+
+        assertNull(nestedContext.get().getParent());
+        assertNotEquals(outerContext.get().getTxId(), nestedContext.get().getTxId());
+        assertNull(JobContext.current());
+    }
+
+    static class ContextJob implements Job {
+
+        final JobMetadata metadata;
+        final AtomicReference<JobContext> context;
+
+        ContextJob(String name, AtomicReference<JobContext> context) {
+            this.metadata = JobMetadata.build(name);
+            this.context = context;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            context.set(JobContext.current());
+            return JobOutcome.succeeded();
+        }
+    }
+}
@@ -28,8 +28,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @BQTest
 public class JobDecoratorIT {
@@ -131,6 +136,35 @@ public class JobDecoratorIT {
         assertEquals("_L1_started_L2_started_L3_started_L3_finished_L2_finished_L1_finished", SharedState.getAndReset());
     }
 
+    @Test
+    public void addMappedDecorator_JobGroup_AppliedToSubJobs() {
+        XJob x = new XJob();
+        YJob y = new YJob();
+
+        testFactory.app("--exec", "--job=g1")
+                .autoLoadModules()
+                .module(b -> BQCoreModule.extend(b).setProperty("bq.jobs.g1.type", "group")
+                        .setProperty("bq.jobs.g1.jobs.x.type", "job")
+                        .setProperty("bq.jobs.g1.jobs.y.type", "job"))
+                .module(b -> JobsModule.extend(b)
+                        .addJob(x)
+                        .addJob(y)
+                        .addMappedDecorator(new MappedJobDecorator<>(new Listener1(), 1, true))
+                        .addDecorator(new Listener2(), 2))
+                .run();
+
+        x.assertExecuted();
+        y.assertExecuted();
+
+        // the group and each of its subjobs
+        String events = SharedState.getAndReset();
+        assertEquals(3, events.split("_L1_started", -1).length - 1, events);
+        assertEquals(3, events.split("_L1_finished", -1).length - 1, events);
+
+        // the group only
+        assertEquals(1, events.split("_L2_started", -1).length - 1, events);
+    }
+
     @Test
     public void addDecorator_SlowParallelJob() {
         XJob x = new XJob();
@@ -158,6 +192,31 @@ public class JobDecoratorIT {
         assertEquals("_L1_started_L1_finished", SharedState.getAndReset());
     }
 
+    @Test
+    public void standardDecorators_AsyncJobGroup() {
+
+        // each member only completes once both members are started, so any standard decorator blocking on an async
+        // member would stall the group until the member times out
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Void> allStarted = new CompletableFuture<>();
+
+        JobRegistry registry = testFactory.app()
+                .autoLoadModules()
+                .module(b -> BQCoreModule.extend(b)
+                        .setProperty("bq.jobs.g1.type", "group")
+                        .setProperty("bq.jobs.g1.jobs.a1.type", "job")
+                        .setProperty("bq.jobs.g1.jobs.a2.type", "job"))
+                .module(b -> JobsModule.extend(b)
+                        .addJob(new AsyncMemberJob("a1", started, allStarted))
+                        .addJob(new AsyncMemberJob("a2", started, allStarted)))
+                .createRuntime()
+                .getInstance(JobRegistry.class);
+
+        JobOutcome outcome = registry.getJob("g1").run(Map.of());
+        assertTrue(outcome.isSuccess(), outcome::toString);
+        assertEquals(2, started.get());
+    }
+
     public static class SharedState {
         private static StringBuilder BUFFER;
 
@@ -165,7 +224,7 @@ public class JobDecoratorIT {
             BUFFER = new StringBuilder();
         }
 
-        static void append(String value) {
+        static synchronized void append(String value) {
             BUFFER.append(value);
         }
 
@@ -276,4 +335,35 @@ public class JobDecoratorIT {
             return super.run(params);
         }
     }
+
+    static class AsyncMemberJob implements AsyncJob {
+
+        private final JobMetadata metadata;
+        private final AtomicInteger started;
+        private final CompletableFuture<Void> allStarted;
+
+        AsyncMemberJob(String name, AtomicInteger started, CompletableFuture<Void> allStarted) {
+
+            // serial, so that the lock handler is applied too
+            this.metadata = JobMetadata.builder(name).serial(true).build();
+            this.started = started;
+            this.allStarted = allStarted;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            if (started.incrementAndGet() == 2) {
+                allStarted.complete(null);
+            }
+
+            return allStarted
+                    .thenApply(v -> JobOutcome.succeeded())
+                    .orTimeout(5, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -21,6 +21,7 @@ package io.bootique.job;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -59,6 +60,14 @@ public class JobMetadataBuilderTest {
 		assertTrue(j.getParameters().isEmpty());
 	}
 
+	@Test
+    public void build_LockPermits() {
+
+		assertEquals(1, JobMetadata.builder("nn").build().getLockPermits());
+		assertEquals(3, JobMetadata.builder("nn").lockPermits(3).build().getLockPermits());
+		assertThrows(IllegalArgumentException.class, () -> JobMetadata.builder("nn").lockPermits(0));
+	}
+
 	@Test
     public void build_Params() {
 
@@ -80,4 +89,33 @@ public class JobMetadataBuilderTest {
 		assertEquals(34556775L, params.get(2).fromString(null));
 
 	}
+
+	@Test
+    public void build_Timeout() {
+
+		JobMetadata j = JobMetadata.builder("nn").timeout(Duration.ofSeconds(5)).build();
+		assertEquals(Duration.ofSeconds(5), j.getTimeout());
+		assertNull(JobMetadata.build("nn").getTimeout());
+
+		assertThrows(IllegalArgumentException.class, () -> JobMetadata.builder("nn").timeout(Duration.ZERO));
+	}
+
+	@Test
+    public void build_Prototype() {
+
+		JobMetadata p = JobMetadata.builder("nn")
+				.serial(true)
+				.lockName("ll")
+				.lockPermits(2)
+				.stringParam("ss", "ssv")
+				.build();
+
+		JobMetadata j = JobMetadata.builder(p).timeout(Duration.ofSeconds(5)).build();
+		assertEquals("nn", j.getName());
+		assertTrue(j.isSerial());
+		assertEquals("ll", j.getLockName());
+		assertEquals(2, j.getLockPermits());
+		assertEquals(1, j.getParameters().size());
+		assertEquals(Duration.ofSeconds(5), j.getTimeout());
+	}
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.breaker;
+
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    static final long OPEN_NANOS = Duration.ofSeconds(10).toNanos();
+
+    @Test
+    public void open() {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreakerPolicy(0.5, 4, 4, Duration.ofSeconds(10), 1));
+
+        run(breaker, 0, JobOutcome.failed());
+        run(breaker, 0, JobOutcome.succeeded());
+        run(breaker, 0, JobOutcome.failed());
+
+        // not enough runs yet
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        // skipped runs are not counted
+        run(breaker, 0, JobOutcome.skipped());
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        run(breaker, 0, JobOutcome.succeeded());
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertEquals(-1, breaker.tryAcquire(OPEN_NANOS - 1));
+    }
+
+    @Test
+    public void slidingWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreakerPolicy(0.5, 4, 4, Duration.ofSeconds(10), 1));
+
+        run(breaker, 0, JobOutcome.failed());
+        for (int i = 0; i < 10; i++) {
+            run(breaker, 0, JobOutcome.succeeded());
+        }
+
+        // the early failure is out of the window
+        run(breaker, 0, JobOutcome.failed());
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen() {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreakerPolicy(1., 1, 1, Duration.ofSeconds(10), 2));
+
+        run(breaker, 0, JobOutcome.failed());
+        assertEquals(CircuitState.OPEN, breaker.getState());
+
+        long p1 = breaker.tryAcquire(OPEN_NANOS);
+        long p2 = breaker.tryAcquire(OPEN_NANOS);
+        assertTrue(p1 >= 0);
+        assertTrue(p2 >= 0);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+
+        // only 2 probes are allowed
+        assertEquals(-1, breaker.tryAcquire(OPEN_NANOS));
+
+        breaker.onOutcome(p1, JobOutcome.succeeded(), OPEN_NANOS);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        breaker.onOutcome(p2, JobOutcome.succeeded(), OPEN_NANOS);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen_ProbeFailed() {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreakerPolicy(1., 1, 1, Duration.ofSeconds(10), 1));
+
+        long stale = breaker.tryAcquire(0);
+        run(breaker, 0, JobOutcome.failed());
+
+        long probe = breaker.tryAcquire(OPEN_NANOS);
+
+        // a run started before the circuit was opened must not count as a probe
+        breaker.onOutcome(stale, JobOutcome.succeeded(), OPEN_NANOS);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+
+        breaker.onOutcome(probe, JobOutcome.failed(), OPEN_NANOS);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertEquals(-1, breaker.tryAcquire(2 * OPEN_NANOS - 1));
+    }
+
+    @Test
+    public void decorator() {
+        CircuitBreakerDecorator decorator = new CircuitBreakerDecorator(
+                Map.of("j1", new CircuitBreakerPolicy(1., 2, 2, Duration.ofMinutes(1), 1)));
+
+        AtomicInteger runs = new AtomicInteger();
+        Job failing = new Job() {
+
+            @Override
+            public JobMetadata getMetadata() {
+                return JobMetadata.build("j1");
+            }
+
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                runs.incrementAndGet();
+                return JobOutcome.failed();
+            }
+        };
+
+        Job job = decorator.decorate(failing, null, Map.of());
+        assertEquals(JobStatus.FAILURE, job.run(Map.of()).getStatus());
+        assertEquals(JobStatus.FAILURE, job.run(Map.of()).getStatus());
+        assertEquals(CircuitState.OPEN, decorator.getState("j1"));
+
+        assertEquals(JobStatus.SKIPPED, job.run(Map.of()).getStatus());
+        assertEquals(2, runs.get());
+
+        assertFalse(decorator.isApplicable(JobMetadata.build("j2"), null, Map.of()));
+        assertNull(decorator.getState("j2"));
+    }
+
+    private static void run(CircuitBreaker breaker, long nowNanos, JobOutcome outcome) {
+        long permit = breaker.tryAcquire(nowNanos);
+        assertTrue(permit >= 0);
+        breaker.onOutcome(permit, outcome, nowNanos);
+    }
+}
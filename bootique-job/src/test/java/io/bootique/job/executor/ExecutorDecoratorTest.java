@@ -0,0 +1,225 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.executor;
+
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.runtime.GraphExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutorDecoratorTest {
+
+    private JobExecutors executors;
+
+    @AfterEach
+    public void afterEach() {
+        if (executors != null) {
+            executors.close();
+        }
+    }
+
+    @Test
+    public void run_FromMetadata() {
+        executors = new JobExecutors();
+        ThreadNameJob job = new ThreadNameJob(JobMetadata.builder("j").executor(JobExecutors.CPU).build());
+
+        Job decorated = new ExecutorDecorator(executors).decorate(job, null, Map.of());
+        assertTrue(decorated.run(Map.of()).isSuccess());
+        assertTrue(job.threadName.startsWith("bootique-job-cpu-"), job.threadName);
+    }
+
+    @Test
+    public void run_FromConfig() {
+        executors = new JobExecutors(
+                Map.of("x", bounded(1, null)),
+                Map.of("j", "x"));
+
+        ThreadNameJob job = new ThreadNameJob(JobMetadata.builder("j").executor(JobExecutors.CPU).build());
+        Job decorated = new ExecutorDecorator(executors).decorate(job, null, Map.of());
+
+        assertTrue(decorated.run(Map.of()).isSuccess());
+        assertTrue(job.threadName.startsWith("bootique-job-x-"), job.threadName);
+    }
+
+    @Test
+    public void decorate_NoExecutor() {
+        executors = new JobExecutors();
+        ThreadNameJob job = new ThreadNameJob(JobMetadata.build("j"));
+        assertSame(job, new ExecutorDecorator(executors).decorate(job, null, Map.of()));
+    }
+
+    @Test
+    public void decorate_UnknownExecutor() {
+        executors = new JobExecutors();
+        ThreadNameJob job = new ThreadNameJob(JobMetadata.builder("j").executor("nosuchexecutor").build());
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorDecorator(executors).decorate(job, null, Map.of()));
+    }
+
+    @Test
+    public void run_Saturated() throws Exception {
+        executors = new JobExecutors(Map.of("x", bounded(1, 1)), Map.of());
+
+        CountDownLatch release = new CountDownLatch(1);
+        Job blocking = new ExecutorDecorator(executors).decorate(new Job() {
+
+            final JobMetadata metadata = JobMetadata.builder("j").executor("x").build();
+
+            @Override
+            public JobMetadata getMetadata() {
+                return metadata;
+            }
+
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                try {
+                    return release.await(1, TimeUnit.SECONDS) ? JobOutcome.succeeded() : JobOutcome.failed("Timeout");
+                } catch (InterruptedException e) {
+                    return JobOutcome.failed(e);
+                }
+            }
+        }, null, Map.of());
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // one run takes the thread, another one takes the queue slot
+            Future<JobOutcome> r1 = callers.submit(() -> blocking.run(Map.of()));
+            Future<JobOutcome> r2 = callers.submit(() -> blocking.run(Map.of()));
+            Thread.sleep(100);
+
+            JobOutcome r3 = blocking.run(Map.of());
+            assertEquals(JobStatus.FAILURE, r3.getStatus());
+            assertEquals("Executor 'x' is saturated", r3.getMessage());
+
+            release.countDown();
+            assertTrue(r1.get(1, TimeUnit.SECONDS).isSuccess());
+            assertTrue(r2.get(1, TimeUnit.SECONDS).isSuccess());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void graphExecutor_SubmitsToExecutor() throws Exception {
+        executors = new JobExecutors();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            ThreadNameJob job = new ThreadNameJob(JobMetadata.builder("j").executor(JobExecutors.IO).build());
+            Job chain = new ExecutorDecorator(executors).decorate(job, null, Map.of());
+
+            assertTrue(new GraphExecutor(pool, executors).submit(chain, Map.of()).get(1, TimeUnit.SECONDS).isSuccess());
+
+            // the job started on the executor thread, and the decorator didn't make another hop
+            assertTrue(job.threadName.startsWith("bootique-job-io-"), job.threadName);
+            assertTrue(job.onExecutorThread);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void close_ConcurrentSubmit() throws Exception {
+        List<ExecutorService> created = new CopyOnWriteArrayList<>();
+        JobExecutorFactory recording = new JobExecutorFactory() {
+            @Override
+            public ExecutorService createExecutor(String name) {
+                ExecutorService executor = super.createExecutor(name);
+                created.add(executor);
+                return executor;
+            }
+        };
+        recording.setType(ExecutorType.CPU);
+
+        Map<String, JobExecutorFactory> factories = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            factories.put("x" + i, recording);
+        }
+
+        JobExecutors local = new JobExecutors(factories, Map.of());
+        ExecutorService submitter = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> submitting = submitter.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        local.submit("x" + i, () -> null);
+                    } catch (IllegalStateException e) {
+                        // closed
+                        return;
+                    }
+                }
+            });
+
+            local.close();
+            submitting.get(1, TimeUnit.SECONDS);
+        } finally {
+            submitter.shutdownNow();
+        }
+
+        // no executor may be left running after close, even if it was started while closing
+        for (ExecutorService e : created) {
+            assertTrue(e.isShutdown());
+        }
+    }
+
+    private static JobExecutorFactory bounded(int threads, Integer queueSize) {
+        JobExecutorFactory factory = JobExecutorFactory.of(ExecutorType.BOUNDED);
+        factory.setThreads(threads);
+        factory.setQueueSize(queueSize);
+        return factory;
+    }
+
+    static class ThreadNameJob implements Job {
+
+        final JobMetadata metadata;
+        volatile String threadName;
+        volatile boolean onExecutorThread;
+
+        ThreadNameJob(JobMetadata metadata) {
+            this.metadata = metadata;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            threadName = Thread.currentThread().getName();
+            onExecutorThread = metadata.getExecutor() != null && JobExecutors.isCurrent(metadata.getExecutor());
+            return JobOutcome.succeeded();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.jfr;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.lock.LocalLockHandler;
+import io.bootique.job.lock.LockHandler;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void jobRun() throws IOException {
+        Job job = new JobRunEventDecorator().decorate(new TestJob("j1"), null, Map.of());
+
+        List<RecordedEvent> events = record("io.bootique.job.JobRun", () -> job.run(Map.of()));
+        assertEquals(1, events.size());
+
+        RecordedEvent e = events.get(0);
+        assertEquals("j1", e.getString("jobName"));
+        assertEquals("SUCCESS", e.getString("status"));
+        assertNull(e.getString("triggerName"));
+    }
+
+    @Test
+    public void jobRun_Async() throws IOException {
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        AsyncJob job = (AsyncJob) new JobRunEventDecorator().decorate(new TestAsyncJob("j1", completion), null, Map.of());
+
+        List<RecordedEvent> events = record("io.bootique.job.JobRun", () -> {
+            CompletionStage<JobOutcome> stage = job.runAsync(Map.of());
+            assertFalse(stage.toCompletableFuture().isDone());
+
+            completion.completeExceptionally(new RuntimeException("_test_"));
+        });
+
+        // the event is committed when the job completes, not when it returns
+        assertEquals(1, events.size());
+        assertEquals("j1", events.get(0).getString("jobName"));
+        assertEquals("FAILURE", events.get(0).getString("status"));
+    }
+
+    @Test
+    public void lock() throws IOException {
+        LockHandler acquiring = Job::run;
+        LockHandler skipping = (j, p) -> JobOutcome.skipped("locked");
+
+        Job j1 = new LockEventHandler(acquiring).decorate(new TestJob("j1"), null, Map.of());
+        Job j2 = new LockEventHandler(skipping).decorate(new TestJob("j2"), null, Map.of());
+
+        List<RecordedEvent> events = record("io.bootique.job.Lock", () -> {
+            j1.run(Map.of());
+            j2.run(Map.of());
+        });
+        assertEquals(2, events.size());
+
+        assertEquals("j1", events.get(0).getString("jobName"));
+        assertEquals("l1", events.get(0).getString("lockName"));
+        assertTrue(events.get(0).getBoolean("acquired"));
+
+        assertEquals("j2", events.get(1).getString("jobName"));
+        assertFalse(events.get(1).getBoolean("acquired"));
+    }
+
+    @Test
+    public void triggerFire() throws IOException {
+        Instant scheduled = Instant.now();
+        List<RecordedEvent> events = record(
+                "io.bootique.job.TriggerFire",
+                () -> new TriggerFireEventListener().onRunStarted("t1", scheduled, scheduled.plusMillis(5)));
+
+        assertEquals(1, events.size());
+        assertEquals("t1", events.get(0).getString("taskKey"));
+        assertEquals(Duration.ofMillis(5), events.get(0).getDuration("lag"));
+    }
+
+    @Test
+    public void graphStep() throws IOException {
+        List<RecordedEvent> events = record(
+                "io.bootique.job.GraphStep",
+                () -> new GraphStepEventListener().onStepFinished("g1", 2, 3, 1_000, 2_500));
+
+        assertEquals(1, events.size());
+        assertEquals("g1", events.get(0).getString("groupName"));
+        assertEquals(2, events.get(0).getInt("stepIndex"));
+        assertEquals(3, events.get(0).getInt("stepWidth"));
+        assertEquals(Duration.ofNanos(2_500), events.get(0).getDuration("membersRunTime"));
+    }
+
+    @Test
+    public void notRecording() {
+        // no recording in progress, the job must simply run
+        Job job = new JobRunEventDecorator().decorate(new TestJob("j1"), null, Map.of());
+        assertTrue(job.run(Map.of()).isSuccess());
+    }
+
+    @Test
+    public void lock_Async() throws IOException {
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        LockEventHandler handler = new LockEventHandler(new LocalLockHandler());
+
+        AsyncJob j1 = (AsyncJob) handler.decorate(new TestAsyncJob("j1", completion), null, Map.of());
+        AsyncJob j2 = (AsyncJob) handler.decorate(new TestAsyncJob("j2", completion), null, Map.of());
+
+        List<RecordedEvent> events = record("io.bootique.job.Lock", () -> {
+            CompletionStage<JobOutcome> s1 = j1.runAsync(Map.of());
+
+            // the lock is held by the first job until it completes
+            assertEquals(JobStatus.SKIPPED, j2.runAsync(Map.of()).toCompletableFuture().join().getStatus());
+
+            completion.complete(JobOutcome.succeeded());
+            assertTrue(s1.toCompletableFuture().join().isSuccess());
+        });
+        assertEquals(2, events.size());
+
+        assertEquals("j1", events.get(0).getString("jobName"));
+        assertTrue(events.get(0).getBoolean("acquired"));
+
+        assertEquals("j2", events.get(1).getString("jobName"));
+        assertFalse(events.get(1).getBoolean("acquired"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file)
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    static class TestJob implements Job {
+
+        final JobMetadata metadata;
+
+        TestJob(String name) {
+            this.metadata = JobMetadata.builder(name).serial(true).lockName("l1").build();
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            return JobOutcome.succeeded();
+        }
+    }
+
+    static class TestAsyncJob implements AsyncJob {
+
+        final JobMetadata metadata;
+        final CompletableFuture<JobOutcome> completion;
+
+        TestAsyncJob(String name, CompletableFuture<JobOutcome> completion) {
+            this.metadata = JobMetadata.builder(name).serial(true).lockName("l1").build();
+            this.completion = completion;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            return completion;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FencingTokenTest {
+
+    @Test
+    public void addTo_Of() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 1);
+
+        FencingToken token = new FencingToken("l", 5L);
+        Map<String, Object> withToken = token.addTo(params);
+
+        assertEquals(token, FencingToken.of(withToken));
+        assertEquals(1, withToken.get("a"));
+
+        // original params must not be modified
+        assertNull(FencingToken.of(params));
+    }
+
+    @Test
+    public void isStale() {
+        FencingToken token = new FencingToken("l", 5L);
+        assertFalse(token.isStale(4L));
+        assertFalse(token.isStale(5L));
+        assertTrue(token.isStale(6L));
+    }
+}
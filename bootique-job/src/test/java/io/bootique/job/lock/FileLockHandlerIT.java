@@ -0,0 +1,74 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.lock;
+
+import io.bootique.BQRuntime;
+import io.bootique.job.BaseJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.JobsModule;
+import io.bootique.job.Scheduler;
+import io.bootique.junit5.BQTest;
+import io.bootique.junit5.BQTestFactory;
+import io.bootique.junit5.BQTestTool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class FileLockHandlerIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @TempDir
+    Path lockDir;
+
+    @Test
+    public void setFileLockHandler() {
+
+        Job job = new BaseJob(JobMetadata.builder("j").lockName("l").serial(true).build()) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                return JobOutcome.succeeded();
+            }
+        };
+
+        BQRuntime runtime = testFactory.app()
+                .module(b -> JobsModule.extend(b).addJob(job).setFileLockHandler(lockDir))
+                .createRuntime();
+
+        JobOutcome outcome = runtime.getInstance(Scheduler.class)
+                .newExecution()
+                .jobName("j")
+                .runBlocking();
+
+        assertEquals(JobStatus.SUCCESS, outcome.getStatus());
+        assertTrue(Files.exists(lockDir.resolve("l.lock")));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.lock;
+
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileLockHandlerTest {
+
+    @TempDir
+    Path lockDir;
+
+    @Test
+    public void run() throws Exception {
+
+        // two handlers emulate two JVMs sharing the lock directory
+        try (FileLockHandler h1 = new FileLockHandler(lockDir); FileLockHandler h2 = new FileLockHandler(lockDir)) {
+
+            LocalLockHandlerTest.BlockingJob job = new LocalLockHandlerTest.BlockingJob(
+                    JobMetadata.builder("j").lockName("a/b").serial(true).build());
+
+            CompletableFuture<JobOutcome> r1 = CompletableFuture.supplyAsync(() -> h1.run(job, Map.of()));
+            job.started.await(1, TimeUnit.SECONDS);
+
+            assertTrue(Files.exists(lockDir.resolve("a%2Fb.lock")));
+            assertEquals(JobStatus.SKIPPED, h2.run(job, Map.of()).getStatus());
+
+            job.release.countDown();
+            assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+            assertEquals(JobStatus.SUCCESS, h2.run(job, Map.of()).getStatus());
+        }
+    }
+
+    @Test
+    public void run_Permits() throws Exception {
+
+        try (FileLockHandler h1 = new FileLockHandler(lockDir); FileLockHandler h2 = new FileLockHandler(lockDir)) {
+
+            LocalLockHandlerTest.BlockingJob job = new LocalLockHandlerTest.BlockingJob(
+                    JobMetadata.builder("j").serial(true).lockPermits(2).build());
+
+            CompletableFuture<JobOutcome> r1 = CompletableFuture.supplyAsync(() -> h1.run(job, Map.of()));
+            CompletableFuture<JobOutcome> r2 = CompletableFuture.supplyAsync(() -> h2.run(job, Map.of()));
+            job.started.await(1, TimeUnit.SECONDS);
+
+            assertEquals(JobStatus.SKIPPED, h2.run(job, Map.of()).getStatus());
+
+            job.release.countDown();
+            assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+            assertEquals(JobStatus.SUCCESS, r2.get(1, TimeUnit.SECONDS).getStatus());
+        }
+    }
+}
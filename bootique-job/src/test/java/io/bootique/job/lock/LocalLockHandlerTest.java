@@ -0,0 +1,193 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.lock;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.BaseJob;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class LocalLockHandlerTest {
+
+    @Test
+    public void run_Mutex() throws Exception {
+        LocalLockHandler handler = new LocalLockHandler();
+        BlockingJob job = new BlockingJob(JobMetadata.builder("j").serial(true).build());
+
+        CompletableFuture<JobOutcome> r1 = CompletableFuture.supplyAsync(() -> handler.run(job, Map.of()));
+        job.started.await(1, TimeUnit.SECONDS);
+
+        assertEquals(JobStatus.SKIPPED, handler.run(job, Map.of()).getStatus());
+
+        job.release.countDown();
+        assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+    }
+
+    @Test
+    public void run_Semaphore() throws Exception {
+        LocalLockHandler handler = new LocalLockHandler();
+        BlockingJob job = new BlockingJob(JobMetadata.builder("j").serial(true).lockPermits(2).build());
+
+        CompletableFuture<JobOutcome> r1 = CompletableFuture.supplyAsync(() -> handler.run(job, Map.of()));
+        CompletableFuture<JobOutcome> r2 = CompletableFuture.supplyAsync(() -> handler.run(job, Map.of()));
+        job.started.await(1, TimeUnit.SECONDS);
+
+        assertEquals(JobStatus.SKIPPED, handler.run(job, Map.of()).getStatus());
+
+        job.release.countDown();
+        assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, r2.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+    }
+
+    @Test
+    public void run_Semaphore_ConflictingPermits() throws Exception {
+        LocalLockHandler handler = new LocalLockHandler();
+        BlockingJob job = new BlockingJob(JobMetadata.builder("j").serial(true).lockName("l").lockPermits(2).build());
+        BlockingJob conflictingJob = new BlockingJob(JobMetadata.builder("k").serial(true).lockName("l").lockPermits(3).build());
+
+        CompletableFuture<JobOutcome> r1 = CompletableFuture.supplyAsync(() -> handler.run(job, Map.of()));
+        CompletableFuture<JobOutcome> r2 = CompletableFuture.supplyAsync(() -> handler.run(job, Map.of()));
+        job.started.await(1, TimeUnit.SECONDS);
+
+        // the number of permits is set by the first job that used the lock
+        assertEquals(JobStatus.SKIPPED, handler.run(conflictingJob, Map.of()).getStatus());
+
+        job.release.countDown();
+        assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, r2.get(1, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    public void runAsync_Mutex() throws Exception {
+        LocalLockHandler handler = new LocalLockHandler();
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        AsyncJob job = new PendingJob(JobMetadata.builder("j").serial(true).build(), completion);
+
+        CompletableFuture<JobOutcome> r1 = handler.runAsync(job, Map.of()).toCompletableFuture();
+        assertFalse(r1.isDone());
+
+        // the lock is held till the job completes, not till "runAsync" returns
+        assertEquals(JobStatus.SKIPPED, handler.runAsync(job, Map.of()).toCompletableFuture().get().getStatus());
+
+        // release the lock from a thread other than the one that acquired it
+        CompletableFuture.runAsync(() -> completion.complete(JobOutcome.succeeded())).get(1, TimeUnit.SECONDS);
+        assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+    }
+
+    @Test
+    public void run_Reentrant() {
+        LocalLockHandler handler = new LocalLockHandler();
+        JobMetadata metadata = JobMetadata.builder("j").serial(true).build();
+
+        // the job runs itself on the same thread
+        BaseJob inner = new BaseJob(metadata) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                return JobOutcome.succeeded();
+            }
+        };
+
+        BaseJob outer = new BaseJob(metadata) {
+            @Override
+            public JobOutcome run(Map<String, Object> params) {
+                return handler.run(inner, params);
+            }
+        };
+
+        assertEquals(JobStatus.SUCCESS, handler.run(outer, Map.of()).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(outer, Map.of()).getStatus());
+    }
+
+    @Test
+    public void runAsync_Mutex_SyncJob() throws Exception {
+        LocalLockHandler handler = new LocalLockHandler();
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        AsyncJob asyncJob = new PendingJob(JobMetadata.builder("j").serial(true).build(), completion);
+        BlockingJob job = new BlockingJob(JobMetadata.builder("j").serial(true).build());
+        job.release.countDown();
+
+        CompletableFuture<JobOutcome> r1 = handler.runAsync(asyncJob, Map.of()).toCompletableFuture();
+
+        // neither the same nor the other thread can take the lock held by the async job
+        assertEquals(JobStatus.SKIPPED, handler.run(job, Map.of()).getStatus());
+        assertEquals(
+                JobStatus.SKIPPED,
+                CompletableFuture.supplyAsync(() -> handler.run(job, Map.of())).get(1, TimeUnit.SECONDS).getStatus());
+
+        completion.complete(JobOutcome.succeeded());
+        assertEquals(JobStatus.SUCCESS, r1.get(1, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.SUCCESS, handler.run(job, Map.of()).getStatus());
+    }
+
+    static class PendingJob extends BaseJob implements AsyncJob {
+
+        final CompletionStage<JobOutcome> completion;
+
+        PendingJob(JobMetadata metadata, CompletionStage<JobOutcome> completion) {
+            super(metadata);
+            this.completion = completion;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            return AsyncJob.super.run(params);
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            return completion;
+        }
+    }
+
+    static class BlockingJob extends BaseJob {
+
+        final CountDownLatch started;
+        final CountDownLatch release;
+
+        BlockingJob(JobMetadata metadata) {
+            super(metadata);
+            this.started = new CountDownLatch(metadata.getLockPermits());
+            this.release = new CountDownLatch(1);
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            started.countDown();
+            try {
+                return release.await(1, TimeUnit.SECONDS) ? JobOutcome.succeeded() : JobOutcome.failed("Timeout");
+            } catch (InterruptedException e) {
+                return JobOutcome.failed(e);
+            }
+        }
+    }
+}
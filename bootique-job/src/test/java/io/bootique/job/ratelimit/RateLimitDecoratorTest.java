@@ -0,0 +1,137 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.ratelimit;
+
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitDecoratorTest {
+
+    final TaskScheduler scheduler = new TaskScheduler(Clock.systemUTC(), 1, "rate-limit-test-");
+
+    @AfterEach
+    public void afterEach() {
+        scheduler.close();
+    }
+
+    @Test
+    public void tokenBucket() {
+        long s = TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+
+        // a full bucket allows a burst
+        assertTrue(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0));
+        assertFalse(bucket.tryAcquire(0));
+
+        // one token is refilled per second
+        assertFalse(bucket.tryAcquire(s - 1));
+        assertTrue(bucket.tryAcquire(s));
+        assertFalse(bucket.tryAcquire(s));
+
+        assertEquals(-1, bucket.reserve(s, s - 1));
+        assertEquals(s, bucket.reserve(s, s));
+
+        // the reserved token is taken
+        assertEquals(2 * s, bucket.reserve(s, 2 * s));
+    }
+
+    @Test
+    public void run_Skip() {
+        CountingJob counting = new CountingJob();
+        RateLimitDecorator decorator = decorator("j1", new RateLimit(2, Duration.ofMinutes(1), RateLimitMode.SKIP, null));
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        assertTrue(job.run(Map.of()).isSuccess());
+        assertTrue(job.run(Map.of()).isSuccess());
+        assertEquals(JobStatus.SKIPPED, job.run(Map.of()).getStatus());
+        assertEquals(2, counting.runs.get());
+    }
+
+    @Test
+    public void run_Wait() {
+        CountingJob counting = new CountingJob();
+        RateLimitDecorator decorator = decorator("j1", new RateLimit(1, Duration.ofMillis(100), RateLimitMode.WAIT, null));
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        long t0 = System.nanoTime();
+        assertTrue(job.run(Map.of()).isSuccess());
+        assertTrue(job.run(Map.of()).isSuccess());
+        assertTrue(System.nanoTime() - t0 >= TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    public void run_Defer() {
+        CountingJob counting = new CountingJob();
+        RateLimitDecorator decorator = decorator("j1", new RateLimit(1, Duration.ofMillis(100), RateLimitMode.DEFER, null));
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        assertTrue(job.run(Map.of()).isSuccess());
+
+        JobOutcome deferred = job.run(Map.of());
+        assertEquals(JobStatus.SKIPPED, deferred.getStatus());
+        assertNotNull(deferred.getYieldedTo());
+        assertEquals(1, counting.runs.get());
+
+        assertTrue(deferred.getYieldedTo().get(1, TimeUnit.SECONDS).isSuccess());
+        assertEquals(2, counting.runs.get());
+    }
+
+    @Test
+    public void isApplicable_LockName() {
+        RateLimitDecorator decorator = decorator("l1", new RateLimit(1, Duration.ofSeconds(1), RateLimitMode.SKIP, null));
+        assertFalse(decorator.isApplicable(JobMetadata.build("j1"), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.build("l1"), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").lockName("l1").build(), null, Map.of()));
+    }
+
+    private RateLimitDecorator decorator(String key, RateLimit limit) {
+        return new RateLimitDecorator(Map.of(key, limit), () -> scheduler);
+    }
+
+    static class CountingJob implements Job {
+
+        final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public JobMetadata getMetadata() {
+            return JobMetadata.build("j1");
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            runs.incrementAndGet();
+            return JobOutcome.succeeded();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.retry;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobFuture;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.scheduler.TaskScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryDecoratorTest {
+
+    final TaskScheduler scheduler = new TaskScheduler(Clock.systemUTC(), 1, "retry-test-");
+    final RetryDecorator decorator = new RetryDecorator(() -> scheduler);
+
+    @AfterEach
+    public void afterEach() {
+        scheduler.close();
+    }
+
+    @Test
+    public void run_SucceedsAfterRetries() {
+        FlakyJob flaky = new FlakyJob(policy(3), JobStatus.FAILURE, JobStatus.FAILURE, JobStatus.SUCCESS);
+        Job job = decorator.decorate(flaky, null, Map.of());
+
+        JobOutcome first = job.run(Map.of());
+        assertEquals(JobStatus.FAILURE, first.getStatus());
+
+        JobFuture retries = first.getYieldedTo();
+        assertNotNull(retries);
+        assertEquals(JobStatus.SUCCESS, retries.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(3, flaky.threads.size());
+
+        // retries must not block the caller thread
+        assertNotEquals(Thread.currentThread().getName(), flaky.threads.get(1));
+    }
+
+    @Test
+    public void runAsync_SucceedsAfterRetries() {
+        AsyncFlakyJob flaky = new AsyncFlakyJob(policy(3), JobStatus.FAILURE, JobStatus.FAILURE, JobStatus.SUCCESS);
+        Job job = decorator.decorate(flaky, null, Map.of());
+        assertTrue(job instanceof AsyncJob);
+
+        CompletionStage<JobOutcome> stage = ((AsyncJob) job).runAsync(Map.of());
+
+        // the first attempt is not done until the job completes its future
+        assertFalse(stage.toCompletableFuture().isDone());
+        flaky.completions.get(0).complete(null);
+
+        JobOutcome first = stage.toCompletableFuture().join();
+        assertEquals(JobStatus.FAILURE, first.getStatus());
+        assertEquals(JobStatus.SUCCESS, first.awaitFinal().getStatus());
+        assertEquals(3, flaky.completions.size());
+    }
+
+    @Test
+    public void run_SchedulerClock() {
+        TaskScheduler laggingScheduler = new TaskScheduler(
+                Clock.offset(Clock.systemUTC(), Duration.ofDays(-1)),
+                1,
+                "retry-test-lagging-");
+
+        try {
+            FlakyJob flaky = new FlakyJob(policy(2), JobStatus.FAILURE, JobStatus.SUCCESS);
+            Job job = new RetryDecorator(() -> laggingScheduler).decorate(flaky, null, Map.of());
+
+            // the retry time must be calculated with the scheduler clock, or the retry would be a day late
+            JobFuture retries = job.run(Map.of()).getYieldedTo();
+            assertEquals(JobStatus.SUCCESS, retries.get(5, TimeUnit.SECONDS).getStatus());
+        } finally {
+            laggingScheduler.close();
+        }
+    }
+
+    @Test
+    public void run_AttemptsExhausted() {
+        FlakyJob flaky = new FlakyJob(policy(2), JobStatus.FAILURE, JobStatus.FAILURE, JobStatus.SUCCESS);
+        Job job = decorator.decorate(flaky, null, Map.of());
+
+        JobOutcome outcome = job.run(Map.of()).awaitFinal();
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertEquals(2, flaky.threads.size());
+    }
+
+    @Test
+    public void run_NotRetryable() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(5))
+                .retryOnException(IllegalStateException.class)
+                .build();
+
+        FlakyJob flaky = new FlakyJob(policy, JobStatus.FAILURE, JobStatus.SUCCESS);
+        Job job = decorator.decorate(flaky, null, Map.of());
+
+        JobOutcome outcome = job.run(Map.of());
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertNull(outcome.getYieldedTo());
+        assertEquals(1, flaky.threads.size());
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ofMillis(200), Duration.ofMillis(200))
+                .build();
+
+        FlakyJob flaky = new FlakyJob(policy, JobStatus.FAILURE, JobStatus.SUCCESS);
+        Job job = decorator.decorate(flaky, null, Map.of());
+
+        JobFuture retries = job.run(Map.of()).getYieldedTo();
+        assertTrue(retries.cancel(false));
+
+        Thread.sleep(400);
+        assertEquals(1, flaky.threads.size());
+    }
+
+    @Test
+    public void isApplicable() {
+        assertFalse(decorator.isApplicable(JobMetadata.build("j1"), null, Map.of()));
+        assertFalse(decorator.isApplicable(JobMetadata.builder("j1").retry(policy(1)).build(), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").retry(policy(2)).build(), null, Map.of()));
+    }
+
+    @Test
+    public void backoff() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .backoff(Duration.ofMillis(100), Duration.ofMillis(350))
+                .jitter(0.)
+                .build();
+
+        assertEquals(Duration.ofMillis(100), policy.backoff(1));
+        assertEquals(Duration.ofMillis(200), policy.backoff(2));
+        assertEquals(Duration.ofMillis(350), policy.backoff(3));
+
+        RetryPolicy jittered = RetryPolicy.builder()
+                .backoff(Duration.ofMillis(100), Duration.ofMillis(350))
+                .jitter(0.5)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            long ms = jittered.backoff(1).toMillis();
+            assertTrue(ms >= 50 && ms <= 150, "Unexpected backoff: " + ms);
+        }
+    }
+
+    private static RetryPolicy policy(int maxAttempts) {
+        return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(5))
+                .build();
+    }
+
+    static class FlakyJob implements Job {
+
+        final JobMetadata metadata;
+        final JobStatus[] statuses;
+        final List<String> threads;
+
+        FlakyJob(RetryPolicy policy, JobStatus... statuses) {
+            this.metadata = JobMetadata.builder("j1").retry(policy).build();
+            this.statuses = statuses;
+            this.threads = new CopyOnWriteArrayList<>();
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            int attempt = threads.size();
+            threads.add(Thread.currentThread().getName());
+            return statuses[attempt] == JobStatus.SUCCESS ? JobOutcome.succeeded() : JobOutcome.failed("attempt " + attempt);
+        }
+    }
+
+    static class AsyncFlakyJob implements AsyncJob {
+
+        final JobMetadata metadata;
+        final JobStatus[] statuses;
+        final List<CompletableFuture<Void>> completions;
+
+        AsyncFlakyJob(RetryPolicy policy, JobStatus... statuses) {
+            this.metadata = JobMetadata.builder("j1").retry(policy).build();
+            this.statuses = statuses;
+            this.completions = new CopyOnWriteArrayList<>();
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            int attempt = completions.size();
+
+            // the first attempt is completed by the test, the retries complete right away
+            CompletableFuture<Void> completion = attempt == 0 ? new CompletableFuture<>() : CompletableFuture.completedFuture(null);
+            completions.add(completion);
+
+            return completion.thenApply(v -> statuses[attempt] == JobStatus.SUCCESS
+                    ? JobOutcome.succeeded()
+                    : JobOutcome.failed("attempt " + attempt));
+        }
+    }
+}
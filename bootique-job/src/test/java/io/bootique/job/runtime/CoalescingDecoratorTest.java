@@ -0,0 +1,162 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoalescingDecoratorTest {
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    final CoalescingDecorator decorator = new CoalescingDecorator();
+
+    @AfterEach
+    public void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void run_SameParams() throws Exception {
+        BlockingJob blocking = new BlockingJob();
+        Job job = decorator.decorate(blocking, null, Map.of("a", 1));
+
+        Future<JobOutcome> f1 = executor.submit(() -> job.run(new HashMap<>()));
+        assertTrue(blocking.started.await(1, TimeUnit.SECONDS));
+
+        // the explicit param is the same as the pre-bound one, so the run must be coalesced
+        Future<JobOutcome> f2 = executor.submit(() -> job.run(new HashMap<>(Map.of("a", 1))));
+        waitForJoin(f2);
+
+        blocking.release.countDown();
+
+        JobOutcome o1 = f1.get(1, TimeUnit.SECONDS);
+        JobOutcome o2 = f2.get(1, TimeUnit.SECONDS);
+        assertSame(o1, o2);
+        assertEquals(1, blocking.runs.get());
+        assertEquals(0, decorator.getInFlightCount());
+    }
+
+    @Test
+    public void runAsync_SameParams() {
+        CompletableFuture<JobOutcome> completion = new CompletableFuture<>();
+        AtomicInteger runs = new AtomicInteger();
+        AsyncJob async = new AsyncJob() {
+
+            @Override
+            public JobMetadata getMetadata() {
+                return JobMetadata.builder("j1").coalesced(true).build();
+            }
+
+            @Override
+            public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+                runs.incrementAndGet();
+                return completion;
+            }
+        };
+
+        AsyncJob job = (AsyncJob) decorator.decorate(async, null, Map.of());
+
+        // both runs are started on the same thread, as neither blocks till the job is done
+        CompletionStage<JobOutcome> s1 = job.runAsync(new HashMap<>());
+        CompletionStage<JobOutcome> s2 = job.runAsync(new HashMap<>());
+        assertEquals(1, runs.get());
+        assertFalse(s2.toCompletableFuture().isDone());
+
+        JobOutcome outcome = JobOutcome.succeeded();
+        completion.complete(outcome);
+
+        assertSame(outcome, s1.toCompletableFuture().join());
+        assertSame(outcome, s2.toCompletableFuture().join());
+        assertEquals(0, decorator.getInFlightCount());
+    }
+
+    @Test
+    public void run_DifferentParams() throws Exception {
+        BlockingJob blocking = new BlockingJob();
+        blocking.release.countDown();
+        Job job = decorator.decorate(blocking, null, Map.of());
+
+        assertTrue(job.run(Map.of("a", 1)).isSuccess());
+        assertTrue(job.run(Map.of("a", 2)).isSuccess());
+        assertEquals(2, blocking.runs.get());
+    }
+
+    @Test
+    public void isApplicable() {
+        assertFalse(decorator.isApplicable(JobMetadata.build("j1"), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").coalesced(true).build(), null, Map.of()));
+    }
+
+    @Test
+    public void normalizeParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 2);
+        params.put("b", null);
+
+        assertEquals(Map.of("a", 2, "c", 3), ExecutionKey.normalizeParams(Map.of("a", 1, "c", 3), params));
+    }
+
+    private static void waitForJoin(Future<?> joining) throws InterruptedException {
+        // there's no direct signal of the second caller joining the in-flight run, so give it some time
+        Thread.sleep(100);
+        assertFalse(joining.isDone());
+    }
+
+    static class BlockingJob implements Job {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public JobMetadata getMetadata() {
+            return JobMetadata.builder("j1").coalesced(true).build();
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                return JobOutcome.failed("interrupted");
+            }
+            return JobOutcome.succeeded();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobFuture;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompletableJobFutureTest {
+
+    @Test
+    public void complete() {
+        CompletableJobFuture f = new CompletableJobFuture("j1");
+        AtomicReference<JobOutcome> seen = new AtomicReference<>();
+        CompletableFuture<JobStatus> status = f.thenApply(JobOutcome::getStatus);
+        f.whenComplete((o, e) -> seen.set(o));
+
+        assertNull(f.getNow(null));
+        assertFalse(status.isDone());
+
+        JobOutcome outcome = JobOutcome.succeeded();
+        assertTrue(f.complete(outcome));
+        assertFalse(f.complete(JobOutcome.failed()));
+
+        assertSame(outcome, f.get());
+        assertSame(outcome, seen.get());
+        assertEquals(JobStatus.SUCCESS, status.join());
+    }
+
+    @Test
+    public void complete_Yielded() {
+        CompletableJobFuture yieldedTo = new CompletableJobFuture("j1");
+        CompletableJobFuture f = new CompletableJobFuture("j1");
+
+        f.complete(JobOutcome.failed().yieldTo(yieldedTo));
+        assertFalse(f.isDone());
+
+        JobOutcome finalOutcome = JobOutcome.succeeded();
+        yieldedTo.complete(finalOutcome);
+        assertSame(finalOutcome, f.get());
+    }
+
+    @Test
+    public void cancel() {
+        FutureTask<Object> task = new FutureTask<>(() -> null);
+        CompletableJobFuture yieldedTo = new CompletableJobFuture("j1");
+        yieldedTo.attachTask(task);
+
+        CompletableJobFuture f = new CompletableJobFuture("j1");
+        f.complete(JobOutcome.failed().yieldTo(yieldedTo));
+
+        assertTrue(f.cancel(false));
+        assertTrue(yieldedTo.isCancelled());
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void allOf() {
+        CompletableJobFuture f1 = new CompletableJobFuture("j1");
+        CompletableJobFuture f2 = new CompletableJobFuture("j2");
+
+        CompletableFuture<List<JobOutcome>> all = JobFuture.allOf(List.of(f1, f2));
+
+        f2.complete(JobOutcome.failed());
+        assertFalse(all.isDone());
+        f1.complete(JobOutcome.succeeded());
+
+        List<JobOutcome> outcomes = all.join();
+        assertEquals(JobStatus.SUCCESS, outcomes.get(0).getStatus());
+        assertEquals(JobStatus.FAILURE, outcomes.get(1).getStatus());
+    }
+
+    @Test
+    public void allOf_Canceled() {
+        CompletableJobFuture f1 = new CompletableJobFuture("j1");
+        CompletableJobFuture f2 = new CompletableJobFuture("j2");
+
+        CompletableFuture<List<JobOutcome>> all = JobFuture.allOf(List.of(f1, f2));
+
+        f1.cancel(false);
+        f2.complete(JobOutcome.succeeded());
+
+        List<JobOutcome> outcomes = all.join();
+        assertEquals(JobStatus.FAILURE, outcomes.get(0).getStatus());
+        assertEquals(JobStatus.SUCCESS, outcomes.get(1).getStatus());
+    }
+
+    @Test
+    public void joinNonBlocking() {
+        CompletableJobFuture f = new CompletableJobFuture("j1");
+        CompletableFuture<JobOutcome> joined = f.joinNonBlocking();
+        assertFalse(joined.isDone());
+
+        RuntimeException e = new RuntimeException("test");
+        f.completeExceptionally(e);
+
+        JobOutcome outcome = joined.getNow(null);
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertSame(e, outcome.getException());
+    }
+
+    @Test
+    public void toCompletableFuture_ReadOnly() {
+        CompletableJobFuture f = new CompletableJobFuture("j1");
+
+        f.toCompletableFuture().complete(JobOutcome.failed());
+        f.toCompletableFuture().cancel(false);
+        assertFalse(f.isDone());
+
+        JobOutcome outcome = JobOutcome.succeeded();
+        f.complete(outcome);
+        assertSame(outcome, f.toCompletableFuture().join());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutionHistoryTest {
+
+    @Test
+    public void getJobExecutions_Empty() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        assertTrue(history.getJobExecutions("j1").isEmpty());
+        assertTrue(history.getTriggerExecutions("j1", "t1").isEmpty());
+    }
+
+    @Test
+    public void getJobExecutions_NewestFirst() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        history.record("j1", null, 1000, 5_000_000, JobStatus.SUCCESS);
+        history.record("j1", null, 2000, 6_000_000, JobStatus.FAILURE);
+
+        RecentExecutions executions = history.getJobExecutions("j1");
+        assertEquals(2, executions.size());
+
+        assertEquals(Instant.ofEpochMilli(2000), executions.getStartedAt(0));
+        assertEquals(Duration.ofMillis(6), executions.getDuration(0));
+        assertEquals(JobStatus.FAILURE, executions.getStatus(0));
+
+        assertEquals(Instant.ofEpochMilli(1000), executions.getStartedAt(1));
+        assertEquals(JobStatus.SUCCESS, executions.getStatus(1));
+    }
+
+    @Test
+    public void getJobExecutions_Wraparound() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        for (int i = 1; i <= 5; i++) {
+            history.record("j1", null, i, 0, i % 2 == 0 ? JobStatus.FAILURE : JobStatus.SUCCESS);
+        }
+
+        RecentExecutions executions = history.getJobExecutions("j1");
+        assertEquals(3, executions.size());
+        assertEquals(Instant.ofEpochMilli(5), executions.getStartedAt(0));
+        assertEquals(Instant.ofEpochMilli(4), executions.getStartedAt(1));
+        assertEquals(Instant.ofEpochMilli(3), executions.getStartedAt(2));
+        assertEquals(1, executions.count(JobStatus.FAILURE));
+        assertEquals(2, executions.count(JobStatus.SUCCESS));
+    }
+
+    @Test
+    public void getJobExecutions_SnapshotIsImmutable() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        history.record("j1", null, 1, 0, JobStatus.SUCCESS);
+
+        RecentExecutions executions = history.getJobExecutions("j1");
+        history.record("j1", null, 2, 0, JobStatus.SUCCESS);
+
+        assertEquals(1, executions.size());
+        assertEquals(2, history.getJobExecutions("j1").size());
+    }
+
+    @Test
+    public void getTriggerExecutions() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        history.record("j1", "t1", 1, 0, JobStatus.SUCCESS);
+        history.record("j1", "t2", 2, 0, JobStatus.SUCCESS);
+        history.record("j1", null, 3, 0, JobStatus.SUCCESS);
+
+        assertEquals(3, history.getJobExecutions("j1").size());
+        assertEquals(1, history.getTriggerExecutions("j1", "t1").size());
+        assertEquals(Instant.ofEpochMilli(2), history.getTriggerExecutions("j1", "t2").getStartedAt(0));
+        assertTrue(history.getTriggerExecutions("j2", "t1").isEmpty());
+    }
+
+    @Test
+    public void removeTrigger() {
+        ExecutionHistory history = new ExecutionHistory(3);
+        history.record("j1", "t1", 1, 0, JobStatus.SUCCESS);
+        history.removeTrigger("j1", "t1");
+
+        assertTrue(history.getTriggerExecutions("j1", "t1").isEmpty());
+        assertEquals(1, history.getJobExecutions("j1").size());
+    }
+
+    @Test
+    public void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecutionHistory(0));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import io.bootique.job.JobStatus;
+import io.bootique.job.RecentExecutions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobTimeoutDecoratorTest {
+
+    final JobTimeoutDecorator decorator = new JobTimeoutDecorator();
+
+    @AfterEach
+    public void afterEach() {
+        decorator.close();
+    }
+
+    @Test
+    public void run_TimedOut() {
+        Job job = decorator.decorate(new SleepingJob(Duration.ofMillis(50), 5_000), null, Map.of());
+
+        long t0 = System.currentTimeMillis();
+        JobOutcome outcome = job.run(Map.of());
+
+        assertEquals(JobStatus.FAILURE, outcome.getStatus());
+        assertTrue(outcome.getMessage().contains("timed out"), outcome.getMessage());
+        assertTrue(System.currentTimeMillis() - t0 < 4_000);
+
+        // the interrupt must not leak to the next task on the thread
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void run_InTime() throws InterruptedException {
+        Job job = decorator.decorate(new SleepingJob(Duration.ofMillis(50), 1), null, Map.of());
+
+        assertTrue(job.run(Map.of()).isSuccess());
+
+        // the deadline must not fire after the job is finished
+        Thread.sleep(100);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void isApplicable() {
+        assertFalse(decorator.isApplicable(JobMetadata.build("j1"), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").timeout(Duration.ofSeconds(1)).build(), null, Map.of()));
+    }
+
+    @Test
+    public void p99Nanos() {
+        long[] startedAt = new long[10];
+        long[] durations = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100_000};
+        JobStatus[] statuses = new JobStatus[10];
+        Arrays.fill(statuses, JobStatus.SUCCESS);
+
+        assertEquals(100_000, JobTimeoutDecorator.p99Nanos(new RecentExecutions(startedAt, durations, statuses)));
+
+        // failures are ignored, leaving too few samples
+        Arrays.fill(statuses, 0, 6, JobStatus.FAILURE);
+        assertEquals(-1, JobTimeoutDecorator.p99Nanos(new RecentExecutions(startedAt, durations, statuses)));
+    }
+
+    static class SleepingJob implements Job {
+
+        final JobMetadata metadata;
+        final long sleepMs;
+
+        SleepingJob(Duration timeout, long sleepMs) {
+            this.metadata = JobMetadata.builder("j1").timeout(timeout).build();
+            this.sleepMs = sleepMs;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                return JobOutcome.failed("interrupted");
+            }
+            return JobOutcome.succeeded();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutcomeCacheDecoratorTest {
+
+    @Test
+    public void run_Hit() {
+        OutcomeCacheDecorator decorator = new OutcomeCacheDecorator(10);
+        CountingJob counting = new CountingJob(Duration.ofMinutes(1), true);
+        Job job = decorator.decorate(counting, null, Map.of("a", 1));
+
+        JobOutcome o1 = job.run(Map.of());
+        JobOutcome o2 = job.run(Map.of("a", 1));
+        assertSame(o1, o2);
+        assertEquals(1, counting.runs.get());
+
+        job.run(Map.of("a", 2));
+        assertEquals(2, counting.runs.get());
+
+        assertEquals(1, decorator.getHitCount());
+        assertEquals(2, decorator.getMissCount());
+        assertEquals(2, decorator.getSize());
+    }
+
+    @Test
+    public void run_Expired() throws InterruptedException {
+        OutcomeCacheDecorator decorator = new OutcomeCacheDecorator(10);
+        CountingJob counting = new CountingJob(Duration.ofMillis(20), true);
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        job.run(Map.of());
+        Thread.sleep(50);
+        job.run(Map.of());
+        assertEquals(2, counting.runs.get());
+    }
+
+    @Test
+    public void run_FailureNotCached() {
+        OutcomeCacheDecorator decorator = new OutcomeCacheDecorator(10);
+        CountingJob counting = new CountingJob(Duration.ofMinutes(1), false);
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        job.run(Map.of());
+        job.run(Map.of());
+        assertEquals(2, counting.runs.get());
+        assertEquals(0, decorator.getSize());
+    }
+
+    @Test
+    public void run_LruEviction() {
+        OutcomeCacheDecorator decorator = new OutcomeCacheDecorator(2);
+        CountingJob counting = new CountingJob(Duration.ofMinutes(1), true);
+        Job job = decorator.decorate(counting, null, Map.of());
+
+        job.run(Map.of("a", 1));
+        job.run(Map.of("a", 2));
+
+        // touch "1", so that "2" becomes the eldest
+        job.run(Map.of("a", 1));
+        job.run(Map.of("a", 3));
+        assertEquals(3, counting.runs.get());
+        assertEquals(2, decorator.getSize());
+
+        job.run(Map.of("a", 1));
+        assertEquals(3, counting.runs.get());
+
+        job.run(Map.of("a", 2));
+        assertEquals(4, counting.runs.get());
+    }
+
+    @Test
+    public void isApplicable() {
+        OutcomeCacheDecorator decorator = new OutcomeCacheDecorator(10);
+        assertFalse(decorator.isApplicable(JobMetadata.build("j1"), null, Map.of()));
+        assertTrue(decorator.isApplicable(JobMetadata.builder("j1").cacheOutcome(Duration.ofSeconds(1)).build(), null, Map.of()));
+    }
+
+    static class CountingJob implements Job {
+
+        final JobMetadata metadata;
+        final boolean succeed;
+        final AtomicInteger runs = new AtomicInteger();
+
+        CountingJob(Duration ttl, boolean succeed) {
+            this.metadata = JobMetadata.builder("j1").cacheOutcome(ttl).build();
+            this.succeed = succeed;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            runs.incrementAndGet();
+            return succeed ? JobOutcome.succeeded() : JobOutcome.failed();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.runtime;
+
+import io.bootique.job.AsyncJob;
+import io.bootique.job.Job;
+import io.bootique.job.JobMetadata;
+import io.bootique.job.JobOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelJobsStepTest {
+
+    final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void afterEach() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void run_Listener() {
+        TestListener listener = new TestListener();
+        ParallelJobsStep step = new ParallelJobsStep(
+                new GraphExecutor(pool),
+                List.of(new SleepingJob("j1", 60), new SleepingJob("j2", 100)),
+                "g1",
+                3,
+                listener);
+
+        assertTrue(step.run(Map.of()).isSuccess());
+
+        assertEquals(List.of("g1:3:j1", "g1:3:j2"), listener.members.stream().sorted().toList());
+        assertEquals(List.of("g1:3:2"), listener.steps);
+
+        // the jobs ran in parallel, so the total running time is larger than the step time
+        assertTrue(listener.membersRunNanos > listener.stepNanos, () -> listener.membersRunNanos + " vs " + listener.stepNanos);
+
+        // the faster job was idle waiting for the slower one
+        assertTrue(listener.maxIdleNanos >= 20_000_000L, () -> String.valueOf(listener.maxIdleNanos));
+    }
+
+    @Test
+    public void run_AsyncJobs() {
+
+        // async jobs must not need the pool threads
+        ExecutorService noThreads = Executors.newSingleThreadExecutor();
+        noThreads.shutdown();
+
+        TestListener listener = new TestListener();
+        ParallelJobsStep step = new ParallelJobsStep(
+                new GraphExecutor(noThreads),
+                List.of(new AsyncSleepingJob("j1", 60), new AsyncSleepingJob("j2", 100), new AsyncSleepingJob("j3", 60)),
+                "g1",
+                0,
+                listener);
+
+        assertTrue(step.run(Map.of()).isSuccess());
+
+        assertEquals(List.of("g1:0:j1", "g1:0:j2", "g1:0:j3"), listener.members.stream().sorted().toList());
+        assertTrue(listener.membersRunNanos > listener.stepNanos, () -> listener.membersRunNanos + " vs " + listener.stepNanos);
+    }
+
+    @Test
+    public void run_SingleJobStep_Listener() {
+        TestListener listener = new TestListener();
+        SingleJobStep step = new SingleJobStep(new SleepingJob("j1", 1), "g1", 0, listener);
+
+        assertTrue(step.run(Map.of()).isSuccess());
+        assertEquals(List.of("g1:0:j1"), listener.members);
+        assertEquals(List.of("g1:0:1"), listener.steps);
+        assertEquals(listener.stepNanos, listener.membersRunNanos);
+    }
+
+    static class SleepingJob implements Job {
+
+        final JobMetadata metadata;
+        final long sleepMs;
+
+        SleepingJob(String name, long sleepMs) {
+            this.metadata = JobMetadata.build(name);
+            this.sleepMs = sleepMs;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public JobOutcome run(Map<String, Object> params) {
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                return JobOutcome.failed(e);
+            }
+
+            return JobOutcome.succeeded();
+        }
+    }
+
+    static class AsyncSleepingJob implements AsyncJob {
+
+        final JobMetadata metadata;
+        final long sleepMs;
+
+        AsyncSleepingJob(String name, long sleepMs) {
+            this.metadata = JobMetadata.build(name);
+            this.sleepMs = sleepMs;
+        }
+
+        @Override
+        public JobMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public CompletionStage<JobOutcome> runAsync(Map<String, Object> params) {
+            return CompletableFuture.supplyAsync(
+                    JobOutcome::succeeded,
+                    CompletableFuture.delayedExecutor(sleepMs, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    static class TestListener implements GraphJobListener {
+
+        final List<String> members = new ArrayList<>();
+        final List<String> steps = new ArrayList<>();
+        long maxIdleNanos;
+        long stepNanos;
+        long membersRunNanos;
+
+        @Override
+        public synchronized void onMemberFinished(String groupName, int stepIndex, String jobName, long queuedNanos, long runNanos, long idleNanos) {
+            members.add(groupName + ":" + stepIndex + ":" + jobName);
+            maxIdleNanos = Math.max(maxIdleNanos, idleNanos);
+        }
+
+        @Override
+        public synchronized void onStepFinished(String groupName, int stepIndex, int stepWidth, long stepNanos, long membersRunNanos) {
+            steps.add(groupName + ":" + stepIndex + ":" + stepWidth);
+            this.stepNanos = stepNanos;
+            this.membersRunNanos = membersRunNanos;
+        }
+    }
+}
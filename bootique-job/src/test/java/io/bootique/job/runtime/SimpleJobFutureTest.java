@@ -0,0 +1,74 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.runtime;
+
+import io.bootique.job.JobOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimpleJobFutureTest {
+
+    @Test
+    public void toCompletableFuture() {
+        JobOutcome outcome = JobOutcome.succeeded();
+        AtomicReference<SimpleJobFuture> ref = new AtomicReference<>();
+        FutureTask<?> task = new FutureTask<>(() -> ref.get().onRunFinished(), null);
+
+        SimpleJobFuture f = new SimpleJobFuture("j1", task, () -> outcome);
+        ref.set(f);
+
+        CompletableFuture<JobOutcome> cf = f.toCompletableFuture();
+        assertFalse(cf.isDone());
+
+        // completed by the run itself
+        task.run();
+        assertSame(outcome, cf.getNow(null));
+    }
+
+    @Test
+    public void toCompletableFuture_CompletionStage() {
+        JobOutcome outcome = JobOutcome.succeeded();
+        CompletableFuture<Void> run = new CompletableFuture<>();
+
+        CompletableFuture<JobOutcome> cf = new SimpleJobFuture("j1", run, () -> outcome).toCompletableFuture();
+        assertFalse(cf.isDone());
+
+        run.complete(null);
+        assertSame(outcome, cf.getNow(null));
+    }
+
+    @Test
+    public void toCompletableFuture_Yielded() {
+        CompletableJobFuture yieldedTo = new CompletableJobFuture("j1");
+        CompletableFuture<Void> run = CompletableFuture.completedFuture(null);
+
+        CompletableFuture<JobOutcome> cf = new SimpleJobFuture("j1", run, () -> JobOutcome.failed().yieldTo(yieldedTo))
+                .toCompletableFuture();
+        assertFalse(cf.isDone());
+
+        JobOutcome outcome = JobOutcome.succeeded();
+        yieldedTo.complete(outcome);
+        assertSame(outcome, cf.getNow(null));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.job.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileExecutionQueueTest {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void addAck_Replay() {
+        Path file = dir.resolve("queue");
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            assertTrue(queue.takePending().isEmpty());
+
+            long id1 = queue.add("j1", Map.of("a", 1));
+            long id2 = queue.add("j 2", Map.of());
+            long id3 = queue.add("j1", Map.of("a", "x"));
+            assertTrue(id1 < id2 && id2 < id3);
+
+            queue.ack(id2);
+        }
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            List<PendingExecution> pending = queue.takePending();
+            assertEquals(2, pending.size());
+
+            assertEquals("j1", pending.get(0).getJobName());
+            assertEquals(Map.of("a", 1), pending.get(0).getParams());
+            assertEquals("j1", pending.get(1).getJobName());
+            assertEquals(Map.of("a", "x"), pending.get(1).getParams());
+
+            // only returned once
+            assertTrue(queue.takePending().isEmpty());
+
+            // new ids must not clash with the replayed ones
+            assertTrue(queue.add("j3", Map.of()) > pending.get(1).getId());
+
+            pending.forEach(p -> queue.ack(p.getId()));
+        }
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            List<PendingExecution> pending = queue.takePending();
+            assertEquals(1, pending.size());
+            assertEquals("j3", pending.get(0).getJobName());
+        }
+    }
+
+    @Test
+    public void replay_IncompleteRecord() throws Exception {
+        Path file = dir.resolve("queue");
+
+        long id;
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            id = queue.add("j1", Map.of());
+            queue.add("j2", Map.of());
+        }
+
+        // emulate a crash in the middle of writing an ack for the first execution
+        String ack = "- " + id + "\n";
+        Files.writeString(file, ack.substring(0, ack.length() - 1), StandardOpenOption.APPEND);
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            assertEquals(2, queue.takePending().size());
+        }
+    }
+
+    @Test
+    public void add_Concurrent() throws Exception {
+        Path file = dir.resolve("queue");
+
+        List<Future<Long>> ids = new ArrayList<>();
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 200; i++) {
+                    int p = i;
+                    ids.add(executor.submit(() -> queue.add("j" + (p % 5), Map.of("p", p))));
+                }
+            }
+
+            for (int i = 0; i < ids.size(); i += 2) {
+                queue.ack(ids.get(i).get());
+            }
+        }
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            assertEquals(100, queue.takePending().size());
+        }
+    }
+
+    @Test
+    public void compaction() throws Exception {
+        Path file = dir.resolve("queue");
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            queue.add("pending", Map.of());
+
+            for (int i = 0; i < FileExecutionQueue.MIN_COMPACTION_RECORDS; i++) {
+                queue.ack(queue.add("j1", Map.of()));
+            }
+        }
+
+        assertTrue(Files.readAllLines(file).size() < FileExecutionQueue.MIN_COMPACTION_RECORDS);
+
+        try (FileExecutionQueue queue = new FileExecutionQueue(file, MAPPER)) {
+            List<PendingExecution> pending = queue.takePending();
+            assertEquals(1, pending.size());
+            assertEquals("pending", pending.get(0).getJobName());
+        }
+    }
+
+    @Test
+    public void add_Closed() {
+        FileExecutionQueue queue = new FileExecutionQueue(dir.resolve("queue"), MAPPER);
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.add("j1", Map.of()));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.job.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileTriggerStateStoreTest {
+
+    static final Instant T1 = Instant.parse("2024-01-01T10:00:00Z");
+    static final Instant T2 = Instant.parse("2024-01-01T10:00:01.123456789Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void saveLoad() {
+        Path file = dir.resolve("state");
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            assertNull(store.load("j1:t1"));
+
+            store.save("j1:t1", new TriggerState(T1, T1));
+            store.save("j1:t1", new TriggerState(T2, T2));
+            store.save("j 2:t/2", new TriggerState(T1, T2));
+
+            // visible immediately, even before the flush
+            assertEquals(new TriggerState(T2, T2), store.load("j1:t1"));
+        }
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            assertEquals(new TriggerState(T2, T2), store.load("j1:t1"));
+            assertEquals(new TriggerState(T1, T2), store.load("j 2:t/2"));
+            assertNull(store.load("j3:t3"));
+        }
+    }
+
+    @Test
+    public void batching() throws Exception {
+        Path file = dir.resolve("state");
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file, Duration.ofSeconds(10))) {
+            store.save("j1:t1", new TriggerState(T1, T1));
+            store.save("j1:t1", new TriggerState(T2, T2));
+
+            // nothing is written until the flush
+            assertEquals(0, Files.readAllLines(file).size());
+
+            store.flush();
+
+            // the two states of the same trigger are collapsed in a batch
+            assertEquals(1, Files.readAllLines(file).size());
+        }
+    }
+
+    @Test
+    public void incompleteRecord() throws Exception {
+        Path file = dir.resolve("state");
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            store.save("j1:t1", new TriggerState(T1, T2));
+        }
+
+        // emulate a crash in the middle of a write
+        Files.writeString(file, "j1%3At1 2024-01-01T11:00:00Z", StandardOpenOption.APPEND);
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            assertEquals(new TriggerState(T1, T2), store.load("j1:t1"));
+            store.save("j2:t2", new TriggerState(T2, T2));
+        }
+
+        // the record appended after the incomplete one must not be lost
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            assertEquals(new TriggerState(T1, T2), store.load("j1:t1"));
+            assertEquals(new TriggerState(T2, T2), store.load("j2:t2"));
+        }
+
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void compaction() throws Exception {
+        Path file = dir.resolve("state");
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file, Duration.ofSeconds(10))) {
+            for (int i = 0; i < FileTriggerStateStore.MIN_COMPACTION_RECORDS; i++) {
+                store.save("j1:t1", new TriggerState(T1.plusSeconds(i), T1.plusSeconds(i)));
+                store.save("j2:t2", new TriggerState(T2.plusSeconds(i), T2.plusSeconds(i)));
+                store.flush();
+            }
+
+            // 2 records per iteration were written
+            List<String> lines = Files.readAllLines(file);
+            assertTrue(lines.size() < 2 * FileTriggerStateStore.MIN_COMPACTION_RECORDS, () -> "File was not compacted: " + lines.size());
+        }
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            int last = FileTriggerStateStore.MIN_COMPACTION_RECORDS - 1;
+            assertEquals(new TriggerState(T1.plusSeconds(last), T1.plusSeconds(last)), store.load("j1:t1"));
+            assertEquals(new TriggerState(T2.plusSeconds(last), T2.plusSeconds(last)), store.load("j2:t2"));
+        }
+    }
+
+    @Test
+    public void compaction_DropsUnknownTriggers() throws Exception {
+        Path file = dir.resolve("state");
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            store.save("old:t1", new TriggerState(T1, T1));
+        }
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file, Duration.ofSeconds(10))) {
+            for (int i = 0; i <= FileTriggerStateStore.MIN_COMPACTION_RECORDS; i++) {
+                store.save("j1:t1", new TriggerState(T1.plusSeconds(i), T1.plusSeconds(i)));
+                store.flush();
+            }
+        }
+
+        try (FileTriggerStateStore store = new FileTriggerStateStore(file)) {
+            assertNull(store.load("old:t1"));
+        }
+    }
+}
@@ -26,7 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class SchedulerFactoryTest {
 
     private SchedulerFactory testFactory() {
-        return new SchedulerFactory(null, null, null);
+        return new SchedulerFactory(() -> null, () -> null, null);
     }
 
     @Test
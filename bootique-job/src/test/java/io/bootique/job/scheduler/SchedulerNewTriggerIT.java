@@ -60,6 +60,19 @@ public class SchedulerNewTriggerIT {
         assertEquals(1, scheduler.getAllTriggers().size());
         assertInstanceOf(CronTrigger.class, t);
         assertSame(t, scheduler.getTrigger("j2", "t1"));
+        assertEquals("j2:t1", t.getStateKey());
+    }
+
+    @Test
+    public void newCronTrigger_NoName() {
+        Scheduler scheduler = app.getInstance(Scheduler.class);
+
+        Trigger t = scheduler.newCronTrigger("* * * * * ?").jobName("j2").add();
+        assertNotNull(t.getTriggerName());
+        assertSame(t, scheduler.getTrigger("j2", t.getTriggerName()));
+
+        // a generated name is not stable across restarts, so the state of such trigger should not be saved
+        assertNull(t.getStateKey());
     }
 
     @Test
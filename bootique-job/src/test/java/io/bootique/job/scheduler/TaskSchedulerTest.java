@@ -22,9 +22,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -76,6 +85,350 @@ public class TaskSchedulerTest {
         assertSame(c2, c3, "A task wasn't canceled");
     }
 
+    @Test
+    public void scheduleWithLeadTime() throws InterruptedException {
+        Instant fireTime = Instant.now().plusMillis(300);
+        LeadTimeRunnable runnable = new LeadTimeRunnable();
+        Future<?> f = scheduler.schedule(runnable, c -> c.lastScheduledExecution() == null ? fireTime : null, leadTime(200));
+
+        assertTrue(runnable.done.await(1, TimeUnit.SECONDS));
+        f.cancel(true);
+
+        assertNotNull(runnable.fireTime);
+        assertEquals(fireTime, runnable.fireTime.getFireTime());
+        assertTrue(runnable.startedAt.isBefore(fireTime), () -> runnable.startedAt + " vs " + fireTime);
+        assertTrue(runnable.awaited);
+        assertFalse(runnable.finishedAt.isBefore(fireTime), () -> runnable.finishedAt + " vs " + fireTime);
+    }
+
+    @Test
+    public void scheduleWithLeadTime_Cancel() throws InterruptedException {
+        LeadTimeRunnable runnable = new LeadTimeRunnable();
+        Future<?> f = scheduler.schedule(runnable, c -> Instant.now().plusMillis(500), leadTime(450));
+
+        assertTrue(runnable.started.await(1, TimeUnit.SECONDS));
+        f.cancel(false);
+
+        assertTrue(runnable.done.await(1, TimeUnit.SECONDS));
+        assertFalse(runnable.awaited);
+    }
+
+    @Test
+    public void scheduleNoLeadTime() throws InterruptedException {
+        LeadTimeRunnable runnable = new LeadTimeRunnable();
+        Future<?> f = scheduler.schedule(runnable, c -> Instant.now().plusMillis(50));
+
+        assertTrue(runnable.done.await(1, TimeUnit.SECONDS));
+        f.cancel(true);
+        assertNull(runnable.fireTime);
+    }
+
+    @Test
+    public void scheduleRunListener() throws InterruptedException {
+        Instant fireTime = Instant.now().plusMillis(100);
+        CountDownLatch notified = new CountDownLatch(1);
+        Instant[] times = new Instant[2];
+
+        TaskRunListener listener = (k, scheduled, actual) -> {
+            assertEquals("t1", k);
+            times[0] = scheduled;
+            times[1] = actual;
+            notified.countDown();
+        };
+
+        try (TaskScheduler scheduler = TaskScheduler.builder().poolSize(2).threadNamePrefix("test-scheduler").runListener(listener).build()) {
+
+            TaskOptions options = TaskOptions.builder().leadTime(Duration.ofMillis(50)).stateKey("t1").build();
+            scheduler.schedule(new TestRunnable(), c -> c.lastScheduledExecution() == null ? fireTime : null, options);
+            assertEquals(1, scheduler.getScheduledCount());
+
+            assertTrue(notified.await(1, TimeUnit.SECONDS));
+            assertEquals(fireTime.minusMillis(50), times[0]);
+            assertFalse(times[1].isBefore(times[0]), () -> times[1] + " vs " + times[0]);
+        }
+    }
+
+    @Test
+    public void scheduleRunListener_NoStateKey() throws InterruptedException {
+        CountDownLatch notified = new CountDownLatch(1);
+        String[] key = new String[1];
+
+        TaskRunListener listener = (k, scheduled, actual) -> {
+            key[0] = k;
+            notified.countDown();
+        };
+
+        try (TaskScheduler scheduler = TaskScheduler.builder().poolSize(2).threadNamePrefix("test-scheduler").runListener(listener).build()) {
+
+            TaskOptions options = TaskOptions.builder().name("n1").build();
+            scheduler.schedule(new TestRunnable(), c -> c.lastScheduledExecution() == null ? Instant.now() : null, options);
+
+            assertTrue(notified.await(1, TimeUnit.SECONDS));
+            assertEquals("n1", key[0]);
+        }
+    }
+
+    @Test
+    public void getOverdueCount() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+
+        // occupy both threads, so that the following tasks have to wait
+        for (int i = 0; i < 2; i++) {
+            scheduler.schedule(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }, Instant.now());
+        }
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        scheduler.schedule(() -> {}, Instant.now());
+        scheduler.schedule(() -> {}, Instant.now().plusSeconds(3600));
+
+        assertEquals(2, scheduler.getActiveCount());
+        assertEquals(2, scheduler.getScheduledCount());
+        assertEquals(1, scheduler.getOverdueCount());
+
+        release.countDown();
+    }
+
+    @Test
+    public void schedulePriority() throws InterruptedException {
+        try (TaskScheduler scheduler = singleThreadScheduler(Duration.ofSeconds(10))) {
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(3);
+            CountDownLatch release = occupy(scheduler);
+
+            scheduler.schedule(recording("low", order, done), Instant.now(), -1);
+            scheduler.schedule(recording("default", order, done), Instant.now());
+            scheduler.schedule(recording("high", order, done), Instant.now(), 5);
+
+            // all 3 are waiting for the busy thread
+            Thread.sleep(50);
+            assertEquals(3, scheduler.getOverdueCount());
+
+            release.countDown();
+            assertTrue(done.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of("high", "default", "low"), order);
+        }
+    }
+
+    @Test
+    public void schedulePriority_Aging() throws InterruptedException {
+        try (TaskScheduler scheduler = singleThreadScheduler(Duration.ofMillis(50))) {
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(2);
+            CountDownLatch release = occupy(scheduler);
+
+            scheduler.schedule(recording("low", order, done), Instant.now());
+            Thread.sleep(200);
+
+            // the low-priority task waited for 4 aging intervals and is now ahead of the newer one
+            scheduler.schedule(recording("high", order, done), Instant.now(), 2);
+
+            release.countDown();
+            assertTrue(done.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of("low", "high"), order);
+        }
+    }
+
+    @Test
+    public void scheduleResume() throws InterruptedException {
+        Instant last = Instant.now().minusMillis(50);
+        TestStateStore store = new TestStateStore("t1", last);
+
+        try (TaskScheduler scheduler = schedulerWithState(store, MisfirePolicy.FIRE_ONCE)) {
+
+            // without the stored state, the first run would be an hour from now
+            scheduler.schedule(new TestRunnable(), c -> c.lastScheduledExecution() == null
+                    ? Instant.now().plusSeconds(3600)
+                    : c.lastScheduledExecution().plusMillis(300), stateKey("t1"));
+
+            assertTrue(store.saved.await(1, TimeUnit.SECONDS));
+            assertEquals(last.plusMillis(300), store.state.getLastScheduledExecution());
+        }
+    }
+
+    @Test
+    public void scheduleResume_NoStateKey() throws InterruptedException {
+        TestStateStore store = new TestStateStore("t1", Instant.now().minusMillis(50));
+
+        try (TaskScheduler scheduler = schedulerWithState(store, MisfirePolicy.FIRE_ONCE)) {
+
+            TestRunnable runnable = new TestRunnable();
+            scheduler.schedule(runnable, c -> c.lastScheduledExecution() == null
+                    ? Instant.now().plusMillis(50)
+                    : c.lastScheduledExecution().plusSeconds(3600));
+
+            Thread.sleep(300);
+            assertEquals(1, runnable.counter);
+            assertEquals(1, store.saved.getCount(), "Unexpected state save");
+        }
+    }
+
+    @Test
+    public void scheduleMisfire_CatchUp() throws InterruptedException {
+        Instant last = Instant.now().minusMillis(1000);
+        TestStateStore store = new TestStateStore("t1", last);
+
+        try (TaskScheduler scheduler = schedulerWithState(store, MisfirePolicy.CATCH_UP)) {
+
+            // a completion-based schedule (like cron or fixed delay) must still go through every missed fire
+            scheduler.schedule(new TestRunnable(), c -> c.lastCompletion().plusMillis(100), stateKey("t1"));
+
+            // 10 fires were missed between "last" and now
+            Instant deadline = Instant.now().plusSeconds(1);
+            while (store.states.size() < 10 && Instant.now().isBefore(deadline)) {
+                Thread.sleep(10);
+            }
+
+            assertTrue(store.states.size() >= 10, () -> "Not all missed fires ran: " + store.states.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(last.plusMillis(100 * (i + 1)), store.states.get(i).getLastScheduledExecution(), "Fire #" + i);
+            }
+        }
+    }
+
+    @Test
+    public void scheduleMisfire_FireOnce() throws InterruptedException {
+        Instant last = Instant.now().minusMillis(1000);
+        TestStateStore store = new TestStateStore("t1", last);
+
+        try (TaskScheduler scheduler = schedulerWithState(store, MisfirePolicy.FIRE_ONCE)) {
+            Instant start = Instant.now();
+            scheduler.schedule(new TestRunnable(), c -> c.lastScheduledExecution().plusMillis(100), stateKey("t1"));
+
+            assertTrue(store.saved.await(1, TimeUnit.SECONDS));
+
+            // the last missed run, executed immediately
+            Instant scheduled = store.firstState.getLastScheduledExecution();
+            assertTrue(!scheduled.isAfter(start) && scheduled.isAfter(start.minusMillis(101)), () -> scheduled + " vs " + start);
+            assertEquals(0, Duration.between(last, scheduled).toMillis() % 100);
+        }
+    }
+
+    @Test
+    public void scheduleMisfire_Skip() throws InterruptedException {
+        Instant last = Instant.now().minusMillis(1000);
+        TestStateStore store = new TestStateStore("t1", last);
+
+        try (TaskScheduler scheduler = schedulerWithState(store, MisfirePolicy.SKIP)) {
+            Instant start = Instant.now();
+            scheduler.schedule(new TestRunnable(), c -> c.lastScheduledExecution().plusMillis(100), stateKey("t1"));
+
+            assertTrue(store.saved.await(1, TimeUnit.SECONDS));
+
+            // the next run on schedule after the missed ones
+            Instant scheduled = store.firstState.getLastScheduledExecution();
+            assertTrue(!scheduled.isBefore(start), () -> scheduled + " vs " + start);
+            assertEquals(0, Duration.between(last, scheduled).toMillis() % 100);
+        }
+    }
+
+    private static TaskScheduler singleThreadScheduler(Duration priorityAging) {
+        return TaskScheduler.builder().threadNamePrefix("test-scheduler").priorityAging(priorityAging).build();
+    }
+
+    private static TaskScheduler schedulerWithState(TriggerStateStore store, MisfirePolicy misfirePolicy) {
+        return TaskScheduler.builder()
+                .poolSize(2)
+                .threadNamePrefix("test-scheduler")
+                .stateStore(store)
+                .misfirePolicy(misfirePolicy)
+                .build();
+    }
+
+    private static TaskOptions leadTime(long ms) {
+        return TaskOptions.builder().leadTime(Duration.ofMillis(ms)).build();
+    }
+
+    private static TaskOptions stateKey(String key) {
+        return TaskOptions.builder().stateKey(key).build();
+    }
+
+    // blocks all the scheduler threads until the returned latch is released
+    private static CountDownLatch occupy(TaskScheduler scheduler) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        scheduler.schedule(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                // ignore
+            }
+        }, Instant.now());
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static Runnable recording(String label, List<String> order, CountDownLatch done) {
+        return () -> {
+            order.add(label);
+            done.countDown();
+        };
+    }
+
+    static class TestStateStore implements TriggerStateStore {
+        final String key;
+        final CountDownLatch saved = new CountDownLatch(1);
+        final List<TriggerState> states = new CopyOnWriteArrayList<>();
+        volatile TriggerState firstState;
+        volatile TriggerState state;
+
+        TestStateStore(String key, Instant lastRun) {
+            this.key = key;
+            this.state = new TriggerState(lastRun, lastRun);
+        }
+
+        @Override
+        public TriggerState load(String key) {
+            return this.key.equals(key) ? state : null;
+        }
+
+        @Override
+        public void save(String key, TriggerState state) {
+            if (firstState == null) {
+                firstState = state;
+            }
+
+            this.state = state;
+            states.add(state);
+            saved.countDown();
+        }
+    }
+
+    static class LeadTimeRunnable implements Runnable {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile ScheduledFireTime fireTime;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile boolean awaited;
+
+        @Override
+        public void run() {
+            if (done.getCount() == 0) {
+                return;
+            }
+
+            startedAt = Instant.now();
+            fireTime = ScheduledFireTime.current();
+            started.countDown();
+            awaited = fireTime != null && fireTime.await();
+            finishedAt = Instant.now();
+            done.countDown();
+        }
+    }
+
     static class TestRunnable implements Runnable {
         int counter;
 